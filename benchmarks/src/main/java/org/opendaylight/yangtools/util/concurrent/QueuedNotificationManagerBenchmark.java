@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager.BackpressurePolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of {@link QueuedNotificationManager} throughput with a varying number of producer threads submitting
+ * notifications to a shared set of listeners. Each invocation submits a fixed number of notifications and waits for
+ * all listener queues to drain.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class QueuedNotificationManagerBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final int NOTIFICATIONS = 100000;
+    private static final int LISTENERS = 16;
+    private static final int DISPATCH_THREADS = 4;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    public enum Policy {
+        BLOCK,
+        DROP_OLDEST,
+        COALESCE;
+    }
+
+    @Param({ "1", "8", "64" })
+    public int producers;
+
+    @Param({ "BLOCK", "DROP_OLDEST", "COALESCE" })
+    public Policy policy;
+
+    private final LongAdder delivered = new LongAdder();
+    private final List<Object> listeners = new ArrayList<>(LISTENERS);
+    private ExecutorService dispatchExecutor;
+    private ExecutorService producerExecutor;
+    private QueuedNotificationManager<Object, Integer> manager;
+
+    public static void main(final String... args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(".*" + QueuedNotificationManagerBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final BackpressurePolicy<Integer> backpressure;
+        switch (policy) {
+            case BLOCK:
+                backpressure = BackpressurePolicy.block();
+                break;
+            case DROP_OLDEST:
+                backpressure = BackpressurePolicy.dropOldest();
+                break;
+            case COALESCE:
+                backpressure = BackpressurePolicy.coalesce(Math::max);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled policy " + policy);
+        }
+
+        dispatchExecutor = Executors.newFixedThreadPool(DISPATCH_THREADS);
+        producerExecutor = Executors.newFixedThreadPool(producers);
+        manager = QueuedNotificationManager.create(dispatchExecutor,
+            (listener, notifications) -> delivered.add(notifications.size()), QUEUE_CAPACITY, "benchmark",
+            backpressure);
+
+        for (int i = 0; i < LISTENERS; ++i) {
+            listeners.add(new Object());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        producerExecutor.shutdownNow();
+        dispatchExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NOTIFICATIONS)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public long submitNotifications() throws InterruptedException, ExecutionException {
+        final int perProducer = NOTIFICATIONS / producers;
+        final List<Future<?>> futures = new ArrayList<>(producers);
+        for (int p = 0; p < producers; ++p) {
+            final int offset = p;
+            futures.add(producerExecutor.submit(() -> {
+                for (int i = 0; i < perProducer; ++i) {
+                    manager.submitNotification(listeners.get((offset + i) % LISTENERS), i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        // Tasks remove themselves once they have drained their queue
+        while (!manager.getListenerNotificationQueueStats().isEmpty()) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        return delivered.sum();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.api;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of common {@link YangInstanceIdentifier} operations: appending plain and keyed children, computing
+ * hash codes of freshly-created identifiers and comparing equal identifiers which do not share their path arguments.
+ * Identifier depth is parameterized, with every other path argument being a keyed list entry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class YangInstanceIdentifierBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final QName CONTAINER_QNAME = QName.create("urn:opendaylight:benchmark", "2017-01-01", "cont");
+    private static final QName LIST_QNAME = QName.create(CONTAINER_QNAME, "list");
+    private static final QName KEY_QNAME = QName.create(CONTAINER_QNAME, "key");
+
+    @Param({ "2", "8", "32" })
+    public int depth;
+
+    private PathArgument[] arguments;
+    private YangInstanceIdentifier parent;
+    private YangInstanceIdentifier identifier;
+    private YangInstanceIdentifier equalIdentifier;
+    private NodeIdentifierWithPredicates childArgument;
+
+    public static void main(final String... args) throws IOException, RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(".*" + YangInstanceIdentifierBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        arguments = createArguments(depth);
+        identifier = YangInstanceIdentifier.create(arguments);
+        equalIdentifier = YangInstanceIdentifier.create(createArguments(depth));
+        parent = identifier.getParent();
+        childArgument = new NodeIdentifierWithPredicates(LIST_QNAME, KEY_QNAME, depth);
+
+        // Make sure hash codes are computed, so equals() does not get a free pass
+        identifier.hashCode();
+        equalIdentifier.hashCode();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public YangInstanceIdentifier nodeBenchmark() {
+        return parent.node(LIST_QNAME);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public YangInstanceIdentifier childBenchmark() {
+        return parent.node(childArgument);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public int createAndHashCodeBenchmark() {
+        return YangInstanceIdentifier.create(arguments).hashCode();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean equalsBenchmark() {
+        return identifier.equals(equalIdentifier);
+    }
+
+    private static PathArgument[] createArguments(final int depth) {
+        final PathArgument[] args = new PathArgument[depth];
+        for (int i = 0; i < depth; ++i) {
+            args[i] = i % 2 == 0 ? new NodeIdentifier(CONTAINER_QNAME)
+                : new NodeIdentifierWithPredicates(LIST_QNAME, KEY_QNAME, i);
+        }
+        return args;
+    }
+}
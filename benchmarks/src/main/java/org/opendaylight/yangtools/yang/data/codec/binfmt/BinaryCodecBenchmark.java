@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.data.impl.tree.BenchmarkModel;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of the binary format against JSON, using the same payload as
+ * {@link org.opendaylight.yangtools.yang.data.codec.gson.JsonCodecBenchmark}. Both formats are written into and read
+ * from memory, so timings reflect only encoding cost. Encoded sizes of both formats are reported as secondary results
+ * of the write benchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class BinaryCodecBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "10", "100", "1000" })
+    public int outerListSize;
+
+    private SchemaContext schemaContext;
+    private JSONCodecFactory codecFactory;
+    private ContainerNode data;
+    private byte[] binary;
+    private String json;
+    private int jsonSize;
+
+    /**
+     * Encoded sizes of the payload, in bytes.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long binaryBytes;
+        public long jsonBytes;
+    }
+
+    public static void main(final String... args) throws IOException, RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(".*" + BinaryCodecBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        schemaContext = BenchmarkModel.createTestContext();
+        codecFactory = JSONCodecFactory.getShared(schemaContext);
+        data = BenchmarkModel.createTestData(outerListSize, INNER_LIST_SIZE);
+        binary = writeBinary();
+        json = writeJson();
+        jsonSize = json.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] binaryWriteBenchmark(final EncodedSize size) throws IOException {
+        final byte[] ret = writeBinary();
+        size.binaryBytes = ret.length;
+        size.jsonBytes = jsonSize;
+        return ret;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public NormalizedNode<?, ?> binaryReadBenchmark() throws IOException {
+        return BinaryNormalizedNodeStreamReader.create(ByteStreams.newDataInput(binary)).readNormalizedNode();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public String jsonWriteBenchmark(final EncodedSize size) throws IOException {
+        final String ret = writeJson();
+        size.binaryBytes = binary.length;
+        size.jsonBytes = jsonSize;
+        return ret;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public NormalizedNode<?, ?> jsonReadBenchmark() throws IOException {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        try (JsonParserStream parser = JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+                schemaContext)) {
+            parser.parse(new JsonReader(new StringReader(json)));
+        }
+        return result.getResult();
+    }
+
+    private byte[] writeBinary() throws IOException {
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        BinaryNormalizedNodeStreamWriter.create(out).writeNormalizedNode(data);
+        return out.toByteArray();
+    }
+
+    private String writeJson() throws IOException {
+        final StringWriter writer = new StringWriter();
+        final NormalizedNodeStreamWriter jsonStream = JSONNormalizedNodeStreamWriter.createExclusiveWriter(
+            codecFactory, SchemaPath.ROOT, null, JsonWriterFactory.createJsonWriter(writer));
+        try (NormalizedNodeWriter nodeWriter = NormalizedNodeWriter.forStreamWriter(jsonStream)) {
+            nodeWriter.write(data);
+        }
+        return writer.toString();
+    }
+}
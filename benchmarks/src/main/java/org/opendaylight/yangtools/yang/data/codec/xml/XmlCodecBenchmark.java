@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.data.impl.tree.BenchmarkModel;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.xml.sax.SAXException;
+
+/**
+ * Benchmarking of XML parsing through {@link XmlParserStream} and {@link XmlStreamingParser} and serialization through
+ * {@link XMLStreamNormalizedNodeStreamWriter}. Payload size is controlled by the number of outer-list entries, each of
+ * which contains {@link #INNER_LIST_SIZE} inner-list entries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class XmlCodecBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int INNER_LIST_SIZE = 10;
+
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+    private static final XMLOutputFactory OUTPUT_FACTORY;
+
+    static {
+        OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+        OUTPUT_FACTORY.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, Boolean.TRUE);
+    }
+
+    @Param({ "10", "100", "1000" })
+    public int outerListSize;
+
+    private SchemaContext schemaContext;
+    private XmlCodecFactory codecFactory;
+    private DataSchemaNode testSchema;
+    private ContainerNode data;
+    private String xml;
+
+    public static void main(final String... args) throws IOException, RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(".*" + XmlCodecBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, XMLStreamException {
+        schemaContext = BenchmarkModel.createTestContext();
+        codecFactory = XmlCodecFactory.getShared(schemaContext);
+        testSchema = schemaContext.getDataChildByName(BenchmarkModel.TEST_QNAME);
+        data = BenchmarkModel.createTestData(outerListSize, INNER_LIST_SIZE);
+        xml = write();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public NormalizedNode<?, ?> parseBenchmark() throws IOException, XMLStreamException, URISyntaxException,
+            ParserConfigurationException, SAXException {
+        final XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        try (XmlParserStream parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+                codecFactory, testSchema)) {
+            parser.parse(reader);
+        } finally {
+            reader.close();
+        }
+        return result.getResult();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public NormalizedNode<?, ?> streamingParseBenchmark() throws IOException, XMLStreamException, SAXException {
+        final XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        try (XmlStreamingParser parser = XmlStreamingParser.create(ImmutableNormalizedNodeStreamWriter.from(result),
+                codecFactory, testSchema)) {
+            parser.parse(reader);
+        } finally {
+            reader.close();
+        }
+        return result.getResult();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public String writeBenchmark() throws IOException, XMLStreamException {
+        return write();
+    }
+
+    private String write() throws IOException, XMLStreamException {
+        final StringWriter writer = new StringWriter();
+        final XMLStreamWriter xmlWriter = OUTPUT_FACTORY.createXMLStreamWriter(writer);
+        try (NormalizedNodeWriter nodeWriter = NormalizedNodeWriter.forStreamWriter(
+                XMLStreamNormalizedNodeStreamWriter.create(xmlWriter, schemaContext))) {
+            nodeWriter.write(data);
+        } finally {
+            xmlWriter.close();
+        }
+        return writer.toString();
+    }
+}
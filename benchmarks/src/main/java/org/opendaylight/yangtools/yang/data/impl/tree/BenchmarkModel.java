@@ -10,6 +10,13 @@ package org.opendaylight.yangtools.yang.data.impl.tree;
 import java.io.IOException;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.parser.api.YangSyntaxErrorException;
 import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
@@ -46,4 +53,33 @@ public class BenchmarkModel {
             throw new IllegalStateException(e);
         }
     }
+
+    /**
+     * Create a test container populated with a number of outer-list entries, each of which holds a number of
+     * inner-list entries with a string value.
+     *
+     * @param outerCount Number of outer-list entries
+     * @param innerCount Number of inner-list entries in each outer-list entry
+     * @return A populated test container
+     */
+    public static ContainerNode createTestData(final int outerCount, final int innerCount) {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> outerBuilder = ImmutableNodes.mapNodeBuilder(
+            OUTER_LIST_QNAME);
+        for (int i = 0; i < outerCount; ++i) {
+            final CollectionNodeBuilder<MapEntryNode, MapNode> innerBuilder = ImmutableNodes.mapNodeBuilder(
+                INNER_LIST_QNAME);
+            for (int j = 0; j < innerCount; ++j) {
+                innerBuilder.withChild(ImmutableNodes.mapEntryBuilder(INNER_LIST_QNAME, NAME_QNAME, j)
+                    .withChild(ImmutableNodes.leafNode(VALUE_QNAME, "value-" + i + "-" + j))
+                    .build());
+            }
+
+            outerBuilder.withChild(ImmutableNodes.mapEntryBuilder(OUTER_LIST_QNAME, ID_QNAME, i)
+                .withChild(innerBuilder.build())
+                .build());
+        }
+
+        return Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TEST_QNAME))
+            .withChild(outerBuilder.build()).build();
+    }
 }
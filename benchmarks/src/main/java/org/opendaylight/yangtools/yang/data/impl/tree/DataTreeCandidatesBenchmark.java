@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidates;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableContainerNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.tree.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of {@link DataTreeCandidates#applyToModification(DataTreeModification, DataTreeCandidate)}, as used
+ * when replicating a candidate produced by one data tree onto another. The candidate is a single commit which writes
+ * a parameterized number of outer-list entries, each of them individually.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class DataTreeCandidatesBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "10", "100", "1000" })
+    public int outerListSize;
+
+    private DataTreeSnapshot baseSnapshot;
+    private DataTreeCandidate candidate;
+    private DataTreeModification modification;
+
+    public static void main(final String... args) throws IOException, RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(".*" + DataTreeCandidatesBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws DataValidationFailedException {
+        final SchemaContext schemaContext = BenchmarkModel.createTestContext();
+        final DataTree source = createDataTree(schemaContext);
+        final DataTree target = createDataTree(schemaContext);
+        baseSnapshot = target.takeSnapshot();
+
+        // Write entries individually, so the candidate has a node for each of them
+        final MapNode entries = (MapNode) BenchmarkModel.createTestData(outerListSize, INNER_LIST_SIZE).getChild(
+            new YangInstanceIdentifier.NodeIdentifier(BenchmarkModel.OUTER_LIST_QNAME)).get();
+        final DataTreeModification mod = source.takeSnapshot().newModification();
+        for (MapEntryNode entry : entries.getValue()) {
+            mod.write(BenchmarkModel.OUTER_LIST_PATH.node(entry.getIdentifier()), entry);
+        }
+        mod.ready();
+        source.validate(mod);
+        candidate = source.prepare(mod);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupModification() {
+        modification = baseSnapshot.newModification();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public DataTreeModification applyToModificationBenchmark() {
+        DataTreeCandidates.applyToModification(modification, candidate);
+        return modification;
+    }
+
+    private static DataTree createDataTree(final SchemaContext schemaContext) throws DataValidationFailedException {
+        final DataTree tree = InMemoryDataTreeFactory.getInstance().create(DataTreeConfiguration.DEFAULT_OPERATIONAL);
+        tree.setSchemaContext(schemaContext);
+
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        mod.write(BenchmarkModel.TEST_PATH, ImmutableContainerNodeBuilder.create()
+            .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(BenchmarkModel.TEST_QNAME))
+            .withChild(ImmutableNodes.mapNodeBuilder(BenchmarkModel.OUTER_LIST_QNAME).build())
+            .build());
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+        return tree;
+    }
+}
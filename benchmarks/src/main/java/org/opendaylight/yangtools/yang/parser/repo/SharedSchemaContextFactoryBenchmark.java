@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.repo;
+
+import com.google.common.io.ByteSource;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceFilter;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource;
+import org.opendaylight.yangtools.yang.parser.util.TextToASTTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of {@link SharedSchemaContextFactory#createSchemaContext(java.util.Collection)} over a generated set
+ * of modules. All modules import a common base module, instantiate its grouping and augment it, so that the
+ * benchmark exercises linkage, grouping expansion and augmentation across sources. Since the factory caches
+ * assembled contexts, a fresh repository is set up for each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class SharedSchemaContextFactoryBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final String BASE_MODULE = "bench-base";
+    private static final String REVISION = "2017-01-01";
+
+    @Param({ "10", "100", "500" })
+    public int moduleCount;
+
+    private Map<SourceIdentifier, YangTextSchemaSource> sources;
+    private List<SourceIdentifier> requiredSources;
+    private SharedSchemaRepository repository;
+
+    public static void main(final String... args) throws IOException, RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(".*" + SharedSchemaContextFactoryBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setupSources() {
+        sources = new HashMap<>();
+        requiredSources = new ArrayList<>(moduleCount + 1);
+
+        addSource(BASE_MODULE, "module " + BASE_MODULE + " {\n"
+            + "  namespace \"urn:opendaylight:bench:base\";\n"
+            + "  prefix base;\n"
+            + "  revision " + REVISION + ";\n"
+            + "  typedef counter { type uint32 { range \"0..1000000\"; } }\n"
+            + "  grouping entry { leaf name { type string; } leaf count { type counter; } }\n"
+            + "  container root { }\n"
+            + "}\n");
+
+        for (int i = 0; i < moduleCount; ++i) {
+            final String name = "bench-module-" + i;
+            addSource(name, "module " + name + " {\n"
+                + "  namespace \"urn:opendaylight:bench:" + i + "\";\n"
+                + "  prefix m" + i + ";\n"
+                + "  import " + BASE_MODULE + " { prefix base; revision-date " + REVISION + "; }\n"
+                + "  revision " + REVISION + ";\n"
+                + "  container cont-" + i + " {\n"
+                + "    list items { key name; uses base:entry; leaf extra { type base:counter; } }\n"
+                + "  }\n"
+                + "  augment \"/base:root\" { leaf leaf-" + i + " { type string; } }\n"
+                + "}\n");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupRepository() {
+        repository = new SharedSchemaRepository("benchmark");
+        for (final SourceIdentifier id : requiredSources) {
+            repository.registerSchemaSource(sourceId -> Futures.immediateFuture(sources.get(sourceId)),
+                PotentialSchemaSource.create(id, YangTextSchemaSource.class,
+                    PotentialSchemaSource.Costs.IMMEDIATE.getValue()));
+        }
+        repository.registerSchemaSourceListener(TextToASTTransformer.create(repository, repository));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public SchemaContext createSchemaContextBenchmark() throws InterruptedException, ExecutionException {
+        return repository.createSchemaContextFactory(SchemaSourceFilter.ALWAYS_ACCEPT)
+                .createSchemaContext(requiredSources).get();
+    }
+
+    private void addSource(final String name, final String text) {
+        final SourceIdentifier id = RevisionSourceIdentifier.create(name, REVISION);
+        sources.put(id, YangTextSchemaSource.delegateForByteSource(id,
+            ByteSource.wrap(text.getBytes(StandardCharsets.UTF_8))));
+        requiredSources.add(id);
+    }
+}
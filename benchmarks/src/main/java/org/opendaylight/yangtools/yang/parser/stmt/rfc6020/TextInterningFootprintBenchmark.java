@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.stmt.rfc6020;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.parser.api.YangSyntaxErrorException;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.parser.rfc6020.repo.YangStatementStreamSource;
+import org.opendaylight.yangtools.yang.parser.spi.meta.ReactorException;
+import org.opendaylight.yangtools.yang.parser.stmt.reactor.CrossSourceStatementReactor.BuildAction;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measurement of the heap retained by schema contexts built from the IETF models, with and without interning of
+ * statement text, as done by {@link AbstractTextStatementSupport}. Each invocation builds a number of independent
+ * contexts and reports the used heap they retain after garbage collection as the {@code retainedKiB} secondary
+ * result. Each invocation takes longer than an iteration, hence every iteration measures exactly one invocation. The
+ * reported time is not meaningful.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextInterningFootprintBenchmark {
+    private static final String[] MODELS = {
+        "/ietf/iana-afn-safi@2012-06-04.yang",
+        "/ietf/iana-if-type@2012-06-05.yang",
+        "/ietf/iana-timezones@2012-07-09.yang",
+        "/ietf/ietf-inet-types@2010-09-24.yang",
+        "/ietf/ietf-yang-types@2010-09-24.yang",
+        "/ietf/network-topology@2013-07-12.yang",
+        "/ietf/network-topology@2013-10-21.yang",
+    };
+    private static final int GC_ROUNDS = 5;
+
+    @Param({ "80" })
+    public int contextCount;
+
+    /**
+     * Used heap retained by the built contexts.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedKiB;
+    }
+
+    public static void main(final String... args) throws IOException, RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(".*" + TextInterningFootprintBenchmark.class.getSimpleName() + ".*")
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public List<SchemaContext> withInterning(final Footprint footprint) throws Exception {
+        return buildContexts(footprint);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + AbstractTextStatementSupport.INTERN_TEXT_PROP + "=false")
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public List<SchemaContext> withoutInterning(final Footprint footprint) throws Exception {
+        return buildContexts(footprint);
+    }
+
+    private List<SchemaContext> buildContexts(final Footprint footprint) throws IOException,
+            YangSyntaxErrorException, ReactorException, InterruptedException {
+        final long before = usedHeapAfterGc();
+        final List<SchemaContext> contexts = new ArrayList<>(contextCount);
+        for (int i = 0; i < contextCount; ++i) {
+            final BuildAction reactor = YangInferencePipeline.RFC6020_REACTOR.newBuild();
+            for (String model : MODELS) {
+                reactor.addSource(YangStatementStreamSource.create(YangTextSchemaSource.forResource(model)));
+            }
+            contexts.add(reactor.buildEffective());
+        }
+
+        footprint.retainedKiB = (usedHeapAfterGc() - before) / 1024;
+        return contexts;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; ++i) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import java.util.SortedMap;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.concepts.Immutable;
+
+/**
+ * An immutable snapshot of a {@link DurationHistogramTracker}. All durations are in nanoseconds.
+ */
+@Beta
+public final class DurationHistogramSnapshot implements Immutable {
+    private final long[] counts;
+    private final long total;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    DurationHistogramSnapshot(final long[] counts, final long sum, final long min, final long max) {
+        this.counts = counts;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+
+        long count = 0;
+        for (long c : counts) {
+            count += c;
+        }
+        this.total = count;
+    }
+
+    /**
+     * Returns the total number of tracked durations.
+     */
+    public long getTotalDurations() {
+        return total;
+    }
+
+    /**
+     * Returns the sum of all durations.
+     */
+    public long getSumOfDurations() {
+        return sum;
+    }
+
+    /**
+     * Returns the shortest duration, or 0 if no durations have been recorded.
+     */
+    public long getShortestDuration() {
+        return min;
+    }
+
+    /**
+     * Returns the longest duration, or 0 if no durations have been recorded.
+     */
+    public long getLongestDuration() {
+        return max;
+    }
+
+    /**
+     * Returns the average duration, or 0 if no durations have been recorded.
+     */
+    public double getAverageDuration() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    /**
+     * Returns the duration at specified percentile, i.e. the duration which is greater than or equal to the specified
+     * percentage of recorded durations. The result is accurate to the precision of {@link DurationHistogramTracker}.
+     *
+     * @param percentile percentile, in range 0.0 to 100.0, inclusive
+     * @return Duration in nanoseconds, or 0 if no durations have been recorded.
+     * @throws IllegalArgumentException if percentile is out of range
+     */
+    public long getDurationAtPercentile(final double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Invalid percentile %s", percentile);
+        if (total == 0) {
+            return 0;
+        }
+        if (percentile == 0) {
+            return min;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; ++i) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // Do not report more than we have seen
+                return Math.max(Math.min(DurationHistogramTracker.bucketUpperBound(i), max), min);
+            }
+        }
+
+        // Can happen only if recording raced with snapshot, leading to sum of buckets not matching total
+        return max;
+    }
+
+    /**
+     * Returns the non-empty buckets of this histogram, mapping the highest duration in each bucket to the number of
+     * durations recorded in it. This is useful for exporting the histogram to monitoring systems.
+     *
+     * @return A map of bucket upper bounds to counts, in ascending order.
+     */
+    public @Nonnull SortedMap<Long, Long> getBuckets() {
+        final ImmutableSortedMap.Builder<Long, Long> builder = ImmutableSortedMap.naturalOrder();
+        for (int i = 0; i < counts.length; ++i) {
+            final long count = counts[i];
+            if (count != 0) {
+                builder.put(DurationHistogramTracker.bucketUpperBound(i), count);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("count", total).add("min", min)
+                .add("p50", getDurationAtPercentile(50)).add("p90", getDurationAtPercentile(90))
+                .add("p99", getDurationAtPercentile(99)).add("p999", getDurationAtPercentile(99.9))
+                .add("max", max).toString();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Tracks the distribution of time durations in a log-linear histogram, in the spirit of HdrHistogram. Unlike
+ * {@link DurationStatisticsTracker}, which tracks only the extremes and the average, this class can answer percentile
+ * queries, such as the 99th percentile duration.
+ *
+ * <p>Durations are recorded with a relative precision of {@value #PRECISION_PERCENT}%: values below
+ * {@value #LINEAR_BUCKETS} nanoseconds are recorded exactly, larger values are recorded in buckets whose width is
+ * 1/{@value #SUB_BUCKETS} of their power-of-two range.
+ *
+ * <p>Recording is lock-free. Counters are striped across a number of arrays, which are allocated on demand by the
+ * recording threads, so that uncontended use requires only a single array.
+ *
+ * <p>Statistics are read via {@link #snapshot()}, which captures the current state, or via
+ * {@link #snapshotAndReset()}, which additionally starts a new interval. Each counter slot is reset atomically, hence
+ * nothing recorded concurrently with {@link #snapshotAndReset()} is lost or counted twice. Slots are not reset
+ * together, though: a concurrently-recorded duration may have its bucket count accounted to one interval and its
+ * contribution to the sum, minimum or maximum to the other.
+ */
+@Beta
+@ThreadSafe
+public final class DurationHistogramTracker {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+    private static final int PRECISION_PERCENT = 2;
+
+    // Highest bit position we need to care about for non-negative longs
+    private static final int MAX_EXPONENT = Long.SIZE - 2;
+    private static final int LINEAR_EXPONENT = SUB_BUCKET_BITS + 1;
+
+    static final int BUCKET_COUNT = LINEAR_BUCKETS + (MAX_EXPONENT - LINEAR_EXPONENT + 1) * SUB_BUCKETS;
+
+    // Slots following the buckets in each stripe
+    private static final int SUM = BUCKET_COUNT;
+    private static final int MIN = SUM + 1;
+    private static final int MAX = MIN + 1;
+    private static final int STRIPE_SIZE = MAX + 1;
+
+    private static final int MAX_STRIPES = 16;
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final int stripeMask;
+
+    private DurationHistogramTracker(final int stripeCount) {
+        stripes = new AtomicReferenceArray<>(stripeCount);
+        stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Create a new tracker, striped according to the number of available processors.
+     *
+     * @return A new instance.
+     */
+    public static DurationHistogramTracker create() {
+        final int cpus = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+        return new DurationHistogramTracker(Integer.highestOneBit(cpus * 2 - 1));
+    }
+
+    /**
+     * Add a duration to track.
+     *
+     * @param duration
+     *            non-negative duration in nanoseconds, negative values are recorded as zero.
+     */
+    public void addDuration(final long duration) {
+        final long value = Math.max(duration, 0);
+        final AtomicLongArray stripe = stripe();
+        stripe.incrementAndGet(bucketIndex(value));
+        stripe.addAndGet(SUM, value);
+
+        long current = stripe.get(MIN);
+        while (value < current && !stripe.compareAndSet(MIN, current, value)) {
+            current = stripe.get(MIN);
+        }
+        current = stripe.get(MAX);
+        while (value > current && !stripe.compareAndSet(MAX, current, value)) {
+            current = stripe.get(MAX);
+        }
+    }
+
+    /**
+     * Returns the total number of tracked durations.
+     *
+     * @return Total number of measurements accumulated since the last reset.
+     */
+    public long getTotalDurations() {
+        return snapshot().getTotalDurations();
+    }
+
+    /**
+     * Returns the duration at specified percentile. This is a shorthand for
+     * {@code snapshot().getDurationAtPercentile(percentile)}, hence it is not suitable for querying multiple
+     * percentiles in a consistent manner.
+     *
+     * @param percentile percentile, in range 0.0 to 100.0, inclusive
+     * @return Duration in nanoseconds
+     * @throws IllegalArgumentException if percentile is out of range
+     */
+    public long getDurationAtPercentile(final double percentile) {
+        return snapshot().getDurationAtPercentile(percentile);
+    }
+
+    /**
+     * Capture the current state of this tracker.
+     *
+     * @return A snapshot of all durations recorded since the last reset.
+     */
+    public @Nonnull DurationHistogramSnapshot snapshot() {
+        return collect(false);
+    }
+
+    /**
+     * Capture the current state of this tracker and reset it, starting a new interval. Durations recorded concurrently
+     * may be split between the returned snapshot and the next interval, as described in the class documentation.
+     *
+     * @return A snapshot of all durations recorded since the last reset.
+     */
+    public @Nonnull DurationHistogramSnapshot snapshotAndReset() {
+        return collect(true);
+    }
+
+    /**
+     * Resets all statistics back to their defaults.
+     */
+    public void reset() {
+        collect(true);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("snapshot", snapshot()).toString();
+    }
+
+    private AtomicLongArray stripe() {
+        final int index = (int) Thread.currentThread().getId() & stripeMask;
+        final AtomicLongArray existing = stripes.get(index);
+        if (existing != null) {
+            return existing;
+        }
+
+        final AtomicLongArray created = new AtomicLongArray(STRIPE_SIZE);
+        created.set(MIN, Long.MAX_VALUE);
+        return stripes.compareAndSet(index, null, created) ? created : stripes.get(index);
+    }
+
+    private DurationHistogramSnapshot collect(final boolean reset) {
+        final long[] counts = new long[BUCKET_COUNT];
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+
+        for (int i = 0; i < stripes.length(); ++i) {
+            final AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+
+            for (int j = 0; j < BUCKET_COUNT; ++j) {
+                counts[j] += reset ? stripe.getAndSet(j, 0) : stripe.get(j);
+            }
+            sum += reset ? stripe.getAndSet(SUM, 0) : stripe.get(SUM);
+            min = Math.min(min, reset ? stripe.getAndSet(MIN, Long.MAX_VALUE) : stripe.get(MIN));
+            max = Math.max(max, reset ? stripe.getAndSet(MAX, 0) : stripe.get(MAX));
+        }
+
+        return new DurationHistogramSnapshot(counts, sum, min == Long.MAX_VALUE ? 0 : min, max);
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (exponent - LINEAR_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Return the highest value which maps to a bucket.
+     *
+     * @param index bucket index
+     * @return Highest value recorded in the bucket
+     */
+    static long bucketUpperBound(final int index) {
+        checkArgument(index >= 0 && index < BUCKET_COUNT, "Invalid bucket %s", index);
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+
+        final int offset = index - LINEAR_BUCKETS;
+        final int shift = offset / SUB_BUCKETS + LINEAR_EXPONENT - SUB_BUCKET_BITS;
+        final long subBucket = offset % SUB_BUCKETS + SUB_BUCKETS;
+        // Note the last bucket's bound overflows to Long.MIN_VALUE, which we then turn into Long.MAX_VALUE
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
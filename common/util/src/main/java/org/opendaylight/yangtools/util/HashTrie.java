@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+/**
+ * A persistent hash array mapped trie, used as the backing store of {@link ReadOnlyTrieMap} and
+ * {@link ReadWriteTrieMap}. The node layout follows the one used by {@code org.opendaylight.yangtools.triemap}:
+ * {@link CNode}s are bitmap-indexed branches consuming {@value #LEVEL_BITS} bits of the hash on each level, whose
+ * slots hold either an {@link SNode} entry or a child node, and {@link LNode}s hold entries with colliding hashes.
+ *
+ * <p>
+ * Unlike TrieMap, this structure does not support concurrent modification. Instead, each modification copies the path
+ * from the root to the modified node, sharing the rest of the trie with previous versions. Nodes are tagged with the
+ * edit token of the {@link ReadWriteTrieMap} which created them, allowing it to update them in place. Once that map is
+ * frozen into a {@link ReadOnlyTrieMap}, it switches to a new token, hence the frozen nodes are never modified again.
+ */
+final class HashTrie {
+    static final int LEVEL_BITS = 5;
+    private static final int LEVEL_MASK = (1 << LEVEL_BITS) - 1;
+    private static final int HASH_BITS = Integer.SIZE;
+
+    /**
+     * Mutable result of a modification operation, indicating what has been changed.
+     */
+    static final class Result {
+        Object oldValue;
+        boolean sizeChanged;
+
+        void reset() {
+            oldValue = null;
+            sizeChanged = false;
+        }
+    }
+
+    /**
+     * A leaf entry in the trie.
+     */
+    static final class SNode<K, V> implements Entry<K, V> {
+        final K key;
+        final V value;
+        final int hash;
+
+        SNode(final K key, final V value, final int hash) {
+            this.key = requireNonNull(key);
+            this.value = requireNonNull(value);
+            this.hash = hash;
+        }
+
+        boolean matches(final Object otherKey, final int otherHash) {
+            return hash == otherHash && key.equals(otherKey);
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(final V newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> other = (Entry<?, ?>) obj;
+            return key.equals(other.getKey()) && value.equals(other.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    abstract static class Node {
+        // Edit token of the ReadWriteTrieMap which owns this node, null if not owned by any
+        final Object edit;
+
+        Node(final Object edit) {
+            this.edit = edit;
+        }
+
+        abstract SNode<?, ?> find(Object key, int hash, int lev);
+
+        /**
+         * Insert or replace an entry.
+         *
+         * @return Node with the entry inserted, may be this node if it was modified in place or was not modified
+         */
+        abstract Node put(Object token, SNode<?, ?> entry, int lev, Result result);
+
+        /**
+         * Remove an entry.
+         *
+         * @return Node without the entry, may be this node if it was modified in place or was not modified, an SNode
+         *         if the node was reduced to a single entry, or null if it became empty.
+         */
+        abstract Object remove(Object token, Object key, int hash, int lev, Result result);
+    }
+
+    /**
+     * A branch node. Slots are allocated only for present children, as indicated by the bitmap.
+     */
+    static final class CNode extends Node {
+        int bitmap;
+        Object[] array;
+
+        CNode(final Object edit, final int bitmap, final Object[] array) {
+            super(edit);
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        static CNode empty() {
+            return new CNode(null, 0, new Object[0]);
+        }
+
+        @Override
+        SNode<?, ?> find(final Object key, final int hash, final int lev) {
+            final int flag = flag(hash, lev);
+            if ((bitmap & flag) == 0) {
+                return null;
+            }
+
+            final Object sub = array[index(bitmap, flag)];
+            if (sub instanceof SNode) {
+                final SNode<?, ?> sn = (SNode<?, ?>) sub;
+                return sn.matches(key, hash) ? sn : null;
+            }
+            return ((Node) sub).find(key, hash, lev + LEVEL_BITS);
+        }
+
+        @Override
+        Node put(final Object token, final SNode<?, ?> entry, final int lev, final Result result) {
+            final int flag = flag(entry.hash, lev);
+            final int pos = index(bitmap, flag);
+
+            if ((bitmap & flag) == 0) {
+                result.sizeChanged = true;
+                return insertedAt(token, flag, pos, entry);
+            }
+
+            final Object sub = array[pos];
+            final Object newSub;
+            if (sub instanceof SNode) {
+                final SNode<?, ?> sn = (SNode<?, ?>) sub;
+                if (sn.matches(entry.key, entry.hash)) {
+                    result.oldValue = sn.value;
+                    if (sn.value == entry.value) {
+                        return this;
+                    }
+                    newSub = entry;
+                } else {
+                    result.sizeChanged = true;
+                    newSub = dual(token, sn, sn.hash, entry, entry.hash, lev + LEVEL_BITS);
+                }
+            } else {
+                final Node node = (Node) sub;
+                newSub = node.put(token, entry, lev + LEVEL_BITS, result);
+                if (newSub == node) {
+                    return this;
+                }
+            }
+
+            return updatedAt(token, pos, newSub);
+        }
+
+        @Override
+        Object remove(final Object token, final Object key, final int hash, final int lev, final Result result) {
+            final int flag = flag(hash, lev);
+            if ((bitmap & flag) == 0) {
+                return this;
+            }
+
+            final int pos = index(bitmap, flag);
+            final Object sub = array[pos];
+            final Object newSub;
+            if (sub instanceof SNode) {
+                final SNode<?, ?> sn = (SNode<?, ?>) sub;
+                if (!sn.matches(key, hash)) {
+                    return this;
+                }
+                result.oldValue = sn.value;
+                result.sizeChanged = true;
+                newSub = null;
+            } else {
+                final Node node = (Node) sub;
+                newSub = node.remove(token, key, hash, lev + LEVEL_BITS, result);
+                if (newSub == node) {
+                    return this;
+                }
+            }
+
+            final CNode ret = newSub == null ? removedAt(token, flag, pos) : updatedAt(token, pos, newSub);
+            if (lev != 0) {
+                // Contract the trie: single-entry branches are inlined into their parent
+                if (ret.array.length == 0) {
+                    return null;
+                }
+                if (ret.array.length == 1 && ret.array[0] instanceof SNode) {
+                    return ret.array[0];
+                }
+            }
+            return ret;
+        }
+
+        private CNode insertedAt(final Object token, final int flag, final int pos, final Object sub) {
+            final Object[] newArray = new Object[array.length + 1];
+            System.arraycopy(array, 0, newArray, 0, pos);
+            newArray[pos] = sub;
+            System.arraycopy(array, pos, newArray, pos + 1, array.length - pos);
+
+            if (isOwned(token)) {
+                bitmap |= flag;
+                array = newArray;
+                return this;
+            }
+            return new CNode(token, bitmap | flag, newArray);
+        }
+
+        private CNode updatedAt(final Object token, final int pos, final Object sub) {
+            if (isOwned(token)) {
+                array[pos] = sub;
+                return this;
+            }
+
+            final Object[] newArray = array.clone();
+            newArray[pos] = sub;
+            return new CNode(token, bitmap, newArray);
+        }
+
+        private CNode removedAt(final Object token, final int flag, final int pos) {
+            final Object[] newArray = new Object[array.length - 1];
+            System.arraycopy(array, 0, newArray, 0, pos);
+            System.arraycopy(array, pos + 1, newArray, pos, newArray.length - pos);
+
+            if (isOwned(token)) {
+                bitmap ^= flag;
+                array = newArray;
+                return this;
+            }
+            return new CNode(token, bitmap ^ flag, newArray);
+        }
+
+        private boolean isOwned(final Object token) {
+            return token != null && token == edit;
+        }
+    }
+
+    /**
+     * A list of entries whose hashes collide completely.
+     */
+    static final class LNode extends Node {
+        final int hash;
+        final SNode<?, ?>[] entries;
+
+        LNode(final Object edit, final int hash, final SNode<?, ?>[] entries) {
+            super(edit);
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        @Override
+        SNode<?, ?> find(final Object key, final int otherHash, final int lev) {
+            if (hash == otherHash) {
+                for (SNode<?, ?> sn : entries) {
+                    if (sn.key.equals(key)) {
+                        return sn;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Node put(final Object token, final SNode<?, ?> entry, final int lev, final Result result) {
+            if (entry.hash != hash) {
+                result.sizeChanged = true;
+                return dual(token, this, hash, entry, entry.hash, lev);
+            }
+
+            for (int i = 0; i < entries.length; ++i) {
+                final SNode<?, ?> sn = entries[i];
+                if (sn.key.equals(entry.key)) {
+                    result.oldValue = sn.value;
+                    if (sn.value == entry.value) {
+                        return this;
+                    }
+                    final SNode<?, ?>[] newEntries = entries.clone();
+                    newEntries[i] = entry;
+                    return new LNode(token, hash, newEntries);
+                }
+            }
+
+            result.sizeChanged = true;
+            final SNode<?, ?>[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = entry;
+            return new LNode(token, hash, newEntries);
+        }
+
+        @Override
+        Object remove(final Object token, final Object key, final int otherHash, final int lev,
+                final Result result) {
+            if (hash != otherHash) {
+                return this;
+            }
+
+            for (int i = 0; i < entries.length; ++i) {
+                final SNode<?, ?> sn = entries[i];
+                if (sn.key.equals(key)) {
+                    result.oldValue = sn.value;
+                    result.sizeChanged = true;
+                    if (entries.length == 2) {
+                        return entries[1 - i];
+                    }
+
+                    final SNode<?, ?>[] newEntries = new SNode<?, ?>[entries.length - 1];
+                    System.arraycopy(entries, 0, newEntries, 0, i);
+                    System.arraycopy(entries, i + 1, newEntries, i, newEntries.length - i);
+                    return new LNode(token, hash, newEntries);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Depth-first iterator over all entries in a trie.
+     */
+    static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        private final Deque<Object[]> arrays = new ArrayDeque<>(HASH_BITS / LEVEL_BITS + 1);
+        private final Deque<Integer> offsets = new ArrayDeque<>(HASH_BITS / LEVEL_BITS + 1);
+        private Object[] current;
+        private int offset;
+        private SNode<K, V> next;
+
+        EntryIterator(final CNode root) {
+            current = root.array;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            final SNode<K, V> ret = next;
+            if (ret == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return ret;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            while (true) {
+                if (offset < current.length) {
+                    final Object obj = current[offset++];
+                    if (obj instanceof SNode) {
+                        next = (SNode<K, V>) obj;
+                        return;
+                    }
+
+                    arrays.push(current);
+                    offsets.push(offset);
+                    current = obj instanceof CNode ? ((CNode) obj).array : ((LNode) obj).entries;
+                    offset = 0;
+                } else if (!arrays.isEmpty()) {
+                    current = arrays.pop();
+                    offset = offsets.pop();
+                } else {
+                    next = null;
+                    return;
+                }
+            }
+        }
+    }
+
+    private HashTrie() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Compute the hash of a key. This spreads the bits in the same way TrieMap does, making sure keys whose hashCodes
+     * differ only in higher bits do not collide on the first levels.
+     */
+    static int hash(final Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 20) ^ (h >>> 12);
+        h ^= (h >>> 7) ^ (h >>> 4);
+        return h;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> V get(final CNode root, final Object key) {
+        if (key == null) {
+            return null;
+        }
+        final SNode<?, ?> sn = root.find(key, hash(key), 0);
+        return sn == null ? null : (V) sn.value;
+    }
+
+    static boolean containsKey(final CNode root, final Object key) {
+        return key != null && root.find(key, hash(key), 0) != null;
+    }
+
+    static CNode put(final Object token, final CNode root, final Object key, final Object value,
+            final Result result) {
+        return (CNode) root.put(token, new SNode<>(key, value, hash(key)), 0, result);
+    }
+
+    static CNode remove(final Object token, final CNode root, final Object key, final Result result) {
+        // Root is never contracted, hence it is always a CNode
+        return key == null ? root : (CNode) root.remove(token, key, hash(key), 0, result);
+    }
+
+    private static int flag(final int hash, final int lev) {
+        return 1 << ((hash >>> lev) & LEVEL_MASK);
+    }
+
+    private static int index(final int bitmap, final int flag) {
+        return Integer.bitCount(bitmap & (flag - 1));
+    }
+
+    /**
+     * Create a node holding two distinct children, each of which is either an SNode or an LNode.
+     */
+    private static Node dual(final Object token, final Object first, final int firstHash, final Object second,
+            final int secondHash, final int lev) {
+        if (firstHash == secondHash) {
+            // Full hash collision: this can happen only when both are SNodes, as an LNode would have been found
+            return new LNode(token, firstHash, new SNode<?, ?>[] { (SNode<?, ?>) first, (SNode<?, ?>) second });
+        }
+
+        final int firstIdx = (firstHash >>> lev) & LEVEL_MASK;
+        final int secondIdx = (secondHash >>> lev) & LEVEL_MASK;
+        if (firstIdx == secondIdx) {
+            return new CNode(token, 1 << firstIdx, new Object[] {
+                dual(token, first, firstHash, second, secondHash, lev + LEVEL_BITS)
+            });
+        }
+
+        final int bitmap = (1 << firstIdx) | (1 << secondIdx);
+        return new CNode(token, bitmap, firstIdx < secondIdx ? new Object[] { first, second }
+            : new Object[] { second, first });
+    }
+}
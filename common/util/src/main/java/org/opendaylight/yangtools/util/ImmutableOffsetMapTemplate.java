@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A template for creating {@link ImmutableOffsetMap}s whose keys are drawn from a known set of keys, such as the set of
+ * children a particular schema node can have. Instances of this class are meant to be shared by all maps created for
+ * that set of keys.
+ *
+ * <p>
+ * {@link ImmutableOffsetMap#unorderedCopyOf(Map)} has to look up the key-to-offset mapping in a global cache, which
+ * requires hashing and comparing the entire key set each time a map is created. This class instead identifies the
+ * subset of its keys present in a map with a bit mask and retains the resulting mappings, so each distinct subset is
+ * looked up in the global cache only once. Maps created by this class share their key-to-offset mappings with maps
+ * created via {@link ImmutableOffsetMap#unorderedCopyOf(Map)}, hence they are fully interchangeable.
+ *
+ * @param <K> the type of keys
+ */
+@Beta
+@ThreadSafe
+public final class ImmutableOffsetMapTemplate<K> {
+    // Upper bound on the number of retained layouts, so pathological inputs do not cause unbounded growth
+    private static final int MAX_LAYOUTS = 1024;
+
+    private final ConcurrentMap<Long, Map<K, Integer>> layouts = new ConcurrentHashMap<>();
+    private final ImmutableMap<K, Integer> bits;
+    private final ImmutableList<K> keys;
+
+    private ImmutableOffsetMapTemplate(final ImmutableList<K> keys) {
+        this.keys = keys;
+
+        final ImmutableMap.Builder<K, Integer> builder = ImmutableMap.builder();
+        for (int i = 0; i < keys.size(); ++i) {
+            builder.put(keys.get(i), i);
+        }
+        this.bits = builder.build();
+    }
+
+    /**
+     * Create a template for maps whose keys are drawn from specified keys. The maps do not retain any particular
+     * iteration order.
+     *
+     * @param keys Keys which can appear in maps
+     * @return A new template
+     * @throws NullPointerException if keys is null or contains a null element
+     */
+    public static <K> ImmutableOffsetMapTemplate<K> unordered(@Nonnull final Collection<K> keys) {
+        return new ImmutableOffsetMapTemplate<>(ImmutableSet.copyOf(keys).asList());
+    }
+
+    /**
+     * Return the keys known to this template.
+     *
+     * @return Known keys.
+     */
+    public Collection<K> keys() {
+        return keys;
+    }
+
+    /**
+     * Create an immutable copy of a map. This method behaves as {@link ImmutableOffsetMap#unorderedCopyOf(Map)}, except
+     * it is faster when all the map's keys are known to this template.
+     *
+     * @param map Input map, may not be null.
+     * @return An isolated, immutable copy of the input map
+     */
+    @Nonnull
+    public <V> Map<K, V> instantiate(@Nonnull final Map<K, V> map) {
+        final int size = map.size();
+        if (size < 2 || keys.size() > Long.SIZE || map instanceof ImmutableOffsetMap
+                || map instanceof MutableOffsetMap) {
+            return ImmutableOffsetMap.unorderedCopyOf(map);
+        }
+
+        long mask = 0;
+        for (K key : map.keySet()) {
+            final Integer bit = bits.get(key);
+            if (bit == null) {
+                return ImmutableOffsetMap.unorderedCopyOf(map);
+            }
+            mask |= 1L << bit;
+        }
+
+        final Map<K, Integer> offsets = layoutFor(mask);
+        @SuppressWarnings("unchecked")
+        final V[] array = (V[]) new Object[size];
+        for (Entry<K, V> e : map.entrySet()) {
+            array[offsets.get(e.getKey())] = e.getValue();
+        }
+        return new ImmutableOffsetMap.Unordered<>(offsets, array);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("keys", keys).add("layouts", layouts.size()).toString();
+    }
+
+    private Map<K, Integer> layoutFor(final long mask) {
+        final Long key = mask;
+        final Map<K, Integer> existing = layouts.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        final ImmutableSet.Builder<K> builder = ImmutableSet.builder();
+        for (int i = 0; i < keys.size(); ++i) {
+            if ((mask & 1L << i) != 0) {
+                builder.add(keys.get(i));
+            }
+        }
+
+        final Map<K, Integer> created = OffsetMapCache.unorderedOffsets(builder.build());
+        if (layouts.size() >= MAX_LAYOUTS) {
+            return created;
+        }
+
+        final Map<K, Integer> raced = layouts.putIfAbsent(key, created);
+        return raced != null ? raced : created;
+    }
+}
@@ -15,8 +15,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import org.opendaylight.yangtools.triemap.MutableTrieMap;
-import org.opendaylight.yangtools.triemap.TrieMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -210,17 +208,13 @@ public final class MapAdaptor {
         }
 
         /*
-         * Favor isolation speed: use a TrieMap and perform snapshots
-         *
-         * This one is a bit tricky, as the TrieMap is concurrent and does not
-         * keep an uptodate size. Updating it requires a full walk -- which is
-         * O(N) and we want to avoid that. So we wrap it in an interceptor,
-         * which will maintain the size for us.
+         * Favor isolation speed: use a persistent trie map and perform snapshots. Its size is tracked as the map is
+         * populated, so it can be retrieved in O(1).
          */
         LOG.trace("Copying input {} to a TrieMap ({} entries)", input, size);
-        final MutableTrieMap<K, V> map = TrieMap.create();
+        final ReadWriteTrieMap<K, V> map = new ReadWriteTrieMap<>();
         map.putAll(input);
-        final Map<K, V> ret = new ReadOnlyTrieMap<>(map, size);
+        final Map<K, V> ret = map.toReadOnly();
         LOG.trace("Read-only TrieMap is {}", ret);
         return ret;
     }
@@ -9,55 +9,70 @@ package org.opendaylight.yangtools.util;
 
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.collect.ForwardingMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
-import org.opendaylight.yangtools.triemap.ImmutableTrieMap;
-import org.opendaylight.yangtools.triemap.MutableTrieMap;
+import java.util.Set;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.util.HashTrie.CNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A read-only facade in front of a TrieMap. This is what we give out from
- * MapAdaptor.optimize(). The idea is that we want our read-only users to
- * share a single snapshot. That snapshot is instantiated lazily either on
- * first access. Since we never leak the TrieMap and track its size as it
- * changes, we can cache it for future reference.
+ * A read-only persistent hash trie map. This is what we give out from MapAdaptor.optimize(). Since the trie is never
+ * modified, any number of {@link ReadWriteTrieMap}s can be created from it in constant time, sharing its structure
+ * until they are modified.
  */
-final class ReadOnlyTrieMap<K, V> extends ForwardingMap<K, V> {
-    @SuppressWarnings("rawtypes")
-    private static final AtomicReferenceFieldUpdater<ReadOnlyTrieMap, ImmutableTrieMap> UPDATER =
-            AtomicReferenceFieldUpdater.newUpdater(ReadOnlyTrieMap.class, ImmutableTrieMap.class, "readOnly");
+final class ReadOnlyTrieMap<K, V> extends AbstractMap<K, V> implements Immutable {
     private static final Logger LOG = LoggerFactory.getLogger(ReadOnlyTrieMap.class);
-    private final MutableTrieMap<K, V> readWrite;
+
+    private final CNode root;
     private final int size;
-    private volatile ImmutableTrieMap<K, V> readOnly;
 
-    ReadOnlyTrieMap(final MutableTrieMap<K, V> map, final int size) {
-        this.readWrite = requireNonNull(map);
+    ReadOnlyTrieMap(final CNode root, final int size) {
+        this.root = requireNonNull(root);
         this.size = size;
     }
 
     Map<K, V> toReadWrite() {
-        final Map<K, V> ret = new ReadWriteTrieMap<>(readWrite.mutableSnapshot(), size);
+        final Map<K, V> ret = new ReadWriteTrieMap<>(root, size);
         LOG.trace("Converted read-only TrieMap {} to read-write {}", this, ret);
         return ret;
     }
 
     @Override
-    protected Map<K, V> delegate() {
-        ImmutableTrieMap<K, V> ret = readOnly;
-        if (ret == null) {
-            ret = readWrite.immutableSnapshot();
-            if (!UPDATER.compareAndSet(this, null, ret)) {
-                ret = readOnly;
-            }
-        }
-        return ret;
+    public V get(final Object key) {
+        return HashTrie.get(root, key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return HashTrie.containsKey(root, key);
     }
 
     @Override
     public int size() {
         return size;
     }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new HashTrie.EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
 }
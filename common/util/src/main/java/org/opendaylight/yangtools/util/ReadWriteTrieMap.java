@@ -9,21 +9,27 @@ package org.opendaylight.yangtools.util;
 
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.collect.ForwardingMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
-import javax.annotation.Nonnull;
-import org.opendaylight.yangtools.triemap.MutableTrieMap;
-import org.opendaylight.yangtools.triemap.TrieMap;
+import org.opendaylight.yangtools.util.HashTrie.CNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A TrieMap facade tracking modifications. Since we change structures based on
- * their size, and determining the size of a TrieMap is expensive, we make sure
- * to update it as we go.
+ * A modifiable view of a persistent hash trie. Modifications copy the path to the modified entry, leaving the trie
+ * this map was created from intact. Nodes copied by this map are owned by it and are further modified in place, until
+ * the map is converted to a {@link ReadOnlyTrieMap}. Since we change structures based on their size, we also track it
+ * as we go.
+ *
+ * <p>
+ * Iterators over {@link #keySet()}, {@link #values()} and {@link #entrySet()} operate on a snapshot of the map taken
+ * when they are created: creating one relinquishes ownership of current nodes, hence modifications performed during
+ * iteration copy them and are not observed by the iterator.
  *
  * <p>
  * FIXME: this map does not support modification view the keySet()/values()/entrySet() methods.
@@ -31,34 +37,41 @@ import org.slf4j.LoggerFactory;
  * @param <K> Key type
  * @param <V> Value type
  */
-final class ReadWriteTrieMap<K, V> extends ForwardingMap<K, V> {
+final class ReadWriteTrieMap<K, V> extends AbstractMap<K, V> {
     private static final Logger LOG = LoggerFactory.getLogger(ReadOnlyTrieMap.class);
 
-    private final MutableTrieMap<K, V> delegate;
-
+    private final HashTrie.Result result = new HashTrie.Result();
+    private Object edit = new Object();
+    private CNode root;
     private int size;
 
     ReadWriteTrieMap() {
-        this.delegate = TrieMap.create();
-        this.size = 0;
+        this(CNode.empty(), 0);
     }
 
-    ReadWriteTrieMap(final MutableTrieMap<K, V> delegate, final int size) {
-        this.delegate = requireNonNull(delegate);
+    ReadWriteTrieMap(final CNode root, final int size) {
+        this.root = requireNonNull(root);
         this.size = size;
     }
 
-    @Override
-    protected Map<K, V> delegate() {
-        return delegate;
-    }
-
     Map<K, V> toReadOnly() {
-        final Map<K, V> ret = new ReadOnlyTrieMap<>(delegate, size);
+        final Map<K, V> ret = new ReadOnlyTrieMap<>(root, size);
+        // Relinquish ownership of current nodes, so any further modifications do not affect the read-only map
+        edit = new Object();
         LOG.trace("Converted read-write TrieMap {} to read-only {}", this, ret);
         return ret;
     }
 
+    @Override
+    public V get(final Object key) {
+        return HashTrie.get(root, key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return HashTrie.containsKey(root, key);
+    }
+
     @Override
     public int size() {
         return size;
@@ -70,49 +83,57 @@ final class ReadWriteTrieMap<K, V> extends ForwardingMap<K, V> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public V put(final K key, final V value) {
-        final V ret = delegate.put(key, value);
-        if (ret == null) {
+        result.reset();
+        root = HashTrie.put(edit, root, key, value, result);
+        if (result.sizeChanged) {
             size++;
         }
-        return ret;
+        return (V) result.oldValue;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public V remove(final Object key) {
-        final V ret = delegate.remove(key);
-        if (ret != null) {
+        result.reset();
+        root = HashTrie.remove(edit, root, key, result);
+        if (result.sizeChanged) {
             size--;
         }
-        return ret;
-    }
-
-    @Override
-    @SuppressWarnings("checkstyle:parameterName")
-    public void putAll(@Nonnull final Map<? extends K, ? extends V> m) {
-        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
-            put(e.getKey(), e.getValue());
-        }
+        return (V) result.oldValue;
     }
 
     @Override
     public void clear() {
-        delegate.clear();
+        root = CNode.empty();
         size = 0;
     }
 
     @Override
     public Set<K> keySet() {
-        return Collections.unmodifiableSet(delegate.keySet());
+        return Collections.unmodifiableSet(super.keySet());
     }
 
     @Override
     public Collection<V> values() {
-        return Collections.unmodifiableCollection(delegate.values());
+        return Collections.unmodifiableCollection(super.values());
     }
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return Collections.unmodifiableSet(delegate.entrySet());
+        return Collections.unmodifiableSet(new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                // Relinquish ownership of current nodes, so any further modifications do not affect the iterator
+                edit = new Object();
+                return new HashTrie.EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        });
     }
 }
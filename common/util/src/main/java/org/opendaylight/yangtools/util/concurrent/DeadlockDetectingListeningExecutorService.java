@@ -11,6 +11,7 @@ package org.opendaylight.yangtools.util.concurrent;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.ForwardingListenableFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.concurrent.Callable;
@@ -87,6 +88,28 @@ public class DeadlockDetectingListeningExecutorService extends AsyncNotifyingLis
         this.deadlockExceptionFunction = requireNonNull(deadlockExceptionSupplier);
     }
 
+    /**
+     * Create an instance which runs each task on its own thread, created via
+     * {@link VirtualThreads#newThreadFactory(String)}. On runtimes supporting virtual threads, tasks which block do
+     * not exhaust a thread pool. Since threads are not reused, the per-thread state of this class is discarded along
+     * with them.
+     *
+     * @param threadPrefix the name prefix for threads created by the backing executor.
+     * @param deadlockExceptionSupplier Supplier that returns an Exception instance to set as the
+     *             cause of the ExecutionException when a deadlock is detected.
+     * @param listenableFutureExecutor the executor used to run listener callbacks asynchronously.
+     *             If null, no executor is used.
+     * @return A new DeadlockDetectingListeningExecutorService
+     */
+    @Beta
+    public static DeadlockDetectingListeningExecutorService withVirtualThreads(@Nonnull final String threadPrefix,
+            @Nonnull final Supplier<Exception> deadlockExceptionSupplier,
+            @Nullable final Executor listenableFutureExecutor) {
+        return new DeadlockDetectingListeningExecutorService(
+            SpecialExecutors.newVirtualThreadPerTaskExecutor(threadPrefix), deadlockExceptionSupplier,
+            listenableFutureExecutor);
+    }
+
     @Override
     public void execute(@Nonnull final Runnable command) {
         getDelegate().execute(wrapRunnable(command));
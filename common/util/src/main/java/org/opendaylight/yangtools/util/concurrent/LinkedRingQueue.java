@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+/**
+ * A lock-free, multi-producer multi-consumer FIFO queue of bounded capacity, backed by ring buffers. Elements are
+ * stored directly in a ring, hence queueing does not allocate. The queue starts with a small ring, so that short-lived
+ * queues stay cheap. When a ring fills up, a new ring twice its size is linked after it, up to the size needed to hold
+ * the entire capacity. The full ring is closed and consumers move over to the next ring once they have drained it.
+ *
+ * <p>Each ring follows Dmitry Vyukov's bounded MPMC queue design: every slot carries a sequence number, which tells
+ * producers whether the slot is free and consumers whether it holds a published element.
+ *
+ * <p>This queue does not enforce its capacity. Callers are required to reserve capacity before offering an element and
+ * release it after polling one, so that no more than {@code capacity} elements are in the queue at any time.
+ *
+ * @param <E> element type
+ */
+final class LinkedRingQueue<E> {
+    private static final int MAX_RING_SIZE = 1 << 30;
+
+    private final AtomicReference<Ring<E>> headRing;
+    private final AtomicReference<Ring<E>> tailRing;
+    private final int capacity;
+    private final int maxRingSize;
+
+    LinkedRingQueue(final int initialRingSize, final int capacity) {
+        checkArgument(capacity > 0, "Invalid capacity %s", capacity);
+        this.capacity = capacity;
+        this.maxRingSize = ringSize(capacity);
+
+        final Ring<E> ring = new Ring<>(Math.min(ringSize(initialRingSize), maxRingSize));
+        headRing = new AtomicReference<>(ring);
+        tailRing = new AtomicReference<>(ring);
+    }
+
+    /**
+     * Add an element at the tail of the queue. Caller must have reserved capacity for it.
+     *
+     * @param element Element to add
+     */
+    void offer(final E element) {
+        requireNonNull(element);
+        while (true) {
+            final Ring<E> ring = tailRing.get();
+            if (ring.offer(element)) {
+                return;
+            }
+
+            final Ring<E> next = ring.next.get();
+            if (next != null) {
+                tailRing.compareAndSet(ring, next);
+            } else if (ring.size() >= capacity && !ring.isClosed()) {
+                // The ring can hold the entire capacity, hence a consumer is just about to release a slot
+                Thread.yield();
+            } else {
+                // Link the next ring before closing this one, so producers always have a ring to go to
+                if (ring.next.compareAndSet(null, new Ring<>(Math.min(ring.size() * 2, maxRingSize)))) {
+                    ring.close();
+                }
+                tailRing.compareAndSet(ring, ring.next.get());
+            }
+        }
+    }
+
+    /**
+     * Remove the element at the head of the queue.
+     *
+     * @return Head element, or null if the queue is empty or the next element is still being published.
+     */
+    @Nullable E poll() {
+        while (true) {
+            final Ring<E> ring = headRing.get();
+            final E element = ring.poll();
+            if (element != null) {
+                return element;
+            }
+
+            final Ring<E> next = ring.next.get();
+            if (next == null || !ring.isDrained()) {
+                return null;
+            }
+            headRing.compareAndSet(ring, next);
+        }
+    }
+
+    private static int ringSize(final int size) {
+        return size >= MAX_RING_SIZE ? MAX_RING_SIZE : Integer.highestOneBit(Math.max(size, 2) - 1) << 1;
+    }
+
+    private static final class Ring<E> {
+        // Set in the tail position once the ring has been closed
+        private static final long CLOSED = Long.MIN_VALUE;
+
+        final AtomicReference<Ring<E>> next = new AtomicReference<>();
+
+        private final AtomicReferenceArray<E> slots;
+        private final AtomicLongArray sequences;
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLong tail = new AtomicLong();
+        private final int mask;
+
+        Ring(final int size) {
+            slots = new AtomicReferenceArray<>(size);
+            sequences = new AtomicLongArray(size);
+            for (int i = 0; i < size; ++i) {
+                sequences.lazySet(i, i);
+            }
+            mask = size - 1;
+        }
+
+        int size() {
+            return mask + 1;
+        }
+
+        boolean offer(final E element) {
+            long pos = tail.get();
+            while (pos >= 0) {
+                final int index = (int) (pos & mask);
+                final long diff = sequences.get(index) - pos;
+                if (diff == 0) {
+                    if (tail.compareAndSet(pos, pos + 1)) {
+                        slots.lazySet(index, element);
+                        sequences.set(index, pos + 1);
+                        return true;
+                    }
+                } else if (diff < 0) {
+                    // Full
+                    return false;
+                }
+                pos = tail.get();
+            }
+
+            // Closed
+            return false;
+        }
+
+        E poll() {
+            long pos = head.get();
+            while (true) {
+                final int index = (int) (pos & mask);
+                final long diff = sequences.get(index) - (pos + 1);
+                if (diff == 0) {
+                    if (head.compareAndSet(pos, pos + 1)) {
+                        final E element = slots.get(index);
+                        slots.lazySet(index, null);
+                        sequences.set(index, pos + mask + 1);
+                        return element;
+                    }
+                } else if (diff < 0) {
+                    // Empty, or the element has not been published yet
+                    return null;
+                }
+                pos = head.get();
+            }
+        }
+
+        void close() {
+            tail.getAndUpdate(pos -> pos | CLOSED);
+        }
+
+        boolean isClosed() {
+            return tail.get() < 0;
+        }
+
+        boolean isDrained() {
+            final long pos = tail.get();
+            return pos < 0 && head.get() == (pos & ~CLOSED);
+        }
+    }
+}
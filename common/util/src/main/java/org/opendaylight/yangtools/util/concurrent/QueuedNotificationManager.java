@@ -11,24 +11,29 @@ package org.opendaylight.yangtools.util.concurrent;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
-import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yangtools.util.DurationHistogramTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +49,12 @@ import org.slf4j.LoggerFactory;
  * dispatched are appended to the existing queue. When all notifications have been dispatched, the
  * queue and task are discarded.
  *
+ * <p>Per-listener queues are lock-free: producers reserve capacity atomically and never contend with
+ * the dispatching thread on a lock. Notifications are stored in ring buffers, which start small and
+ * grow up to the queue capacity as needed. What happens when a queue is full is governed by a
+ * {@link BackpressurePolicy}. Notifications are dispatched in batches whose size adapts to the
+ * backlog: it grows while the listener falls behind and shrinks back when it keeps up.
+ *
  * @author Thomas Pantelis
  *
  * @param <L> the listener type
@@ -84,6 +95,77 @@ public class QueuedNotificationManager<L, N> implements NotificationManager<L, N
         void invokeListener(@Nonnull L listener, @Nonnull Collection<? extends N> notifications);
     }
 
+    /**
+     * Policy governing what happens when a notification is submitted to a listener whose queue is full.
+     *
+     * @param <N> the notification type
+     */
+    @Beta
+    @ThreadSafe
+    public static final class BackpressurePolicy<N> {
+        private enum Kind {
+            BLOCK,
+            DROP_OLDEST,
+            COALESCE;
+        }
+
+        private static final BackpressurePolicy<?> BLOCK = new BackpressurePolicy<>(Kind.BLOCK, null);
+        private static final BackpressurePolicy<?> DROP_OLDEST = new BackpressurePolicy<>(Kind.DROP_OLDEST, null);
+
+        private final Kind kind;
+        private final BinaryOperator<N> coalescer;
+
+        private BackpressurePolicy(final Kind kind, final BinaryOperator<N> coalescer) {
+            this.kind = kind;
+            this.coalescer = coalescer;
+        }
+
+        /**
+         * Return a policy which blocks the submitting thread until the listener makes room in its queue. If no room
+         * is made within 10 minutes, the remaining notifications are logged and discarded. This is the default
+         * policy.
+         *
+         * @param <N> the notification type
+         * @return A blocking policy
+         */
+        @SuppressWarnings("unchecked")
+        public static <N> BackpressurePolicy<N> block() {
+            return (BackpressurePolicy<N>) BLOCK;
+        }
+
+        /**
+         * Return a policy which discards the oldest queued notification to make room for a new one. Submitting threads
+         * never block.
+         *
+         * @param <N> the notification type
+         * @return A dropping policy
+         */
+        @SuppressWarnings("unchecked")
+        public static <N> BackpressurePolicy<N> dropOldest() {
+            return (BackpressurePolicy<N>) DROP_OLDEST;
+        }
+
+        /**
+         * Return a policy which merges notifications which do not fit into the queue into a single pending
+         * notification, which is delivered after the queue has been drained. Submitting threads never block.
+         *
+         * @param coalescer Function merging a pending notification (first argument) with a newly-submitted one
+         *                  (second argument)
+         * @param <N> the notification type
+         * @return A coalescing policy
+         * @throws NullPointerException if coalescer is null
+         */
+        public static <N> BackpressurePolicy<N> coalesce(@Nonnull final BinaryOperator<N> coalescer) {
+            return new BackpressurePolicy<>(Kind.COALESCE, requireNonNull(coalescer));
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("kind", kind).omitNullValues().add("coalescer", coalescer)
+                    .toString();
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(QueuedNotificationManager.class);
 
     /**
@@ -92,21 +174,43 @@ public class QueuedNotificationManager<L, N> implements NotificationManager<L, N
      */
     private static final int MAX_NOTIFICATION_OFFER_MINUTES = 10;
     private static final long GIVE_UP_NANOS = TimeUnit.MINUTES.toNanos(MAX_NOTIFICATION_OFFER_MINUTES);
-    private static final long TASK_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Bounds on how long a blocked producer parks between checks for available queue capacity.
+     */
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Bounds on the number of notifications dispatched to a listener in a single invocation. The actual batch size
+     * moves between these, but it is also capped by queue capacity.
+     */
+    private static final int MIN_BATCH_SIZE = 1;
+    private static final int INITIAL_BATCH_SIZE = 16;
+
+    /**
+     * Size of the first ring buffer allocated to a listener queue.
+     */
+    private static final int INITIAL_RING_SIZE = 16;
 
     private final ConcurrentMap<ListenerKey<L>, NotificationTask> listenerCache = new ConcurrentHashMap<>();
     private final BatchedInvoker<L, N> listenerInvoker;
+    private final BackpressurePolicy<N> backpressurePolicy;
+    private final DurationHistogramTracker dispatchTracker;
     private final Executor executor;
     private final String name;
     private final int maxQueueCapacity;
 
     private QueuedNotificationManager(final Executor executor, final BatchedInvoker<L, N> listenerInvoker,
-            final int maxQueueCapacity, final String name) {
+            final int maxQueueCapacity, final String name, final BackpressurePolicy<N> backpressurePolicy,
+            final DurationHistogramTracker dispatchTracker) {
         checkArgument(maxQueueCapacity > 0, "Invalid maxQueueCapacity %s must be > 0", maxQueueCapacity);
         this.executor = requireNonNull(executor);
         this.listenerInvoker = requireNonNull(listenerInvoker);
         this.maxQueueCapacity = maxQueueCapacity;
         this.name = requireNonNull(name);
+        this.backpressurePolicy = requireNonNull(backpressurePolicy);
+        this.dispatchTracker = dispatchTracker;
     }
 
     /**
@@ -130,7 +234,7 @@ public class QueuedNotificationManager<L, N> implements NotificationManager<L, N
                 LOG.error("{}: Error notifying listener {} with {}", name, listener, n, e);
             }
 
-        }), maxQueueCapacity, name);
+        }), maxQueueCapacity, name, BackpressurePolicy.block(), null);
         requireNonNull(listenerInvoker);
     }
 
@@ -144,7 +248,62 @@ public class QueuedNotificationManager<L, N> implements NotificationManager<L, N
      */
     public static <L, N> QueuedNotificationManager<L, N> create(final Executor executor,
             final BatchedInvoker<L, N> listenerInvoker, final int maxQueueCapacity, final String name) {
-        return new QueuedNotificationManager<>(executor, listenerInvoker, maxQueueCapacity, name);
+        return create(executor, listenerInvoker, maxQueueCapacity, name, BackpressurePolicy.block());
+    }
+
+    /**
+     * Create a new notification manager with specified behavior when a listener queue is full.
+     *
+     * @param executor the {@link Executor} to use for notification tasks
+     * @param listenerInvoker the {@link BatchedInvoker} to use for invoking listeners
+     * @param maxQueueCapacity the capacity of each listener queue
+     * @param name the name of this instance for logging info
+     * @param backpressurePolicy the {@link BackpressurePolicy} to apply when a listener queue is full
+     */
+    @Beta
+    public static <L, N> QueuedNotificationManager<L, N> create(final Executor executor,
+            final BatchedInvoker<L, N> listenerInvoker, final int maxQueueCapacity, final String name,
+            final BackpressurePolicy<N> backpressurePolicy) {
+        return create(executor, listenerInvoker, maxQueueCapacity, name, backpressurePolicy, null);
+    }
+
+    /**
+     * Create a new notification manager with specified behavior when a listener queue is full, which records the
+     * time taken by each listener invocation.
+     *
+     * @param executor the {@link Executor} to use for notification tasks
+     * @param listenerInvoker the {@link BatchedInvoker} to use for invoking listeners
+     * @param maxQueueCapacity the capacity of each listener queue
+     * @param name the name of this instance for logging info
+     * @param backpressurePolicy the {@link BackpressurePolicy} to apply when a listener queue is full
+     * @param dispatchTracker the {@link DurationHistogramTracker} recording listener invocation times, null if
+     *                        they should not be recorded
+     */
+    @Beta
+    public static <L, N> QueuedNotificationManager<L, N> create(final Executor executor,
+            final BatchedInvoker<L, N> listenerInvoker, final int maxQueueCapacity, final String name,
+            final BackpressurePolicy<N> backpressurePolicy, @Nullable final DurationHistogramTracker dispatchTracker) {
+        return new QueuedNotificationManager<>(executor, listenerInvoker, maxQueueCapacity, name,
+            backpressurePolicy, dispatchTracker);
+    }
+
+    /**
+     * Create a new notification manager which dispatches notifications to each listener on a dedicated thread,
+     * created via {@link VirtualThreads#newThreadFactory(String)}. On runtimes supporting virtual threads, this allows
+     * a large number of slow or blocking listeners to be serviced concurrently without exhausting a thread pool.
+     *
+     * @param listenerInvoker the {@link BatchedInvoker} to use for invoking listeners
+     * @param maxQueueCapacity the capacity of each listener queue
+     * @param name the name of this instance for logging info, also used as the thread name prefix
+     * @param backpressurePolicy the {@link BackpressurePolicy} to apply when a listener queue is full
+     * @return a new notification manager
+     */
+    @Beta
+    public static <L, N> QueuedNotificationManager<L, N> createWithVirtualThreads(
+            final BatchedInvoker<L, N> listenerInvoker, final int maxQueueCapacity, final String name,
+            final BackpressurePolicy<N> backpressurePolicy) {
+        return create(SpecialExecutors.newVirtualThreadPerTaskExecutor(name), listenerInvoker, maxQueueCapacity, name,
+            backpressurePolicy);
     }
 
     /**
@@ -154,6 +313,22 @@ public class QueuedNotificationManager<L, N> implements NotificationManager<L, N
         return maxQueueCapacity;
     }
 
+    /**
+     * Returns the {@link BackpressurePolicy} applied when a listener queue is full.
+     */
+    @Beta
+    public BackpressurePolicy<N> getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    /**
+     * Returns the {@link DurationHistogramTracker} recording listener invocation times, if present.
+     */
+    @Beta
+    public Optional<DurationHistogramTracker> getDispatchTracker() {
+        return Optional.ofNullable(dispatchTracker);
+    }
+
     /**
      * Returns the {@link Executor} to used for notification tasks.
      */
@@ -186,56 +361,36 @@ public class QueuedNotificationManager<L, N> implements NotificationManager<L, N
 
         final ListenerKey<L> key = new ListenerKey<>(listener);
 
-        // Keep looping until we are either able to add a new NotificationTask or are able to
-        // add our notifications to an existing NotificationTask. Eventually one or the other
-        // will occur.
-        try {
-            Iterator<N> it = notifications.iterator();
-
-            while (true) {
-                NotificationTask task = listenerCache.get(key);
+        // Keep looping until we are able to enter a task which is not retiring. A task only retires when it has
+        // drained its queue and there are no producers inside it, hence retries are rare and short.
+        while (true) {
+            NotificationTask task = listenerCache.get(key);
+            if (task == null) {
+                final NotificationTask newTask = new NotificationTask(key);
+                task = listenerCache.putIfAbsent(key, newTask);
                 if (task == null) {
-                    // No task found, try to insert a new one
-                    final NotificationTask newTask = new NotificationTask(key, it);
-                    task = listenerCache.putIfAbsent(key, newTask);
-                    if (task == null) {
-                        // We were able to put our new task - now submit it to the executor and
-                        // we're done. If it throws a RejectedExecutionException, let that propagate
-                        // to the caller.
-                        runTask(listener, newTask);
-                        break;
-                    }
-
-                    // We have a racing task, hence we can continue, but we need to refresh our iterator from
-                    // the task.
-                    it = newTask.recoverItems();
+                    task = newTask;
                 }
+            }
 
-                final boolean completed = task.submitNotifications(it);
-                if (!completed) {
-                    // Task is indicating it is exiting before it has consumed all the items and is exiting. Rather
-                    // than spinning on removal, we try to replace it.
-                    final NotificationTask newTask = new NotificationTask(key, it);
-                    if (listenerCache.replace(key, task, newTask)) {
-                        runTask(listener, newTask);
-                        break;
-                    }
-
-                    // We failed to replace the task, hence we need retry. Note we have to recover the items to be
-                    // published from the new task.
-                    it = newTask.recoverItems();
-                    LOG.debug("{}: retrying task queueing for {}", name, listener);
-                    continue;
+            if (task.enter()) {
+                try {
+                    task.submitNotifications(notifications.iterator());
+                } catch (InterruptedException e) {
+                    // We were interrupted trying to offer to the listener's queue. Somebody's probably
+                    // telling us to quit.
+                    LOG.warn("{}: Interrupted trying to add to {} listener's queue", name, listener);
+                } finally {
+                    // This schedules the task if needed. If it throws a RejectedExecutionException, let that
+                    // propagate to the caller.
+                    task.exit();
                 }
-
-                // All notifications have either been delivered or we have timed out and warned about the ones we
-                // have failed to deliver. In any case we are done here.
                 break;
             }
-        } catch (InterruptedException e) {
-            // We were interrupted trying to offer to the listener's queue. Somebody's probably
-            // telling us to quit.
-            LOG.warn("{}: Interrupted trying to add to {} listener's queue", name, listener);
+
+            // The task is retiring, make sure it is gone and retry
+            listenerCache.remove(key, task);
+            LOG.debug("{}: retrying task queueing for {}", name, listener);
         }
 
         LOG.trace("{}: submitNotifications done for listener {}", name, listener);
@@ -250,8 +405,8 @@ public class QueuedNotificationManager<L, N> implements NotificationManager<L, N
             t.size())).collect(Collectors.toList());
     }
 
-    private void runTask(final L listener, final NotificationTask task) {
-        LOG.debug("{}: Submitting NotificationTask for listener {}", name, listener);
+    private void runTask(final ListenerKey<L> key, final NotificationTask task) {
+        LOG.debug("{}: Submitting NotificationTask for listener {}", name, key);
         executor.execute(task);
     }
 
@@ -295,148 +450,262 @@ public class QueuedNotificationManager<L, N> implements NotificationManager<L, N
     /**
      * Executor task for a single listener that queues notifications and sends them serially to the
      * listener.
+     *
+     * <p>The task is coordinated through a single state word, which holds the {@link #SCHEDULED} and
+     * {@link #RETIRED} flags and the number of producers currently submitting notifications. A producer which
+     * leaves the task ensures it is scheduled. The task retires only when it finds its queue empty while no
+     * producers are present, so that notifications cannot be stranded in a retired task.
      */
     private class NotificationTask implements Runnable {
-
-        private final Lock lock = new ReentrantLock();
-        private final Condition notEmpty = lock.newCondition();
-        private final Condition notFull = lock.newCondition();
+        private static final int SCHEDULED = 1;
+        private static final int RETIRED = 2;
+        private static final int PRODUCER = 4;
+
+        private final LinkedRingQueue<N> queue = new LinkedRingQueue<>(INITIAL_RING_SIZE, maxQueueCapacity);
+        // Number of reserved queue slots, which is what we use to enforce capacity
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger state = new AtomicInteger();
+        // Overflow notification with BackpressurePolicy.coalesce()
+        private final AtomicReference<N> pending = new AtomicReference<>();
         private final ListenerKey<L> listenerKey;
 
-        @GuardedBy("lock")
-        private final Queue<N> queue = new ArrayDeque<>();
-        @GuardedBy("lock")
-        private boolean exiting;
+        // Accessed only from run()
+        private int batchSize = Math.min(INITIAL_BATCH_SIZE, maxQueueCapacity);
 
-        NotificationTask(final ListenerKey<L> listenerKey, final Iterator<N> notifications) {
+        NotificationTask(final ListenerKey<L> listenerKey) {
             this.listenerKey = requireNonNull(listenerKey);
-            while (notifications.hasNext()) {
-                queue.offer(notifications.next());
-            }
         }
 
-        Iterator<N> recoverItems() {
-            // This violates @GuardedBy annotation, but is invoked only when the task is not started and will never
-            // get started, hence this is safe.
-            return queue.iterator();
+        int size() {
+            return queued.get() + (pending.get() != null ? 1 : 0);
         }
 
-        int size() {
-            lock.lock();
-            try {
-                return queue.size();
-            } finally {
-                lock.unlock();
+        /**
+         * Enter this task as a producer.
+         *
+         * @return False if this task has retired and should not be used.
+         */
+        boolean enter() {
+            while (true) {
+                final int current = state.get();
+                if ((current & RETIRED) != 0) {
+                    return false;
+                }
+                if (state.compareAndSet(current, current + PRODUCER)) {
+                    return true;
+                }
             }
         }
 
-        boolean submitNotifications(final Iterator<N> notifications) throws InterruptedException {
-            final long start = System.nanoTime();
-            final long deadline = start + GIVE_UP_NANOS;
+        /**
+         * Leave this task as a producer, making sure it gets scheduled.
+         */
+        void exit() {
+            final int prev = state.getAndUpdate(current -> current - PRODUCER | SCHEDULED);
+            if ((prev & SCHEDULED) == 0) {
+                schedule();
+            }
+        }
 
-            lock.lock();
+        private void ensureScheduled() {
+            final int prev = state.getAndUpdate(current -> current | SCHEDULED);
+            if ((prev & SCHEDULED) == 0) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
             try {
-                // Lock may have blocked for some time, we need to take that into account. We may have exceedded
-                // the deadline, but that is unlikely and even in that case we can make some progress without further
-                // blocking.
-                long canWait = deadline - System.nanoTime();
+                runTask(listenerKey, this);
+            } catch (RejectedExecutionException e) {
+                // Give the next producer a chance to schedule us
+                state.getAndUpdate(current -> current & ~SCHEDULED);
+                throw e;
+            }
+        }
 
-                while (true) {
-                    // Check the exiting flag - if true then #run is in the process of exiting so return
-                    // false to indicate such. Otherwise, offer the notifications to the queue.
-                    if (exiting) {
-                        return false;
-                    }
+        void submitNotifications(final Iterator<N> notifications) throws InterruptedException {
+            final long deadline = System.nanoTime() + GIVE_UP_NANOS;
 
-                    final int avail = maxQueueCapacity - queue.size();
-                    if (avail <= 0) {
-                        if (canWait <= 0) {
-                            LOG.warn("{}: Failed to offer notifications {} to the queue for listener {}. Exceeded"
-                                + "maximum allowable time of {} minutes; the listener is likely in an unrecoverable"
-                                + "state (deadlock or endless loop). ", name, ImmutableList.copyOf(notifications),
-                                listenerKey, MAX_NOTIFICATION_OFFER_MINUTES);
-                            return true;
-                        }
+            while (notifications.hasNext()) {
+                final N notification = notifications.next();
+                if (!offer(notification, deadline)) {
+                    LOG.warn("{}: Failed to offer notifications {} to the queue for listener {}. Exceeded"
+                        + "maximum allowable time of {} minutes; the listener is likely in an unrecoverable"
+                        + "state (deadlock or endless loop). ", name, ImmutableList.builder().add(notification)
+                        .addAll(notifications).build(), listenerKey, MAX_NOTIFICATION_OFFER_MINUTES);
+                    return;
+                }
+            }
+        }
 
-                        canWait = notFull.awaitNanos(canWait);
-                        continue;
-                    }
+        private boolean offer(final N notification, final long deadline) throws InterruptedException {
+            // Once we start coalescing, keep on doing so until the pending notification is delivered, so as not to
+            // reorder notifications.
+            if (backpressurePolicy.kind == BackpressurePolicy.Kind.COALESCE && pending.get() != null) {
+                coalesce(notification);
+                return true;
+            }
 
-                    for (int i = 0; i < avail; ++i) {
-                        if (!notifications.hasNext()) {
-                            notEmpty.signal();
-                            return true;
-                        }
+            long parkNanos = MIN_PARK_NANOS;
+            while (true) {
+                if (tryReserve()) {
+                    queue.offer(notification);
+                    return true;
+                }
 
-                        queue.offer(notifications.next());
-                    }
+                switch (backpressurePolicy.kind) {
+                    case BLOCK:
+                        // The queue is full, make sure somebody is draining it
+                        ensureScheduled();
+                        if (System.nanoTime() - deadline >= 0) {
+                            return false;
+                        }
+                        LockSupport.parkNanos(this, parkNanos);
+                        if (Thread.interrupted()) {
+                            throw new InterruptedException();
+                        }
+                        parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+                        break;
+                    case COALESCE:
+                        coalesce(notification);
+                        return true;
+                    case DROP_OLDEST:
+                        final N dropped = queue.poll();
+                        if (dropped != null) {
+                            queued.decrementAndGet();
+                            LOG.debug("{}: Dropped notification {} for listener {}", name, dropped, listenerKey);
+                        } else {
+                            // A concurrent producer has reserved a slot but not filled it yet
+                            Thread.yield();
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Unhandled policy " + backpressurePolicy);
                 }
-            } finally {
-                lock.unlock();
             }
         }
 
-        @GuardedBy("lock")
-        private boolean waitForQueue() {
-            long timeout = TASK_WAIT_NANOS;
-
-            while (queue.isEmpty()) {
-                if (timeout <= 0) {
+        private boolean tryReserve() {
+            while (true) {
+                final int current = queued.get();
+                if (current >= maxQueueCapacity) {
                     return false;
                 }
-
-                try {
-                    timeout = notEmpty.awaitNanos(timeout);
-                } catch (InterruptedException e) {
-                    // The executor is probably shutting down so log as debug.
-                    LOG.debug("{}: Interrupted trying to remove from {} listener's queue", name, listenerKey);
-                    return false;
+                if (queued.compareAndSet(current, current + 1)) {
+                    return true;
                 }
             }
+        }
 
-            return true;
+        private void coalesce(final N notification) {
+            final BinaryOperator<N> coalescer = backpressurePolicy.coalescer;
+            pending.accumulateAndGet(notification, (prev, next) -> prev == null ? next : coalescer.apply(prev, next));
         }
 
         @Override
         public void run() {
+            if ((state.get() & RETIRED) != 0) {
+                // Scheduled by a producer which raced with us retiring abnormally
+                return;
+            }
+
+            boolean retired = false;
             try {
                 // Loop until we've dispatched all the notifications in the queue.
                 while (true) {
-                    final Collection<N> notifications;
-
-                    lock.lock();
-                    try {
-                        if (!waitForQueue()) {
-                            exiting = true;
-                            break;
+                    final List<N> notifications = drain();
+                    if (notifications.isEmpty()) {
+                        if (tryIdle()) {
+                            retired = true;
+                            return;
                         }
+                        continue;
+                    }
 
-                        // Splice the entire queue
-                        notifications = ImmutableList.copyOf(queue);
-                        queue.clear();
+                    invokeListener(Collections.unmodifiableList(notifications));
+                }
+            } finally {
+                if (!retired) {
+                    // We are exiting abnormally. Make sure we are not used again and remove ourselves from the cache.
+                    state.getAndUpdate(current -> current | RETIRED);
+                    listenerCache.remove(listenerKey, this);
+                }
+            }
+        }
 
-                        notFull.signalAll();
-                    } finally {
-                        lock.unlock();
+        private List<N> drain() {
+            final int limit = batchSize;
+            final List<N> notifications = new ArrayList<>(Math.min(limit, queued.get() + 1));
+            while (notifications.size() < limit) {
+                final N notification = queue.poll();
+                if (notification == null) {
+                    break;
+                }
+                notifications.add(notification);
+            }
+
+            final int count = notifications.size();
+            if (count != 0) {
+                final int remaining = queued.addAndGet(-count);
+                if (count == limit && remaining > 0) {
+                    // We are falling behind, deliver larger batches
+                    batchSize = (int) Math.min((long) limit * 2, maxQueueCapacity);
+                } else if (count < limit / 2) {
+                    // We are keeping up, keep latency low
+                    batchSize = Math.max(limit / 2, MIN_BATCH_SIZE);
+                }
+            }
+
+            if (count < limit) {
+                // The queue has been drained, deliver any coalesced notification, too
+                final N coalesced = pending.getAndSet(null);
+                if (coalesced != null) {
+                    notifications.add(coalesced);
+                }
+            }
+            return notifications;
+        }
+
+        /**
+         * Attempt to stop running, either by retiring this task or by handing it over to producers.
+         *
+         * @return True if we have stopped, false if there is more work to do.
+         */
+        private boolean tryIdle() {
+            while (true) {
+                final int current = state.get();
+                if (current != SCHEDULED) {
+                    // There are producers inside, the last one to exit will schedule us again
+                    if (state.compareAndSet(current, current & ~SCHEDULED)) {
+                        return true;
                     }
+                    continue;
+                }
 
-                    invokeListener(notifications);
+                if (queued.get() != 0 || pending.get() != null) {
+                    return false;
+                }
+                if (state.compareAndSet(SCHEDULED, RETIRED)) {
+                    listenerCache.remove(listenerKey, this);
+                    return true;
                 }
-            } finally {
-                // We're exiting, gracefully or not - either way make sure we always remove
-                // ourselves from the cache.
-                listenerCache.remove(listenerKey, this);
             }
         }
 
         @SuppressWarnings("checkstyle:illegalCatch")
         private void invokeListener(final Collection<N> notifications) {
             LOG.debug("{}: Invoking listener {} with notification: {}", name, listenerKey, notifications);
+            final long start = dispatchTracker != null ? System.nanoTime() : 0;
             try {
                 listenerInvoker.invokeListener(listenerKey.getListener(), notifications);
             } catch (Exception e) {
                 // We'll let a RuntimeException from the listener slide and keep sending any remaining notifications.
                 LOG.error("{}: Error notifying listener {} with {}", name, listenerKey, notifications, e);
+            } finally {
+                if (dispatchTracker != null) {
+                    dispatchTracker.addDuration(System.nanoTime() - start);
+                }
             }
         }
     }
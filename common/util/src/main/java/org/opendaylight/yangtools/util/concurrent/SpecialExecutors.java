@@ -8,7 +8,10 @@
 
 package org.opendaylight.yangtools.util.concurrent;
 
+import com.google.common.annotations.Beta;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -150,4 +153,70 @@ public final class SpecialExecutors {
         return new FastThreadPoolExecutor(1, maximumQueueSize, Long.MAX_VALUE, TimeUnit.SECONDS,
                 threadPrefix);
     }
+
+    /**
+     * Creates an ExecutorService which starts a new thread for each task, created via
+     * {@link VirtualThreads#newThreadFactory(String)}. Threads are not pooled, as virtual threads are cheap to create
+     * and should not be reused. Instead the number of concurrently-executing tasks is bounded by a semaphore. On
+     * runtimes supporting virtual threads, tasks which block do not tie up platform threads and the concurrency limit
+     * can be set to thousands. Once the concurrency limit is reached, tasks are queued in a separate bounded queue and
+     * started as executing tasks complete. If the maximum queue capacity is reached, subsequent tasks will be rejected.
+     *
+     * <p>On runtimes without virtual threads, this executor uses daemon platform threads, hence the concurrency limit
+     * should be chosen with that in mind.
+     *
+     * @param maximumConcurrency
+     *            the maximum number of tasks executing concurrently.
+     * @param maximumQueueSize
+     *            the capacity of the queue.
+     * @param threadPrefix
+     *            the name prefix for threads created by this executor.
+     * @return a new ExecutorService with the specified configuration.
+     */
+    @Beta
+    public static ExecutorService newBoundedVirtualThreadPool(final int maximumConcurrency,
+            final int maximumQueueSize, final String threadPrefix) {
+        return new VirtualThreadPoolExecutor(maximumConcurrency, maximumQueueSize, threadPrefix);
+    }
+
+    /**
+     * Creates an ExecutorService similar to {@link #newBoundedVirtualThreadPool } except that it
+     * handles rejected tasks by running them in the same thread as the caller. Therefore if the
+     * queue is full, the caller submitting the task will be blocked until the task completes. In
+     * this manner, tasks are never rejected.
+     *
+     * @param maximumConcurrency
+     *            the maximum number of tasks executing concurrently.
+     * @param maximumQueueSize
+     *            the capacity of the queue.
+     * @param threadPrefix
+     *            the name prefix for threads created by this executor.
+     * @return a new ExecutorService with the specified configuration.
+     */
+    @Beta
+    public static ExecutorService newBlockingBoundedVirtualThreadPool(final int maximumConcurrency,
+            final int maximumQueueSize, final String threadPrefix) {
+        final ExecutorService executor = newBoundedVirtualThreadPool(maximumConcurrency, maximumQueueSize,
+            threadPrefix);
+        ((ThreadPoolExecutor) executor).setRejectedExecutionHandler(
+            CountingRejectedExecutionHandler.newCallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Creates an ExecutorService which starts a new thread for each task, created via
+     * {@link VirtualThreads#newThreadFactory(String)}. There is no limit on the number of concurrently-executing
+     * tasks, hence this executor should only be used on runtimes supporting virtual threads, or where the number of
+     * concurrent tasks is bounded by other means. Tasks are rejected only when the executor has been shut down, these
+     * rejections are counted by a {@link CountingRejectedExecutionHandler}.
+     *
+     * @param threadPrefix
+     *            the name prefix for threads created by this executor.
+     * @return a new ExecutorService with the specified configuration.
+     */
+    @Beta
+    public static ExecutorService newVirtualThreadPerTaskExecutor(final String threadPrefix) {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            VirtualThreads.newThreadFactory(threadPrefix), CountingRejectedExecutionHandler.newAbortPolicy());
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A ThreadPoolExecutor which starts a new thread, created via {@link VirtualThreads#newThreadFactory(String)}, for each
+ * task. Threads are not pooled, instead the number of concurrently-executing tasks is bounded by a {@link Semaphore}.
+ * Tasks submitted while all permits are taken are held in a separate bounded queue and are started as executing tasks
+ * complete. If the queue is full, tasks are rejected.
+ *
+ * <p>See {@link SpecialExecutors#newBoundedVirtualThreadPool} for more details.
+ */
+final class VirtualThreadPoolExecutor extends ThreadPoolExecutor {
+    private final TrackingLinkedBlockingQueue<Runnable> backingQueue;
+    private final Object dispatchLock = new Object();
+    private final Semaphore permits;
+    private final String threadPrefix;
+    private final int maximumConcurrency;
+    private final int maximumQueueSize;
+
+    private volatile RejectedExecutionHandler rejectedExecutionHandler =
+            CountingRejectedExecutionHandler.newAbortPolicy();
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param maximumConcurrency
+     *            the maximum number of tasks executing concurrently.
+     * @param maximumQueueSize
+     *            the capacity of the queue.
+     * @param threadPrefix
+     *            the name prefix for threads created by this executor.
+     */
+    VirtualThreadPoolExecutor(final int maximumConcurrency, final int maximumQueueSize, final String threadPrefix) {
+        // Threads are not kept alive and there is no queue, hence each task executes on a fresh thread. The base class
+        // rejects tasks only once it has been shut down, which we do only after all queued tasks have been started.
+        super(0, Integer.MAX_VALUE, 0, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            VirtualThreads.newThreadFactory(threadPrefix), new ThreadPoolExecutor.AbortPolicy());
+        checkArgument(maximumConcurrency > 0, "Invalid maximum concurrency %s", maximumConcurrency);
+
+        this.backingQueue = new TrackingLinkedBlockingQueue<>(maximumQueueSize);
+        this.permits = new Semaphore(maximumConcurrency);
+        this.threadPrefix = requireNonNull(threadPrefix);
+        this.maximumConcurrency = maximumConcurrency;
+        this.maximumQueueSize = maximumQueueSize;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        requireNonNull(command);
+        if (shutdown) {
+            rejectedExecutionHandler.rejectedExecution(command, this);
+            return;
+        }
+
+        if (permits.tryAcquire()) {
+            if (!tryStart(command)) {
+                rejectedExecutionHandler.rejectedExecution(command, this);
+            }
+            return;
+        }
+        if (!backingQueue.offer(command)) {
+            rejectedExecutionHandler.rejectedExecution(command, this);
+            return;
+        }
+
+        // All executing tasks may have completed before the task was queued, in which case nobody would start it
+        startQueued();
+    }
+
+    @Override
+    protected void afterExecute(final Runnable task, final Throwable cause) {
+        super.afterExecute(task, cause);
+        permits.release();
+        startQueued();
+        if (shutdown) {
+            shutdownIfDrained();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        shutdownIfDrained();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        synchronized (dispatchLock) {
+            final List<Runnable> tasks = super.shutdownNow();
+            backingQueue.drainTo(tasks);
+            return tasks;
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(final RejectedExecutionHandler handler) {
+        rejectedExecutionHandler = requireNonNull(handler);
+    }
+
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        return rejectedExecutionHandler;
+    }
+
+    @Override
+    public BlockingQueue<Runnable> getQueue() {
+        return backingQueue;
+    }
+
+    public long getLargestQueueSize() {
+        return backingQueue.getLargestQueueSize();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("Thread Prefix", threadPrefix)
+                .add("Current Thread Pool Size", getPoolSize())
+                .add("Largest Thread Pool Size", getLargestPoolSize())
+                .add("Max Concurrency", maximumConcurrency)
+                .add("Current Queue Size", backingQueue.size())
+                .add("Largest Queue Size", getLargestQueueSize())
+                .add("Max Queue Size", maximumQueueSize)
+                .add("Active Thread Count", getActiveCount())
+                .add("Completed Task Count", getCompletedTaskCount())
+                .add("Total Task Count", getTaskCount()).toString();
+    }
+
+    private boolean tryStart(final Runnable task) {
+        try {
+            super.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            return false;
+        }
+    }
+
+    private void startQueued() {
+        while (!backingQueue.isEmpty() && permits.tryAcquire()) {
+            final Runnable rejected;
+            // Polling and starting a task is atomic with respect to shutdown, so the base class cannot be shut down
+            // while a task is in flight between the queue and a thread
+            synchronized (dispatchLock) {
+                final Runnable task = backingQueue.poll();
+                if (task == null) {
+                    permits.release();
+                    return;
+                }
+                rejected = tryStart(task) ? null : task;
+            }
+            if (rejected != null) {
+                rejectedExecutionHandler.rejectedExecution(rejected, this);
+            }
+        }
+    }
+
+    private void shutdownIfDrained() {
+        synchronized (dispatchLock) {
+            if (backingQueue.isEmpty()) {
+                super.shutdown();
+            }
+        }
+    }
+}
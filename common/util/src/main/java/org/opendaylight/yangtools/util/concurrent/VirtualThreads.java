@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility methods for creating threads which are cheap enough to be used one per task. On runtimes which support
+ * virtual threads these are virtual threads, otherwise they are daemon platform threads.
+ *
+ * <p>Virtual threads are discovered reflectively, so that this class works on any runtime this library supports.
+ */
+@Beta
+public final class VirtualThreads {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        try {
+            final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            LOG.debug("Virtual threads are not available, falling back to platform threads", e);
+            ofVirtual = null;
+            builderName = null;
+            builderFactory = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+    }
+
+    private VirtualThreads() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Check whether the runtime supports virtual threads.
+     *
+     * @return True if {@link #newThreadFactory(String)} creates virtual threads.
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Create a {@link ThreadFactory} producing virtual threads if they are available, or daemon platform threads
+     * otherwise. Threads are named {@code threadPrefix-N}.
+     *
+     * @param threadPrefix the name prefix for created threads
+     * @return A new ThreadFactory
+     * @throws NullPointerException if threadPrefix is null
+     */
+    public static ThreadFactory newThreadFactory(@Nonnull final String threadPrefix) {
+        requireNonNull(threadPrefix);
+        if (OF_VIRTUAL != null) {
+            try {
+                final Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), threadPrefix + "-", 0L);
+                return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                LOG.warn("Failed to create a virtual thread factory, falling back to platform threads", e);
+            }
+        }
+
+        return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(threadPrefix + "-%d").build();
+    }
+}
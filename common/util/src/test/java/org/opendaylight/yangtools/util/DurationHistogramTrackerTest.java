@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class DurationHistogramTrackerTest {
+
+    @Test
+    public void testBuckets() {
+        long previous = -1;
+        for (int i = 0; i < DurationHistogramTracker.BUCKET_COUNT; ++i) {
+            final long bound = DurationHistogramTracker.bucketUpperBound(i);
+            assertTrue("Bucket " + i + " bound " + bound, bound > previous);
+            assertEquals(i, DurationHistogramTracker.bucketIndex(bound));
+            assertEquals(i, DurationHistogramTracker.bucketIndex(previous + 1));
+            previous = bound;
+        }
+        assertEquals(Long.MAX_VALUE, previous);
+    }
+
+    @Test
+    public void testPercentiles() {
+        final DurationHistogramTracker tracker = DurationHistogramTracker.create();
+        assertEquals(0, tracker.getDurationAtPercentile(99));
+
+        for (int i = 1; i <= 1000; ++i) {
+            tracker.addDuration(i * 1000L);
+        }
+
+        final DurationHistogramSnapshot snapshot = tracker.snapshot();
+        assertEquals(1000, snapshot.getTotalDurations());
+        assertEquals(1000, snapshot.getShortestDuration());
+        assertEquals(1000000, snapshot.getLongestDuration());
+        assertEquals(500500.0, snapshot.getAverageDuration(), 0.1);
+        assertEquals(1000, snapshot.getDurationAtPercentile(0));
+        assertEquals(1000000, snapshot.getDurationAtPercentile(100));
+        assertWithinPrecision(500000, snapshot.getDurationAtPercentile(50));
+        assertWithinPrecision(990000, snapshot.getDurationAtPercentile(99));
+        assertEquals(1000, snapshot.getBuckets().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void testSnapshotAndReset() {
+        final DurationHistogramTracker tracker = DurationHistogramTracker.create();
+        tracker.addDuration(100);
+        tracker.addDuration(-5);
+
+        final DurationHistogramSnapshot first = tracker.snapshotAndReset();
+        assertEquals(2, first.getTotalDurations());
+        assertEquals(0, first.getShortestDuration());
+        assertEquals(100, first.getLongestDuration());
+
+        tracker.addDuration(50);
+        final DurationHistogramSnapshot second = tracker.snapshotAndReset();
+        assertEquals(1, second.getTotalDurations());
+        assertEquals(50, second.getShortestDuration());
+        assertEquals(50, second.getDurationAtPercentile(50));
+
+        assertEquals(0, tracker.snapshot().getTotalDurations());
+        assertEquals(0, tracker.snapshot().getLongestDuration());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final DurationHistogramTracker tracker = DurationHistogramTracker.create();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10000; ++j) {
+                    tracker.addDuration(j);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long collected = 0;
+        for (Thread thread : threads) {
+            collected += tracker.snapshotAndReset().getTotalDurations();
+            thread.join();
+        }
+        collected += tracker.snapshotAndReset().getTotalDurations();
+        assertEquals(80000, collected);
+    }
+
+    private static void assertWithinPrecision(final long expected, final long actual) {
+        assertTrue("Expected " + expected + " actual " + actual, Math.abs(expected - actual) <= expected / 50);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ImmutableOffsetMapTemplateTest {
+    private final ImmutableOffsetMapTemplate<String> template =
+            ImmutableOffsetMapTemplate.unordered(ImmutableList.of("k1", "k2", "k3", "k4"));
+
+    @Before
+    public void setup() {
+        OffsetMapCache.invalidateCache();
+    }
+
+    @Test
+    public void testSharedLayout() {
+        final Map<String, String> first = template.instantiate(new HashMap<>(ImmutableMap.of("k1", "a", "k3", "b")));
+        final Map<String, String> second = template.instantiate(new HashMap<>(ImmutableMap.of("k3", "c", "k1", "d")));
+        assertTrue(first instanceof ImmutableOffsetMap);
+        assertTrue(second instanceof ImmutableOffsetMap);
+        assertSame(((ImmutableOffsetMap<?, ?>) first).offsets(), ((ImmutableOffsetMap<?, ?>) second).offsets());
+        assertEquals(ImmutableMap.of("k1", "a", "k3", "b"), first);
+        assertEquals(ImmutableMap.of("k1", "d", "k3", "c"), second);
+
+        // Interchangeable with maps created without the template
+        final Map<String, String> copy = ImmutableOffsetMap.unorderedCopyOf(
+            new HashMap<>(ImmutableMap.of("k3", "b", "k1", "a")));
+        assertSame(((ImmutableOffsetMap<?, ?>) first).offsets(), ((ImmutableOffsetMap<?, ?>) copy).offsets());
+        assertEquals(copy, first);
+        assertEquals(copy.hashCode(), first.hashCode());
+    }
+
+    @Test
+    public void testFallback() {
+        assertEquals(ImmutableMap.of(), template.instantiate(new HashMap<>()));
+        assertTrue(template.instantiate(new HashMap<>(ImmutableMap.of("k1", "a"))) instanceof SharedSingletonMap);
+
+        final Map<String, String> unknown = template.instantiate(new HashMap<>(ImmutableMap.of("k1", "a", "x", "b")));
+        assertTrue(unknown instanceof ImmutableOffsetMap);
+        assertEquals(ImmutableMap.of("k1", "a", "x", "b"), unknown);
+        assertSame(unknown, template.instantiate(unknown));
+    }
+
+    @Test
+    public void testWideTemplate() {
+        final List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            keys.add(i);
+        }
+
+        final Map<Integer, String> map = ImmutableOffsetMapTemplate.unordered(keys).instantiate(
+            new HashMap<>(ImmutableMap.of(1, "a", 99, "b")));
+        assertEquals(ImmutableMap.of(1, "a", 99, "b"), map);
+    }
+}
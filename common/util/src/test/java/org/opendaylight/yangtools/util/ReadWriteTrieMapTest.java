@@ -9,34 +9,31 @@ package org.opendaylight.yangtools.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 import java.util.Set;
 import org.junit.Test;
-import org.opendaylight.yangtools.triemap.MutableTrieMap;
-import org.opendaylight.yangtools.triemap.TrieMap;
 
 public class ReadWriteTrieMapTest {
 
     @Test
     public void testMethodsOfReadWriteTrieMap() {
-        final MutableTrieMap<String, String> trieMap = TrieMap.create();
-        trieMap.put("0", "zero");
-        trieMap.put("1", "one");
-
-        final ReadWriteTrieMap<String, String> readWriteTrieMap = new ReadWriteTrieMap<>(trieMap, 5);
+        final ReadWriteTrieMap<String, String> readWriteTrieMap = new ReadWriteTrieMap<>();
+        readWriteTrieMap.put("0", "zero");
+        readWriteTrieMap.put("1", "one");
 
         assertNotNull("Object readOnlyTrieMap shouldn't be 'null'.", readWriteTrieMap);
 
-        assertEquals("Size of readOnlyTrieMap should be '5'.", 5, readWriteTrieMap.size());
+        assertEquals("Size of readOnlyTrieMap should be '2'.", 2, readWriteTrieMap.size());
         assertFalse("Object readOnlyTrieMap shouldn't be empty.", readWriteTrieMap.isEmpty());
-
         assertTrue("Object readOnlyTrieMap should have key '0'.", readWriteTrieMap.containsKey("0"));
         assertTrue("Object readOnlyTrieMap should have value 'zero'.", readWriteTrieMap.containsValue("zero"));
         assertEquals("Object readOnlyTrieMap should have value 'zero'.", "zero", readWriteTrieMap.get("0"));
@@ -53,25 +50,149 @@ public class ReadWriteTrieMapTest {
         final Collection<String> trieMapValues = readWriteTrieMap.values();
         assertEquals("Size of values should be '3'.", 3, trieMapValues.size());
 
-        assertEquals(convertSetEntryToMap(readWriteTrieMap.entrySet()), trieMap);
-
-        trieMap.put("2", "two");
-        final ReadWriteTrieMap<String, String> readWriteTrieMap2 = new ReadWriteTrieMap<>(trieMap, 4);
-
-        assertNotEquals(readWriteTrieMap, readWriteTrieMap2);
-        assertEquals(readWriteTrieMap.hashCode(), readWriteTrieMap2.hashCode());
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("0", "zero");
+        expected.put("2", "two");
+        expected.put("3", "three");
+        assertEquals(expected, convertSetEntryToMap(readWriteTrieMap.entrySet()));
+        assertEquals(expected, readWriteTrieMap);
+        assertEquals(expected.hashCode(), readWriteTrieMap.hashCode());
 
         final Map<String, String> readOnlyTrieMap = readWriteTrieMap.toReadOnly();
         readWriteTrieMap.clear();
         assertEquals(0, readWriteTrieMap.size());
-        assertEquals(6, readOnlyTrieMap.size());
+        assertEquals(3, readOnlyTrieMap.size());
+        assertEquals(expected, readOnlyTrieMap);
+    }
+
+    @Test
+    public void testSnapshotIsolation() {
+        final ReadWriteTrieMap<Integer, Integer> map = new ReadWriteTrieMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            map.put(i, i);
+        }
+
+        final ReadOnlyTrieMap<Integer, Integer> readOnly = (ReadOnlyTrieMap<Integer, Integer>) map.toReadOnly();
+        // Further modification of the original map must not be visible
+        map.put(0, -1);
+        map.remove(1);
+        assertEquals(Integer.valueOf(0), readOnly.get(0));
+        assertEquals(Integer.valueOf(1), readOnly.get(1));
+
+        final Map<Integer, Integer> first = readOnly.toReadWrite();
+        final Map<Integer, Integer> second = readOnly.toReadWrite();
+        first.remove(2);
+        second.put(2, -2);
+        second.put(5000, 5000);
+
+        assertEquals(1000, readOnly.size());
+        assertEquals(Integer.valueOf(2), readOnly.get(2));
+        assertNull(readOnly.get(5000));
+        assertEquals(999, first.size());
+        assertNull(first.get(2));
+        assertEquals(1001, second.size());
+        assertEquals(Integer.valueOf(-2), second.get(2));
     }
 
-    private static Map<String, String> convertSetEntryToMap(final Set<Entry<String, String>> input) {
-        Map<String, String> resultMap = new HashMap<>();
-        for (Entry<String, String> entry : input) {
+    @Test
+    public void testIterationIsolation() {
+        final ReadWriteTrieMap<Integer, Integer> map = new ReadWriteTrieMap<>();
+        final Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            map.put(i, i);
+            expected.put(i, i);
+        }
+
+        // Modifications during iteration must not be visible to the iterator
+        final Map<Integer, Integer> seen = new HashMap<>();
+        final Map<Integer, Integer> reference = new HashMap<>(expected);
+        for (Entry<Integer, Integer> entry : map.entrySet()) {
+            seen.put(entry.getKey(), entry.getValue());
+            for (Map<Integer, Integer> target : Arrays.asList(map, reference)) {
+                target.put(entry.getKey(), -entry.getValue());
+                target.remove(entry.getKey() + 1);
+                target.put(entry.getKey() + 1000, entry.getValue());
+            }
+        }
+        assertEquals(expected, seen);
+        assertEquals(reference, map);
+    }
+
+    @Test
+    public void testHashCollisions() {
+        final ReadWriteTrieMap<CollidingKey, String> map = new ReadWriteTrieMap<>();
+        for (int i = 0; i < 10; ++i) {
+            map.put(new CollidingKey(i, 42), "v" + i);
+        }
+        map.put(new CollidingKey(100, 43), "other");
+        assertEquals(11, map.size());
+
+        final Map<CollidingKey, String> readOnly = map.toReadOnly();
+        for (int i = 0; i < 10; ++i) {
+            assertEquals("v" + i, readOnly.get(new CollidingKey(i, 42)));
+            assertEquals("v" + i, map.remove(new CollidingKey(i, 42)));
+        }
+        assertEquals(1, map.size());
+        assertEquals("other", map.get(new CollidingKey(100, 43)));
+        assertEquals(11, readOnly.size());
+        assertEquals(11, convertSetEntryToMap(readOnly.entrySet()).size());
+    }
+
+    @Test
+    public void testRandomOperations() {
+        final Random random = new Random(0);
+        final Map<Integer, Integer> reference = new HashMap<>();
+        Map<Integer, Integer> readOnly = new ReadWriteTrieMap<Integer, Integer>().toReadOnly();
+
+        for (int round = 0; round < 20; ++round) {
+            final Map<Integer, Integer> snapshot = new HashMap<>(reference);
+            final ReadWriteTrieMap<Integer, Integer> map =
+                    (ReadWriteTrieMap<Integer, Integer>) ((ReadOnlyTrieMap<Integer, Integer>) readOnly).toReadWrite();
+
+            for (int i = 0; i < 500; ++i) {
+                final Integer key = random.nextInt(2000);
+                if (random.nextBoolean()) {
+                    final Integer value = random.nextInt();
+                    assertEquals(reference.put(key, value), map.put(key, value));
+                } else {
+                    assertEquals(reference.remove(key), map.remove(key));
+                }
+                assertEquals(reference.size(), map.size());
+            }
+
+            assertEquals(reference, map);
+            assertEquals(reference, convertSetEntryToMap(map.entrySet()));
+            // Previous version has not been affected
+            assertEquals(snapshot, readOnly);
+            readOnly = map.toReadOnly();
+        }
+    }
+
+    private static <K, V> Map<K, V> convertSetEntryToMap(final Set<Entry<K, V>> input) {
+        Map<K, V> resultMap = new HashMap<>();
+        for (Entry<K, V> entry : input) {
             resultMap.put(entry.getKey(), entry.getValue());
         }
         return resultMap;
     }
+
+    private static final class CollidingKey {
+        private final int value;
+        private final int hash;
+
+        CollidingKey(final int value, final int hash) {
+            this.value = value;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof CollidingKey && value == ((CollidingKey) obj).value;
+        }
+    }
 }
@@ -154,6 +154,16 @@ public class DeadlockDetectingListeningExecutorServiceTest {
         testBlockingSubmitOnExecutorThread(EXECUTE, SUBMIT_CALLABLE);
     }
 
+    @Test
+    public void testBlockingSubmitOnVirtualThread() throws InterruptedException {
+
+        executor = DeadlockDetectingListeningExecutorService.withVirtualThreads("TestPool",
+            DEADLOCK_EXECUTOR_SUPPLIER, null);
+
+        testBlockingSubmitOnExecutorThread(SUBMIT, SUBMIT_CALLABLE);
+        testBlockingSubmitOnExecutorThread(EXECUTE, SUBMIT_RUNNABLE);
+    }
+
     @SuppressWarnings("checkstyle:illegalCatch")
     void testBlockingSubmitOnExecutorThread(final InitialInvoker initialInvoker, final Invoker invoker)
             throws InterruptedException {
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class LinkedRingQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 100000;
+
+    @Test
+    public void testFifoAcrossRings() {
+        final LinkedRingQueue<Integer> queue = new LinkedRingQueue<>(2, 100);
+        assertNull(queue.poll());
+
+        // Fill beyond the initial ring, forcing it to grow a few times
+        for (int i = 0; i < 100; ++i) {
+            queue.offer(i);
+        }
+        for (int i = 0; i < 50; ++i) {
+            assertEquals(Integer.valueOf(i), queue.poll());
+        }
+
+        // Wrap around the largest ring
+        for (int i = 100; i < 150; ++i) {
+            queue.offer(i);
+        }
+        for (int i = 50; i < 150; ++i) {
+            assertEquals(Integer.valueOf(i), queue.poll());
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final LinkedRingQueue<long[]> queue = new LinkedRingQueue<>(2, 1000);
+        final Semaphore capacity = new Semaphore(1000);
+
+        final List<Thread> producers = new ArrayList<>(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; ++p) {
+            final int producer = p;
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < PER_PRODUCER; ++i) {
+                    capacity.acquireUninterruptibly();
+                    queue.offer(new long[] { producer, i });
+                }
+            });
+            thread.setDaemon(true);
+            producers.add(thread);
+            thread.start();
+        }
+
+        // Each producer's elements have to come out in order, and none may be lost
+        final int[] expected = new int[PRODUCERS];
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        for (int received = 0; received < PRODUCERS * PER_PRODUCER; ) {
+            final long[] element = queue.poll();
+            if (element == null) {
+                assertTrue("Timed out after " + received + " elements", System.nanoTime() < deadline);
+                Thread.yield();
+                continue;
+            }
+
+            assertEquals(expected[(int) element[0]]++, element[1]);
+            capacity.release();
+            ++received;
+        }
+
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        assertNull(queue.poll());
+    }
+}
@@ -28,6 +28,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Test;
+import org.opendaylight.yangtools.util.DurationHistogramTracker;
 import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager.BatchedInvoker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -183,6 +184,46 @@ public class QueuedNotificationManagerTest {
         listener.verifyNotifications(expNotifications);
     }
 
+    @Test(timeout = 10000)
+    public void testDispatchTracker() {
+        queueExecutor = Executors.newFixedThreadPool(2);
+        final DurationHistogramTracker tracker = DurationHistogramTracker.create();
+        final NotificationManager<TestListener<Integer>, Integer> manager = QueuedNotificationManager.create(
+            queueExecutor, new TestNotifier<>(), 10, "TestMgr", QueuedNotificationManager.BackpressurePolicy.block(),
+            tracker);
+
+        final TestListener<Integer> listener = new TestListener<>(1, 1);
+        listener.sleepTime = 10;
+        manager.submitNotification(listener, 1);
+        listener.verifyNotifications(Collections.singletonList(1));
+
+        // Invocation time is recorded after the listener has returned
+        while (tracker.getTotalDurations() == 0) {
+            Uninterruptibles.sleepUninterruptibly(1, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(tracker.snapshot().getLongestDuration() >= TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test(timeout = 10000)
+    public void testNotificationsWithVirtualThreads() {
+        final NotificationManager<TestListener<Integer>, Integer> manager =
+                QueuedNotificationManager.createWithVirtualThreads(new TestNotifier<>(), 10, "TestMgr",
+                    QueuedNotificationManager.BackpressurePolicy.block());
+
+        final List<TestListener<Integer>> listeners = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            final TestListener<Integer> listener = new TestListener<>(2, i);
+            listener.sleepTime = 50;
+            listeners.add(listener);
+            manager.submitNotifications(listener, Arrays.asList(1, 2));
+        }
+
+        // All listeners block concurrently, hence this completes well within the timeout
+        for (TestListener<Integer> listener : listeners) {
+            listener.verifyNotifications(Arrays.asList(1, 2));
+        }
+    }
+
     @Test
     public void testNotificationsWithMultipleListeners() throws InterruptedException {
 
@@ -296,4 +337,44 @@ public class QueuedNotificationManagerTest {
         List<Runnable> tasks = queueExecutor.shutdownNow();
         assertTrue(tasks.isEmpty());
     }
+
+    @Test(timeout = 10000)
+    public void testDropOldestBackpressure() {
+        verifyBlockedListener(QueuedNotificationManager.BackpressurePolicy.dropOldest(), 2, Arrays.asList(1, 4, 5));
+    }
+
+    @Test(timeout = 10000)
+    public void testCoalesceBackpressure() {
+        verifyBlockedListener(QueuedNotificationManager.BackpressurePolicy.coalesce(Integer::sum), 3,
+            Arrays.asList(1, 2, 3, 9));
+    }
+
+    private void verifyBlockedListener(final QueuedNotificationManager.BackpressurePolicy<Integer> policy,
+            final int expectedQueueSize, final List<Integer> expected) {
+        queueExecutor = Executors.newSingleThreadExecutor();
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(expected.size());
+        final List<Integer> actual = Collections.synchronizedList(new ArrayList<>());
+        final QueuedNotificationManager<Object, Integer> manager = QueuedNotificationManager.create(queueExecutor,
+            (listener, notifications) -> {
+                entered.countDown();
+                Uninterruptibles.awaitUninterruptibly(release);
+                actual.addAll(notifications);
+                notifications.forEach(n -> done.countDown());
+            }, 2, "TestMgr", policy);
+
+        final Object listener = new Object();
+        manager.submitNotification(listener, 1);
+        Uninterruptibles.awaitUninterruptibly(entered);
+
+        // None of these may block
+        manager.submitNotifications(listener, Arrays.asList(2, 3, 4, 5));
+        assertEquals(expectedQueueSize, manager.getListenerNotificationQueueStats().get(0).getCurrentQueueSize());
+
+        release.countDown();
+        assertTrue("Notifications delivered", Uninterruptibles.awaitUninterruptibly(done, 5, TimeUnit.SECONDS));
+        assertEquals(expected, actual);
+    }
 }
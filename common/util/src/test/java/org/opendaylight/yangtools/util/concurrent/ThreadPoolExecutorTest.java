@@ -7,6 +7,7 @@
  */
 package org.opendaylight.yangtools.util.concurrent;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -18,6 +19,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.After;
@@ -83,6 +85,59 @@ public class ThreadPoolExecutorTest {
         testThreadPoolExecution(SpecialExecutors.newBlockingBoundedCachedThreadPool(2, 1, "TestPool"), 1000, null, 10);
     }
 
+    @Test
+    public void testVirtualThreadPoolExecution() throws InterruptedException {
+        testThreadPoolExecution(SpecialExecutors.newBoundedVirtualThreadPool(100, 100000, "TestPool"),
+                100000, "TestPool", 0);
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testVirtualThreadPoolRejectingTask() throws InterruptedException {
+        executor = SpecialExecutors.newBoundedVirtualThreadPool(1, 1, "TestPool");
+
+        for (int i = 0; i < 5; i++) {
+            executor.execute(new Task(null, null, null, null, TimeUnit.MICROSECONDS.convert(5, TimeUnit.SECONDS)));
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPoolConcurrencyLimit() throws InterruptedException {
+        executor = SpecialExecutors.newBoundedVirtualThreadPool(3, 100, "TestPool");
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 50; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                completed.incrementAndGet();
+            });
+        }
+
+        // Tasks queued before shutdown are still executed
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(15, TimeUnit.SECONDS));
+        assertEquals(50, completed.get());
+        assertTrue("Concurrency limit exceeded: " + maxRunning.get(), maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void testBlockingVirtualThreadPoolExecution() throws InterruptedException {
+        testThreadPoolExecution(SpecialExecutors.newBlockingBoundedVirtualThreadPool(2, 1, "TestPool"), 1000, null,
+            10);
+    }
+
+    @Test
+    public void testVirtualThreadPerTaskExecution() throws InterruptedException {
+        testThreadPoolExecution(SpecialExecutors.newVirtualThreadPerTaskExecutor("TestPool"), 1000, "TestPool", 10);
+    }
+
     void testThreadPoolExecution(final ExecutorService executor, final int numTasksToRun, final String expThreadPrefix,
             final long taskDelay) throws InterruptedException {
 
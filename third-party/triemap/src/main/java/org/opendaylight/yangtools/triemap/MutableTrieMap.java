@@ -22,13 +22,24 @@ import static org.opendaylight.yangtools.triemap.PresencePredicate.PRESENT;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Verify;
+import com.google.common.primitives.Ints;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * A mutable TrieMap.
  *
+ * <p>
+ * The number of entries is tracked by a striped counter, which is updated by each modification once it has taken
+ * effect. {@link #size()} is therefore a constant-time operation, which returns the exact size when there are no
+ * concurrent modifications. Similar to {@link java.util.concurrent.ConcurrentHashMap#size()}, modifications which are
+ * in progress may or may not be reflected. Use {@link #immutableSnapshot()} if a linearizable size is required.
+ * The price for this is paid by {@link #clear()}, which needs to count the entries it has removed.
+ *
  * @author Robert Varga
  *
  * @param <K> the type of keys maintained by this map
@@ -44,21 +55,96 @@ public final class MutableTrieMap<K, V> extends TrieMap<K, V> {
 
     private volatile Object root;
 
+    // Sum of size changes performed through this map, relative to the size of the snapshot it was created from
+    private final LongAdder sizeDelta = new LongAdder();
+
+    // Snapshot this map was created from, its size has not been computed yet
+    private volatile ImmutableTrieMap<K, V> sizeBase;
+    private volatile int baseSize;
+
     MutableTrieMap(final Equivalence<? super K> equiv) {
         this(equiv, newRootNode());
     }
 
-    MutableTrieMap(final Equivalence<? super K> equiv, final INode<K, V> root) {
+    MutableTrieMap(final Equivalence<? super K> equiv, final INode<K, V> root, final ImmutableTrieMap<K, V> base) {
+        this(equiv, root);
+        this.sizeBase = requireNonNull(base);
+        this.baseSize = MainNode.NO_SIZE;
+    }
+
+    private MutableTrieMap(final Equivalence<? super K> equiv, final INode<K, V> root) {
         super(equiv);
         this.root = requireNonNull(root);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Unlike a plain TrieMap, this operation is not constant-time: the removed entries are counted in order to keep
+     * {@link #size()} accurate, which costs O(n) in the number of entries present at the time of the call. The
+     * counting happens after the map has been emptied and does not block concurrent modifications.
+     */
     @Override
     public void clear() {
         INode<K, V> r;
         do {
             r = RDCSS_READ_ROOT();
         } while (!RDCSS_ROOT(r, r.gcasRead(this), newRootNode()));
+
+        // The old root cannot change anymore, hence we can account for all of its entries
+        sizeDelta.add(-new ImmutableTrieMap<>(r, equiv()).size());
+    }
+
+    @Override
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        final K k = requireNonNull(key);
+        requireNonNull(mappingFunction);
+
+        final int hc = computeHash(k);
+        final V existing = lookuphc(k, hc);
+        if (existing != null) {
+            return existing;
+        }
+
+        final V value = mappingFunction.apply(k);
+        if (value == null) {
+            return null;
+        }
+
+        final Optional<V> prev = insertifhc(k, hc, value, ABSENT);
+        return prev.isPresent() ? prev.get() : value;
+    }
+
+    @Override
+    public V merge(final K key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        final K k = requireNonNull(key);
+        requireNonNull(value);
+        requireNonNull(remappingFunction);
+
+        final int hc = computeHash(k);
+        V existing = lookuphc(k, hc);
+        while (true) {
+            if (existing == null) {
+                final Optional<V> prev = insertifhc(k, hc, value, ABSENT);
+                if (!prev.isPresent()) {
+                    return value;
+                }
+                existing = prev.get();
+            }
+
+            final V newValue = remappingFunction.apply(existing, value);
+            if (newValue == null) {
+                if (removehc(k, existing, hc).isPresent()) {
+                    return null;
+                }
+            } else if (insertifhc(k, hc, newValue, existing).isPresent()) {
+                return newValue;
+            }
+
+            // We have raced with another modification, retry with the current value
+            existing = lookuphc(k, hc);
+        }
     }
 
     @Override
@@ -103,7 +189,23 @@ public final class MutableTrieMap<K, V> extends TrieMap<K, V> {
 
     @Override
     public int size() {
-        return immutableSnapshot().size();
+        return Math.max(0, Ints.saturatedCast(baseSize() + sizeDelta.sum()));
+    }
+
+    private int baseSize() {
+        int ret = baseSize;
+        if (ret == MainNode.NO_SIZE) {
+            final ImmutableTrieMap<K, V> base = sizeBase;
+            if (base != null) {
+                // Concurrent computations arrive at the same result. Release the snapshot once its size is known.
+                ret = base.size();
+                baseSize = ret;
+                sizeBase = null;
+            } else {
+                ret = baseSize;
+            }
+        }
+        return ret;
     }
 
     private INode<K, V> snapshot() {
@@ -122,7 +224,8 @@ public final class MutableTrieMap<K, V> extends TrieMap<K, V> {
 
     @Override
     public MutableTrieMap<K, V> mutableSnapshot() {
-        return new MutableTrieMap<>(equiv(), snapshot().copyToGen(new Gen(), this));
+        final INode<K, V> snap = snapshot();
+        return new MutableTrieMap<>(equiv(), snap.copyToGen(new Gen(), this), new ImmutableTrieMap<>(snap, equiv()));
     }
 
     @Override
@@ -174,6 +277,7 @@ public final class MutableTrieMap<K, V> extends TrieMap<K, V> {
         //       hence we should not need to pass down the entire tree, just equality (I think).
         final boolean success = RDCSS_READ_ROOT().recInsert(key, value, hc, 0, null, this);
         Verify.verify(success, "Concurrent modification during serialization of map %s", this);
+        sizeDelta.increment();
     }
 
     private Optional<V> insertifhc(final K key, final int hc, final V value, final Object cond) {
@@ -183,6 +287,10 @@ public final class MutableTrieMap<K, V> extends TrieMap<K, V> {
             res = RDCSS_READ_ROOT().recInsertIf(key, value, hc, cond, 0, null, this);
         } while (res == null);
 
+        // An unconditional or an if-absent insert which did not find a previous value has added a new entry
+        if ((cond == null || cond == ABSENT) && !res.isPresent()) {
+            sizeDelta.increment();
+        }
         return res;
     }
 
@@ -193,6 +301,9 @@ public final class MutableTrieMap<K, V> extends TrieMap<K, V> {
             res = RDCSS_READ_ROOT().recRemove(key, cond, hc, 0, null, this);
         } while (res == null);
 
+        if (res.isPresent()) {
+            sizeDelta.decrement();
+        }
         return res;
     }
 
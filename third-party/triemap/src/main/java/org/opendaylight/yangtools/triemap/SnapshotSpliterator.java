@@ -0,0 +1,165 @@
+/*
+ * (C) Copyright 2017 Pantheon Technologies, s.r.o. and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.yangtools.triemap;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link Spliterator} over an {@link ImmutableTrieMap}. Splitting follows the structure of the trie: the remaining
+ * range of a CNode's array is halved, and once only a single INode remains, it is descended into and its own array is
+ * split. Since the snapshot cannot change, the resulting spliterators can be traversed independently from each other.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @param <T> the type of elements returned by this spliterator
+ */
+final class SnapshotSpliterator<K, V, T> implements Spliterator<T> {
+    // XXX: Distinct as far as associated Equivalence allows
+    private static final int CHARACTERISTICS = Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+    private final ImmutableTrieMap<K, V> map;
+    private final Function<? super Entry<K, V>, ? extends T> function;
+
+    private BasicNode[] array;
+    private int index;
+    private int fence;
+    private long estimate;
+
+    // Traversal state of the element at array[index - 1], if it is not a leaf
+    private SnapshotSpliterator<K, V, T> current;
+    private LNodeEntries<K, V> lnode;
+
+    private SnapshotSpliterator(final ImmutableTrieMap<K, V> map,
+            final Function<? super Entry<K, V>, ? extends T> function, final BasicNode[] array, final int index,
+            final int fence, final long estimate) {
+        this.map = map;
+        this.function = function;
+        this.array = array;
+        this.index = index;
+        this.fence = fence;
+        this.estimate = estimate;
+    }
+
+    static <K, V> SnapshotSpliterator<K, V, Entry<K, V>> entries(final ImmutableTrieMap<K, V> map) {
+        return create(map, entry -> entry);
+    }
+
+    static <K, V> SnapshotSpliterator<K, V, K> keys(final ImmutableTrieMap<K, V> map) {
+        return create(map, Entry::getKey);
+    }
+
+    private static <K, V, T> SnapshotSpliterator<K, V, T> create(final ImmutableTrieMap<K, V> map,
+            final Function<? super Entry<K, V>, ? extends T> function) {
+        return new SnapshotSpliterator<>(map, function, new BasicNode[] { map.RDCSS_READ_ROOT() }, 0, 1,
+            map.size());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        requireNonNull(action);
+
+        while (true) {
+            final LNodeEntries<K, V> entries = lnode;
+            if (entries != null) {
+                lnode = entries.next();
+                action.accept(function.apply(entries));
+                return true;
+            }
+            if (current != null) {
+                if (current.tryAdvance(action)) {
+                    return true;
+                }
+                current = null;
+            }
+            if (index >= fence) {
+                return false;
+            }
+
+            // Assume the remaining estimate is evenly distributed among the remaining elements
+            final long share = estimate / (fence - index);
+            final BasicNode elem = array[index++];
+            if (elem instanceof SNode) {
+                action.accept(function.apply((SNode<K, V>) elem));
+                return true;
+            }
+            if (!(elem instanceof INode)) {
+                throw CNode.invalidElement(elem);
+            }
+
+            final MainNode<K, V> main = ((INode<K, V>) elem).gcasRead(map);
+            if (main instanceof CNode) {
+                final BasicNode[] children = ((CNode<K, V>) main).array;
+                // The nested node takes its share of the estimate with it
+                estimate -= share;
+                current = new SnapshotSpliterator<>(map, function, children, 0, children.length, share);
+            } else if (main instanceof TNode) {
+                action.accept(function.apply((TNode<K, V>) main));
+                return true;
+            } else if (main instanceof LNode) {
+                lnode = ((LNode<K, V>) main).entries();
+            } else {
+                throw INode.invalidElement(main);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<T> trySplit() {
+        final int remaining = fence - index;
+        if (remaining > 1 || remaining == 1 && (current != null || lnode != null)) {
+            // Hand off the lower part of the remaining range, keeping any element we are already traversing
+            final int mid = index + Math.max(1, remaining >>> 1);
+            estimate >>>= 1;
+            final SnapshotSpliterator<K, V, T> prefix = new SnapshotSpliterator<>(map, function, array, index, mid,
+                estimate);
+            index = mid;
+            return prefix;
+        }
+        if (remaining == 1) {
+            // A single untouched element: if it is an INode pointing to a CNode, descend into it and split that
+            final BasicNode elem = array[index];
+            if (elem instanceof INode) {
+                final MainNode<K, V> main = ((INode<K, V>) elem).gcasRead(map);
+                if (main instanceof CNode) {
+                    array = ((CNode<K, V>) main).array;
+                    index = 0;
+                    fence = array.length;
+                    return trySplit();
+                }
+            }
+            return null;
+        }
+
+        return current != null ? current.trySplit() : null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
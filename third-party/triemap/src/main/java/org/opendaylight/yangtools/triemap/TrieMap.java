@@ -25,6 +25,7 @@ import java.util.AbstractMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 
 /**
  * This is a port of Scala's TrieMap class from the Scala Collections library. This implementation does not support
@@ -83,7 +84,7 @@ public abstract class TrieMap<K, V> extends AbstractMap<K, V> implements Concurr
      * cannot be modified.
      *
      * <p>
-     * This method is used by other methods such as `size` and `iterator`.
+     * This method is used by other methods such as `iterator`, `spliterator` and `forEach`.
      *
      * @return A read-only TrieMap containing the contents of this map.
      */
@@ -118,6 +119,24 @@ public abstract class TrieMap<K, V> extends AbstractMap<K, V> implements Concurr
         return lookuphc(k, computeHash(k));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec
+     * This implementation traverses a single {@link #immutableSnapshot()}, passing its entries directly to the action.
+     *     Unlike iterating over {@link #entrySet()}, it does not allocate a view for each entry.
+     */
+    @Override
+    public final void forEach(final BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+
+        final ImmutableIterator<K, V> it = immutableIterator();
+        while (it.hasNext()) {
+            final Entry<K, V> entry = it.next();
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
     @Override
     public abstract void clear();
 
@@ -213,10 +232,8 @@ public abstract class TrieMap<K, V> extends AbstractMap<K, V> implements Concurr
         return equiv.equivalent(k1, k2);
     }
 
-    /* private implementation methods */
-
     @SuppressWarnings("unchecked")
-    private V lookuphc(final K key, final int hc) {
+    final V lookuphc(final K key, final int hc) {
         Object res;
         do {
             // Keep looping as long as RESTART is being indicated
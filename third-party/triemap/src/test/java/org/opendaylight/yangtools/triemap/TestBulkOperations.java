@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright 2017 Pantheon Technologies, s.r.o. and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.yangtools.triemap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class TestBulkOperations {
+    @Test
+    public void testForEach() {
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        for (int i = 0; i < 1000; ++i) {
+            map.put(i, i * 2);
+        }
+
+        final Map<Integer, Integer> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(map, seen);
+
+        seen.clear();
+        map.immutableSnapshot().forEach(seen::put);
+        assertEquals(map, seen);
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        assertEquals(Integer.valueOf(1), map.computeIfAbsent(1, k -> k));
+        assertEquals(Integer.valueOf(1), map.computeIfAbsent(1, k -> {
+            throw new AssertionError("Should not be invoked");
+        }));
+        assertNull(map.computeIfAbsent(2, k -> null));
+        assertFalse(map.containsKey(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testMerge() {
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        assertEquals(Integer.valueOf(1), map.merge(1, 1, Integer::sum));
+        assertEquals(Integer.valueOf(3), map.merge(1, 2, Integer::sum));
+        assertNull(map.merge(1, 3, (oldValue, value) -> null));
+        assertFalse(map.containsKey(1));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testConcurrentMerge() throws InterruptedException {
+        final int nThreads = 4;
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        final ExecutorService es = Executors.newFixedThreadPool(nThreads);
+        for (int i = 0; i < nThreads; i++) {
+            es.execute(() -> {
+                for (int j = 0; j < 10 * 1000; j++) {
+                    map.merge(j % 100, 1, Integer::sum);
+                    map.computeIfAbsent(j % 100 + 100, k -> k);
+                }
+            });
+        }
+
+        es.shutdown();
+        es.awaitTermination(5, TimeUnit.MINUTES);
+
+        assertEquals(200, map.size());
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(Integer.valueOf(nThreads * 100), map.get(i));
+            assertEquals(Integer.valueOf(i + 100), map.get(i + 100));
+        }
+    }
+}
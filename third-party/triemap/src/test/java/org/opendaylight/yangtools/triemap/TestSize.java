@@ -0,0 +1,135 @@
+/*
+ * (C) Copyright 2017 Pantheon Technologies, s.r.o. and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.yangtools.triemap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class TestSize {
+    private static void assertSize(final int expected, final TrieMap<?, ?> map) {
+        assertEquals(expected, map.size());
+        assertEquals(expected, map.immutableSnapshot().size());
+    }
+
+    @Test
+    public void testModifications() {
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        assertSize(0, map);
+        assertTrue(map.isEmpty());
+
+        for (int i = 0; i < 1000; ++i) {
+            map.put(i, i);
+        }
+        assertSize(1000, map);
+
+        // Updates do not change the size
+        map.put(0, 1);
+        map.putIfAbsent(1, 2);
+        map.replace(2, 3);
+        map.replace(3, 3, 4);
+        assertSize(1000, map);
+
+        // Failed conditional operations do not change it either
+        map.replace(1000, 1);
+        map.remove(4, 5);
+        map.remove(1000);
+        assertSize(1000, map);
+
+        map.putIfAbsent(1000, 1000);
+        map.remove(0);
+        map.remove(5, 5);
+        assertSize(999, map);
+
+        map.keySet().removeIf(i -> i % 2 == 0);
+        assertSize(499, map);
+
+        map.clear();
+        assertSize(0, map);
+        map.put(0, 0);
+        assertSize(1, map);
+    }
+
+    @Test
+    public void testHashCollisions() {
+        final MutableTrieMap<ZeroHashInt, Integer> map = TrieMap.create();
+        for (int i = 0; i < 100; ++i) {
+            map.put(new ZeroHashInt(i), i);
+        }
+        assertSize(100, map);
+        for (int i = 0; i < 99; ++i) {
+            map.remove(new ZeroHashInt(i));
+        }
+        assertSize(1, map);
+    }
+
+    @Test
+    public void testSnapshots() {
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        for (int i = 0; i < 100; ++i) {
+            map.put(i, i);
+        }
+
+        final MutableTrieMap<Integer, Integer> snap = map.mutableSnapshot();
+        final ImmutableTrieMap<Integer, Integer> frozen = map.immutableSnapshot();
+        final TrieMap<Integer, Integer> thawed = frozen.mutableSnapshot();
+        for (int i = 0; i < 50; ++i) {
+            map.remove(i);
+            snap.put(i + 100, i);
+        }
+        thawed.clear();
+
+        assertSize(50, map);
+        assertSize(150, snap);
+        assertSize(100, frozen);
+        assertSize(0, thawed);
+
+        final MutableTrieMap<Integer, Integer> snapOfSnap = snap.mutableSnapshot();
+        snapOfSnap.remove(100);
+        assertSize(149, snapOfSnap);
+        assertSize(150, snap);
+    }
+
+    @Test
+    public void testConcurrentModifications() throws InterruptedException {
+        final int nThreads = 4;
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        final ExecutorService es = Executors.newFixedThreadPool(nThreads);
+        for (int i = 0; i < nThreads; i++) {
+            final int threadNo = i;
+            es.execute(() -> {
+                for (int j = 0; j < 100 * 1000; j++) {
+                    final Integer key = j % 1000;
+                    if (j % nThreads == threadNo) {
+                        map.put(key, j);
+                    } else if (j % 3 == 0) {
+                        map.remove(key);
+                    } else if (j % 1001 == 0) {
+                        map.mutableSnapshot();
+                    }
+                }
+            });
+        }
+
+        es.shutdown();
+        es.awaitTermination(5, TimeUnit.MINUTES);
+        assertSize(map.immutableSnapshot().size(), map);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * (C) Copyright 2017 Pantheon Technologies, s.r.o. and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.yangtools.triemap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class TestSpliterator {
+    private static final int COUNT = 10000;
+
+    @Test
+    public void testParallelStreams() {
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        for (int i = 0; i < COUNT; ++i) {
+            map.put(i, -i);
+        }
+
+        assertEquals(IntStream.range(0, COUNT).boxed().collect(Collectors.toSet()),
+            map.keySet().parallelStream().collect(Collectors.toSet()));
+        assertEquals(COUNT, map.entrySet().parallelStream().filter(e -> e.getKey() == -e.getValue()).count());
+    }
+
+    @Test
+    public void testSplitting() {
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        for (int i = 0; i < COUNT; ++i) {
+            map.put(i, i);
+        }
+
+        final Spliterator<Integer> spliterator = map.keySet().spliterator();
+        assertEquals(COUNT, spliterator.estimateSize());
+
+        // Split repeatedly, then make sure the pieces cover the map exactly once
+        final List<Spliterator<Integer>> pieces = new ArrayList<>();
+        pieces.add(spliterator);
+        for (int round = 0; round < 8; ++round) {
+            for (int i = 0, size = pieces.size(); i < size; ++i) {
+                final Spliterator<Integer> prefix = pieces.get(i).trySplit();
+                if (prefix != null) {
+                    pieces.add(prefix);
+                }
+            }
+        }
+        assertTrue(pieces.size() > 64);
+
+        // Modifications after the split are not visible
+        map.clear();
+
+        final Set<Integer> seen = new HashSet<>();
+        for (Spliterator<Integer> piece : pieces) {
+            piece.forEachRemaining(key -> assertTrue(seen.add(key)));
+        }
+        assertEquals(COUNT, seen.size());
+    }
+
+    @Test
+    public void testNestedEstimate() {
+        final MutableTrieMap<Integer, Integer> map = TrieMap.create();
+        for (int i = 0; i < COUNT; ++i) {
+            map.put(i, i);
+        }
+
+        // Start traversing a nested node, then split off everything else, including the nested node's remainder
+        final Spliterator<Integer> spliterator = map.keySet().spliterator();
+        assertTrue(spliterator.tryAdvance(key -> { }));
+        long total = spliterator.estimateSize();
+        for (Spliterator<Integer> prefix = spliterator.trySplit(); prefix != null; prefix = spliterator.trySplit()) {
+            total += prefix.estimateSize();
+        }
+
+        // Nested nodes get only their share of the estimate, not the whole map's
+        assertTrue("Total estimate " + total, total <= COUNT);
+    }
+
+    @Test
+    public void testHashCollisions() {
+        final MutableTrieMap<ZeroHashInt, Integer> map = TrieMap.create();
+        for (int i = 0; i < 100; ++i) {
+            map.put(new ZeroHashInt(i), i);
+        }
+
+        final Spliterator<Entry<ZeroHashInt, Integer>> spliterator = map.entrySet().spliterator();
+        assertNull(spliterator.trySplit());
+        assertEquals(4950, map.entrySet().parallelStream().mapToInt(Entry::getValue).sum());
+    }
+
+    @Test
+    public void testEmpty() {
+        final Spliterator<Entry<Object, Object>> spliterator = TrieMap.create().entrySet().spliterator();
+        assertNull(spliterator.trySplit());
+        assertFalse(spliterator.tryAdvance(e -> { }));
+        assertEquals(0, spliterator.estimateSize());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2017 Pantheon Technologies, s.r.o. and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.yangtools.triemap;
+
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of {@link MutableTrieMap} size queries, bulk traversal and bulk updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class TrieMapBenchmark {
+    @Param({ "1000", "100000" })
+    public int entries;
+
+    private MutableTrieMap<Integer, Integer> map;
+
+    public static void main(final String... args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(".*" + TrieMapBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        map = TrieMap.create();
+        for (int i = 0; i < entries; ++i) {
+            map.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public int size() {
+        return map.size();
+    }
+
+    @Benchmark
+    public int snapshotSize() {
+        return map.immutableSnapshot().size();
+    }
+
+    @Benchmark
+    public long forEach() {
+        final long[] sum = new long[1];
+        map.forEach((key, value) -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Entry<Integer, Integer> entry : map.entrySet()) {
+            sum += entry.getValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialStream() {
+        return map.values().stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return map.entrySet().parallelStream().mapToLong(Entry::getValue).sum();
+    }
+
+    @Benchmark
+    public MutableTrieMap<Integer, Integer> merge() {
+        for (int i = 0; i < entries; ++i) {
+            map.merge(i, 1, (oldValue, value) -> oldValue ^ value);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public MutableTrieMap<Integer, Integer> computeIfAbsent() {
+        for (int i = 0; i < entries; ++i) {
+            map.computeIfAbsent(i, Integer::valueOf);
+        }
+        return map;
+    }
+}
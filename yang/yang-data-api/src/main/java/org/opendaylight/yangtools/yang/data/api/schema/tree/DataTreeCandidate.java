@@ -7,6 +7,7 @@
  */
 package org.opendaylight.yangtools.yang.data.api.schema.tree;
 
+import com.google.common.annotations.Beta;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 /**
@@ -33,6 +34,19 @@ public interface DataTreeCandidate {
      */
     YangInstanceIdentifier getRootPath();
 
+    /**
+     * Traverse this candidate, reporting its nodes to a visitor. The default implementation walks
+     * {@link #getRootNode()}, implementations are encouraged to provide a more efficient traversal of their internal
+     * structures.
+     *
+     * @param visitor Visitor to invoke
+     * @throws NullPointerException if visitor is null
+     */
+    @Beta
+    default void accept(final DataTreeCandidateVisitor visitor) {
+        DataTreeCandidates.visit(this, visitor);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.api.schema.tree;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yangtools.concepts.AbstractObjectRegistration;
+import org.opendaylight.yangtools.concepts.ObjectRegistration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A shared structure for dispatching {@link DataTreeCandidate}s to a large number of listeners, each of which is
+ * interested in a particular subtree. Listeners are kept in a trie of their paths, which is walked together with the
+ * candidate, so that the cost of dispatching a candidate is proportional to the intersection of the change and
+ * the registered paths, rather than to the number of listeners multiplied by the size of the change.
+ *
+ * <p>
+ * A registration path may contain wildcards: a {@link NodeIdentifier} in place of a list entry or leaf-set entry
+ * matches all entries of that list or leaf-set. For example
+ * {@code /container/list/list/leaf} matches {@code leaf} in every entry of {@code list}.
+ *
+ * <p>
+ * Each listener receives candidates rooted at the nodes matching its registration path. If a candidate is rooted
+ * below a registration path, the listener receives the candidate as-is.
+ *
+ * @param <L> Listener type
+ */
+@Beta
+@ThreadSafe
+public final class DataTreeCandidateDispatcher<L> {
+    private static final class Node<L> {
+        final Map<PathArgument, Node<L>> children = new HashMap<>(4);
+        final List<Reg<?>> registrations = new ArrayList<>(1);
+        final Node<L> parent;
+        final PathArgument identifier;
+
+        Node(final Node<L> parent, final PathArgument identifier) {
+            this.parent = parent;
+            this.identifier = identifier;
+        }
+
+        boolean isEmpty() {
+            return children.isEmpty() && registrations.isEmpty();
+        }
+    }
+
+    private static final class Reg<T> extends AbstractObjectRegistration<T> {
+        private final DataTreeCandidateDispatcher<?> dispatcher;
+        private final Node<?> node;
+
+        Reg(final T instance, final DataTreeCandidateDispatcher<?> dispatcher, final Node<?> node) {
+            super(instance);
+            this.dispatcher = dispatcher;
+            this.node = node;
+        }
+
+        @Override
+        protected void removeRegistration() {
+            dispatcher.unregister(this, node);
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    @GuardedBy("lock")
+    private final Node<L> root = new Node<>(null, null);
+
+    /**
+     * Register a listener for a particular path. Closing the returned registration removes the listener. Note that
+     * a dispatch which is concurrent with the close may still deliver candidates to the listener.
+     *
+     * @param path Path of interest, may contain wildcards
+     * @param listener Listener to register
+     * @param <T> Listener type
+     * @return A registration
+     * @throws NullPointerException if any argument is null
+     */
+    public <T extends L> ObjectRegistration<T> register(@Nonnull final YangInstanceIdentifier path,
+            @Nonnull final T listener) {
+        requireNonNull(listener);
+
+        lock.writeLock().lock();
+        try {
+            Node<L> node = root;
+            for (PathArgument arg : path.getPathArguments()) {
+                final Node<L> parent = node;
+                node = parent.children.computeIfAbsent(arg, id -> new Node<>(parent, id));
+            }
+
+            final Reg<T> reg = new Reg<>(listener, this, node);
+            node.registrations.add(reg);
+            return reg;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Dispatch a candidate to all listeners registered for paths it affects. The consumer is invoked once for each
+     * affected registration, with all the candidates matching it.
+     *
+     * @param candidate Candidate to dispatch
+     * @param consumer Consumer receiving listeners and the candidates they should be notified of
+     * @throws NullPointerException if any argument is null
+     */
+    public void dispatch(@Nonnull final DataTreeCandidate candidate,
+            @Nonnull final BiConsumer<? super L, Collection<DataTreeCandidate>> consumer) {
+        requireNonNull(consumer);
+        final Map<Reg<?>, List<DataTreeCandidate>> result = new LinkedHashMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (candidate.getRootNode().getModificationType() != ModificationType.UNMODIFIED) {
+                dispatch(result, candidate);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        for (Entry<Reg<?>, List<DataTreeCandidate>> entry : result.entrySet()) {
+            @SuppressWarnings("unchecked")
+            final L listener = (L) entry.getKey().getInstance();
+            consumer.accept(listener, entry.getValue());
+        }
+    }
+
+    @GuardedBy("lock")
+    private void dispatch(final Map<Reg<?>, List<DataTreeCandidate>> result, final DataTreeCandidate candidate) {
+        final List<PathArgument> rootArgs = candidate.getRootPath().getPathArguments();
+
+        // Find the nodes matching the candidate root, registrations above it get the entire candidate
+        List<Node<L>> nodes = ImmutableList.of(root);
+        for (PathArgument arg : rootArgs) {
+            final List<Node<L>> next = new ArrayList<>(2);
+            for (Node<L> node : nodes) {
+                addAll(result, node, candidate);
+                findChildren(node, arg, next);
+            }
+            if (next.isEmpty()) {
+                return;
+            }
+            nodes = next;
+        }
+
+        final List<PathArgument> stack = new ArrayList<>(rootArgs);
+        for (Node<L> node : nodes) {
+            addAll(result, node, candidate);
+            walkChildren(result, node, candidate.getRootNode(), stack);
+        }
+    }
+
+    private void walk(final Map<Reg<?>, List<DataTreeCandidate>> result, final Node<L> node,
+            final DataTreeCandidateNode candidate, final List<PathArgument> stack) {
+        if (candidate.getModificationType() == ModificationType.UNMODIFIED) {
+            return;
+        }
+
+        if (!node.registrations.isEmpty()) {
+            addAll(result, node, DataTreeCandidates.newDataTreeCandidate(YangInstanceIdentifier.create(stack),
+                candidate));
+        }
+        walkChildren(result, node, candidate, stack);
+    }
+
+    private void walkChildren(final Map<Reg<?>, List<DataTreeCandidate>> result, final Node<L> node,
+            final DataTreeCandidateNode candidate, final List<PathArgument> stack) {
+        if (node.children.isEmpty()) {
+            return;
+        }
+
+        if (!hasEntryChildren(candidate)) {
+            // There are no wildcards to consider, hence we can look up registered children directly
+            for (Entry<PathArgument, Node<L>> entry : node.children.entrySet()) {
+                final DataTreeCandidateNode child = candidate.getModifiedChild(entry.getKey());
+                if (child != null) {
+                    walkChild(result, entry.getValue(), child, stack);
+                }
+            }
+            return;
+        }
+
+        final List<Node<L>> matching = new ArrayList<>(2);
+        for (DataTreeCandidateNode child : candidate.getChildNodes()) {
+            findChildren(node, child.getIdentifier(), matching);
+            for (Node<L> match : matching) {
+                walkChild(result, match, child, stack);
+            }
+            matching.clear();
+        }
+    }
+
+    private void walkChild(final Map<Reg<?>, List<DataTreeCandidate>> result, final Node<L> node,
+            final DataTreeCandidateNode child, final List<PathArgument> stack) {
+        stack.add(child.getIdentifier());
+        try {
+            walk(result, node, child, stack);
+        } finally {
+            stack.remove(stack.size() - 1);
+        }
+    }
+
+    private static boolean hasEntryChildren(final DataTreeCandidateNode candidate) {
+        final Optional<NormalizedNode<?, ?>> data = candidate.getDataAfter().isPresent() ? candidate.getDataAfter()
+                : candidate.getDataBefore();
+        if (!data.isPresent()) {
+            // Be conservative
+            return true;
+        }
+        final NormalizedNode<?, ?> node = data.get();
+        return node instanceof MapNode || node instanceof LeafSetNode;
+    }
+
+    private static <L> void findChildren(final Node<L> node, final PathArgument arg, final List<Node<L>> found) {
+        final Node<L> exact = node.children.get(arg);
+        if (exact != null) {
+            found.add(exact);
+        }
+        // Only list and leaf-set entries can be matched by a wildcard, everything else has to match exactly
+        if (arg instanceof NodeIdentifierWithPredicates || arg instanceof NodeWithValue) {
+            final Node<L> wildcard = node.children.get(NodeIdentifier.create(arg.getNodeType()));
+            if (wildcard != null) {
+                found.add(wildcard);
+            }
+        }
+    }
+
+    private static void addAll(final Map<Reg<?>, List<DataTreeCandidate>> result, final Node<?> node,
+            final DataTreeCandidate candidate) {
+        for (Reg<?> reg : node.registrations) {
+            result.computeIfAbsent(reg, key -> new ArrayList<>(1)).add(candidate);
+        }
+    }
+
+    private void unregister(final Reg<?> reg, final Node<?> node) {
+        lock.writeLock().lock();
+        try {
+            node.registrations.remove(reg);
+
+            // Prune nodes which are no longer needed
+            Node<?> current = node;
+            while (current.parent != null && current.isEmpty()) {
+                current.parent.children.remove(current.identifier);
+                current = current.parent;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.api.schema.tree;
+
+import com.google.common.annotations.Beta;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A push-style visitor of the nodes in a {@link DataTreeCandidate}, driven by
+ * {@link DataTreeCandidate#accept(DataTreeCandidateVisitor)}. Unlike walking {@link DataTreeCandidateNode}s, this
+ * allows implementations to traverse their internal structures directly, without instantiating a candidate node for
+ * each visited node.
+ *
+ * <p>
+ * Nodes whose changes are tracked on their children, i.e. {@link ModificationType#SUBTREE_MODIFIED},
+ * {@link ModificationType#APPEARED} and {@link ModificationType#DISAPPEARED}, are reported via
+ * {@link #enterNode(List, ModificationType, NormalizedNode, NormalizedNode)} and {@link #exitNode(List)}. Nodes
+ * which were changed as a whole, i.e. {@link ModificationType#WRITE} and {@link ModificationType#DELETE}, are reported
+ * via {@link #leafChanged(List, ModificationType, NormalizedNode, NormalizedNode)}, without descending into them.
+ * {@link ModificationType#UNMODIFIED} nodes are not reported.
+ *
+ * <p>
+ * The path passed to all callbacks is an unmodifiable view of a stack which is reused for the entire traversal. It is
+ * absolute, i.e. it starts with the arguments of {@link DataTreeCandidate#getRootPath()}, and ends with the argument of
+ * the node being reported. It is only valid for the duration of the callback, hence implementations wishing to retain
+ * it need to make a copy, for example via
+ * {@link org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier#create(Iterable)}.
+ */
+@Beta
+public interface DataTreeCandidateVisitor {
+    /**
+     * Invoked when the traversal reaches a node whose changes are recorded on its children.
+     *
+     * @param path Path to the node
+     * @param type Modification type, one of {@link ModificationType#SUBTREE_MODIFIED},
+     *             {@link ModificationType#APPEARED} or {@link ModificationType#DISAPPEARED}
+     * @param dataBefore Data before modification, null if the node did not exist
+     * @param dataAfter Data after modification, null if the node does not exist
+     * @return True if the children of this node should be visited, false if they should be skipped.
+     *         {@link #exitNode(List)} is invoked only if this method returns true.
+     */
+    boolean enterNode(@Nonnull List<PathArgument> path, @Nonnull ModificationType type,
+            @Nullable NormalizedNode<?, ?> dataBefore, @Nullable NormalizedNode<?, ?> dataAfter);
+
+    /**
+     * Invoked when all children of a node entered via
+     * {@link #enterNode(List, ModificationType, NormalizedNode, NormalizedNode)} have been visited.
+     *
+     * @param path Path to the node
+     */
+    void exitNode(@Nonnull List<PathArgument> path);
+
+    /**
+     * Invoked when the traversal reaches a node which has been written or deleted as a whole. Its children are not
+     * visited.
+     *
+     * @param path Path to the node
+     * @param type Modification type, one of {@link ModificationType#WRITE} or {@link ModificationType#DELETE}
+     * @param dataBefore Data before modification, null if the node did not exist
+     * @param dataAfter Data after modification, null if the node does not exist
+     */
+    void leafChanged(@Nonnull List<PathArgument> path, @Nonnull ModificationType type,
+            @Nullable NormalizedNode<?, ?> dataBefore, @Nullable NormalizedNode<?, ?> dataAfter);
+}
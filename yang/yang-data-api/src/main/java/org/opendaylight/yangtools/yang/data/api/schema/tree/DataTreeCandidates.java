@@ -10,10 +10,14 @@ package org.opendaylight.yangtools.yang.data.api.schema.tree;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +47,41 @@ public final class DataTreeCandidates {
         DataTreeCandidateNodes.applyToCursor(cursor, candidate.getRootNode());
     }
 
+    static void visit(final DataTreeCandidate candidate, final DataTreeCandidateVisitor visitor) {
+        requireNonNull(visitor);
+        final List<PathArgument> stack = new ArrayList<>(candidate.getRootPath().getPathArguments());
+        visitNode(candidate.getRootNode(), stack, Collections.unmodifiableList(stack), visitor);
+    }
+
+    private static void visitNode(final DataTreeCandidateNode node, final List<PathArgument> stack,
+            final List<PathArgument> path, final DataTreeCandidateVisitor visitor) {
+        final ModificationType type = node.getModificationType();
+        switch (type) {
+            case APPEARED:
+            case DISAPPEARED:
+            case SUBTREE_MODIFIED:
+                if (visitor.enterNode(path, type, node.getDataBefore().orElse(null),
+                        node.getDataAfter().orElse(null))) {
+                    for (DataTreeCandidateNode child : node.getChildNodes()) {
+                        stack.add(child.getIdentifier());
+                        visitNode(child, stack, path, visitor);
+                        stack.remove(stack.size() - 1);
+                    }
+                    visitor.exitNode(path);
+                }
+                break;
+            case DELETE:
+            case WRITE:
+                visitor.leafChanged(path, type, node.getDataBefore().orElse(null), node.getDataAfter().orElse(null));
+                break;
+            case UNMODIFIED:
+                // No-op
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported modification " + type);
+        }
+    }
+
     public static void applyToModification(final DataTreeModification modification,
             final DataTreeCandidate candidate) {
         if (modification instanceof CursorAwareDataTreeModification) {
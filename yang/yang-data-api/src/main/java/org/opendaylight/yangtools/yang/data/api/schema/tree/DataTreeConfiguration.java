@@ -7,12 +7,16 @@
  */
 package org.opendaylight.yangtools.yang.data.api.schema.tree;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.util.DurationHistogramTracker;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 /**
@@ -24,6 +28,9 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
  * <li>treeType</li>
  * <li>enable/disable unique indexes and unique constraint validation</li>
  * <li>enable/disable mandatory nodes validation</li>
+ * <li>parallel validation and preparation of wide subtrees</li>
+ * <li>commit latency tracking</li>
+ * <li>internal metrics reporting</li>
  * </ul>
  *
  * <p>
@@ -50,13 +57,20 @@ public class DataTreeConfiguration implements Immutable {
     private final YangInstanceIdentifier rootPath;
     private final boolean uniqueIndexes;
     private final boolean mandatoryNodesValidation;
+    private final int parallelThreshold;
+    private final DurationHistogramTracker commitTracker;
+    private final DataTreeMetrics metrics;
 
     DataTreeConfiguration(final TreeType treeType, final YangInstanceIdentifier rootPath, final boolean uniqueIndexes,
-            final boolean mandatoryNodesValidation) {
+            final boolean mandatoryNodesValidation, final int parallelThreshold,
+            final DurationHistogramTracker commitTracker, final DataTreeMetrics metrics) {
         this.treeType = requireNonNull(treeType);
         this.rootPath = requireNonNull(rootPath);
         this.uniqueIndexes = uniqueIndexes;
         this.mandatoryNodesValidation = mandatoryNodesValidation;
+        this.parallelThreshold = parallelThreshold;
+        this.commitTracker = commitTracker;
+        this.metrics = metrics;
     }
 
     public @Nonnull YangInstanceIdentifier getRootPath() {
@@ -75,11 +89,40 @@ public class DataTreeConfiguration implements Immutable {
         return mandatoryNodesValidation;
     }
 
+    /**
+     * Return the minimum number of modified children a node needs to have for them to be validated and prepared
+     * in parallel.
+     *
+     * @return Parallel processing threshold, 0 if parallel processing is disabled.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Return the tracker recording the time taken by {@link DataTree#commit(DataTreeCandidate)}, if configured.
+     *
+     * @return Commit latency tracker
+     */
+    public Optional<DurationHistogramTracker> getCommitLatencyTracker() {
+        return Optional.ofNullable(commitTracker);
+    }
+
+    /**
+     * Return the {@link DataTreeMetrics} receiving internal metrics of the tree, if configured.
+     *
+     * @return Metrics receiver
+     */
+    public Optional<DataTreeMetrics> getMetrics() {
+        return Optional.ofNullable(metrics);
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("type", treeType).add("root", rootPath)
                 .add("mandatory", mandatoryNodesValidation)
-                .add("unique", uniqueIndexes).toString();
+                .add("unique", uniqueIndexes).add("parallelThreshold", parallelThreshold)
+                .add("commitTracker", commitTracker).add("metrics", metrics).toString();
     }
 
     public static DataTreeConfiguration getDefault(final TreeType treeType) {
@@ -89,7 +132,7 @@ public class DataTreeConfiguration implements Immutable {
             case OPERATIONAL:
                 return DEFAULT_OPERATIONAL;
             default:
-                return new DataTreeConfiguration(treeType, YangInstanceIdentifier.EMPTY, false, true);
+                return new DataTreeConfiguration(treeType, YangInstanceIdentifier.EMPTY, false, true, 0, null, null);
         }
     }
 
@@ -98,6 +141,9 @@ public class DataTreeConfiguration implements Immutable {
         private YangInstanceIdentifier rootPath;
         private boolean uniqueIndexes;
         private boolean mandatoryNodesValidation;
+        private int parallelThreshold;
+        private DurationHistogramTracker commitTracker;
+        private DataTreeMetrics metrics;
 
         public Builder(final TreeType treeType) {
             this.treeType = requireNonNull(treeType);
@@ -114,6 +160,45 @@ public class DataTreeConfiguration implements Immutable {
             return this;
         }
 
+        /**
+         * Enable parallel validation and preparation of modifications. Children of a modified node are processed
+         * in the common {@link java.util.concurrent.ForkJoinPool} if their number reaches the specified threshold.
+         * This is useful for transactions which modify large numbers of entries of a single list. Small subtrees
+         * are still processed sequentially, as the cost of dispatching them outweighs any benefits.
+         *
+         * @param parallelThreshold Minimum number of modified children, 0 to disable parallel processing
+         * @return This builder
+         * @throws IllegalArgumentException if parallelThreshold is negative
+         */
+        public Builder setParallelThreshold(final int parallelThreshold) {
+            checkArgument(parallelThreshold >= 0, "Invalid parallel threshold %s", parallelThreshold);
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * Set the tracker recording the time taken by each {@link DataTree#commit(DataTreeCandidate)}. Note that
+         * trackers are not scoped to a particular tree, hence multiple trees may share a single tracker.
+         *
+         * @param commitTracker Commit latency tracker, null to disable tracking
+         * @return This builder
+         */
+        public Builder setCommitLatencyTracker(@Nullable final DurationHistogramTracker commitTracker) {
+            this.commitTracker = commitTracker;
+            return this;
+        }
+
+        /**
+         * Set the {@link DataTreeMetrics} receiving internal metrics of the tree.
+         *
+         * @param metrics Metrics receiver, null to disable reporting
+         * @return This builder
+         */
+        public Builder setMetrics(@Nullable final DataTreeMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public Builder setRootPath(final YangInstanceIdentifier rootPath) {
             this.rootPath = rootPath.toOptimized();
             return this;
@@ -121,7 +206,8 @@ public class DataTreeConfiguration implements Immutable {
 
         @Override
         public DataTreeConfiguration build() {
-            return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation);
+            return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation,
+                parallelThreshold, commitTracker, metrics);
         }
     }
 }
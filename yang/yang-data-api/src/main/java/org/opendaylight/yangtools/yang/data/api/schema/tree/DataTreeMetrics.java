@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.api.schema.tree;
+
+import com.google.common.annotations.Beta;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Service provider interface for receiving internal metrics of a {@link DataTree} implementation. An instance can be
+ * configured via {@link DataTreeConfiguration.Builder#setMetrics(DataTreeMetrics)}. Implementations are invoked
+ * synchronously from the threads operating on the data tree and its modifications, hence they should be cheap and
+ * must be thread-safe.
+ *
+ * <p>
+ * When no metrics are configured, implementations are expected not to incur any measurement overhead.
+ */
+@Beta
+@ThreadSafe
+public interface DataTreeMetrics {
+    /**
+     * Phases of a modification's lifecycle, which are timed.
+     */
+    enum Phase {
+        /**
+         * {@link DataTreeModification#ready()}.
+         */
+        READY,
+        /**
+         * {@link DataTreeTip#validate(DataTreeModification)}.
+         */
+        VALIDATE,
+        /**
+         * {@link DataTreeTip#prepare(DataTreeModification)}.
+         */
+        PREPARE,
+        /**
+         * {@link DataTree#commit(DataTreeCandidate)}.
+         */
+        COMMIT;
+    }
+
+    /**
+     * Report that a phase has completed, whether successfully or not.
+     *
+     * @param phase Completed phase
+     * @param durationNanos Time taken by the phase, in nanoseconds
+     */
+    void phaseCompleted(@Nonnull Phase phase, long durationNanos);
+
+    /**
+     * Report the number of nodes a modification has touched, reported when it is sealed via
+     * {@link DataTreeModification#ready()}. This includes intermediate nodes on the paths to modified nodes.
+     *
+     * @param count Number of touched nodes
+     */
+    void modifiedNodesTouched(int count);
+
+    /**
+     * Report the number of tree nodes created by applying a modification, reported when it is prepared. This includes
+     * nodes created while the modification was sealed or validated, which happens when writes are combined with
+     * modifications underneath them. It covers nodes created for written values, as well as new versions of modified
+     * containers and any intermediate nodes needed to get there. Tree nodes of written subtrees are instantiated
+     * lazily, hence a written subtree counts as a single node, regardless of how many nodes it contains.
+     *
+     * @param count Number of materialized tree nodes
+     */
+    void treeNodesMaterialized(int count);
+
+    /**
+     * Report that {@link DataTree#commit(DataTreeCandidate)} had to retry installing the new tree state because of
+     * a concurrent state update.
+     *
+     * @param retries Number of retries
+     */
+    void commitRetried(int retries);
+}
@@ -27,8 +27,12 @@ abstract class AbstractContainerNode extends AbstractTreeNode {
     }
 
     protected final Optional<TreeNode> getChildFromData(final PathArgument childId) {
+        return Optional.ofNullable(childFromData(childId));
+    }
+
+    protected final TreeNode childFromData(final PathArgument childId) {
         // We do not cache the instantiated node as it is dirt cheap
-        return Optional.ofNullable(getChildFromData(castData(), childId, getVersion()));
+        return getChildFromData(castData(), childId, getVersion());
     }
 
     static TreeNode getChildFromData(final NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> data,
@@ -45,6 +45,12 @@ final class LazyContainerNode extends AbstractModifiedContainerNode {
         return modified == null ? getChildFromData(childId) : Optional.of(modified);
     }
 
+    @Override
+    public TreeNode childByArg(final PathArgument childId) {
+        final TreeNode modified = getModifiedChild(childId);
+        return modified == null ? childFromData(childId) : modified;
+    }
+
     @Override
     protected ToStringHelper addToStringAttributes(final ToStringHelper helper) {
         // Modified children add added by superclass. Here we filter the other children.
@@ -26,6 +26,11 @@ final class MaterializedContainerNode extends AbstractModifiedContainerNode {
         return Optional.ofNullable(getModifiedChild(childId));
     }
 
+    @Override
+    public TreeNode childByArg(final PathArgument childId) {
+        return getModifiedChild(childId);
+    }
+
     @Override
     public MutableTreeNode mutable() {
         return new MaterializedMutableContainerNode(this, snapshotChildren());
@@ -30,6 +30,11 @@ final class SimpleContainerNode extends AbstractContainerNode {
         return getChildFromData(child);
     }
 
+    @Override
+    public TreeNode childByArg(final PathArgument child) {
+        return childFromData(child);
+    }
+
     @Override
     public MutableTreeNode mutable() {
         return new LazyMutableContainerNode(this);
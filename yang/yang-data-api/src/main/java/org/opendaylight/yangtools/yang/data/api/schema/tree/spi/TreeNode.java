@@ -7,6 +7,7 @@
  */
 package org.opendaylight.yangtools.yang.data.api.schema.tree.spi;
 
+import javax.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Identifiable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -54,6 +55,18 @@ public interface TreeNode extends Identifiable<PathArgument>, StoreTreeNode<Tree
      */
     NormalizedNode<?, ?> getData();
 
+    /**
+     * Get a child node by its identifier. This is equivalent to {@code getChild(childId).orElse(null)}, except it does
+     * not allocate a {@link java.util.Optional}, which makes it suitable for lookups on hot paths.
+     *
+     * @param childId Child identifier
+     * @return Child node, or null if it does not exist
+     */
+    @Nullable
+    default TreeNode childByArg(final PathArgument childId) {
+        return getChild(childId).orElse(null);
+    }
+
     /**
      * Get a mutable, isolated copy of the node.
      *
@@ -28,8 +28,13 @@ final class ValueNode extends AbstractTreeNode {
 
     @Override
     public Optional<TreeNode> getChild(final PathArgument childId) {
+        return Optional.ofNullable(childByArg(childId));
+    }
+
+    @Override
+    public TreeNode childByArg(final PathArgument childId) {
         LOG.warn("Attempted to access child {} of value-node {}", childId, this);
-        return Optional.empty();
+        return null;
     }
 
     @Override
@@ -7,11 +7,16 @@
  */
 package org.opendaylight.yangtools.yang.data.api.schema.tree.spi;
 
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import com.google.common.collect.ImmutableList;
+import java.util.Optional;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -54,4 +59,33 @@ public class TreeNodeFactoryTest {
         assertTrue(node instanceof ValueNode);
         checkTreeNode(node, data, version);
     }
+
+    @Test
+    public void testChildByArg() {
+        final NodeIdentifier fooId = new NodeIdentifier(QName.create("foo", "2017-01-01", "foo"));
+        final NodeIdentifier barId = new NodeIdentifier(QName.create("foo", "2017-01-01", "bar"));
+        final LeafNode<?> foo = Mockito.mock(LeafNode.class);
+        Mockito.doReturn(fooId).when(foo).getIdentifier();
+        final ContainerNode data = Mockito.mock(ContainerNode.class);
+        Mockito.doReturn(Optional.of(foo)).when(data).getChild(fooId);
+        Mockito.doReturn(Optional.empty()).when(data).getChild(barId);
+        Mockito.doReturn(ImmutableList.of(foo)).when(data).getValue();
+
+        final Version version = Version.initial();
+        final TreeNode node = TreeNodeFactory.createTreeNode(data, version);
+        final TreeNode child = node.childByArg(fooId);
+        checkTreeNode(child, foo, version);
+        assertNull(node.childByArg(barId));
+        assertNull(child.childByArg(barId));
+
+        final Version nextVersion = version.next();
+        final TreeNode newChild = TreeNodeFactory.createTreeNode(foo, nextVersion);
+        final MutableTreeNode mutable = node.mutable();
+        mutable.addChild(newChild);
+        mutable.setSubtreeVersion(nextVersion);
+        final TreeNode sealed = mutable.seal();
+        assertTrue(sealed instanceof MaterializedContainerNode);
+        assertSame(newChild, sealed.childByArg(fooId));
+        assertNull(sealed.childByArg(barId));
+    }
 }
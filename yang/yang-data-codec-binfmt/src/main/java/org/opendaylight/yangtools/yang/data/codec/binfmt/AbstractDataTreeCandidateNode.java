@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.MoreObjects;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+
+/**
+ * Base class for {@link DataTreeCandidateNode}s reconstructed from a binary stream. Since before-images are not
+ * serialized, {@link #getDataBefore()} is not available.
+ */
+abstract class AbstractDataTreeCandidateNode implements DataTreeCandidateNode {
+    private final ModificationType type;
+    private final PathArgument identifier;
+
+    AbstractDataTreeCandidateNode(@Nullable final PathArgument identifier, final ModificationType type) {
+        this.identifier = identifier;
+        this.type = type;
+    }
+
+    @Nonnull
+    @Override
+    public final PathArgument getIdentifier() {
+        checkState(identifier != null, "Root node does not have an identifier");
+        return identifier;
+    }
+
+    @Nonnull
+    @Override
+    public final ModificationType getModificationType() {
+        return type;
+    }
+
+    @Nonnull
+    @Override
+    public final Optional<NormalizedNode<?, ?>> getDataBefore() {
+        throw new UnsupportedOperationException("Before-image not available after serialization");
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues().add("identifier", identifier).add("type", type)
+                .toString();
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.xml.transform.dom.DOMSource;
+import org.opendaylight.yangtools.concepts.WritableObjects;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Reader of the binary token stream produced by {@link BinaryNormalizedNodeStreamWriter}. Read operations must
+ * mirror write operations performed on the writer, as both sides maintain the same back-reference tables.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+@Beta
+public final class BinaryNormalizedNodeStreamReader {
+    // Byte arrays up to this size are allocated upfront, larger ones grow as their content is actually read
+    private static final int BYTES_CHUNK_SIZE = 65536;
+
+    private final List<QName> qnames = new ArrayList<>();
+    private final List<QNameModule> modules = new ArrayList<>();
+    private final List<AugmentationIdentifier> augmentations = new ArrayList<>();
+    private final List<PathArgument> pathArguments = new ArrayList<>();
+    private final DataInput input;
+
+    private QName lastLeafSetQName;
+    private boolean headerRead;
+
+    private BinaryNormalizedNodeStreamReader(final DataInput input) {
+        this.input = requireNonNull(input);
+    }
+
+    /**
+     * Create a new reader consuming specified input.
+     *
+     * @param input Data input
+     * @return A new reader
+     * @throws NullPointerException if input is null
+     */
+    public static BinaryNormalizedNodeStreamReader create(@Nonnull final DataInput input) {
+        return new BinaryNormalizedNodeStreamReader(input);
+    }
+
+    /**
+     * Read a complete {@link NormalizedNode}, as written by
+     * {@link BinaryNormalizedNodeStreamWriter#writeNormalizedNode(NormalizedNode)}.
+     *
+     * @return Read node
+     * @throws IOException if an I/O error occurs or the stream is malformed
+     */
+    public NormalizedNode<?, ?> readNormalizedNode() throws IOException {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        try (NormalizedNodeStreamWriter writer = ImmutableNormalizedNodeStreamWriter.from(result)) {
+            streamNormalizedNode(writer);
+        }
+        return result.getResult();
+    }
+
+    /**
+     * Read a single {@link NormalizedNode}, emitting its events into specified writer.
+     *
+     * @param writer Target writer
+     * @throws IOException if an I/O error occurs or the stream is malformed
+     */
+    public void streamNormalizedNode(@Nonnull final NormalizedNodeStreamWriter writer) throws IOException {
+        ensureHeaderRead();
+        final byte nodeType = input.readByte();
+        if (nodeType == BinaryTokens.END_NODE) {
+            throw new InvalidNormalizedNodeStreamException("Unexpected end of node");
+        }
+        streamNode(requireNonNull(writer), nodeType);
+    }
+
+    /**
+     * Read a {@link YangInstanceIdentifier}.
+     *
+     * @return Read identifier
+     * @throws IOException if an I/O error occurs or the stream is malformed
+     */
+    public YangInstanceIdentifier readYangInstanceIdentifier() throws IOException {
+        ensureHeaderRead();
+        return readYangInstanceIdentifierInternal();
+    }
+
+    /**
+     * Read a {@link PathArgument}.
+     *
+     * @return Read path argument
+     * @throws IOException if an I/O error occurs or the stream is malformed
+     */
+    public PathArgument readPathArgument() throws IOException {
+        ensureHeaderRead();
+        return readPathArgumentInternal();
+    }
+
+    /**
+     * Read a {@link QName}.
+     *
+     * @return Read QName
+     * @throws IOException if an I/O error occurs or the stream is malformed
+     */
+    public QName readQName() throws IOException {
+        ensureHeaderRead();
+        return readQNameInternal();
+    }
+
+    /**
+     * Read a single token byte, as written by {@link BinaryNormalizedNodeStreamWriter#writeToken(byte)}.
+     *
+     * @return Read token
+     * @throws IOException if an I/O error occurs or the stream is malformed
+     */
+    byte readToken() throws IOException {
+        ensureHeaderRead();
+        return input.readByte();
+    }
+
+    /**
+     * Read a size, as written by {@link BinaryNormalizedNodeStreamWriter#writeSize(int)}.
+     *
+     * @return Read size
+     * @throws IOException if an I/O error occurs or the stream is malformed
+     */
+    int readSizeToken() throws IOException {
+        ensureHeaderRead();
+        return readSize();
+    }
+
+    private void ensureHeaderRead() throws IOException {
+        if (!headerRead) {
+            final byte marker = input.readByte();
+            if (marker != BinaryTokens.SIGNATURE_MARKER) {
+                throw new InvalidNormalizedNodeStreamException(String.format("Invalid signature marker: %d", marker));
+            }
+            final short version = input.readShort();
+            if (version != BinaryTokens.VERSION) {
+                throw new InvalidNormalizedNodeStreamException(String.format("Unsupported version: %d", version));
+            }
+            headerRead = true;
+        }
+    }
+
+    private void streamNode(final NormalizedNodeStreamWriter writer, final byte nodeType) throws IOException {
+        switch (nodeType) {
+            case BinaryTokens.LEAF_NODE:
+                writer.leafNode(readNodeIdentifier(), readObject());
+                return;
+            case BinaryTokens.LEAF_SET_ENTRY_NODE:
+                if (lastLeafSetQName == null) {
+                    throw new InvalidNormalizedNodeStreamException("Leaf set entry outside of a leaf set");
+                }
+                writer.leafSetEntryNode(lastLeafSetQName, readObject());
+                return;
+            case BinaryTokens.ANY_XML_NODE:
+                writer.anyxmlNode(readNodeIdentifier(), readDOMSource());
+                return;
+            case BinaryTokens.LEAF_SET:
+                final NodeIdentifier leafSet = readNodeIdentifier();
+                writer.startLeafSet(leafSet, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                lastLeafSetQName = leafSet.getNodeType();
+                break;
+            case BinaryTokens.ORDERED_LEAF_SET:
+                final NodeIdentifier orderedLeafSet = readNodeIdentifier();
+                writer.startOrderedLeafSet(orderedLeafSet, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                lastLeafSetQName = orderedLeafSet.getNodeType();
+                break;
+            case BinaryTokens.CONTAINER_NODE:
+                writer.startContainerNode(readNodeIdentifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case BinaryTokens.UNKEYED_LIST:
+                writer.startUnkeyedList(readNodeIdentifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case BinaryTokens.UNKEYED_LIST_ITEM:
+                writer.startUnkeyedListItem(readNodeIdentifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case BinaryTokens.MAP_NODE:
+                writer.startMapNode(readNodeIdentifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case BinaryTokens.MAP_ENTRY_NODE:
+                writer.startMapEntryNode(readNodeIdentifierWithPredicates(readQNameInternal()),
+                    NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case BinaryTokens.ORDERED_MAP_NODE:
+                writer.startOrderedMapNode(readNodeIdentifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case BinaryTokens.CHOICE_NODE:
+                writer.startChoiceNode(readNodeIdentifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case BinaryTokens.AUGMENTATION_NODE:
+                writer.startAugmentationNode(readAugmentationIdentifier());
+                break;
+            case BinaryTokens.YANG_MODELED_ANY_XML_NODE:
+                writer.startYangModeledAnyXmlNode(readNodeIdentifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            default:
+                throw new InvalidNormalizedNodeStreamException(String.format("Unexpected node type %d", nodeType));
+        }
+
+        // We have started a node, stream its children until we encounter its end
+        for (byte childType = input.readByte(); childType != BinaryTokens.END_NODE; childType = input.readByte()) {
+            streamNode(writer, childType);
+        }
+        writer.endNode();
+    }
+
+    private NodeIdentifier readNodeIdentifier() throws IOException {
+        return NodeIdentifier.create(readQNameInternal());
+    }
+
+    private NodeIdentifierWithPredicates readNodeIdentifierWithPredicates(final QName qname) throws IOException {
+        final int size = readSize();
+        switch (size) {
+            case 0:
+                return new NodeIdentifierWithPredicates(qname, ImmutableMap.of());
+            case 1:
+                return new NodeIdentifierWithPredicates(qname, readQNameInternal(), readObject());
+            default:
+                final ImmutableMap.Builder<QName, Object> builder = ImmutableMap.builder();
+                for (int i = 0; i < size; ++i) {
+                    builder.put(readQNameInternal(), readObject());
+                }
+                return new NodeIdentifierWithPredicates(qname, builder.build());
+        }
+    }
+
+    private QName readQNameInternal() throws IOException {
+        final int code = readCode();
+        if (code != 0) {
+            return lookup(qnames, code, "QName");
+        }
+
+        final QNameModule module = readModule();
+        final QName qname = QName.create(module, readString()).intern();
+        qnames.add(qname);
+        return qname;
+    }
+
+    private QNameModule readModule() throws IOException {
+        final int code = readCode();
+        if (code != 0) {
+            return lookup(modules, code, "QNameModule");
+        }
+
+        final URI namespace = URI.create(readString());
+        final String revision = readString();
+        final QNameModule module = QNameModule.create(namespace,
+            revision.isEmpty() ? null : QName.parseRevision(revision)).intern();
+        modules.add(module);
+        return module;
+    }
+
+    private AugmentationIdentifier readAugmentationIdentifier() throws IOException {
+        final int code = readCode();
+        if (code != 0) {
+            return lookup(augmentations, code, "AugmentationIdentifier");
+        }
+
+        final int size = readSize();
+        final ImmutableSet.Builder<QName> builder = ImmutableSet.builder();
+        for (int i = 0; i < size; ++i) {
+            builder.add(readQNameInternal());
+        }
+        final AugmentationIdentifier identifier = new AugmentationIdentifier(builder.build());
+        augmentations.add(identifier);
+        return identifier;
+    }
+
+    private PathArgument readPathArgumentInternal() throws IOException {
+        final int code = readCode();
+        if (code != 0) {
+            return lookup(pathArguments, code, "PathArgument");
+        }
+
+        final PathArgument pathArgument = readPathArgumentDefinition();
+        pathArguments.add(pathArgument);
+        return pathArgument;
+    }
+
+    private PathArgument readPathArgumentDefinition() throws IOException {
+        final byte type = input.readByte();
+        switch (type) {
+            case BinaryTokens.NODE_IDENTIFIER:
+                return readNodeIdentifier();
+            case BinaryTokens.NODE_IDENTIFIER_WITH_PREDICATES:
+                return readNodeIdentifierWithPredicates(readQNameInternal());
+            case BinaryTokens.NODE_WITH_VALUE:
+                return new NodeWithValue<>(readQNameInternal(), readObject());
+            case BinaryTokens.AUGMENTATION_IDENTIFIER:
+                return readAugmentationIdentifier();
+            default:
+                throw new InvalidNormalizedNodeStreamException(String.format("Unexpected path argument type %d",
+                    type));
+        }
+    }
+
+    private YangInstanceIdentifier readYangInstanceIdentifierInternal() throws IOException {
+        final int size = readSize();
+        final ImmutableList.Builder<PathArgument> builder = ImmutableList.builder();
+        for (int i = 0; i < size; ++i) {
+            builder.add(readPathArgumentInternal());
+        }
+        return YangInstanceIdentifier.create(builder.build());
+    }
+
+    private Object readObject() throws IOException {
+        final byte type = input.readByte();
+        switch (type) {
+            case BinaryTokens.NULL_VALUE:
+                return null;
+            case BinaryTokens.STRING_VALUE:
+                return readString();
+            case BinaryTokens.BOOLEAN_FALSE:
+                return Boolean.FALSE;
+            case BinaryTokens.BOOLEAN_TRUE:
+                return Boolean.TRUE;
+            case BinaryTokens.BYTE_VALUE:
+                return input.readByte();
+            case BinaryTokens.SHORT_VALUE:
+                return (short) readSigned();
+            case BinaryTokens.INT_VALUE:
+                return (int) readSigned();
+            case BinaryTokens.LONG_VALUE:
+                return readSigned();
+            case BinaryTokens.BIG_INTEGER_VALUE:
+                return new BigInteger(readBytes());
+            case BinaryTokens.BIG_DECIMAL_VALUE:
+                return new BigDecimal(readString());
+            case BinaryTokens.BINARY_VALUE:
+                return readBytes();
+            case BinaryTokens.QNAME_VALUE:
+                return readQNameInternal();
+            case BinaryTokens.BITS_VALUE:
+                final int size = readSize();
+                final ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+                for (int i = 0; i < size; ++i) {
+                    builder.add(readString());
+                }
+                return builder.build();
+            case BinaryTokens.YANG_IDENTIFIER_VALUE:
+                return readYangInstanceIdentifierInternal();
+            default:
+                throw new InvalidNormalizedNodeStreamException(String.format("Unexpected value type %d", type));
+        }
+    }
+
+    private long readSigned() throws IOException {
+        final long encoded = WritableObjects.readLong(input);
+        return encoded >>> 1 ^ -(encoded & 1);
+    }
+
+    private int readCode() throws IOException {
+        return readSize();
+    }
+
+    private int readSize() throws IOException {
+        final long size = WritableObjects.readLong(input);
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            throw new InvalidNormalizedNodeStreamException("Invalid size " + size);
+        }
+        return (int) size;
+    }
+
+    private byte[] readBytes() throws IOException {
+        final int size = readSize();
+
+        // The declared size cannot be trusted, hence do not allocate more than we have already read
+        byte[] bytes = new byte[Math.min(size, BYTES_CHUNK_SIZE)];
+        int offset = 0;
+        while (true) {
+            try {
+                input.readFully(bytes, offset, bytes.length - offset);
+            } catch (EOFException e) {
+                throw new InvalidNormalizedNodeStreamException(String.format(
+                    "Stream ended before %d declared bytes were read", size), e);
+            }
+            if (bytes.length == size) {
+                return bytes;
+            }
+            offset = bytes.length;
+            bytes = Arrays.copyOf(bytes, (int) Math.min(size, 2L * offset));
+        }
+    }
+
+    private String readString() throws IOException {
+        return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+
+    private DOMSource readDOMSource() throws IOException {
+        final String xml = readString();
+        final Document doc;
+        try {
+            doc = UntrustedXML.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+        } catch (SAXException e) {
+            throw new InvalidNormalizedNodeStreamException("Failed to parse anyxml content", e);
+        }
+        return new DOMSource(doc.getDocumentElement());
+    }
+
+    private static <T> T lookup(final List<T> table, final int code, final String what)
+            throws InvalidNormalizedNodeStreamException {
+        if (code > table.size()) {
+            throw new InvalidNormalizedNodeStreamException(String.format("Invalid %s reference %d, %d defined",
+                what, code, table.size()));
+        }
+        return table.get(code - 1);
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.DataOutput;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.opendaylight.yangtools.concepts.WritableObjects;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+
+/**
+ * A {@link NormalizedNodeStreamWriter} which emits a compact binary token stream into a {@link DataOutput}. The stream
+ * can be read back using {@link BinaryNormalizedNodeStreamReader}.
+ *
+ * <p>
+ * Each instance maintains tables of QNames, QNameModules, AugmentationIdentifiers and standalone PathArguments it has
+ * emitted, so that repeated occurrences are encoded as short back-references. These tables live as long as the writer,
+ * hence a single instance should be reused for a sequence of related objects, such as a stream of
+ * {@link org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate}s sharing their paths.
+ *
+ * <p>
+ * Lengths and integral values are encoded using {@link WritableObjects#writeLong(DataOutput, long)}, which elides
+ * leading zero bytes. As a consequence of both, the output is only decodable by a single
+ * {@link BinaryNormalizedNodeStreamReader} consuming it in its entirety, in order.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+@Beta
+public final class BinaryNormalizedNodeStreamWriter implements NormalizedNodeStreamWriter {
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+
+    private final Map<QName, Integer> qnameCodes = new HashMap<>();
+    private final Map<QNameModule, Integer> moduleCodes = new HashMap<>();
+    private final Map<AugmentationIdentifier, Integer> augmentationCodes = new HashMap<>();
+    private final Map<PathArgument, Integer> pathArgumentCodes = new HashMap<>();
+    private final DataOutput output;
+
+    private NormalizedNodeWriter normalizedNodeWriter;
+    private boolean headerWritten;
+
+    private BinaryNormalizedNodeStreamWriter(final DataOutput output) {
+        this.output = requireNonNull(output);
+    }
+
+    /**
+     * Create a new writer emitting to specified output.
+     *
+     * @param output Data output
+     * @return A new writer
+     * @throws NullPointerException if output is null
+     */
+    public static BinaryNormalizedNodeStreamWriter create(@Nonnull final DataOutput output) {
+        return new BinaryNormalizedNodeStreamWriter(output);
+    }
+
+    /**
+     * Write a complete {@link NormalizedNode}.
+     *
+     * @param node Node to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeNormalizedNode(@Nonnull final NormalizedNode<?, ?> node) throws IOException {
+        ensureHeaderWritten();
+        if (normalizedNodeWriter == null) {
+            // The format does not care about the order of key leaves, skip the expensive reordering
+            normalizedNodeWriter = NormalizedNodeWriter.forStreamWriter(this, false);
+        }
+        normalizedNodeWriter.write(node);
+    }
+
+    /**
+     * Write a {@link YangInstanceIdentifier}.
+     *
+     * @param identifier Identifier to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeYangInstanceIdentifier(@Nonnull final YangInstanceIdentifier identifier) throws IOException {
+        ensureHeaderWritten();
+        writeYangInstanceIdentifierInternal(identifier);
+    }
+
+    /**
+     * Write a {@link PathArgument}.
+     *
+     * @param pathArgument Path argument to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void writePathArgument(@Nonnull final PathArgument pathArgument) throws IOException {
+        ensureHeaderWritten();
+        writePathArgumentInternal(pathArgument);
+    }
+
+    /**
+     * Write a {@link QName}.
+     *
+     * @param qname QName to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeQName(@Nonnull final QName qname) throws IOException {
+        ensureHeaderWritten();
+        writeQNameInternal(qname);
+    }
+
+    /**
+     * Write a single token byte. Used by {@link DataTreeCandidateInputOutput} to interleave its own tokens with
+     * the data written by this writer.
+     *
+     * @param token Token to write
+     * @throws IOException if an I/O error occurs
+     */
+    void writeToken(final byte token) throws IOException {
+        ensureHeaderWritten();
+        output.writeByte(token);
+    }
+
+    /**
+     * Write a size or count.
+     *
+     * @param size Size to write
+     * @throws IOException if an I/O error occurs
+     */
+    void writeSize(final int size) throws IOException {
+        ensureHeaderWritten();
+        WritableObjects.writeLong(output, size);
+    }
+
+    @Override
+    public void leafNode(final NodeIdentifier name, final Object value) throws IOException {
+        startNode(BinaryTokens.LEAF_NODE, name.getNodeType());
+        writeObject(value);
+    }
+
+    @Override
+    public void startLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.LEAF_SET, name.getNodeType());
+    }
+
+    @Override
+    public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.ORDERED_LEAF_SET, name.getNodeType());
+    }
+
+    @Override
+    public void leafSetEntryNode(final QName name, final Object value) throws IOException {
+        // The QName is implied by the enclosing leaf set
+        ensureHeaderWritten();
+        output.writeByte(BinaryTokens.LEAF_SET_ENTRY_NODE);
+        writeObject(value);
+    }
+
+    @Override
+    public void startContainerNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.CONTAINER_NODE, name.getNodeType());
+    }
+
+    @Override
+    public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.UNKEYED_LIST, name.getNodeType());
+    }
+
+    @Override
+    public void startUnkeyedListItem(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.UNKEYED_LIST_ITEM, name.getNodeType());
+    }
+
+    @Override
+    public void startMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.MAP_NODE, name.getNodeType());
+    }
+
+    @Override
+    public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+            throws IOException {
+        startNode(BinaryTokens.MAP_ENTRY_NODE, identifier.getNodeType());
+        writeKeyValues(identifier.getKeyValues());
+    }
+
+    @Override
+    public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.ORDERED_MAP_NODE, name.getNodeType());
+    }
+
+    @Override
+    public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.CHOICE_NODE, name.getNodeType());
+    }
+
+    @Override
+    public void startAugmentationNode(final AugmentationIdentifier identifier) throws IOException {
+        ensureHeaderWritten();
+        output.writeByte(BinaryTokens.AUGMENTATION_NODE);
+        writeAugmentationIdentifier(identifier);
+    }
+
+    @Override
+    public void anyxmlNode(final NodeIdentifier name, final Object value) throws IOException {
+        startNode(BinaryTokens.ANY_XML_NODE, name.getNodeType());
+        writeString(xmlToString((DOMSource) value));
+    }
+
+    @Override
+    public void startYangModeledAnyXmlNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        startNode(BinaryTokens.YANG_MODELED_ANY_XML_NODE, name.getNodeType());
+    }
+
+    @Override
+    public void endNode() throws IOException {
+        ensureHeaderWritten();
+        output.writeByte(BinaryTokens.END_NODE);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (output instanceof Flushable) {
+            ((Flushable) output).flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void ensureHeaderWritten() throws IOException {
+        if (!headerWritten) {
+            output.writeByte(BinaryTokens.SIGNATURE_MARKER);
+            output.writeShort(BinaryTokens.VERSION);
+            headerWritten = true;
+        }
+    }
+
+    private void startNode(final byte nodeType, final QName qname) throws IOException {
+        ensureHeaderWritten();
+        output.writeByte(nodeType);
+        writeQNameInternal(qname);
+    }
+
+    private void writeQNameInternal(final QName qname) throws IOException {
+        final Integer code = qnameCodes.get(qname);
+        if (code != null) {
+            WritableObjects.writeLong(output, code);
+            return;
+        }
+
+        WritableObjects.writeLong(output, 0);
+        writeModule(qname.getModule());
+        writeString(qname.getLocalName());
+        qnameCodes.put(qname, qnameCodes.size() + 1);
+    }
+
+    private void writeModule(final QNameModule module) throws IOException {
+        final Integer code = moduleCodes.get(module);
+        if (code != null) {
+            WritableObjects.writeLong(output, code);
+            return;
+        }
+
+        WritableObjects.writeLong(output, 0);
+        writeString(module.getNamespace().toString());
+        final String revision = module.getFormattedRevision();
+        writeString(revision != null ? revision : "");
+        moduleCodes.put(module, moduleCodes.size() + 1);
+    }
+
+    private void writeAugmentationIdentifier(final AugmentationIdentifier identifier) throws IOException {
+        final Integer code = augmentationCodes.get(identifier);
+        if (code != null) {
+            WritableObjects.writeLong(output, code);
+            return;
+        }
+
+        WritableObjects.writeLong(output, 0);
+        final Set<QName> qnames = identifier.getPossibleChildNames();
+        WritableObjects.writeLong(output, qnames.size());
+        for (final QName qname : qnames) {
+            writeQNameInternal(qname);
+        }
+        augmentationCodes.put(identifier, augmentationCodes.size() + 1);
+    }
+
+    private void writeKeyValues(final Map<QName, Object> keyValues) throws IOException {
+        WritableObjects.writeLong(output, keyValues.size());
+        for (final Entry<QName, Object> entry : keyValues.entrySet()) {
+            writeQNameInternal(entry.getKey());
+            writeObject(entry.getValue());
+        }
+    }
+
+    private void writePathArgumentInternal(final PathArgument pathArgument) throws IOException {
+        final Integer code = pathArgumentCodes.get(pathArgument);
+        if (code != null) {
+            WritableObjects.writeLong(output, code);
+            return;
+        }
+
+        WritableObjects.writeLong(output, 0);
+        writePathArgumentDefinition(pathArgument);
+        pathArgumentCodes.put(pathArgument, pathArgumentCodes.size() + 1);
+    }
+
+    private void writePathArgumentDefinition(final PathArgument pathArgument) throws IOException {
+        if (pathArgument instanceof NodeIdentifier) {
+            output.writeByte(BinaryTokens.NODE_IDENTIFIER);
+            writeQNameInternal(pathArgument.getNodeType());
+        } else if (pathArgument instanceof NodeIdentifierWithPredicates) {
+            output.writeByte(BinaryTokens.NODE_IDENTIFIER_WITH_PREDICATES);
+            writeQNameInternal(pathArgument.getNodeType());
+            writeKeyValues(((NodeIdentifierWithPredicates) pathArgument).getKeyValues());
+        } else if (pathArgument instanceof NodeWithValue) {
+            output.writeByte(BinaryTokens.NODE_WITH_VALUE);
+            writeQNameInternal(pathArgument.getNodeType());
+            writeObject(((NodeWithValue<?>) pathArgument).getValue());
+        } else if (pathArgument instanceof AugmentationIdentifier) {
+            output.writeByte(BinaryTokens.AUGMENTATION_IDENTIFIER);
+            writeAugmentationIdentifier((AugmentationIdentifier) pathArgument);
+        } else {
+            throw new IllegalArgumentException("Unhandled path argument " + pathArgument);
+        }
+    }
+
+    private void writeYangInstanceIdentifierInternal(final YangInstanceIdentifier identifier) throws IOException {
+        final List<PathArgument> args = identifier.getPathArguments();
+        WritableObjects.writeLong(output, args.size());
+        for (final PathArgument arg : args) {
+            writePathArgumentInternal(arg);
+        }
+    }
+
+    private void writeString(final String str) throws IOException {
+        final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        WritableObjects.writeLong(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private void writeObject(final Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(BinaryTokens.NULL_VALUE);
+        } else if (value instanceof String) {
+            output.writeByte(BinaryTokens.STRING_VALUE);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte((Boolean) value ? BinaryTokens.BOOLEAN_TRUE : BinaryTokens.BOOLEAN_FALSE);
+        } else if (value instanceof Byte) {
+            output.writeByte(BinaryTokens.BYTE_VALUE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeByte(BinaryTokens.SHORT_VALUE);
+            writeSigned((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(BinaryTokens.INT_VALUE);
+            writeSigned((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(BinaryTokens.LONG_VALUE);
+            writeSigned((Long) value);
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BinaryTokens.BIG_INTEGER_VALUE);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BinaryTokens.BIG_DECIMAL_VALUE);
+            writeString(value.toString());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BinaryTokens.BINARY_VALUE);
+            writeBytes((byte[]) value);
+        } else if (value instanceof QName) {
+            output.writeByte(BinaryTokens.QNAME_VALUE);
+            writeQNameInternal((QName) value);
+        } else if (value instanceof Set) {
+            output.writeByte(BinaryTokens.BITS_VALUE);
+            final Set<?> bits = (Set<?>) value;
+            WritableObjects.writeLong(output, bits.size());
+            for (final Object bit : bits) {
+                writeString((String) bit);
+            }
+        } else if (value instanceof YangInstanceIdentifier) {
+            output.writeByte(BinaryTokens.YANG_IDENTIFIER_VALUE);
+            writeYangInstanceIdentifierInternal((YangInstanceIdentifier) value);
+        } else {
+            throw new IllegalArgumentException("Unhandled value " + value + " of type " + value.getClass());
+        }
+    }
+
+    private void writeBytes(final byte[] bytes) throws IOException {
+        WritableObjects.writeLong(output, bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Write a signed value using zig-zag encoding, so that small negative values remain compact.
+     */
+    private void writeSigned(final long value) throws IOException {
+        WritableObjects.writeLong(output, value << 1 ^ value >> 63);
+    }
+
+    private static String xmlToString(final DOMSource xml) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try {
+            TRANSFORMER_FACTORY.newTransformer().transform(xml, new StreamResult(writer));
+        } catch (TransformerException e) {
+            throw new IOException("Failed to serialize anyxml content " + xml, e);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+/**
+ * Constants used in the binary token stream. The stream starts with {@link #SIGNATURE_MARKER} and {@link #VERSION},
+ * followed by a sequence of node tokens. Each node token is followed by its identifier and, for leaf-like nodes, by
+ * a value. Values are prefixed by a value type token.
+ *
+ * <p>
+ * QNames, QNameModules, AugmentationIdentifiers and standalone PathArguments are emitted as back-references into
+ * per-stream tables, encoded as a
+ * {@link org.opendaylight.yangtools.concepts.WritableObjects#writeLong(java.io.DataOutput, long)} varint. Value
+ * {@code 0} indicates a new definition follows inline and should be appended to the table, any other value is
+ * the 1-based index of a previous definition.
+ *
+ * <p>
+ * Standalone PathArguments are those written as part of a YangInstanceIdentifier or on their own, such as data tree
+ * candidate node identifiers. Identifiers of nodes inside a NormalizedNode are not tabled: each map entry identifier
+ * is unique within its parent, hence a table would only grow without ever producing a hit, while the QNames they are
+ * made of are already tabled.
+ */
+final class BinaryTokens {
+    static final byte SIGNATURE_MARKER = (byte) 0xab;
+    static final short VERSION = 2;
+
+    // Node tokens
+    static final byte END_NODE = 0;
+    static final byte LEAF_NODE = 1;
+    static final byte LEAF_SET = 2;
+    static final byte ORDERED_LEAF_SET = 3;
+    static final byte LEAF_SET_ENTRY_NODE = 4;
+    static final byte CONTAINER_NODE = 5;
+    static final byte UNKEYED_LIST = 6;
+    static final byte UNKEYED_LIST_ITEM = 7;
+    static final byte MAP_NODE = 8;
+    static final byte MAP_ENTRY_NODE = 9;
+    static final byte ORDERED_MAP_NODE = 10;
+    static final byte CHOICE_NODE = 11;
+    static final byte AUGMENTATION_NODE = 12;
+    static final byte ANY_XML_NODE = 13;
+    static final byte YANG_MODELED_ANY_XML_NODE = 14;
+
+    // Path argument tokens
+    static final byte NODE_IDENTIFIER = 1;
+    static final byte NODE_IDENTIFIER_WITH_PREDICATES = 2;
+    static final byte NODE_WITH_VALUE = 3;
+    static final byte AUGMENTATION_IDENTIFIER = 4;
+
+    // Value tokens
+    static final byte NULL_VALUE = 0;
+    static final byte STRING_VALUE = 1;
+    static final byte BOOLEAN_FALSE = 2;
+    static final byte BOOLEAN_TRUE = 3;
+    static final byte BYTE_VALUE = 4;
+    static final byte SHORT_VALUE = 5;
+    static final byte INT_VALUE = 6;
+    static final byte LONG_VALUE = 7;
+    static final byte BIG_INTEGER_VALUE = 8;
+    static final byte BIG_DECIMAL_VALUE = 9;
+    static final byte BINARY_VALUE = 10;
+    static final byte QNAME_VALUE = 11;
+    static final byte BITS_VALUE = 12;
+    static final byte YANG_IDENTIFIER_VALUE = 13;
+
+    // Data tree candidate node tokens
+    static final byte CANDIDATE_UNMODIFIED = 0;
+    static final byte CANDIDATE_SUBTREE_MODIFIED = 1;
+    static final byte CANDIDATE_WRITE = 2;
+    static final byte CANDIDATE_DELETE = 3;
+    static final byte CANDIDATE_APPEARED = 4;
+    static final byte CANDIDATE_DISAPPEARED = 5;
+
+    private BinaryTokens() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import com.google.common.annotations.Beta;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNodes;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidates;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+
+/**
+ * Utility methods for serializing {@link DataTreeCandidate}s using the binary format. Only the information needed to
+ * replay the candidate is retained: modification types, identifiers and written data. Before-images are not
+ * serialized, nor are after-images of nodes which were not written directly.
+ *
+ * <p>
+ * Methods taking a {@link DataOutput} or a {@link DataInput} produce and consume a self-contained stream holding
+ * a single candidate. A sequence of candidates should be written through a single
+ * {@link BinaryNormalizedNodeStreamWriter} and read back through a single {@link BinaryNormalizedNodeStreamReader},
+ * so that the stream header is emitted only once and back-reference tables are shared across candidates.
+ */
+@Beta
+public final class DataTreeCandidateInputOutput {
+    private DataTreeCandidateInputOutput() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Write a {@link DataTreeCandidate} into a {@link DataOutput}, as a self-contained stream.
+     *
+     * @param out Data output
+     * @param candidate Candidate to write
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeDataTreeCandidate(@Nonnull final DataOutput out, @Nonnull final DataTreeCandidate candidate)
+            throws IOException {
+        writeDataTreeCandidate(BinaryNormalizedNodeStreamWriter.create(out), candidate);
+    }
+
+    /**
+     * Write a {@link DataTreeCandidate} using a {@link BinaryNormalizedNodeStreamWriter}. The candidate can be read
+     * back using {@link #readDataTreeCandidate(BinaryNormalizedNodeStreamReader)} on the corresponding reader.
+     *
+     * @param writer Binary writer
+     * @param candidate Candidate to write
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeDataTreeCandidate(@Nonnull final BinaryNormalizedNodeStreamWriter writer,
+            @Nonnull final DataTreeCandidate candidate) throws IOException {
+        writer.writeYangInstanceIdentifier(candidate.getRootPath());
+
+        final DataTreeCandidateNode node = candidate.getRootNode();
+        switch (node.getModificationType()) {
+            case APPEARED:
+                writer.writeToken(BinaryTokens.CANDIDATE_APPEARED);
+                writeChildren(writer, node.getChildNodes());
+                break;
+            case DELETE:
+                writer.writeToken(BinaryTokens.CANDIDATE_DELETE);
+                break;
+            case DISAPPEARED:
+                writer.writeToken(BinaryTokens.CANDIDATE_DISAPPEARED);
+                writeChildren(writer, node.getChildNodes());
+                break;
+            case SUBTREE_MODIFIED:
+                writer.writeToken(BinaryTokens.CANDIDATE_SUBTREE_MODIFIED);
+                writeChildren(writer, node.getChildNodes());
+                break;
+            case UNMODIFIED:
+                writer.writeToken(BinaryTokens.CANDIDATE_UNMODIFIED);
+                break;
+            case WRITE:
+                writer.writeToken(BinaryTokens.CANDIDATE_WRITE);
+                writer.writeNormalizedNode(node.getDataAfter().get());
+                break;
+            default:
+                throw new IllegalArgumentException("Unhandled node type " + node.getModificationType());
+        }
+    }
+
+    /**
+     * Read a {@link DataTreeCandidate} from a {@link DataInput}, as written by
+     * {@link #writeDataTreeCandidate(DataOutput, DataTreeCandidate)}.
+     *
+     * @param in Data input
+     * @return A new DataTreeCandidate
+     * @throws IOException if an I/O error occurs or the input is malformed
+     */
+    public static DataTreeCandidate readDataTreeCandidate(@Nonnull final DataInput in) throws IOException {
+        return readDataTreeCandidate(BinaryNormalizedNodeStreamReader.create(in));
+    }
+
+    /**
+     * Read a {@link DataTreeCandidate} using a {@link BinaryNormalizedNodeStreamReader}, as written by
+     * {@link #writeDataTreeCandidate(BinaryNormalizedNodeStreamWriter, DataTreeCandidate)}.
+     *
+     * @param reader Binary reader
+     * @return A new DataTreeCandidate
+     * @throws IOException if an I/O error occurs or the input is malformed
+     */
+    public static DataTreeCandidate readDataTreeCandidate(@Nonnull final BinaryNormalizedNodeStreamReader reader)
+            throws IOException {
+        final YangInstanceIdentifier rootPath = reader.readYangInstanceIdentifier();
+        final byte type = reader.readToken();
+
+        final DataTreeCandidateNode rootNode;
+        switch (type) {
+            case BinaryTokens.CANDIDATE_APPEARED:
+                rootNode = ModifiedDataTreeCandidateNode.create(ModificationType.APPEARED, readChildren(reader));
+                break;
+            case BinaryTokens.CANDIDATE_DELETE:
+                rootNode = DeletedDataTreeCandidateNode.create();
+                break;
+            case BinaryTokens.CANDIDATE_DISAPPEARED:
+                rootNode = ModifiedDataTreeCandidateNode.create(ModificationType.DISAPPEARED, readChildren(reader));
+                break;
+            case BinaryTokens.CANDIDATE_SUBTREE_MODIFIED:
+                rootNode = ModifiedDataTreeCandidateNode.create(ModificationType.SUBTREE_MODIFIED,
+                    readChildren(reader));
+                break;
+            case BinaryTokens.CANDIDATE_UNMODIFIED:
+                rootNode = ModifiedDataTreeCandidateNode.create(ModificationType.UNMODIFIED,
+                    Collections.emptyList());
+                break;
+            case BinaryTokens.CANDIDATE_WRITE:
+                rootNode = DataTreeCandidateNodes.fromNormalizedNode(reader.readNormalizedNode());
+                break;
+            default:
+                throw new InvalidNormalizedNodeStreamException(String.format("Unhandled root node type %d", type));
+        }
+
+        return DataTreeCandidates.newDataTreeCandidate(rootPath, rootNode);
+    }
+
+    private static void writeChildren(final BinaryNormalizedNodeStreamWriter writer,
+            final Collection<DataTreeCandidateNode> children) throws IOException {
+        // Unmodified children are skipped, hence we need to count the ones we are going to write
+        int count = 0;
+        for (final DataTreeCandidateNode child : children) {
+            if (child.getModificationType() != ModificationType.UNMODIFIED) {
+                count++;
+            }
+        }
+
+        writer.writeSize(count);
+        for (final DataTreeCandidateNode child : children) {
+            writeNode(writer, child);
+        }
+    }
+
+    private static void writeNode(final BinaryNormalizedNodeStreamWriter writer, final DataTreeCandidateNode node)
+            throws IOException {
+        switch (node.getModificationType()) {
+            case APPEARED:
+                writer.writeToken(BinaryTokens.CANDIDATE_APPEARED);
+                writer.writePathArgument(node.getIdentifier());
+                writeChildren(writer, node.getChildNodes());
+                break;
+            case DELETE:
+                writer.writeToken(BinaryTokens.CANDIDATE_DELETE);
+                writer.writePathArgument(node.getIdentifier());
+                break;
+            case DISAPPEARED:
+                writer.writeToken(BinaryTokens.CANDIDATE_DISAPPEARED);
+                writer.writePathArgument(node.getIdentifier());
+                writeChildren(writer, node.getChildNodes());
+                break;
+            case SUBTREE_MODIFIED:
+                writer.writeToken(BinaryTokens.CANDIDATE_SUBTREE_MODIFIED);
+                writer.writePathArgument(node.getIdentifier());
+                writeChildren(writer, node.getChildNodes());
+                break;
+            case WRITE:
+                writer.writeToken(BinaryTokens.CANDIDATE_WRITE);
+                writer.writeNormalizedNode(node.getDataAfter().get());
+                break;
+            case UNMODIFIED:
+                // Not serialized, as it does not convey any information
+                break;
+            default:
+                throw new IllegalArgumentException("Unhandled node type " + node.getModificationType());
+        }
+    }
+
+    private static List<DataTreeCandidateNode> readChildren(final BinaryNormalizedNodeStreamReader reader)
+            throws IOException {
+        final int size = reader.readSizeToken();
+        final List<DataTreeCandidateNode> ret = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            ret.add(readNode(reader));
+        }
+        return ret;
+    }
+
+    private static DataTreeCandidateNode readNode(final BinaryNormalizedNodeStreamReader reader) throws IOException {
+        final byte type = reader.readToken();
+        switch (type) {
+            case BinaryTokens.CANDIDATE_APPEARED:
+                return readModifiedNode(ModificationType.APPEARED, reader);
+            case BinaryTokens.CANDIDATE_DELETE:
+                return DeletedDataTreeCandidateNode.create(reader.readPathArgument());
+            case BinaryTokens.CANDIDATE_DISAPPEARED:
+                return readModifiedNode(ModificationType.DISAPPEARED, reader);
+            case BinaryTokens.CANDIDATE_SUBTREE_MODIFIED:
+                return readModifiedNode(ModificationType.SUBTREE_MODIFIED, reader);
+            case BinaryTokens.CANDIDATE_WRITE:
+                final NormalizedNode<?, ?> data = reader.readNormalizedNode();
+                return DataTreeCandidateNodes.fromNormalizedNode(data);
+            default:
+                throw new InvalidNormalizedNodeStreamException(String.format("Unhandled node type %d", type));
+        }
+    }
+
+    private static DataTreeCandidateNode readModifiedNode(final ModificationType type,
+            final BinaryNormalizedNodeStreamReader reader) throws IOException {
+        final PathArgument identifier = reader.readPathArgument();
+        return ModifiedDataTreeCandidateNode.create(identifier, type, readChildren(reader));
+    }
+}
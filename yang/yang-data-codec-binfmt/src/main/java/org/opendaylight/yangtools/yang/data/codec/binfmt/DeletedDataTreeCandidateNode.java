@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+
+/**
+ * A deserialized {@link ModificationType#DELETE} node.
+ */
+final class DeletedDataTreeCandidateNode extends AbstractDataTreeCandidateNode {
+    private DeletedDataTreeCandidateNode(final PathArgument identifier) {
+        super(identifier, ModificationType.DELETE);
+    }
+
+    static DataTreeCandidateNode create() {
+        return new DeletedDataTreeCandidateNode(null);
+    }
+
+    static DataTreeCandidateNode create(final PathArgument identifier) {
+        return new DeletedDataTreeCandidateNode(requireNonNull(identifier));
+    }
+
+    @Nonnull
+    @Override
+    public Collection<DataTreeCandidateNode> getChildNodes() {
+        return Collections.emptyList();
+    }
+
+    @Nullable
+    @Override
+    public DataTreeCandidateNode getModifiedChild(final PathArgument childIdentifier) {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public Optional<NormalizedNode<?, ?>> getDataAfter() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+
+/**
+ * A deserialized node which has not been written directly, but has modified children. Its after-image is not
+ * available, as it would need to be reconstructed from the data tree the candidate is applied to.
+ */
+final class ModifiedDataTreeCandidateNode extends AbstractDataTreeCandidateNode {
+    private final Collection<DataTreeCandidateNode> children;
+
+    private ModifiedDataTreeCandidateNode(final PathArgument identifier, final ModificationType type,
+            final Collection<DataTreeCandidateNode> children) {
+        super(identifier, type);
+        this.children = Collections.unmodifiableCollection(requireNonNull(children));
+    }
+
+    static DataTreeCandidateNode create(final ModificationType type, final Collection<DataTreeCandidateNode> children) {
+        return new ModifiedDataTreeCandidateNode(null, type, children);
+    }
+
+    static DataTreeCandidateNode create(final PathArgument identifier, final ModificationType type,
+            final Collection<DataTreeCandidateNode> children) {
+        return new ModifiedDataTreeCandidateNode(requireNonNull(identifier), type, children);
+    }
+
+    @Nonnull
+    @Override
+    public Collection<DataTreeCandidateNode> getChildNodes() {
+        return children;
+    }
+
+    @Nullable
+    @Override
+    public DataTreeCandidateNode getModifiedChild(final PathArgument childIdentifier) {
+        for (final DataTreeCandidateNode child : children) {
+            if (childIdentifier.equals(child.getIdentifier())) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public Optional<NormalizedNode<?, ?>> getDataAfter() {
+        throw new UnsupportedOperationException("After-image not available after serialization");
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import org.junit.Test;
+import org.opendaylight.yangtools.concepts.WritableObjects;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidates;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+
+public class BinaryNormalizedNodeStreamTest {
+    private static final String NS = "urn:opendaylight:test:binfmt";
+    private static final String REV = "2017-01-01";
+    private static final QName TOP = QName.create(NS, REV, "top");
+    private static final QName LIST = QName.create(NS, REV, "list");
+    private static final QName ID = QName.create(NS, REV, "id");
+    private static final QName NAME = QName.create(NS, REV, "name");
+    private static final QName VALUE = QName.create(NS, REV, "value");
+    private static final QName LEAF_LIST = QName.create(NS, REV, "leaf-list");
+    private static final QName CHOICE = QName.create(NS, REV, "choice");
+    private static final QName AUGMENTED = QName.create("urn:opendaylight:test:binfmt:aug", "augmented");
+    private static final QName UNKEYED = QName.create(NS, REV, "unkeyed");
+
+    @Test
+    public void testValuesRoundtrip() throws IOException {
+        final ContainerNode node = Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TOP))
+                .withChild(leaf("string", "foo"))
+                .withChild(leaf("boolean", Boolean.TRUE))
+                .withChild(leaf("byte", (byte) -5))
+                .withChild(leaf("short", (short) 300))
+                .withChild(leaf("int", -123456))
+                .withChild(leaf("long", Long.MIN_VALUE))
+                .withChild(leaf("big-integer", new BigInteger("18446744073709551615")))
+                .withChild(leaf("big-decimal", new BigDecimal("12.345")))
+                .withChild(leaf("binary", new byte[] { 1, 2, 3 }))
+                .withChild(leaf("qname", AUGMENTED))
+                .withChild(leaf("bits", ImmutableSet.of("one", "two")))
+                .withChild(leaf("instance-identifier", YangInstanceIdentifier.create(new NodeIdentifier(TOP),
+                    new NodeIdentifier(LIST), new NodeIdentifierWithPredicates(LIST, ID, 5))))
+                .build();
+
+        assertEquals(node, roundtrip(node));
+    }
+
+    @Test
+    public void testStructureRoundtrip() throws IOException {
+        final ContainerNode node = createTestContainer(10);
+        assertEquals(node, roundtrip(node));
+    }
+
+    @Test
+    public void testBackReferencesAreCompact() throws IOException {
+        final String bytes = new String(serialize(createTestContainer(100)), StandardCharsets.ISO_8859_1);
+
+        // All QNames except AUGMENTED share the same module, which should be emitted exactly once
+        final int first = bytes.indexOf(REV);
+        assertTrue(first != -1);
+        assertEquals(first, bytes.lastIndexOf(REV));
+
+        // Each local name should be emitted once, too
+        final int value = bytes.indexOf("value");
+        assertTrue(value != -1);
+        assertEquals(value, bytes.lastIndexOf("value"));
+    }
+
+    @Test
+    public void testPathArgumentRoundtrip() throws IOException {
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        final BinaryNormalizedNodeStreamWriter writer = BinaryNormalizedNodeStreamWriter.create(out);
+
+        final PathArgument withPredicates = new NodeIdentifierWithPredicates(LIST,
+            ImmutableMap.of(ID, 1, NAME, "foo"));
+        final PathArgument withValue = new NodeWithValue<>(LEAF_LIST, "bar");
+        final PathArgument augmentation = new AugmentationIdentifier(ImmutableSet.of(AUGMENTED));
+        final YangInstanceIdentifier path = YangInstanceIdentifier.create(new NodeIdentifier(TOP),
+            withPredicates, augmentation);
+
+        writer.writePathArgument(withPredicates);
+        writer.writePathArgument(withValue);
+        writer.writePathArgument(augmentation);
+        writer.writeYangInstanceIdentifier(path);
+        writer.writeQName(AUGMENTED);
+
+        final BinaryNormalizedNodeStreamReader reader = BinaryNormalizedNodeStreamReader.create(
+            ByteStreams.newDataInput(out.toByteArray()));
+        assertEquals(withPredicates, reader.readPathArgument());
+        assertEquals(withValue, reader.readPathArgument());
+        assertEquals(augmentation, reader.readPathArgument());
+        assertEquals(path, reader.readYangInstanceIdentifier());
+        assertEquals(AUGMENTED, reader.readQName());
+    }
+
+    @Test
+    public void testPathArgumentBackReferences() throws IOException {
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        final BinaryNormalizedNodeStreamWriter writer = BinaryNormalizedNodeStreamWriter.create(out);
+        final PathArgument withPredicates = new NodeIdentifierWithPredicates(LIST,
+            ImmutableMap.of(ID, 1, NAME, "foo"));
+
+        writer.writePathArgument(withPredicates);
+        final int size = out.toByteArray().length;
+        writer.writePathArgument(withPredicates);
+        // Repeated occurrence is a two-byte back-reference: varint header and a single value byte
+        assertEquals(size + 2, out.toByteArray().length);
+
+        final BinaryNormalizedNodeStreamReader reader = BinaryNormalizedNodeStreamReader.create(
+            ByteStreams.newDataInput(out.toByteArray()));
+        assertEquals(withPredicates, reader.readPathArgument());
+        assertEquals(withPredicates, reader.readPathArgument());
+    }
+
+    @Test
+    public void testCandidateSequence() throws IOException {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.create(new NodeIdentifier(TOP),
+            new NodeIdentifier(LIST), new NodeIdentifierWithPredicates(LIST, ID, 1));
+        final DataTreeCandidate first = DataTreeCandidates.fromNormalizedNode(path,
+            ImmutableNodes.mapEntry(LIST, ID, 1));
+        final DataTreeCandidate second = DataTreeCandidates.newDataTreeCandidate(path,
+            DeletedDataTreeCandidateNode.create());
+
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        final BinaryNormalizedNodeStreamWriter writer = BinaryNormalizedNodeStreamWriter.create(out);
+        DataTreeCandidateInputOutput.writeDataTreeCandidate(writer, first);
+        final int size = out.toByteArray().length;
+        DataTreeCandidateInputOutput.writeDataTreeCandidate(writer, second);
+        // No stream header, just the path length and three back-references, each taking two bytes, followed by
+        // the delete token
+        assertEquals(size + 9, out.toByteArray().length);
+
+        final BinaryNormalizedNodeStreamReader reader = BinaryNormalizedNodeStreamReader.create(
+            ByteStreams.newDataInput(out.toByteArray()));
+        final DataTreeCandidate readFirst = DataTreeCandidateInputOutput.readDataTreeCandidate(reader);
+        assertEquals(path, readFirst.getRootPath());
+        assertEquals(ModificationType.WRITE, readFirst.getRootNode().getModificationType());
+        final DataTreeCandidate readSecond = DataTreeCandidateInputOutput.readDataTreeCandidate(reader);
+        assertEquals(path, readSecond.getRootPath());
+        assertEquals(ModificationType.DELETE, readSecond.getRootNode().getModificationType());
+    }
+
+    @Test(expected = InvalidNormalizedNodeStreamException.class)
+    public void testInvalidSignature() throws IOException {
+        BinaryNormalizedNodeStreamReader.create(ByteStreams.newDataInput(new byte[] { 0, 0, 1, 0 }))
+            .readNormalizedNode();
+    }
+
+    @Test(expected = InvalidNormalizedNodeStreamException.class)
+    public void testTruncatedValue() throws IOException {
+        // A string value declaring a huge length, which is not backed by actual data
+        final ByteArrayDataOutput out = startNode(BinaryTokens.LEAF_NODE, "leaf");
+        out.writeByte(BinaryTokens.STRING_VALUE);
+        WritableObjects.writeLong(out, Integer.MAX_VALUE);
+        out.write(new byte[100000]);
+
+        BinaryNormalizedNodeStreamReader.create(new DataInputStream(new ByteArrayInputStream(out.toByteArray())))
+            .readNormalizedNode();
+    }
+
+    @Test(expected = InvalidNormalizedNodeStreamException.class)
+    public void testAnyxmlExternalEntity() throws IOException {
+        final ByteArrayDataOutput out = startNode(BinaryTokens.ANY_XML_NODE, "anyxml");
+        writeString(out, "<!DOCTYPE foo [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><foo>&xxe;</foo>");
+
+        BinaryNormalizedNodeStreamReader.create(ByteStreams.newDataInput(out.toByteArray())).readNormalizedNode();
+    }
+
+    @Test
+    public void testWriteCandidateRoundtrip() throws IOException {
+        final ContainerNode node = createTestContainer(3);
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(TOP);
+        final DataTreeCandidate candidate = DataTreeCandidates.fromNormalizedNode(path, node);
+
+        final DataTreeCandidate read = roundtrip(candidate);
+        assertEquals(path, read.getRootPath());
+        assertEquals(ModificationType.WRITE, read.getRootNode().getModificationType());
+        assertEquals(node, read.getRootNode().getDataAfter().get());
+    }
+
+    @Test
+    public void testModifiedCandidateRoundtrip() throws IOException {
+        final MapEntryNode entry = ImmutableNodes.mapEntry(LIST, ID, 1);
+        final NodeIdentifier listId = new NodeIdentifier(LIST);
+        final NodeIdentifierWithPredicates entryId = new NodeIdentifierWithPredicates(LIST, ID, 1);
+        final NodeIdentifierWithPredicates deletedId = new NodeIdentifierWithPredicates(LIST, ID, 2);
+
+        final DataTreeCandidateNode root = ModifiedDataTreeCandidateNode.create(ModificationType.SUBTREE_MODIFIED,
+            ImmutableSet.of(ModifiedDataTreeCandidateNode.create(listId, ModificationType.SUBTREE_MODIFIED,
+                ImmutableSet.of(DataTreeCandidates.fromNormalizedNode(YangInstanceIdentifier.EMPTY, entry)
+                    .getRootNode(), DeletedDataTreeCandidateNode.create(deletedId)))));
+
+        final DataTreeCandidate read = roundtrip(DataTreeCandidates.newDataTreeCandidate(
+            YangInstanceIdentifier.of(TOP), root));
+        assertEquals(ModificationType.SUBTREE_MODIFIED, read.getRootNode().getModificationType());
+
+        final Collection<DataTreeCandidateNode> children = read.getRootNode().getChildNodes();
+        assertEquals(1, children.size());
+        final DataTreeCandidateNode list = read.getRootNode().getModifiedChild(listId);
+        assertNotNull(list);
+        assertEquals(ModificationType.SUBTREE_MODIFIED, list.getModificationType());
+        assertEquals(2, list.getChildNodes().size());
+
+        final DataTreeCandidateNode written = list.getModifiedChild(entryId);
+        assertEquals(ModificationType.WRITE, written.getModificationType());
+        assertEquals(entry, written.getDataAfter().get());
+
+        final DataTreeCandidateNode deleted = list.getModifiedChild(deletedId);
+        assertEquals(ModificationType.DELETE, deleted.getModificationType());
+        assertFalse(deleted.getDataAfter().isPresent());
+    }
+
+    private static ContainerNode createTestContainer(final int entries) {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> map = ImmutableNodes.mapNodeBuilder(LIST);
+        for (int i = 0; i < entries; ++i) {
+            map.withChild(ImmutableNodes.mapEntryBuilder(LIST, ID, i)
+                .withChild(ImmutableNodes.leafNode(NAME, "name-" + i))
+                .withChild(ImmutableNodes.leafNode(VALUE, (long) i))
+                .build());
+        }
+
+        return Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TOP))
+                .withChild(map.build())
+                .withChild(Builders.orderedMapBuilder().withNodeIdentifier(new NodeIdentifier(NAME))
+                    .withChild(ImmutableNodes.mapEntry(NAME, ID, "x")).build())
+                .withChild(Builders.leafSetBuilder().withNodeIdentifier(new NodeIdentifier(LEAF_LIST))
+                    .withChild(Builders.leafSetEntryBuilder().withNodeIdentifier(new NodeWithValue<>(LEAF_LIST, "a"))
+                        .withValue("a").build())
+                    .withChild(Builders.leafSetEntryBuilder().withNodeIdentifier(new NodeWithValue<>(LEAF_LIST, "b"))
+                        .withValue("b").build())
+                    .build())
+                .withChild(Builders.choiceBuilder().withNodeIdentifier(new NodeIdentifier(CHOICE))
+                    .withChild(ImmutableNodes.leafNode(VALUE, "in-choice")).build())
+                .withChild(Builders.augmentationBuilder()
+                    .withNodeIdentifier(new AugmentationIdentifier(ImmutableSet.of(AUGMENTED)))
+                    .withChild(ImmutableNodes.leafNode(AUGMENTED, 42)).build())
+                .withChild(Builders.unkeyedListBuilder().withNodeIdentifier(new NodeIdentifier(UNKEYED))
+                    .withChild(Builders.unkeyedListEntryBuilder().withNodeIdentifier(new NodeIdentifier(UNKEYED))
+                        .withChild(ImmutableNodes.leafNode(VALUE, "unkeyed")).build())
+                    .build())
+                .build();
+    }
+
+    private static LeafNode<?> leaf(final String localName, final Object value) {
+        return ImmutableNodes.leafNode(QName.create(NS, REV, localName), value);
+    }
+
+    private static byte[] serialize(final NormalizedNode<?, ?> node) throws IOException {
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        BinaryNormalizedNodeStreamWriter.create(out).writeNormalizedNode(node);
+        return out.toByteArray();
+    }
+
+    private static NormalizedNode<?, ?> roundtrip(final NormalizedNode<?, ?> node) throws IOException {
+        final ByteArrayDataInput in = ByteStreams.newDataInput(serialize(node));
+        return BinaryNormalizedNodeStreamReader.create(in).readNormalizedNode();
+    }
+
+    private static DataTreeCandidate roundtrip(final DataTreeCandidate candidate) throws IOException {
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+        return DataTreeCandidateInputOutput.readDataTreeCandidate(ByteStreams.newDataInput(out.toByteArray()));
+    }
+
+    private static ByteArrayDataOutput startNode(final byte nodeType, final String localName)
+            throws IOException {
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        out.writeByte(BinaryTokens.SIGNATURE_MARKER);
+        out.writeShort(BinaryTokens.VERSION);
+        out.writeByte(nodeType);
+        // QName and QNameModule definitions, not back-references
+        WritableObjects.writeLong(out, 0);
+        WritableObjects.writeLong(out, 0);
+        writeString(out, NS);
+        writeString(out, REV);
+        writeString(out, localName);
+        return out;
+    }
+
+    private static void writeString(final ByteArrayDataOutput out, final String str) throws IOException {
+        final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        WritableObjects.writeLong(out, bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.MalformedJsonException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A pull tokenizer operating directly on UTF-8 encoded JSON bytes. Unlike {@link com.google.gson.stream.JsonReader} it
+ * does not decode its input into characters up front: names are exposed as byte ranges, so they can be matched against
+ * precomputed tables without creating Strings, and values are decoded only when asked for.
+ *
+ * <p>
+ * The contents of the current token are valid only until the next call to {@link #next()}. This class implements
+ * strict RFC7159 structure, it does not support any of the lenient extensions of {@code JsonReader}.
+ */
+final class JsonByteTokenizer {
+    enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        TRUE,
+        FALSE,
+        NULL,
+        END_DOCUMENT,
+    }
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+
+    // Null when we are operating on a fixed array
+    private final InputStream in;
+
+    private byte[] buf;
+    private int pos;
+    private int limit;
+    // Number of bytes discarded from the start of the buffer, used for reporting error offsets. Starts off negative
+    // when the input does not start at the beginning of the buffer.
+    private long discarded;
+
+    private int[] stack = new int[32];
+    private int depth = 1;
+
+    // Current token's contents: bytes in range [start, end), whether they contain escapes and non-ASCII characters
+    private int start;
+    private int end;
+    private boolean escaped;
+    private boolean ascii;
+
+    private JsonByteTokenizer(final InputStream in, final byte[] buf, final int pos, final int limit) {
+        this.in = in;
+        this.buf = buf;
+        this.pos = pos;
+        this.limit = limit;
+        // Report offsets relative to the start of input, not the start of the array
+        this.discarded = -pos;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    static JsonByteTokenizer create(final InputStream in) {
+        return new JsonByteTokenizer(requireNonNull(in), new byte[BUFFER_SIZE], 0, 0);
+    }
+
+    static JsonByteTokenizer create(final ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            // Operate directly on the backing array, without copying anything
+            final int offset = buffer.arrayOffset();
+            return new JsonByteTokenizer(null, buffer.array(), offset + buffer.position(), offset + buffer.limit());
+        }
+
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new JsonByteTokenizer(null, bytes, 0, bytes.length);
+    }
+
+    /**
+     * Advance to the next token.
+     *
+     * @return Next token
+     * @throws MalformedJsonException if the input is not well-formed
+     * @throws EOFException if the input ends prematurely
+     * @throws IOException if the underlying stream reports an error
+     */
+    Token next() throws IOException {
+        int ch;
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT:
+                ch = nextNonWhitespace(false);
+                if (ch == -1) {
+                    return Token.END_DOCUMENT;
+                }
+                stack[0] = NONEMPTY_DOCUMENT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                if (nextNonWhitespace(false) == -1) {
+                    return Token.END_DOCUMENT;
+                }
+                throw syntaxError("Multiple top-level values");
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                ch = nextNonWhitespace(true);
+                if (ch == ']') {
+                    pos++;
+                    depth--;
+                    return Token.END_ARRAY;
+                }
+                break;
+            case NONEMPTY_ARRAY:
+                ch = nextNonWhitespace(true);
+                pos++;
+                if (ch == ']') {
+                    depth--;
+                    return Token.END_ARRAY;
+                }
+                if (ch != ',') {
+                    throw syntaxError("Unterminated array");
+                }
+                ch = nextNonWhitespace(true);
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                ch = nextNonWhitespace(true);
+                if (stack[depth - 1] == NONEMPTY_OBJECT) {
+                    pos++;
+                    if (ch == '}') {
+                        depth--;
+                        return Token.END_OBJECT;
+                    }
+                    if (ch != ',') {
+                        throw syntaxError("Unterminated object");
+                    }
+                    ch = nextNonWhitespace(true);
+                } else if (ch == '}') {
+                    pos++;
+                    depth--;
+                    return Token.END_OBJECT;
+                }
+                if (ch != '"') {
+                    throw syntaxError("Expected name");
+                }
+                pos++;
+                readString();
+                stack[depth - 1] = DANGLING_NAME;
+                return Token.NAME;
+            case DANGLING_NAME:
+                if (nextNonWhitespace(true) != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                pos++;
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                ch = nextNonWhitespace(true);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled scope " + stack[depth - 1]);
+        }
+
+        switch (ch) {
+            case '{':
+                pos++;
+                push(EMPTY_OBJECT);
+                return Token.BEGIN_OBJECT;
+            case '[':
+                pos++;
+                push(EMPTY_ARRAY);
+                return Token.BEGIN_ARRAY;
+            case '"':
+                pos++;
+                readString();
+                return Token.STRING;
+            case 't':
+                readLiteral(TRUE);
+                return Token.TRUE;
+            case 'f':
+                readLiteral(FALSE);
+                return Token.FALSE;
+            case 'n':
+                readLiteral(NULL);
+                return Token.NULL;
+            default:
+                if (ch == '-' || ch >= '0' && ch <= '9') {
+                    readNumber();
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) ch + "'");
+        }
+    }
+
+    /**
+     * Return the buffer holding the current token's bytes.
+     */
+    byte[] buffer() {
+        return buf;
+    }
+
+    /**
+     * Return the offset of the first byte of current {@link Token#NAME}, {@link Token#STRING} or {@link Token#NUMBER}
+     * in {@link #buffer()}.
+     */
+    int tokenStart() {
+        return start;
+    }
+
+    /**
+     * Return the length of current {@link Token#NAME}, {@link Token#STRING} or {@link Token#NUMBER}, in bytes.
+     */
+    int tokenLength() {
+        return end - start;
+    }
+
+    /**
+     * Return true if the bytes of current token contain escape sequences, hence they do not match the decoded value.
+     */
+    boolean isEscaped() {
+        return escaped;
+    }
+
+    /**
+     * Decode current {@link Token#NAME}, {@link Token#STRING} or {@link Token#NUMBER} into a String.
+     *
+     * @return Decoded string
+     * @throws MalformedJsonException if the token contains an invalid escape sequence
+     */
+    String stringValue() throws MalformedJsonException {
+        if (!escaped) {
+            return new String(buf, start, end - start, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        }
+
+        final StringBuilder sb = new StringBuilder(end - start);
+        int run = start;
+        int offset = start;
+        while (offset < end) {
+            if (buf[offset] != '\\') {
+                offset++;
+                continue;
+            }
+
+            sb.append(new String(buf, run, offset - run, StandardCharsets.UTF_8));
+            final byte escape = buf[offset + 1];
+            offset += 2;
+            switch (escape) {
+                case '"':
+                case '\\':
+                case '/':
+                    sb.append((char) escape);
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (offset + 4 > end) {
+                        throw syntaxError("Truncated unicode escape");
+                    }
+                    int unicode = 0;
+                    for (int i = 0; i < 4; ++i) {
+                        final int digit = Character.digit(buf[offset + i], 16);
+                        if (digit < 0) {
+                            throw syntaxError("Invalid unicode escape");
+                        }
+                        unicode = unicode << 4 | digit;
+                    }
+                    // Surrogate pairs are encoded as two escapes, which we append as two separate chars
+                    sb.append((char) unicode);
+                    offset += 4;
+                    break;
+                default:
+                    throw syntaxError("Invalid escape sequence");
+            }
+            run = offset;
+        }
+
+        return sb.append(new String(buf, run, end - run, StandardCharsets.UTF_8)).toString();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " at offset " + (discarded + pos);
+    }
+
+    private void push(final int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = scope;
+    }
+
+    private int nextNonWhitespace(final boolean required) throws IOException {
+        while (true) {
+            if (pos == limit && !fill(pos)) {
+                if (required) {
+                    throw new EOFException("End of input at offset " + (discarded + pos));
+                }
+                return -1;
+            }
+
+            final byte ch = buf[pos];
+            if (ch != ' ' && ch != '\n' && ch != '\r' && ch != '\t') {
+                return ch & 0xff;
+            }
+            pos++;
+        }
+    }
+
+    // Reads a string whose opening quote has already been consumed
+    private void readString() throws IOException {
+        start = pos;
+        escaped = false;
+        ascii = true;
+        while (true) {
+            if (pos == limit && !fill(start)) {
+                throw new EOFException("Unterminated string at offset " + (discarded + pos));
+            }
+
+            final byte ch = buf[pos];
+            if (ch == '"') {
+                end = pos++;
+                return;
+            }
+            if (ch == '\\') {
+                escaped = true;
+                // Make sure the escaped character is available, so we skip it as a whole
+                if (pos + 1 == limit && !fill(start)) {
+                    throw new EOFException("Unterminated escape at offset " + (discarded + pos));
+                }
+                pos += 2;
+            } else {
+                if (ch < 0) {
+                    ascii = false;
+                } else if (ch < 0x20) {
+                    throw syntaxError("Unescaped control character");
+                }
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * Read a number, as defined by RFC7159 section 6: {@code [ minus ] int [ frac ] [ exp ]}, where {@code int} does
+     * not have leading zeros and both {@code frac} and {@code exp} require at least one digit.
+     */
+    private void readNumber() throws IOException {
+        start = pos;
+        escaped = false;
+        ascii = true;
+
+        int ch = peekNumber();
+        if (ch == '-') {
+            pos++;
+            ch = peekNumber();
+        }
+        if (ch == '0') {
+            pos++;
+        } else if (isDigit(ch)) {
+            skipDigits();
+        } else {
+            throw syntaxError("Invalid number, expected a digit");
+        }
+
+        ch = peekNumber();
+        if (ch == '.') {
+            pos++;
+            if (!isDigit(peekNumber())) {
+                throw syntaxError("Invalid number, expected a fraction digit");
+            }
+            skipDigits();
+            ch = peekNumber();
+        }
+        if (ch == 'e' || ch == 'E') {
+            pos++;
+            ch = peekNumber();
+            if (ch == '+' || ch == '-') {
+                pos++;
+                ch = peekNumber();
+            }
+            if (!isDigit(ch)) {
+                throw syntaxError("Invalid number, expected an exponent digit");
+            }
+            skipDigits();
+            ch = peekNumber();
+        }
+
+        // Catch leading zeroes and stray characters, which would otherwise be reported as confusing structural errors
+        if (isDigit(ch) || ch == '.' || ch == '-' || ch == '+' || ch == 'e' || ch == 'E') {
+            throw syntaxError("Invalid number");
+        }
+        end = pos;
+    }
+
+    private void skipDigits() throws IOException {
+        do {
+            pos++;
+        } while (isDigit(peekNumber()));
+    }
+
+    /**
+     * Peek at the next byte of the current number, retaining its bytes in the buffer.
+     *
+     * @return Next byte, or -1 on end of input
+     */
+    private int peekNumber() throws IOException {
+        return pos < limit || fill(start) ? buf[pos] : -1;
+    }
+
+    private static boolean isDigit(final int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private void readLiteral(final byte[] literal) throws IOException {
+        while (limit - pos < literal.length) {
+            if (!fill(pos)) {
+                throw new EOFException("End of input at offset " + (discarded + pos));
+            }
+        }
+        for (int i = 0; i < literal.length; ++i) {
+            if (buf[pos + i] != literal[i]) {
+                throw syntaxError("Invalid literal");
+            }
+        }
+        pos += literal.length;
+    }
+
+    /**
+     * Read more data into the buffer, retaining bytes from specified offset onwards. Adjusts current token start, so it
+     * remains valid.
+     *
+     * @param keep Offset of first byte which needs to be retained
+     * @return True if some data was read, false on end of input
+     */
+    private boolean fill(final int keep) throws IOException {
+        if (in == null) {
+            return false;
+        }
+
+        if (keep > 0) {
+            System.arraycopy(buf, keep, buf, 0, limit - keep);
+            discarded += keep;
+            limit -= keep;
+            pos -= keep;
+            start -= keep;
+            end -= keep;
+        }
+        if (limit == buf.length) {
+            buf = Arrays.copyOf(buf, buf.length * 2);
+        }
+
+        final int read = in.read(buf, limit, buf.length - limit);
+        if (read <= 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private MalformedJsonException syntaxError(final String message) {
+        return new MalformedJsonException(message + " at offset " + (discarded + pos));
+    }
+}
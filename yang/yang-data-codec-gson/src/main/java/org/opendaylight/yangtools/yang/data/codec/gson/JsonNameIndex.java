@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
+import org.opendaylight.yangtools.yang.model.api.AnyXmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.AugmentationSchema;
+import org.opendaylight.yangtools.yang.model.api.AugmentationTarget;
+import org.opendaylight.yangtools.yang.model.api.ChoiceCaseNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.YangModeledAnyXmlSchemaNode;
+
+/**
+ * Index of JSON member names, as they can appear under a particular schema node, to the schema nodes they identify.
+ * This class implements the same resolution rules as {@link JsonParserStream}, but it performs them once per schema
+ * node and context namespace, so that the {@link JsonStreamingParser} can resolve names by looking up their raw UTF-8
+ * bytes.
+ */
+final class JsonNameIndex {
+    /**
+     * A resolved JSON member name.
+     */
+    static final class Resolution {
+        private final String name;
+        private final DataSchemaNode[] path;
+        private final NodeIdentifier identifier;
+        private final URI namespace;
+        private final String error;
+        private final boolean streamable;
+        private final int ordinal;
+
+        Resolution(final String name, final DataSchemaNode[] path, final URI namespace, final boolean streamable,
+                final int ordinal) {
+            this.name = requireNonNull(name);
+            this.path = requireNonNull(path);
+            this.identifier = NodeIdentifier.create(path[path.length - 1].getQName());
+            this.namespace = requireNonNull(namespace);
+            this.streamable = streamable;
+            this.ordinal = ordinal;
+            this.error = null;
+        }
+
+        Resolution(final String name, final String error, final int ordinal) {
+            this.name = requireNonNull(name);
+            this.error = requireNonNull(error);
+            this.ordinal = ordinal;
+            this.path = null;
+            this.identifier = null;
+            this.namespace = null;
+            this.streamable = false;
+        }
+
+        String name() {
+            return name;
+        }
+
+        /**
+         * Return the schema node identified by this name.
+         */
+        DataSchemaNode schema() {
+            return path[path.length - 1];
+        }
+
+        NodeIdentifier identifier() {
+            return identifier;
+        }
+
+        URI namespace() {
+            return namespace;
+        }
+
+        /**
+         * Return true if the node is a direct, non-augmenting child of the parent, hence its data can be emitted
+         * without first wrapping it in choice and augmentation nodes.
+         */
+        boolean isStreamable() {
+            return streamable;
+        }
+
+        /**
+         * Return a unique index of this name within its {@link NameTable}, or -1 if it is not part of a table.
+         */
+        int ordinal() {
+            return ordinal;
+        }
+
+        /**
+         * Return the path of schema nodes leading to the node, suitable for
+         * {@link org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema#addChild(Deque)}.
+         */
+        Deque<DataSchemaNode> newPath() {
+            return new ArrayDeque<>(Arrays.asList(path));
+        }
+
+        Resolution checkValid() {
+            if (error != null) {
+                throw new IllegalStateException(error);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * An open-addressing hash table mapping UTF-8 encoded names to their {@link Resolution}s.
+     */
+    static final class NameTable {
+        private final byte[][] keys;
+        private final Resolution[] values;
+        private final int mask;
+        private final int size;
+
+        NameTable(final List<Resolution> resolutions) {
+            size = resolutions.size();
+            int capacity = Integer.highestOneBit(Math.max(size, 1) * 2) * 2;
+            keys = new byte[capacity][];
+            values = new Resolution[capacity];
+            mask = capacity - 1;
+
+            for (Resolution resolution : resolutions) {
+                final byte[] key = resolution.name().getBytes(StandardCharsets.UTF_8);
+                int slot = hash(key, 0, key.length) & mask;
+                while (keys[slot] != null) {
+                    slot = slot + 1 & mask;
+                }
+                keys[slot] = key;
+                values[slot] = resolution;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        Resolution lookup(final byte[] bytes, final int offset, final int length) {
+            int slot = hash(bytes, offset, length) & mask;
+            while (true) {
+                final byte[] key = keys[slot];
+                if (key == null) {
+                    return null;
+                }
+                if (matches(key, bytes, offset, length)) {
+                    return values[slot];
+                }
+                slot = slot + 1 & mask;
+            }
+        }
+
+        Resolution lookup(final String name) {
+            final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            return lookup(bytes, 0, bytes.length);
+        }
+
+        private static boolean matches(final byte[] key, final byte[] bytes, final int offset, final int length) {
+            if (key.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; ++i) {
+                if (key[i] != bytes[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int hash(final byte[] bytes, final int offset, final int length) {
+            int hash = length;
+            for (int i = offset; i < offset + length; ++i) {
+                hash = 31 * hash + bytes[i];
+            }
+            return hash ^ hash >>> 16;
+        }
+    }
+
+    private static final class TableKey {
+        private final DataSchemaNode schema;
+        private final URI namespace;
+
+        TableKey(final DataSchemaNode schema, final URI namespace) {
+            this.schema = requireNonNull(schema);
+            this.namespace = namespace;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema) * 31 + Objects.hashCode(namespace);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TableKey)) {
+                return false;
+            }
+            final TableKey other = (TableKey) obj;
+            return schema == other.schema && Objects.equals(namespace, other.namespace);
+        }
+    }
+
+    // Weak keys to retire the entry when SchemaContext goes away and to force identity-based lookup
+    private static final LoadingCache<SchemaContext, JsonNameIndex> INDEXES = CacheBuilder.newBuilder().weakKeys()
+            .build(new CacheLoader<SchemaContext, JsonNameIndex>() {
+                @Override
+                public JsonNameIndex load(@Nonnull final SchemaContext key) {
+                    return new JsonNameIndex(key);
+                }
+            });
+
+    private final ConcurrentMap<TableKey, NameTable> tables = new ConcurrentHashMap<>();
+    private final SchemaContext schemaContext;
+
+    private JsonNameIndex(final SchemaContext schemaContext) {
+        this.schemaContext = requireNonNull(schemaContext);
+    }
+
+    static JsonNameIndex forSchemaContext(final SchemaContext schemaContext) {
+        return INDEXES.getUnchecked(schemaContext);
+    }
+
+    SchemaContext getSchemaContext() {
+        return schemaContext;
+    }
+
+    /**
+     * Return the table of names which can appear in a JSON object corresponding to a schema node.
+     *
+     * @param parent Parent schema node
+     * @param namespace Namespace of the parent JSON member, used to resolve unqualified names, null at the root
+     * @return A name table
+     */
+    NameTable tableFor(final DataSchemaNode parent, final URI namespace) {
+        final TableKey key = new TableKey(parent, namespace);
+        final NameTable existing = tables.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        final NameTable created = createTable(parent, namespace);
+        final NameTable raced = tables.putIfAbsent(key, created);
+        return raced != null ? raced : created;
+    }
+
+    private NameTable createTable(final DataSchemaNode parent, final URI namespace) {
+        final Map<String, Set<URI>> names = new LinkedHashMap<>();
+        collectNames(parent, names);
+
+        final Map<String, Resolution> resolutions = new LinkedHashMap<>();
+        for (Entry<String, Set<URI>> entry : names.entrySet()) {
+            final String localName = entry.getKey();
+            final Set<URI> namespaces = entry.getValue();
+            final URI resolved;
+            if (namespaces.contains(namespace)) {
+                resolved = namespace;
+            } else if (namespaces.size() == 1) {
+                resolved = namespaces.iterator().next();
+            } else {
+                resolved = null;
+            }
+
+            if (resolved != null) {
+                resolutions.put(localName, resolve(parent, localName, localName, resolved, resolutions.size()));
+            } else {
+                resolutions.put(localName, new Resolution(localName, "Choose suitable module name for element "
+                        + localName + ":" + toModuleNames(namespaces), resolutions.size()));
+            }
+
+            for (URI qualified : namespaces) {
+                for (Module module : schemaContext.findModuleByNamespace(qualified)) {
+                    final String name = module.getName() + ':' + localName;
+                    if (!resolutions.containsKey(name)) {
+                        resolutions.put(name, resolve(parent, name, localName, qualified, resolutions.size()));
+                    }
+                }
+            }
+        }
+
+        return new NameTable(new ArrayList<>(resolutions.values()));
+    }
+
+    private static Resolution resolve(final DataSchemaNode parent, final String name, final String localName,
+            final URI namespace, final int ordinal) {
+        final DataSchemaNode[] path = ParserStreamUtils.findSchemaNodeByNameAndNamespace(parent, localName, namespace)
+                .toArray(new DataSchemaNode[0]);
+        final DataSchemaNode child = path[path.length - 1];
+        final boolean streamable = path.length == 1 && !(child instanceof YangModeledAnyXmlSchemaNode)
+                && !isAugmentationChild(parent, child);
+        return new Resolution(name, path, namespace, streamable, ordinal);
+    }
+
+    private static boolean isAugmentationChild(final DataSchemaNode parent, final DataSchemaNode child) {
+        // Mirrors CompositeNodeDataWithSchema: simple nodes are checked only if they are marked as augmenting
+        if ((child instanceof LeafSchemaNode || child instanceof AnyXmlSchemaNode) && !child.isAugmenting()) {
+            return false;
+        }
+        if (parent instanceof AugmentationTarget && !(parent instanceof ChoiceSchemaNode)) {
+            for (AugmentationSchema augmentation : ((AugmentationTarget) parent).getAvailableAugmentations()) {
+                if (augmentation.getDataChildByName(child.getQName()) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String toModuleNames(final Set<URI> namespaces) {
+        final StringBuilder sb = new StringBuilder();
+        for (URI namespace : namespaces) {
+            sb.append('\n').append(schemaContext.findModuleByNamespace(namespace).iterator().next().getName());
+        }
+        return sb.toString();
+    }
+
+    private static void collectNames(final DataSchemaNode node, final Map<String, Set<URI>> names) {
+        if (node instanceof DataNodeContainer) {
+            final Set<ChoiceSchemaNode> choices = new HashSet<>();
+            for (DataSchemaNode child : ((DataNodeContainer) node).getChildNodes()) {
+                if (child instanceof ChoiceSchemaNode) {
+                    choices.add((ChoiceSchemaNode) child);
+                } else {
+                    names.computeIfAbsent(child.getQName().getLocalName(), k -> new LinkedHashSet<>())
+                        .add(child.getQName().getNamespace());
+                }
+            }
+            for (ChoiceSchemaNode choice : choices) {
+                for (ChoiceCaseNode caze : choice.getCases()) {
+                    collectNames(caze, names);
+                }
+            }
+        }
+    }
+}
@@ -10,6 +10,9 @@ package org.opendaylight.yangtools.yang.data.codec.gson;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
+import static org.opendaylight.yangtools.yang.data.codec.gson.JsonParserUtils.isArray;
+import static org.opendaylight.yangtools.yang.data.codec.gson.JsonParserUtils.newArrayEntry;
+import static org.opendaylight.yangtools.yang.data.codec.gson.JsonParserUtils.setValue;
 
 import com.google.common.annotations.Beta;
 import com.google.gson.JsonIOException;
@@ -35,14 +38,9 @@ import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStre
 import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema;
-import org.opendaylight.yangtools.yang.data.util.LeafListEntryNodeDataWithSchema;
-import org.opendaylight.yangtools.yang.data.util.LeafListNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.LeafNodeDataWithSchema;
-import org.opendaylight.yangtools.yang.data.util.ListEntryNodeDataWithSchema;
-import org.opendaylight.yangtools.yang.data.util.ListNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
 import org.opendaylight.yangtools.yang.data.util.RpcAsContainer;
-import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.model.api.ChoiceCaseNode;
 import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
@@ -51,7 +49,6 @@ import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
-import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.YangModeledAnyXmlSchemaNode;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -184,14 +181,14 @@ public final class JsonParserStream implements Closeable, Flushable {
         switch (in.peek()) {
             case STRING:
             case NUMBER:
-                setValue(parent, in.nextString());
+                setValue(codecs, parent, in.nextString());
                 break;
             case BOOLEAN:
-                setValue(parent, Boolean.toString(in.nextBoolean()));
+                setValue(codecs, parent, Boolean.toString(in.nextBoolean()));
                 break;
             case NULL:
                 in.nextNull();
-                setValue(parent, null);
+                setValue(codecs, parent, null);
                 break;
             case BEGIN_ARRAY:
                 in.beginArray();
@@ -254,39 +251,6 @@ public final class JsonParserStream implements Closeable, Flushable {
         }
     }
 
-    private static boolean isArray(final AbstractNodeDataWithSchema parent) {
-        return parent instanceof ListNodeDataWithSchema || parent instanceof LeafListNodeDataWithSchema;
-    }
-
-    private static AbstractNodeDataWithSchema newArrayEntry(final AbstractNodeDataWithSchema parent) {
-        AbstractNodeDataWithSchema newChild;
-        if (parent instanceof ListNodeDataWithSchema) {
-            newChild = new ListEntryNodeDataWithSchema(parent.getSchema());
-        } else if (parent instanceof LeafListNodeDataWithSchema) {
-            newChild = new LeafListEntryNodeDataWithSchema(parent.getSchema());
-        } else {
-            throw new IllegalStateException("Found an unexpected array nested under " + parent.getSchema().getQName());
-        }
-        ((CompositeNodeDataWithSchema) parent).addChild(newChild);
-        return newChild;
-    }
-
-    private void setValue(final AbstractNodeDataWithSchema parent, final String value) {
-        checkArgument(parent instanceof SimpleNodeDataWithSchema, "Node %s is not a simple type",
-                parent.getSchema().getQName());
-        final SimpleNodeDataWithSchema parentSimpleNode = (SimpleNodeDataWithSchema) parent;
-        checkArgument(parentSimpleNode.getValue() == null, "Node '%s' has already set its value to '%s'",
-                parentSimpleNode.getSchema().getQName(), parentSimpleNode.getValue());
-
-        final Object translatedValue = translateValueByType(value, parentSimpleNode.getSchema());
-        parentSimpleNode.setValue(translatedValue);
-    }
-
-    private Object translateValueByType(final String value, final DataSchemaNode node) {
-        checkArgument(node instanceof TypedSchemaNode);
-        return codecs.codecFor((TypedSchemaNode) node).parseValue(null, value);
-    }
-
     private void removeNamespace() {
         namespaces.pop();
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.LeafListEntryNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.LeafListNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.ListEntryNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.ListNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
+
+/**
+ * Node data manipulation shared by {@link JsonParserStream} and {@link JsonStreamingParser}.
+ */
+final class JsonParserUtils {
+    private JsonParserUtils() {
+        throw new UnsupportedOperationException();
+    }
+
+    static boolean isArray(final AbstractNodeDataWithSchema parent) {
+        return parent instanceof ListNodeDataWithSchema || parent instanceof LeafListNodeDataWithSchema;
+    }
+
+    static AbstractNodeDataWithSchema newArrayEntry(final AbstractNodeDataWithSchema parent) {
+        final AbstractNodeDataWithSchema newChild;
+        if (parent instanceof ListNodeDataWithSchema) {
+            newChild = new ListEntryNodeDataWithSchema(parent.getSchema());
+        } else if (parent instanceof LeafListNodeDataWithSchema) {
+            newChild = new LeafListEntryNodeDataWithSchema(parent.getSchema());
+        } else {
+            throw new IllegalStateException("Found an unexpected array nested under " + parent.getSchema().getQName());
+        }
+        ((CompositeNodeDataWithSchema) parent).addChild(newChild);
+        return newChild;
+    }
+
+    static void setValue(final JSONCodecFactory codecs, final AbstractNodeDataWithSchema parent,
+            final String value) {
+        checkArgument(parent instanceof SimpleNodeDataWithSchema, "Node %s is not a simple type",
+                parent.getSchema().getQName());
+        final SimpleNodeDataWithSchema parentSimpleNode = (SimpleNodeDataWithSchema) parent;
+        checkArgument(parentSimpleNode.getValue() == null, "Node '%s' has already set its value to '%s'",
+                parentSimpleNode.getSchema().getQName(), parentSimpleNode.getValue());
+        parentSimpleNode.setValue(translateValueByType(codecs, value, parentSimpleNode.getSchema()));
+    }
+
+    static Object translateValueByType(final JSONCodecFactory codecs, final String value,
+            final DataSchemaNode node) {
+        checkArgument(node instanceof TypedSchemaNode);
+        return codecs.codecFor((TypedSchemaNode) node).parseValue(null, value);
+    }
+}
@@ -0,0 +1,551 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+import static org.opendaylight.yangtools.yang.data.codec.gson.JsonParserUtils.isArray;
+import static org.opendaylight.yangtools.yang.data.codec.gson.JsonParserUtils.newArrayEntry;
+import static org.opendaylight.yangtools.yang.data.codec.gson.JsonParserUtils.setValue;
+import static org.opendaylight.yangtools.yang.data.codec.gson.JsonParserUtils.translateValueByType;
+
+import com.google.common.annotations.Beta;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.transform.dom.DOMSource;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonByteTokenizer.Token;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonNameIndex.NameTable;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonNameIndex.Resolution;
+import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.LeafNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.RpcAsContainer;
+import org.opendaylight.yangtools.yang.model.api.AnyXmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.opendaylight.yangtools.yang.model.api.YangModeledAnyXmlSchemaNode;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * A streaming parser of UTF-8 encoded JSON input. It produces the same results as {@link JsonParserStream}, but rather
+ * than building an intermediate tree of the entire document, it tokenizes input bytes directly and emits events to
+ * a {@link NormalizedNodeStreamWriter} as soon as they are known. Member names are resolved against tables precomputed
+ * for each schema node, without decoding them into Strings.
+ *
+ * <p>
+ * Only data which cannot be emitted in document order is buffered, until the end of its enclosing JSON object:
+ * <ul>
+ *   <li>nodes which are part of a choice or an augmentation, as the writer needs to see them grouped under their
+ *       choice or augmentation node,</li>
+ *   <li>children of a keyed list entry which appear before all of its keys have been seen,</li>
+ *   <li>yang-modeled anyxml nodes and values whose structure does not match their schema node.</li>
+ * </ul>
+ *
+ * <p>
+ * Unlike {@link JsonParserStream}, this class accepts only strict RFC7159 JSON.
+ */
+@Beta
+public final class JsonStreamingParser implements Closeable, Flushable {
+    private final NormalizedNodeStreamWriter writer;
+    private final JSONCodecFactory codecs;
+    private final JsonNameIndex index;
+    private final DataSchemaNode parentNode;
+
+    private JsonStreamingParser(final NormalizedNodeStreamWriter writer, final JSONCodecFactory codecs,
+            final DataSchemaNode parentNode) {
+        this.writer = requireNonNull(writer);
+        this.codecs = requireNonNull(codecs);
+        this.parentNode = requireNonNull(parentNode);
+        this.index = JsonNameIndex.forSchemaContext(codecs.getSchemaContext());
+    }
+
+    public static JsonStreamingParser create(final NormalizedNodeStreamWriter writer,
+            final SchemaContext schemaContext) {
+        return new JsonStreamingParser(writer, JSONCodecFactory.getShared(schemaContext), schemaContext);
+    }
+
+    public static JsonStreamingParser create(final NormalizedNodeStreamWriter writer,
+            final SchemaContext schemaContext, final SchemaNode parentNode) {
+        return create(writer, JSONCodecFactory.getShared(schemaContext), parentNode);
+    }
+
+    public static JsonStreamingParser create(final NormalizedNodeStreamWriter writer, final JSONCodecFactory codecs,
+            final SchemaNode parentNode) {
+        if (parentNode instanceof RpcDefinition) {
+            return new JsonStreamingParser(writer, codecs, new RpcAsContainer((RpcDefinition) parentNode));
+        }
+        checkArgument(parentNode instanceof DataSchemaNode, "Instance of DataSchemaNode class awaited.");
+        return new JsonStreamingParser(writer, codecs, (DataSchemaNode) parentNode);
+    }
+
+    /**
+     * Parse a JSON document from an InputStream. The stream is read up to the end of the document, but it is not
+     * closed.
+     *
+     * @param in UTF-8 encoded input
+     * @return This parser
+     * @throws JsonSyntaxException if the input is not well-formed
+     * @throws JsonIOException if the stream or the writer report an error
+     */
+    public JsonStreamingParser parse(final InputStream in) {
+        return parse(JsonByteTokenizer.create(in));
+    }
+
+    /**
+     * Parse a JSON document from the remaining bytes of a ByteBuffer. Buffers backed by an array are parsed in place.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer UTF-8 encoded input
+     * @return This parser
+     * @throws JsonSyntaxException if the input is not well-formed
+     * @throws JsonIOException if the writer reports an error
+     */
+    public JsonStreamingParser parse(final ByteBuffer buffer) {
+        return parse(JsonByteTokenizer.create(buffer));
+    }
+
+    private JsonStreamingParser parse(final JsonByteTokenizer tokenizer) {
+        try {
+            final Token token = tokenizer.next();
+            if (token == Token.END_DOCUMENT) {
+                return this;
+            }
+            if (token != Token.BEGIN_OBJECT) {
+                throw new JsonSyntaxException("Expected a JSON object, not " + token + " at " + tokenizer);
+            }
+
+            readObject(tokenizer, parentNode, null, null);
+            // Rejects any trailing data
+            tokenizer.next();
+            return this;
+        } catch (final EOFException e) {
+            // The stream ended prematurely so it is likely a syntax error.
+            throw new JsonSyntaxException(e);
+        } catch (final MalformedJsonException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        } catch (final IOException e) {
+            throw new JsonIOException(e);
+        } catch (StackOverflowError | OutOfMemoryError e) {
+            throw new JsonParseException("Failed parsing JSON source: " + tokenizer + " to Json", e);
+        }
+    }
+
+    /**
+     * Read the members of a JSON object whose opening brace has been consumed, emitting them as children of the node
+     * corresponding to schema. The caller is responsible for emitting the start and the end of the node, except for
+     * keyed list entries, which are started once all their keys are known.
+     */
+    private void readObject(final JsonByteTokenizer in, final DataSchemaNode schema, final URI namespace,
+            final MapEntryState entry) throws IOException {
+        final NameTable table = index.tableFor(schema, namespace);
+        final SeenNames seen = new SeenNames();
+        CompositeNodeDataWithSchema deferred = null;
+
+        for (Token token = in.next(); token != Token.END_OBJECT; token = in.next()) {
+            final Resolution child = resolve(in, table, schema, seen);
+            final Token value = in.next();
+
+            final boolean started = entry == null || entry.isStarted();
+            if (!started && entry.offerKey(in, value, child)) {
+                continue;
+            }
+            if (started && child.isStreamable() && isStreamable(child.schema(), value)) {
+                emitChild(in, value, child);
+                continue;
+            }
+
+            if (deferred == null) {
+                deferred = new CompositeNodeDataWithSchema(schema);
+            }
+            readChild(in, value, deferred, child);
+        }
+
+        if (entry != null) {
+            entry.checkStarted();
+        }
+        if (deferred != null) {
+            deferred.write(writer);
+        }
+    }
+
+    private static boolean isStreamable(final DataSchemaNode schema, final Token value) {
+        if (schema instanceof LeafSchemaNode) {
+            return isScalar(value);
+        } else if (schema instanceof ContainerSchemaNode) {
+            return value == Token.BEGIN_OBJECT;
+        } else if (schema instanceof ListSchemaNode) {
+            return value == Token.BEGIN_ARRAY || value == Token.BEGIN_OBJECT;
+        } else if (schema instanceof LeafListSchemaNode) {
+            return value == Token.BEGIN_ARRAY;
+        } else {
+            return schema instanceof AnyXmlSchemaNode;
+        }
+    }
+
+    private void emitChild(final JsonByteTokenizer in, final Token value, final Resolution child) throws IOException {
+        final DataSchemaNode schema = child.schema();
+        if (schema instanceof LeafSchemaNode) {
+            final Object leafValue = translateValueByType(codecs, scalarValue(in, value), schema);
+            writer.nextDataSchemaNode(schema);
+            writer.leafNode(child.identifier(), leafValue);
+        } else if (schema instanceof ContainerSchemaNode) {
+            writer.nextDataSchemaNode(schema);
+            writer.startContainerNode(child.identifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            readObject(in, schema, child.namespace(), null);
+            writer.endNode();
+        } else if (schema instanceof ListSchemaNode) {
+            emitList(in, value, child, (ListSchemaNode) schema);
+        } else if (schema instanceof LeafListSchemaNode) {
+            emitLeafList(in, child, (LeafListSchemaNode) schema);
+        } else {
+            final DOMSource anyxml = readAnyXmlValue(in, value, child);
+            writer.nextDataSchemaNode(schema);
+            writer.anyxmlNode(child.identifier(), anyxml);
+        }
+    }
+
+    private void emitList(final JsonByteTokenizer in, final Token value, final Resolution child,
+            final ListSchemaNode schema) throws IOException {
+        writer.nextDataSchemaNode(schema);
+        if (schema.getKeyDefinition().isEmpty()) {
+            writer.startUnkeyedList(child.identifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else if (schema.isUserOrdered()) {
+            writer.startOrderedMapNode(child.identifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else {
+            writer.startMapNode(child.identifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+
+        if (value == Token.BEGIN_OBJECT) {
+            // Lists with one entry are sometimes serialized without the wrapping array
+            emitListEntry(in, child, schema);
+        } else {
+            for (Token token = in.next(); token != Token.END_ARRAY; token = in.next()) {
+                checkState(token == Token.BEGIN_OBJECT, "Found an unexpected %s nested under %s", token,
+                    schema.getQName());
+                emitListEntry(in, child, schema);
+            }
+        }
+        writer.endNode();
+    }
+
+    private void emitListEntry(final JsonByteTokenizer in, final Resolution child, final ListSchemaNode schema)
+            throws IOException {
+        if (schema.getKeyDefinition().isEmpty()) {
+            writer.nextDataSchemaNode(schema);
+            writer.startUnkeyedListItem(child.identifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            readObject(in, schema, child.namespace(), null);
+        } else {
+            readObject(in, schema, child.namespace(), new MapEntryState(schema));
+        }
+        writer.endNode();
+    }
+
+    private void emitLeafList(final JsonByteTokenizer in, final Resolution child, final LeafListSchemaNode schema)
+            throws IOException {
+        writer.nextDataSchemaNode(schema);
+        if (schema.isUserOrdered()) {
+            writer.startOrderedLeafSet(child.identifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else {
+            writer.startLeafSet(child.identifier(), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+
+        for (Token token = in.next(); token != Token.END_ARRAY; token = in.next()) {
+            checkArgument(isScalar(token), "Node %s is not a simple type", schema.getQName());
+            final Object value = translateValueByType(codecs, scalarValue(in, token), schema);
+            writer.nextDataSchemaNode(schema);
+            writer.leafSetEntryNode(schema.getQName(), value);
+        }
+        writer.endNode();
+    }
+
+    /*
+     * Buffered parsing, this mirrors JsonParserStream.read().
+     */
+    private void readChild(final JsonByteTokenizer in, final Token value, final AbstractNodeDataWithSchema parent,
+            final Resolution child) throws IOException {
+        checkState(parent instanceof CompositeNodeDataWithSchema, "Node %s cannot have children",
+            parent.getSchema().getQName());
+        final AbstractNodeDataWithSchema newChild = ((CompositeNodeDataWithSchema) parent).addChild(child.newPath());
+        if (newChild instanceof AnyXmlNodeDataWithSchema) {
+            ((AnyXmlNodeDataWithSchema) newChild).setValue(readAnyXmlValue(in, value, child));
+        } else {
+            read(in, value, newChild, child.namespace());
+        }
+    }
+
+    private void read(final JsonByteTokenizer in, final Token token, final AbstractNodeDataWithSchema parent,
+            final URI namespace) throws IOException {
+        switch (token) {
+            case STRING:
+            case NUMBER:
+            case TRUE:
+            case FALSE:
+            case NULL:
+                setValue(codecs, parent, scalarValue(in, token));
+                break;
+            case BEGIN_ARRAY:
+                for (Token next = in.next(); next != Token.END_ARRAY; next = in.next()) {
+                    read(in, next, parent instanceof LeafNodeDataWithSchema ? parent : newArrayEntry(parent),
+                        namespace);
+                }
+                break;
+            case BEGIN_OBJECT:
+                final AbstractNodeDataWithSchema object = isArray(parent) ? newArrayEntry(parent) : parent;
+                DataSchemaNode schema = object.getSchema();
+                if (schema instanceof YangModeledAnyXmlSchemaNode) {
+                    schema = ((YangModeledAnyXmlSchemaNode) schema).getSchemaOfAnyXmlData();
+                }
+
+                final NameTable table = index.tableFor(schema, namespace);
+                final SeenNames seen = new SeenNames();
+                for (Token next = in.next(); next != Token.END_OBJECT; next = in.next()) {
+                    final Resolution child = resolve(in, table, schema, seen);
+                    readChild(in, in.next(), object, child);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected token " + token + " at " + in);
+        }
+    }
+
+    private static boolean isScalar(final Token token) {
+        switch (token) {
+            case STRING:
+            case NUMBER:
+            case TRUE:
+            case FALSE:
+            case NULL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static String scalarValue(final JsonByteTokenizer in, final Token token) throws IOException {
+        switch (token) {
+            case STRING:
+            case NUMBER:
+                return in.stringValue();
+            case TRUE:
+                return Boolean.TRUE.toString();
+            case FALSE:
+                return Boolean.FALSE.toString();
+            default:
+                return null;
+        }
+    }
+
+    private Resolution resolve(final JsonByteTokenizer in, final NameTable table, final DataSchemaNode parent,
+            final SeenNames seen) throws IOException {
+        Resolution resolution = in.isEscaped() ? table.lookup(in.stringValue())
+                : table.lookup(in.buffer(), in.tokenStart(), in.tokenLength());
+        if (resolution == null) {
+            resolution = resolveUnknown(in.stringValue(), table, parent);
+        }
+
+        resolution.checkValid();
+        if (!seen.add(resolution.ordinal())) {
+            throw new JsonSyntaxException("Duplicate name " + resolution.name() + " in JSON input.");
+        }
+        return resolution;
+    }
+
+    // Slow path for names not present in the table, reporting the same errors as JsonParserStream
+    private Resolution resolveUnknown(final String name, final NameTable table, final DataSchemaNode parent) {
+        final int colon = name.lastIndexOf(':');
+        String localName = name;
+        if (colon != -1) {
+            localName = name.substring(colon + 1);
+            final Module module = index.getSchemaContext().findModuleByName(name.substring(0, colon), null);
+            checkState(module == null, "Schema for node with name %s and namespace %s does not exist.", localName,
+                module == null ? null : module.getNamespace());
+
+            // Unknown module, fall back to resolving the local name
+            final Resolution resolution = table.lookup(localName);
+            if (resolution != null) {
+                return resolution;
+            }
+        }
+        throw new IllegalStateException("Schema node with name " + localName + " was not found under "
+                + parent.getQName() + ".");
+    }
+
+    private static DOMSource readAnyXmlValue(final JsonByteTokenizer in, final Token token, final Resolution child)
+            throws IOException {
+        final Document doc = UntrustedXML.newDocumentBuilder().newDocument();
+        final Element rootElement = doc.createElementNS(child.namespace().toString(), child.name());
+        doc.appendChild(rootElement);
+        traverseAnyXmlValue(in, token, doc, rootElement);
+        return new DOMSource(doc.getDocumentElement());
+    }
+
+    private static void traverseAnyXmlValue(final JsonByteTokenizer in, final Token token, final Document doc,
+            final Element parentElement) throws IOException {
+        switch (token) {
+            case STRING:
+            case NUMBER:
+            case TRUE:
+            case FALSE:
+                parentElement.appendChild(doc.createTextNode(scalarValue(in, token)));
+                break;
+            case NULL:
+                parentElement.appendChild(doc.createTextNode("null"));
+                break;
+            case BEGIN_ARRAY:
+                for (Token next = in.next(); next != Token.END_ARRAY; next = in.next()) {
+                    final Element childElement = doc.createElement(JsonParserStream.ANYXML_ARRAY_ELEMENT_ID);
+                    parentElement.appendChild(childElement);
+                    traverseAnyXmlValue(in, next, doc, childElement);
+                }
+                break;
+            case BEGIN_OBJECT:
+                for (Token next = in.next(); next != Token.END_OBJECT; next = in.next()) {
+                    final Element childElement = doc.createElement(in.stringValue());
+                    parentElement.appendChild(childElement);
+                    traverseAnyXmlValue(in, in.next(), doc, childElement);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+        writer.close();
+    }
+
+    /**
+     * Set of member names seen in a JSON object, tracked by their {@link Resolution#ordinal()}.
+     */
+    private static final class SeenNames {
+        private long bits;
+        private BitSet overflow;
+
+        boolean add(final int ordinal) {
+            if (ordinal < 0) {
+                return true;
+            }
+            if (ordinal < Long.SIZE) {
+                final long bit = 1L << ordinal;
+                if ((bits & bit) != 0) {
+                    return false;
+                }
+                bits |= bit;
+                return true;
+            }
+
+            if (overflow == null) {
+                overflow = new BitSet();
+            }
+            if (overflow.get(ordinal)) {
+                return false;
+            }
+            overflow.set(ordinal);
+            return true;
+        }
+    }
+
+    /**
+     * State of a keyed list entry. Its start is emitted as soon as all of its keys have been seen.
+     */
+    private final class MapEntryState {
+        private final ListSchemaNode schema;
+        private final List<QName> keyDef;
+        private final LeafSchemaNode[] keySchemas;
+        private final Object[] keyValues;
+        private int remaining;
+        private boolean started;
+
+        MapEntryState(final ListSchemaNode schema) {
+            this.schema = schema;
+            this.keyDef = schema.getKeyDefinition();
+            this.keySchemas = new LeafSchemaNode[keyDef.size()];
+            this.keyValues = new Object[keyDef.size()];
+            this.remaining = keyDef.size();
+        }
+
+        boolean isStarted() {
+            return started;
+        }
+
+        boolean offerKey(final JsonByteTokenizer in, final Token value, final Resolution child) throws IOException {
+            final DataSchemaNode childSchema = child.schema();
+            if (!(childSchema instanceof LeafSchemaNode) || !child.isStreamable() || !isScalar(value)) {
+                return false;
+            }
+            final int offset = keyDef.indexOf(childSchema.getQName());
+            if (offset == -1) {
+                return false;
+            }
+
+            checkArgument(keySchemas[offset] == null, "Node '%s' has already set its value to '%s'",
+                childSchema.getQName(), keyValues[offset]);
+            keySchemas[offset] = (LeafSchemaNode) childSchema;
+            keyValues[offset] = translateValueByType(codecs, scalarValue(in, value), childSchema);
+            if (--remaining == 0) {
+                start();
+            }
+            return true;
+        }
+
+        void checkStarted() {
+            checkState(started, "Input is missing some of the keys of %s", schema.getQName());
+        }
+
+        private void start() throws IOException {
+            final Map<QName, Object> predicates = new LinkedHashMap<>();
+            for (int i = 0; i < keyValues.length; ++i) {
+                predicates.put(keyDef.get(i), keyValues[i]);
+            }
+
+            writer.nextDataSchemaNode(schema);
+            writer.startMapEntryNode(new NodeIdentifierWithPredicates(schema.getQName(), predicates),
+                NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            for (int i = 0; i < keyValues.length; ++i) {
+                writer.nextDataSchemaNode(keySchemas[i]);
+                writer.leafNode(NodeIdentifier.create(keyDef.get(i)), keyValues[i]);
+            }
+            started = true;
+        }
+    }
+}
@@ -23,6 +23,13 @@ final class NumberJSONCodec<T extends Number> extends AbstractJSONCodec<T> {
 
     @Override
     public void writeValue(final JsonWriter ctx, final T value) throws IOException {
-        ctx.value(value);
+        // Integral values do not need to go through the NaN/Infinity checks of JsonWriter.value(Number)
+        final Class<?> valueClass = value.getClass();
+        if (valueClass == Long.class || valueClass == Integer.class || valueClass == Short.class
+                || valueClass == Byte.class) {
+            ctx.value(value.longValue());
+        } else {
+            ctx.value(value);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.opendaylight.yangtools.yang.data.codec.gson.TestUtils.loadTextFile;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Optional;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.AnyXmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class JsonStreamingParserTest {
+    private static final QName CONT_1 = QName.create("ns:complex:json", "2014-08-11", "cont1");
+    private static final QName LST_11 = QName.create(CONT_1, "lst11");
+    private static final QName LFLST_11 = QName.create(CONT_1, "lflst11");
+
+    private static SchemaContext schemaContext;
+
+    @BeforeClass
+    public static void initialization() {
+        schemaContext = YangParserTestUtils.parseYangResourceDirectory("/complexjson/yang");
+    }
+
+    @Test
+    public void testSameAsJsonParserStream() throws IOException, URISyntaxException {
+        for (String file : new String[] {
+            "anyxml-node-with-composite-value-in-container.json",
+            "anyxml-node-with-simple-value-in-container.json",
+            "case-node-augmentation-in-choice-in-container.json",
+            "case-node-external-augmentation-in-choice-in-container.json",
+            "choice-node-augmentation-in-container.json",
+            "choice-node-in-container.json",
+            "complex-json.json",
+            "keyed-list-node-in-container.json",
+            "leaf-node-in-container.json",
+            "leaf-node-via-augmentation-in-container.json",
+            "leaflist-node-in-container.json",
+            "missing-module-in-top-level.json",
+            "multiple-choice-augmentation-in-container.json",
+            "type-empty.json",
+            "unkeyed-node-in-container.json",
+        }) {
+            verifySameResult(schemaContext, schemaContext, loadTextFile("/complexjson/" + file));
+        }
+    }
+
+    @Test
+    public void testSameAsJsonParserStreamWithParent() throws IOException, URISyntaxException {
+        final SchemaNode parentNode = schemaContext.getDataChildByName(CONT_1);
+        verifySameResult(schemaContext, parentNode, loadTextFile("/complexjson/keyed-list-restconf-behaviour.json"));
+        verifySameResult(schemaContext, parentNode, loadTextFile("/complexjson/keyed-list-yang-json-behaviour.json"));
+    }
+
+    @Test
+    public void testSameAsJsonParserStreamOtherModels() throws IOException, URISyntaxException {
+        final SchemaContext bug4969 = YangParserTestUtils.parseYangResourceDirectory("/bug-4969/yang");
+        verifySameResult(bug4969, bug4969, loadTextFile("/bug-4969/json/foo.json"));
+
+        final SchemaContext leafref = YangParserTestUtils.parseYangResourceDirectory("/leafref/yang");
+        verifySameResult(leafref, leafref, loadTextFile("/leafref/json/data.json"));
+
+        final SchemaContext bug6112 = YangParserTestUtils.parseYangResourceDirectory("/bug-6112/yang");
+        verifySameResult(bug6112, bug6112, loadTextFile("/bug-6112/json/data-identityref.json"));
+        verifySameResult(bug6112, bug6112, loadTextFile("/bug-6112/json/data-uint8.json"));
+    }
+
+    @Test
+    public void testKeysAfterOtherChildren() {
+        final NormalizedNode<?, ?> result = parse(schemaContext, schemaContext, "{\"complexjson:cont1\":{\"lst11\":["
+                + "{\"lf113\":\"value\",\"lf111\":\"k2\",\"key111\":\"k1\"}]}}");
+        final MapNode list = (MapNode) ((ContainerNode) result).getChild(NodeIdentifier.create(LST_11)).get();
+        final MapEntryNode entry = list.getValue().iterator().next();
+        assertEquals(3, entry.getValue().size());
+        assertEquals("k1", entry.getIdentifier().getKeyValues().get(QName.create(CONT_1, "key111")));
+        assertEquals("k2", entry.getIdentifier().getKeyValues().get(QName.create(CONT_1, "lf111")));
+    }
+
+    @Test
+    public void testEscapedStrings() {
+        final String json = "{\"complexjson:cont1\":{\"lflst\\u0031\\u0031\":["
+                + "\"a\\\"b\\\\c\\u00e9\\ud83d\\ude00\\n\"]}}";
+        final NormalizedNode<?, ?> result = parse(schemaContext, schemaContext, json);
+        final LeafSetNode<?> leafSet = (LeafSetNode<?>) ((ContainerNode) result).getChild(
+            NodeIdentifier.create(LFLST_11)).get();
+        assertEquals("a\"b\\cé😀\n", leafSet.getValue().iterator().next().getValue());
+        verifySameResult(schemaContext, schemaContext, json);
+    }
+
+    @Test
+    public void testEmptyInput() {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        JsonStreamingParser.create(ImmutableNormalizedNodeStreamWriter.from(result), schemaContext)
+            .parse(ByteBuffer.wrap(" \n".getBytes(StandardCharsets.UTF_8)));
+        assertNull(result.getResult());
+    }
+
+    @Test
+    public void testNamesakes() throws IOException, URISyntaxException {
+        try {
+            parse(schemaContext, schemaContext, loadTextFile("/complexjson/namesakes.json"));
+            fail("Expected exception not raised");
+        } catch (final IllegalStateException e) {
+            final String errorMessage = e.getMessage();
+            assertTrue(errorMessage.contains("Choose suitable module name for element lf11-namesake:"));
+            assertTrue(errorMessage.contains("complexjson-augmentation"));
+            assertTrue(errorMessage.contains("complexjson-augmentation-namesake"));
+        }
+    }
+
+    @Test
+    public void testNotExistingElement() throws IOException, URISyntaxException {
+        try {
+            parse(schemaContext, schemaContext, loadTextFile("/complexjson/not-existing-element.json"));
+            fail("Expected exception not raised");
+        } catch (final IllegalStateException e) {
+            assertTrue(e.getMessage().contains("Schema node with name dummy-element was not found"));
+        }
+    }
+
+    @Test
+    public void testDuplicateName() {
+        try {
+            parse(schemaContext, schemaContext, "{\"complexjson:cont1\":{\"lf13\":\"a\",\"lf13\":\"b\"}}");
+            fail("Expected exception not raised");
+        } catch (final JsonSyntaxException e) {
+            assertTrue(e.getMessage().contains("Duplicate name lf13"));
+        }
+    }
+
+    @Test
+    public void testMalformedInput() {
+        for (String json : new String[] {
+            "{\"complexjson:cont1\":{\"lf13\":\"a\"}",
+            "{\"complexjson:cont1\":{\"lf13\" \"a\"}}",
+            "{\"complexjson:cont1\":{\"lf13\":tru}}",
+            "{\"complexjson:cont1\":{}}}",
+            "[]",
+        }) {
+            try {
+                parse(schemaContext, schemaContext, json);
+                fail("Expected exception not raised for " + json);
+            } catch (final JsonSyntaxException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void testNumbers() {
+        for (String number : new String[] { "0", "7", "-7", "1234" }) {
+            verifySameResult(schemaContext, schemaContext, "{\"complexjson:cont1\":{\"lf11\":" + number + "}}");
+        }
+    }
+
+    @Test
+    public void testMalformedNumbers() {
+        for (String number : new String[] {
+            "--1", "-", "+1", "01", "-01", "1.", "1.e5", ".5", "1e", "1e+", "1E-", "1e5e5", "1.2.3", "0x1",
+        }) {
+            final String json = "{\"complexjson:cont1\":{\"lf11\":" + number + "}}";
+            try {
+                parse(schemaContext, schemaContext, json);
+                fail("Expected exception not raised for " + number);
+            } catch (final JsonSyntaxException e) {
+                // Must be rejected by the tokenizer, not by the codec
+                assertTrue(number, e.getCause() instanceof MalformedJsonException);
+            }
+        }
+    }
+
+    @Test
+    public void testErrorOffsetInSlicedBuffer() {
+        final byte[] bytes = "xxxxx{\"complexjson:cont1\":{\"lf11\":01}}".getBytes(StandardCharsets.UTF_8);
+
+        // Non-zero position
+        assertErrorOffset(ByteBuffer.wrap(bytes, 5, bytes.length - 5), 30);
+
+        // Non-zero array offset
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(5);
+        assertErrorOffset(buffer.slice(), 30);
+    }
+
+    private static void assertErrorOffset(final ByteBuffer buffer, final int offset) {
+        try {
+            JsonStreamingParser.create(ImmutableNormalizedNodeStreamWriter.from(new NormalizedNodeResult()),
+                schemaContext).parse(buffer);
+            fail("Expected exception not raised");
+        } catch (final JsonSyntaxException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("at offset " + offset));
+        }
+    }
+
+    private static void verifySameResult(final SchemaContext context, final SchemaNode parentNode,
+            final String json) {
+        final NormalizedNodeResult expected = new NormalizedNodeResult();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(expected), context, parentNode)
+            .parse(new JsonReader(new StringReader(json)));
+
+        assertSameNode(expected.getResult(), parse(context, parentNode, json));
+
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        final NormalizedNodeResult fromDirect = new NormalizedNodeResult();
+        JsonStreamingParser.create(ImmutableNormalizedNodeStreamWriter.from(fromDirect), context, parentNode)
+            .parse(direct);
+        assertSameNode(expected.getResult(), fromDirect.getResult());
+
+        // Feed the input one byte at a time, so tokens are split across buffer refills
+        final InputStream trickle = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(final byte[] buf, final int off, final int len) throws IOException {
+                return super.read(buf, off, Math.min(len, 1));
+            }
+        };
+        final NormalizedNodeResult fromStream = new NormalizedNodeResult();
+        JsonStreamingParser.create(ImmutableNormalizedNodeStreamWriter.from(fromStream), context, parentNode)
+            .parse(trickle);
+        assertSameNode(expected.getResult(), fromStream.getResult());
+    }
+
+    private static NormalizedNode<?, ?> parse(final SchemaContext context, final SchemaNode parentNode,
+            final String json) {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        JsonStreamingParser.create(ImmutableNormalizedNodeStreamWriter.from(result), context, parentNode)
+            .parse(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+        return result.getResult();
+    }
+
+    // AnyXmlNodes do not compare their DOMSource values, hence we need to walk the trees
+    private static void assertSameNode(final NormalizedNode<?, ?> expected, final NormalizedNode<?, ?> actual) {
+        assertEquals(expected.getIdentifier(), actual.getIdentifier());
+        if (expected instanceof AnyXmlNode) {
+            assertTrue(actual instanceof AnyXmlNode);
+            assertTrue(((AnyXmlNode) expected).getValue().getNode().isEqualNode(
+                ((AnyXmlNode) actual).getValue().getNode()));
+        } else if (expected instanceof NormalizedNodeContainer) {
+            assertTrue(actual instanceof NormalizedNodeContainer);
+            @SuppressWarnings("unchecked")
+            final NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> actualContainer =
+                    (NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>>) actual;
+            final Collection<?> expectedChildren = ((NormalizedNodeContainer<?, ?, ?>) expected).getValue();
+            assertEquals(expectedChildren.size(), actualContainer.getValue().size());
+            for (Object child : expectedChildren) {
+                final NormalizedNode<?, ?> expectedChild = (NormalizedNode<?, ?>) child;
+                final Optional<NormalizedNode<?, ?>> actualChild =
+                        actualContainer.getChild(expectedChild.getIdentifier());
+                assertTrue("Missing " + expectedChild.getIdentifier(), actualChild.isPresent());
+                assertSameNode(expectedChild, actualChild.get());
+            }
+        } else {
+            assertEquals(expected, actual);
+        }
+    }
+}
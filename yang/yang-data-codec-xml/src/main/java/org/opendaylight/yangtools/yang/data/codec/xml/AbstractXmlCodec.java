@@ -40,4 +40,8 @@ abstract class AbstractXmlCodec<T> implements XmlCodec<T> {
     final String serialize(final T input) {
         return codec.serialize(input);
     }
+
+    final DataStringCodec<T> dataCodec() {
+        return codec;
+    }
 }
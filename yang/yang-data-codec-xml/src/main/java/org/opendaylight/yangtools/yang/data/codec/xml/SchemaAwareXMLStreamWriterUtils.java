@@ -15,17 +15,30 @@ import java.util.Map.Entry;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.impl.codec.DataStringCodec;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
 import org.opendaylight.yangtools.yang.model.util.SchemaContextUtil;
 
 final class SchemaAwareXMLStreamWriterUtils extends XMLStreamWriterUtils {
     private final SchemaContext schemaContext;
+    private final XmlCodecFactory codecs;
 
     SchemaAwareXMLStreamWriterUtils(final SchemaContext schemaContext) {
         this.schemaContext = requireNonNull(schemaContext);
+        this.codecs = XmlCodecFactory.getPrecomputedIfAvailable(schemaContext)
+                .orElseGet(() -> XmlCodecFactory.getShared(schemaContext));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    DataStringCodec<Object> simpleCodecFor(final TypedSchemaNode schemaNode) {
+        // Codecs which need the namespace context, like identityref and instance-identifier, are handled by type
+        final XmlCodec<?> codec = codecs.codecFor(schemaNode);
+        return codec instanceof AbstractXmlCodec ? ((AbstractXmlCodec<Object>) codec).dataCodec() : null;
     }
 
     @Override
@@ -10,8 +10,10 @@ package org.opendaylight.yangtools.yang.data.codec.xml;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.impl.codec.DataStringCodec;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
 
 final class SchemalessXMLStreamWriterUtils extends XMLStreamWriterUtils {
@@ -21,6 +23,11 @@ final class SchemalessXMLStreamWriterUtils extends XMLStreamWriterUtils {
         // Hidden on purpose
     }
 
+    @Override
+    DataStringCodec<Object> simpleCodecFor(final TypedSchemaNode schemaNode) {
+        return null;
+    }
+
     @Override
     TypeDefinition<?> getBaseTypeForLeafRef(final SchemaNode schemaNode, final LeafrefTypeDefinition type) {
         return type;
@@ -13,11 +13,13 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Map.Entry;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.impl.codec.DataStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
@@ -72,7 +74,14 @@ abstract class XMLStreamWriterUtils {
             "Unable to write value for node %s, only nodes of type: leaf and leaf-list can be written at this point",
             schemaNode.getQName());
 
-        TypeDefinition<?> type = ((TypedSchemaNode) schemaNode).getType();
+        final TypedSchemaNode typedSchema = (TypedSchemaNode) schemaNode;
+        final DataStringCodec<Object> simpleCodec = simpleCodecFor(typedSchema);
+        if (simpleCodec != null) {
+            writer.writeCharacters(serialize(simpleCodec, typedSchema.getType(), value));
+            return;
+        }
+
+        TypeDefinition<?> type = typedSchema.getType();
         if (type instanceof LeafrefTypeDefinition) {
             type = getBaseTypeForLeafRef(schemaNode, (LeafrefTypeDefinition) type);
         }
@@ -104,15 +113,9 @@ abstract class XMLStreamWriterUtils {
             write(writer, (InstanceIdentifierTypeDefinition) type, value);
         } else {
             final TypeDefinitionAwareCodec<Object, ?> codec = TypeDefinitionAwareCodec.from(type);
-            String text;
+            final String text;
             if (codec != null) {
-                try {
-                    text = codec.serialize(value);
-                } catch (ClassCastException e) {
-                    LOG.warn("Provided node value {} did not have type {} required by mapping. Using stream instead.",
-                            value, type, e);
-                    text = String.valueOf(value);
-                }
+                text = serialize(codec, type, value);
             } else {
                 LOG.warn("Failed to find codec for {}, falling back to using stream", type);
                 text = String.valueOf(value);
@@ -121,6 +124,17 @@ abstract class XMLStreamWriterUtils {
         }
     }
 
+    private static String serialize(final DataStringCodec<Object> codec, final TypeDefinition<?> type,
+            final Object value) {
+        try {
+            return codec.serialize(value);
+        } catch (ClassCastException e) {
+            LOG.warn("Provided node value {} did not have type {} required by mapping. Using stream instead.",
+                    value, type, e);
+            return String.valueOf(value);
+        }
+    }
+
     @VisibleForTesting
     static void write(@Nonnull final XMLStreamWriter writer, @Nonnull final IdentityrefTypeDefinition type,
                       @Nonnull final Object value, final QNameModule parent) throws XMLStreamException {
@@ -155,6 +169,14 @@ abstract class XMLStreamWriterUtils {
         }
     }
 
+    /**
+     * Return a codec for a schema node whose values are serialized without any context, such as namespace prefixes.
+     *
+     * @param schemaNode Schema node
+     * @return A codec, or null if the value needs to be serialized by type
+     */
+    @Nullable abstract DataStringCodec<Object> simpleCodecFor(TypedSchemaNode schemaNode);
+
     abstract TypeDefinition<?> getBaseTypeForLeafRef(SchemaNode schemaNode, LeafrefTypeDefinition type);
 
     abstract void writeInstanceIdentifier(XMLStreamWriter writer, YangInstanceIdentifier value)
@@ -9,8 +9,13 @@
 package org.opendaylight.yangtools.yang.data.codec.xml;
 
 import com.google.common.annotations.Beta;
+import com.google.common.base.Stopwatch;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import java.util.List;
-import javax.annotation.concurrent.ThreadSafe;
+import java.util.Optional;
+import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.data.impl.codec.AbstractIntegerStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.BinaryStringCodec;
@@ -20,8 +25,19 @@ import org.opendaylight.yangtools.yang.data.impl.codec.DecimalStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.EnumStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.StringStringCodec;
 import org.opendaylight.yangtools.yang.data.util.codec.AbstractCodecFactory;
+import org.opendaylight.yangtools.yang.data.util.codec.CodecCache;
+import org.opendaylight.yangtools.yang.data.util.codec.LazyCodecCache;
+import org.opendaylight.yangtools.yang.data.util.codec.NoopCodecCache;
+import org.opendaylight.yangtools.yang.data.util.codec.PrecomputedCodecCache;
 import org.opendaylight.yangtools.yang.data.util.codec.SharedCodecCache;
+import org.opendaylight.yangtools.yang.model.api.ChoiceCaseNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.type.BinaryTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
@@ -35,13 +51,86 @@ import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.UnknownTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.UnsignedIntegerTypeDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Factory for creating XML equivalents of codecs. Each instance of this object is bound to a particular
+ * {@link SchemaContext}, but can be reused by multiple {@link XmlParserStream}s and {@link XmlStreamingParser}s.
+ *
+ * <p>
+ * There are multiple implementations available, each with distinct thread-safety, CPU/memory trade-offs and reuse
+ * characteristics. See {@link #getShared(SchemaContext)}, {@link #getPrecomputed(SchemaContext)},
+ * {@link #createLazy(SchemaContext)} and {@link #createSimple(SchemaContext)} for details.
+ */
 @Beta
-@ThreadSafe
 public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
+    private static final class EagerCacheLoader extends CacheLoader<SchemaContext, XmlCodecFactory> {
+        @Override
+        public XmlCodecFactory load(@Nonnull final SchemaContext key) {
+            final Stopwatch sw = Stopwatch.createStarted();
+            final LazyCodecCache<XmlCodec<?>> lazyCache = new LazyCodecCache<>();
+            final XmlCodecFactory lazy = new XmlCodecFactory(key, lazyCache);
+            int visitedLeaves = requestCodecsForChildren(lazy, key);
+            // XML is the NETCONF encoding, hence operation and notification payloads are as common as data
+            for (RpcDefinition rpc : key.getOperations()) {
+                visitedLeaves += requestCodecsForChildren(lazy, rpc.getInput());
+                visitedLeaves += requestCodecsForChildren(lazy, rpc.getOutput());
+            }
+            for (NotificationDefinition notification : key.getNotifications()) {
+                visitedLeaves += requestCodecsForChildren(lazy, notification);
+            }
+            sw.stop();
+
+            final PrecomputedCodecCache<XmlCodec<?>> cache = lazyCache.toPrecomputed();
+            LOG.debug("{} leaf nodes resulted in {} simple and {} complex codecs in {}", visitedLeaves,
+                cache.simpleSize(), cache.complexSize(), sw);
+            return new XmlCodecFactory(key, cache);
+        }
+
+        private static int requestCodecsForChildren(final XmlCodecFactory lazy, final DataNodeContainer parent) {
+            if (parent == null) {
+                return 0;
+            }
+
+            int ret = 0;
+            for (DataSchemaNode child : parent.getChildNodes()) {
+                if (child instanceof TypedSchemaNode) {
+                    lazy.codecFor((TypedSchemaNode) child);
+                    ++ret;
+                } else if (child instanceof DataNodeContainer) {
+                    ret += requestCodecsForChildren(lazy, (DataNodeContainer) child);
+                } else if (child instanceof ChoiceSchemaNode) {
+                    for (ChoiceCaseNode caze : ((ChoiceSchemaNode) child).getCases()) {
+                        ret += requestCodecsForChildren(lazy, caze);
+                    }
+                }
+            }
+
+            return ret;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(XmlCodecFactory.class);
+
+    // Weak keys to retire the entry when SchemaContext goes away
+    private static final LoadingCache<SchemaContext, XmlCodecFactory> PRECOMPUTED = CacheBuilder.newBuilder()
+            .weakKeys().build(new EagerCacheLoader());
+
+    // Weak keys to retire the entry when SchemaContext goes away and to force identity-based lookup
+    private static final LoadingCache<SchemaContext, XmlCodecFactory> SHARED = CacheBuilder.newBuilder()
+            .weakKeys().build(new CacheLoader<SchemaContext, XmlCodecFactory>() {
+                @Override
+                public XmlCodecFactory load(@Nonnull final SchemaContext key) {
+                    return new XmlCodecFactory(key, new SharedCodecCache<>());
+                }
+            });
+
+    private final XmlCodec<?> iidCodec;
 
-    private XmlCodecFactory(final SchemaContext context) {
-        super(context, new SharedCodecCache<>());
+    XmlCodecFactory(final SchemaContext context, final CodecCache<XmlCodec<?>> cache) {
+        super(context, cache);
+        iidCodec = new XmlStringInstanceIdentifierCodec(context, this);
     }
 
     /**
@@ -49,9 +138,103 @@ public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
      *
      * @param context SchemaContext to which the factory should be bound
      * @return A codec factory instance.
+     *
+     * @deprecated Use {@link #getShared(SchemaContext)} instead.
      */
+    @Deprecated
     public static XmlCodecFactory create(final SchemaContext context) {
-        return new XmlCodecFactory(context);
+        return getShared(context);
+    }
+
+    /**
+     * Get a thread-safe, eagerly-caching {@link XmlCodecFactory} for a SchemaContext. This method can, and will,
+     * return the same instance as long as the associated SchemaContext is present. Returned object can be safely
+     * used by multiple threads concurrently. If the SchemaContext instance does not have a cached instance
+     * of {@link XmlCodecFactory}, it will be completely precomputed before this method will return.
+     *
+     * <p>
+     * Choosing this implementation is appropriate when the memory overhead of keeping a full codec tree is not as
+     * great a concern as predictable performance. When compared to the implementation returned by
+     * {@link #getShared(SchemaContext)}, this implementation is expected to offer higher performance and have lower
+     * peak memory footprint when most of the SchemaContext is actually in use.
+     *
+     * <p>
+     * For call sites which do not want to pay the CPU cost of pre-computing this implementation, but still would like
+     * to use it if is available (by being populated by some other caller), you can use
+     * {@link #getPrecomputedIfAvailable(SchemaContext)}.
+     *
+     * @param context SchemaContext instance
+     * @return A sharable {@link XmlCodecFactory}
+     * @throws NullPointerException if context is null
+     */
+    public static XmlCodecFactory getPrecomputed(final SchemaContext context) {
+        return PRECOMPUTED.getUnchecked(context);
+    }
+
+    /**
+     * Get a thread-safe, eagerly-caching {@link XmlCodecFactory} for a SchemaContext, if it is available. This
+     * method is a non-blocking equivalent of {@link #getPrecomputed(SchemaContext)} for use in code paths where
+     * the potential of having to pre-compute the implementation is not acceptable. One such scenario is when the
+     * code base wants to opportunistically take advantage of pre-computed version, but is okay with a fallback to
+     * a different implementation.
+     *
+     * @param context SchemaContext instance
+     * @return A sharable {@link XmlCodecFactory}, or absent if such an implementation is not available.
+     * @throws NullPointerException if context is null
+     */
+    public static Optional<XmlCodecFactory> getPrecomputedIfAvailable(final SchemaContext context) {
+        return Optional.ofNullable(PRECOMPUTED.getIfPresent(context));
+    }
+
+    /**
+     * Get a thread-safe, lazily-caching {@link XmlCodecFactory} for a SchemaContext. This method can, and will,
+     * return the same instance as long as the associated SchemaContext is present or the factory is not invalidated
+     * by memory pressure. Returned object can be safely used by multiple threads concurrently.
+     *
+     * <p>
+     * Choosing this implementation is a safe default, as it will not incur prohibitive blocking, nor will it tie up
+     * memory in face of pressure.
+     *
+     * @param context SchemaContext instance
+     * @return A sharable {@link XmlCodecFactory}
+     * @throws NullPointerException if context is null
+     */
+    public static XmlCodecFactory getShared(final SchemaContext context) {
+        return SHARED.getUnchecked(context);
+    }
+
+    /**
+     * Create a new thread-unsafe, lazily-caching {@link XmlCodecFactory} for a SchemaContext. This method will
+     * return distinct objects every time it is invoked. Returned object may not be used from multiple threads
+     * concurrently.
+     *
+     * <p>
+     * This implementation is appropriate for one-off serialization from a single thread. It will aggressively cache
+     * codecs for reuse and will tie them up in memory until the factory is freed.
+     *
+     * @param context SchemaContext instance
+     * @return A non-sharable {@link XmlCodecFactory}
+     * @throws NullPointerException if context is null
+     */
+    public static XmlCodecFactory createLazy(final SchemaContext context) {
+        return new XmlCodecFactory(context, new LazyCodecCache<>());
+    }
+
+    /**
+     * Create a simplistic, thread-safe {@link XmlCodecFactory} for a {@link SchemaContext}. This method will return
+     * distinct objects every time it is invoked. Returned object may be use from multiple threads concurrently.
+     *
+     * <p>
+     * This implementation exists mostly for completeness only, as it does not perform any caching at all and each codec
+     * is computed every time it is requested. This may be useful in extremely constrained environments, where memory
+     * footprint is more critical than performance.
+     *
+     * @param context SchemaContext instance
+     * @return A non-sharable {@link XmlCodecFactory}
+     * @throws NullPointerException if context is null.
+     */
+    public static XmlCodecFactory createSimple(final SchemaContext context) {
+        return new XmlCodecFactory(context, NoopCodecCache.getInstance());
     }
 
     @Override
@@ -86,7 +269,7 @@ public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
 
     @Override
     protected XmlCodec<?> instanceIdentifierCodec(final InstanceIdentifierTypeDefinition type) {
-        return new XmlStringInstanceIdentifierCodec(getSchemaContext(), this);
+        return iidCodec;
     }
 
     @Override
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
+import org.opendaylight.yangtools.yang.model.api.AnyXmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.AugmentationSchema;
+import org.opendaylight.yangtools.yang.model.api.AugmentationTarget;
+import org.opendaylight.yangtools.yang.model.api.ChoiceCaseNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.YangModeledAnyXmlSchemaNode;
+
+/**
+ * Index of XML elements, as they can appear under a particular schema node, to the schema nodes they identify. This
+ * class implements the same lookup as {@link XmlParserStream}, but it performs it once per schema node, so that the
+ * {@link XmlStreamingParser} can resolve elements with two hash lookups.
+ */
+final class XmlElementIndex {
+    /**
+     * All elements sharing a local name. XML input is checked for duplicates by local name only, hence these share
+     * a single ordinal.
+     */
+    static final class ElementName {
+        private final Map<String, Resolution> namespaces;
+        private final int ordinal;
+
+        ElementName(final Map<String, Resolution> namespaces, final int ordinal) {
+            this.namespaces = ImmutableMap.copyOf(namespaces);
+            this.ordinal = ordinal;
+        }
+
+        int ordinal() {
+            return ordinal;
+        }
+
+        Resolution resolve(final String namespace) {
+            return namespace == null ? null : namespaces.get(namespace);
+        }
+    }
+
+    /**
+     * A resolved XML element.
+     */
+    static final class Resolution {
+        private final DataSchemaNode[] path;
+        private final NodeIdentifier identifier;
+        private final boolean streamable;
+
+        Resolution(final DataSchemaNode[] path, final boolean streamable) {
+            this.path = path;
+            this.identifier = NodeIdentifier.create(path[path.length - 1].getQName());
+            this.streamable = streamable;
+        }
+
+        DataSchemaNode schema() {
+            return path[path.length - 1];
+        }
+
+        NodeIdentifier identifier() {
+            return identifier;
+        }
+
+        /**
+         * Return true if the node is a direct, non-augmenting child of the parent, hence its data can be emitted
+         * without first wrapping it in choice and augmentation nodes.
+         */
+        boolean isStreamable() {
+            return streamable;
+        }
+
+        /**
+         * Return the path of schema nodes leading to the node, suitable for
+         * {@link org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema#addChild(Deque)}.
+         */
+        Deque<DataSchemaNode> newPath() {
+            return new ArrayDeque<>(Arrays.asList(path));
+        }
+    }
+
+    // Weak keys to retire the entry when the schema node goes away and to force identity-based lookup
+    private static final LoadingCache<DataSchemaNode, XmlElementIndex> INDEXES = CacheBuilder.newBuilder().weakKeys()
+            .build(new CacheLoader<DataSchemaNode, XmlElementIndex>() {
+                @Override
+                public XmlElementIndex load(@Nonnull final DataSchemaNode key) {
+                    return new XmlElementIndex(key);
+                }
+            });
+
+    private final Map<String, ElementName> elements;
+
+    private XmlElementIndex(final DataSchemaNode parent) {
+        final Map<String, Set<URI>> names = new LinkedHashMap<>();
+        collectNames(parent, names);
+
+        final Map<String, ElementName> builder = new HashMap<>();
+        for (Entry<String, Set<URI>> entry : names.entrySet()) {
+            final String localName = entry.getKey();
+            final Map<String, Resolution> namespaces = new HashMap<>();
+            for (URI namespace : entry.getValue()) {
+                namespaces.put(namespace.toString(), resolve(parent, localName, namespace));
+            }
+            builder.put(localName, new ElementName(namespaces, builder.size()));
+        }
+        elements = ImmutableMap.copyOf(builder);
+    }
+
+    static XmlElementIndex forParent(final DataSchemaNode parent) {
+        return INDEXES.getUnchecked(parent);
+    }
+
+    /**
+     * Look up elements with specified local name.
+     *
+     * @param localName Element local name
+     * @return Elements with that local name, or null if there are none
+     */
+    ElementName lookup(final String localName) {
+        return elements.get(localName);
+    }
+
+    private static Resolution resolve(final DataSchemaNode parent, final String localName, final URI namespace) {
+        final DataSchemaNode[] path = ParserStreamUtils.findSchemaNodeByNameAndNamespace(parent, localName, namespace)
+                .toArray(new DataSchemaNode[0]);
+        final DataSchemaNode child = path[path.length - 1];
+        return new Resolution(path, path.length == 1 && !(child instanceof YangModeledAnyXmlSchemaNode)
+                && !isAugmentationChild(parent, child));
+    }
+
+    private static boolean isAugmentationChild(final DataSchemaNode parent, final DataSchemaNode child) {
+        // Mirrors CompositeNodeDataWithSchema: simple nodes are checked only if they are marked as augmenting
+        if ((child instanceof LeafSchemaNode || child instanceof AnyXmlSchemaNode) && !child.isAugmenting()) {
+            return false;
+        }
+        if (parent instanceof AugmentationTarget && !(parent instanceof ChoiceSchemaNode)) {
+            for (AugmentationSchema augmentation : ((AugmentationTarget) parent).getAvailableAugmentations()) {
+                if (augmentation.getDataChildByName(child.getQName()) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void collectNames(final DataSchemaNode node, final Map<String, Set<URI>> names) {
+        if (node instanceof DataNodeContainer) {
+            for (DataSchemaNode child : ((DataNodeContainer) node).getChildNodes()) {
+                if (child instanceof ChoiceSchemaNode) {
+                    for (ChoiceCaseNode caze : ((ChoiceSchemaNode) child).getCases()) {
+                        collectNames(caze, names);
+                    }
+                } else {
+                    names.computeIfAbsent(child.getQName().getLocalName(), k -> new LinkedHashSet<>())
+                        .add(child.getQName().getNamespace());
+                }
+            }
+        }
+    }
+}
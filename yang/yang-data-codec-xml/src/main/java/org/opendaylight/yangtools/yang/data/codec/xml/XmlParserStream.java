@@ -148,7 +148,7 @@ public final class XmlParserStream implements Closeable, Flushable {
      */
     public static XmlParserStream create(final NormalizedNodeStreamWriter writer, final SchemaContext schemaContext,
             final SchemaNode parentNode, final boolean strictParsing) {
-        return create(writer, XmlCodecFactory.create(schemaContext), parentNode, strictParsing);
+        return create(writer, XmlCodecFactory.getShared(schemaContext), parentNode, strictParsing);
     }
 
     /**
@@ -223,7 +223,7 @@ public final class XmlParserStream implements Closeable, Flushable {
         return parse(new DOMSourceXMLStreamReader(src));
     }
 
-    private static Map<QName, String> getElementAttributes(final XMLStreamReader in) {
+    static Map<QName, String> getElementAttributes(final XMLStreamReader in) {
         checkState(in.isStartElement(), "Attributes can be extracted only from START_ELEMENT.");
         final Map<QName, String> attributes = new LinkedHashMap<>();
 
@@ -246,7 +246,7 @@ public final class XmlParserStream implements Closeable, Flushable {
         return ImmutableMap.copyOf(attributes);
     }
 
-    private static String readAnyXmlValue(final XMLStreamReader in) throws XMLStreamException {
+    static String readAnyXmlValue(final XMLStreamReader in) throws XMLStreamException {
         final StringBuilder sb = new StringBuilder();
         final String anyXmlElementName = in.getLocalName();
         sb.append('<').append(anyXmlElementName).append(" xmlns=\"").append(in.getNamespaceURI()).append("\">");
@@ -445,16 +445,20 @@ public final class XmlParserStream implements Closeable, Flushable {
              *  reuse JSON parsing or XML parsing - anyxml is not well-defined in
              * JSON.
              */
-            final Document doc = UntrustedXML.newDocumentBuilder().parse(new InputSource(new StringReader(value)));
-            doc.normalize();
-
-            return new DOMSource(doc.getDocumentElement());
+            return parseAnyXmlValue(value);
         }
 
         checkArgument(node instanceof TypedSchemaNode);
         return codecs.codecFor((TypedSchemaNode) node).parseValue(namespaceCtx, value);
     }
 
+    static DOMSource parseAnyXmlValue(final String value) throws IOException, SAXException {
+        final Document doc = UntrustedXML.newDocumentBuilder().parse(new InputSource(new StringReader(value)));
+        doc.normalize();
+
+        return new DOMSource(doc.getDocumentElement());
+    }
+
     private static AbstractNodeDataWithSchema newEntryNode(final AbstractNodeDataWithSchema parent) {
         final AbstractNodeDataWithSchema newChild;
         if (parent instanceof ListNodeDataWithSchema) {
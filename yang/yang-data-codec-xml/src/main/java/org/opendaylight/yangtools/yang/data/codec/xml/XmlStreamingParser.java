@@ -0,0 +1,650 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.dom.DOMSource;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamAttributeWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlElementIndex.ElementName;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlElementIndex.Resolution;
+import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.ContainerNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.LeafListEntryNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.LeafListNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.LeafNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.ListEntryNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.ListNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.RpcAsContainer;
+import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.YangModeledAnyXmlNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.model.api.AnyXmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.YangModeledAnyXmlSchemaNode;
+import org.xml.sax.SAXException;
+
+/**
+ * A streaming parser of XML sources containing YANG-modeled data. It accepts the same input and produces the same
+ * results as {@link XmlParserStream}, but rather than building an intermediate tree of the entire document, it emits
+ * events to a {@link NormalizedNodeStreamWriter} while it is reading from the {@link XMLStreamReader}.
+ *
+ * <p>
+ * Memory retained by the parser, in addition to the reader's and the writer's own state, is bounded per schema
+ * construct as follows:
+ * <ul>
+ *   <li>containers, lists, leaf-lists and unkeyed list entries are emitted as their elements are encountered and
+ *       retain only a constant amount of state for each level of nesting,</li>
+ *   <li>leaves and leaf-list entries retain their text content until it is parsed, anyxml nodes retain their DOM
+ *       representation until it is emitted,</li>
+ *   <li>keyed list entries retain their key values and any other children which precede the last key element, until
+ *       the last key element is encountered,</li>
+ *   <li>children of choices and augmentations are retained until the end of their enclosing element, as the writer
+ *       needs to see them grouped under their choice or augmentation node,</li>
+ *   <li>yang-modeled anyxml nodes are retained until the end of their enclosing element.</li>
+ * </ul>
+ * Hence data which follows the usual NETCONF encoding, with key leaves first and no choices or augmentations in
+ * large lists, is parsed in memory proportional to the depth of the document.
+ */
+@Beta
+@NotThreadSafe
+public final class XmlStreamingParser implements Closeable, Flushable {
+    private final NormalizedNodeStreamWriter writer;
+    private final NormalizedNodeStreamAttributeWriter attributeWriter;
+    private final XmlCodecFactory codecs;
+    private final DataSchemaNode parentNode;
+    private final boolean strictParsing;
+
+    private XmlStreamingParser(final NormalizedNodeStreamWriter writer, final XmlCodecFactory codecs,
+            final DataSchemaNode parentNode, final boolean strictParsing) {
+        this.writer = requireNonNull(writer);
+        this.attributeWriter = writer instanceof NormalizedNodeStreamAttributeWriter
+                ? (NormalizedNodeStreamAttributeWriter) writer : null;
+        this.codecs = requireNonNull(codecs);
+        this.parentNode = parentNode;
+        this.strictParsing = strictParsing;
+    }
+
+    /**
+     * Construct a new {@link XmlStreamingParser} with strict parsing mode switched on.
+     *
+     * @param writer Output writer
+     * @param codecs Shared codecs
+     * @param parentNode Parent root node
+     * @return A new parser instance
+     */
+    public static XmlStreamingParser create(final NormalizedNodeStreamWriter writer, final XmlCodecFactory codecs,
+            final SchemaNode parentNode) {
+        return create(writer, codecs, parentNode, true);
+    }
+
+    /**
+     * Construct a new {@link XmlStreamingParser}.
+     *
+     * @param writer Output writer
+     * @param codecs Shared codecs
+     * @param parentNode Parent root node
+     * @param strictParsing parsing mode, see {@link XmlParserStream#create(NormalizedNodeStreamWriter,
+     *            XmlCodecFactory, SchemaNode, boolean)}
+     * @return A new parser instance
+     */
+    public static XmlStreamingParser create(final NormalizedNodeStreamWriter writer, final XmlCodecFactory codecs,
+            final SchemaNode parentNode, final boolean strictParsing) {
+        if (parentNode instanceof RpcDefinition) {
+            return new XmlStreamingParser(writer, codecs, new RpcAsContainer((RpcDefinition) parentNode),
+                strictParsing);
+        }
+        checkArgument(parentNode instanceof DataSchemaNode, "Instance of DataSchemaNode class awaited.");
+        return new XmlStreamingParser(writer, codecs, (DataSchemaNode) parentNode, strictParsing);
+    }
+
+    /**
+     * Utility method for use when caching {@link XmlCodecFactory} is not feasible. Users with high performance
+     * requirements should use {@link #create(NormalizedNodeStreamWriter, XmlCodecFactory, SchemaNode)} instead and
+     * maintain a {@link XmlCodecFactory} to match the current {@link SchemaContext}.
+     */
+    public static XmlStreamingParser create(final NormalizedNodeStreamWriter writer,
+            final SchemaContext schemaContext, final SchemaNode parentNode) {
+        return create(writer, schemaContext, parentNode, true);
+    }
+
+    /**
+     * Utility method for use when caching {@link XmlCodecFactory} is not feasible. Users with high performance
+     * requirements should use {@link #create(NormalizedNodeStreamWriter, XmlCodecFactory, SchemaNode)} instead and
+     * maintain a {@link XmlCodecFactory} to match the current {@link SchemaContext}.
+     */
+    public static XmlStreamingParser create(final NormalizedNodeStreamWriter writer,
+            final SchemaContext schemaContext, final SchemaNode parentNode, final boolean strictParsing) {
+        return create(writer, XmlCodecFactory.getShared(schemaContext), parentNode, strictParsing);
+    }
+
+    /**
+     * This method parses the XML source and emits node events into a NormalizedNodeStreamWriter based on the
+     * YANG-modeled data contained in the XML source. The reader is left positioned at the end of the root element.
+     *
+     * @param reader
+     *              StAX reader which is to used to walk through the XML source
+     * @return
+     *              instance of XmlStreamingParser
+     * @throws XMLStreamException
+     *              if a well-formedness error or an unexpected processing condition occurs while parsing the XML
+     * @throws IOException
+     *              if the writer reports an error or an error occurs while parsing the value of an anyxml node
+     * @throws SAXException
+     *              if an error occurs while parsing the value of an anyxml node
+     */
+    public XmlStreamingParser parse(final XMLStreamReader reader) throws XMLStreamException, IOException,
+            SAXException {
+        if (!reader.hasNext()) {
+            return this;
+        }
+
+        reader.nextTag();
+        if (parentNode instanceof ContainerSchemaNode) {
+            emitContainer(reader, parentNode, NodeIdentifier.create(parentNode.getQName()));
+        } else if (parentNode instanceof ListSchemaNode) {
+            // The root element is the only entry we can see
+            final ListSchemaNode list = (ListSchemaNode) parentNode;
+            final NodeIdentifier identifier = NodeIdentifier.create(list.getQName());
+            startList(list, identifier);
+            emitListEntry(reader, list, identifier);
+            writer.endNode();
+        } else {
+            // Remaining root node types do not benefit from streaming, use the buffered path
+            final AbstractNodeDataWithSchema root;
+            if (parentNode instanceof YangModeledAnyXmlSchemaNode) {
+                root = new YangModeledAnyXmlNodeDataWithSchema((YangModeledAnyXmlSchemaNode) parentNode);
+            } else if (parentNode instanceof AnyXmlSchemaNode) {
+                root = new AnyXmlNodeDataWithSchema(parentNode);
+            } else if (parentNode instanceof LeafSchemaNode) {
+                root = new LeafNodeDataWithSchema(parentNode);
+            } else if (parentNode instanceof LeafListSchemaNode) {
+                root = new LeafListNodeDataWithSchema(parentNode);
+            } else {
+                throw new IllegalStateException("Unsupported schema node type " + parentNode.getClass() + ".");
+            }
+
+            if (root instanceof LeafListNodeDataWithSchema) {
+                readBuffered(reader, newEntryNode(root));
+            } else {
+                readBuffered(reader, root);
+            }
+            root.write(writer);
+        }
+
+        return this;
+    }
+
+    /**
+     * This method traverses a {@link DOMSource} and emits node events into a NormalizedNodeStreamWriter based on the
+     * YANG-modeled data contained in the source.
+     *
+     * @param src
+     *              {@link DOMSource} to be traversed
+     * @return
+     *              instance of XmlStreamingParser
+     * @throws XMLStreamException
+     *              if a well-formedness error or an unexpected processing condition occurs while parsing the XML
+     * @throws IOException
+     *              if the writer reports an error or an error occurs while parsing the value of an anyxml node
+     * @throws SAXException
+     *              if an error occurs while parsing the value of an anyxml node
+     */
+    public XmlStreamingParser traverse(final DOMSource src) throws XMLStreamException, IOException, SAXException {
+        return parse(new DOMSourceXMLStreamReader(src));
+    }
+
+    /*
+     * Streaming methods. Each of them is invoked with the reader positioned at the START_ELEMENT of the node it emits.
+     * Methods returning void leave the reader at the corresponding END_ELEMENT, methods returning an int advance to
+     * the next tag and return its event type.
+     */
+
+    private void emitContainer(final XMLStreamReader in, final DataSchemaNode schema,
+            final NodeIdentifier identifier) throws XMLStreamException, IOException, SAXException {
+        writer.nextDataSchemaNode(schema);
+        if (attributeWriter != null) {
+            attributeWriter.startContainerNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE,
+                XmlParserStream.getElementAttributes(in));
+        } else {
+            writer.startContainerNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+        readChildren(in, schema, null);
+        writer.endNode();
+    }
+
+    /**
+     * Read the children of current element and emit them as children of the node corresponding to schema. The
+     * caller is responsible for emitting the start and the end of the node, except for keyed list entries, which are
+     * started once all their keys are known.
+     */
+    private void readChildren(final XMLStreamReader in, final DataSchemaNode schema, final MapEntryState entry)
+            throws XMLStreamException, IOException, SAXException {
+        final XmlElementIndex index = XmlElementIndex.forParent(schema);
+        final SeenNames seen = new SeenNames();
+        CompositeNodeDataWithSchema deferred = null;
+
+        int event = in.nextTag();
+        while (event == XMLStreamConstants.START_ELEMENT) {
+            final Resolution child = resolve(in, index, seen);
+            if (child == null) {
+                skipElement(in);
+                event = in.nextTag();
+                continue;
+            }
+
+            final boolean started = entry == null || entry.isStarted();
+            if (!started && entry.offerKey(in, child)) {
+                event = in.nextTag();
+            } else if (started && child.isStreamable()) {
+                event = emitChild(in, child);
+            } else {
+                if (deferred == null) {
+                    deferred = new CompositeNodeDataWithSchema(schema);
+                }
+                event = readBufferedChild(in, deferred, child);
+            }
+        }
+
+        if (entry != null) {
+            entry.checkStarted();
+        }
+        if (deferred != null) {
+            deferred.write(writer);
+        }
+    }
+
+    private int emitChild(final XMLStreamReader in, final Resolution child) throws XMLStreamException, IOException,
+            SAXException {
+        final DataSchemaNode schema = child.schema();
+        if (schema instanceof LeafSchemaNode) {
+            final Map<QName, String> attributes = attributeWriter != null ? XmlParserStream.getElementAttributes(in)
+                    : null;
+            final Object value = readTextValue(in, schema);
+            writer.nextDataSchemaNode(schema);
+            emitLeaf(child.identifier(), value, attributes);
+        } else if (schema instanceof ContainerSchemaNode) {
+            emitContainer(in, schema, child.identifier());
+        } else if (schema instanceof ListSchemaNode) {
+            return emitList(in, (ListSchemaNode) schema, child.identifier());
+        } else if (schema instanceof LeafListSchemaNode) {
+            return emitLeafList(in, (LeafListSchemaNode) schema, child.identifier());
+        } else if (schema instanceof AnyXmlSchemaNode) {
+            final DOMSource value = XmlParserStream.parseAnyXmlValue(XmlParserStream.readAnyXmlValue(in));
+            writer.nextDataSchemaNode(schema);
+            writer.anyxmlNode(child.identifier(), value);
+        } else {
+            throw new IllegalStateException("Unsupported schema node type " + schema.getClass() + ".");
+        }
+        return in.nextTag();
+    }
+
+    private void emitLeaf(final NodeIdentifier identifier, final Object value, final Map<QName, String> attributes)
+            throws IOException {
+        if (attributes != null) {
+            attributeWriter.leafNode(identifier, value, attributes);
+        } else {
+            writer.leafNode(identifier, value);
+        }
+    }
+
+    private void startList(final ListSchemaNode schema, final NodeIdentifier identifier) throws IOException {
+        writer.nextDataSchemaNode(schema);
+        if (schema.getKeyDefinition().isEmpty()) {
+            writer.startUnkeyedList(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else if (schema.isUserOrdered()) {
+            writer.startOrderedMapNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else {
+            writer.startMapNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    }
+
+    private int emitList(final XMLStreamReader in, final ListSchemaNode schema, final NodeIdentifier identifier)
+            throws XMLStreamException, IOException, SAXException {
+        startList(schema, identifier);
+
+        // List entries are consecutive elements with the same name
+        final String localName = in.getLocalName();
+        int event;
+        do {
+            emitListEntry(in, schema, identifier);
+            event = in.nextTag();
+        } while (event == XMLStreamConstants.START_ELEMENT && localName.equals(in.getLocalName()));
+
+        writer.endNode();
+        return event;
+    }
+
+    private void emitListEntry(final XMLStreamReader in, final ListSchemaNode schema, final NodeIdentifier identifier)
+            throws XMLStreamException, IOException, SAXException {
+        if (schema.getKeyDefinition().isEmpty()) {
+            writer.nextDataSchemaNode(schema);
+            writer.startUnkeyedListItem(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            readChildren(in, schema, null);
+        } else {
+            readChildren(in, schema, new MapEntryState(schema,
+                attributeWriter != null ? XmlParserStream.getElementAttributes(in) : null));
+        }
+        writer.endNode();
+    }
+
+    private int emitLeafList(final XMLStreamReader in, final LeafListSchemaNode schema,
+            final NodeIdentifier identifier) throws XMLStreamException, IOException {
+        writer.nextDataSchemaNode(schema);
+        if (schema.isUserOrdered()) {
+            writer.startOrderedLeafSet(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else {
+            writer.startLeafSet(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+
+        final String localName = in.getLocalName();
+        int event;
+        do {
+            final Map<QName, String> attributes = attributeWriter != null ? XmlParserStream.getElementAttributes(in)
+                    : null;
+            final Object value = readTextValue(in, schema);
+            writer.nextDataSchemaNode(schema);
+            if (attributes != null) {
+                attributeWriter.leafSetEntryNode(schema.getQName(), value, attributes);
+            } else {
+                writer.leafSetEntryNode(schema.getQName(), value);
+            }
+            event = in.nextTag();
+        } while (event == XMLStreamConstants.START_ELEMENT && localName.equals(in.getLocalName()));
+
+        writer.endNode();
+        return event;
+    }
+
+    /*
+     * Buffered methods, these follow XmlParserStream.read().
+     */
+
+    private int readBufferedChild(final XMLStreamReader in, final CompositeNodeDataWithSchema parent,
+            final Resolution child) throws XMLStreamException, IOException, SAXException {
+        final AbstractNodeDataWithSchema node = parent.addChild(child.newPath());
+        if (!(node instanceof ListNodeDataWithSchema || node instanceof LeafListNodeDataWithSchema)) {
+            readBuffered(in, node);
+            return in.nextTag();
+        }
+
+        final String localName = in.getLocalName();
+        int event;
+        do {
+            readBuffered(in, newEntryNode(node));
+            event = in.nextTag();
+        } while (event == XMLStreamConstants.START_ELEMENT && localName.equals(in.getLocalName()));
+        return event;
+    }
+
+    private void readBuffered(final XMLStreamReader in, final AbstractNodeDataWithSchema node)
+            throws XMLStreamException, IOException, SAXException {
+        if (node instanceof LeafNodeDataWithSchema || node instanceof LeafListEntryNodeDataWithSchema) {
+            node.setAttributes(XmlParserStream.getElementAttributes(in));
+            setValue(node, in.getElementText().trim(), in.getNamespaceContext());
+            return;
+        }
+        if (node instanceof AnyXmlNodeDataWithSchema) {
+            setValue(node, XmlParserStream.readAnyXmlValue(in), in.getNamespaceContext());
+            return;
+        }
+        if (node instanceof ContainerNodeDataWithSchema || node instanceof ListEntryNodeDataWithSchema) {
+            node.setAttributes(XmlParserStream.getElementAttributes(in));
+        }
+
+        DataSchemaNode schema = node.getSchema();
+        if (schema instanceof YangModeledAnyXmlSchemaNode) {
+            schema = ((YangModeledAnyXmlSchemaNode) schema).getSchemaOfAnyXmlData();
+        }
+
+        final XmlElementIndex index = XmlElementIndex.forParent(schema);
+        final SeenNames seen = new SeenNames();
+        int event = in.nextTag();
+        while (event == XMLStreamConstants.START_ELEMENT) {
+            final Resolution child = resolve(in, index, seen);
+            if (child != null) {
+                event = readBufferedChild(in, (CompositeNodeDataWithSchema) node, child);
+            } else {
+                skipElement(in);
+                event = in.nextTag();
+            }
+        }
+    }
+
+    private static AbstractNodeDataWithSchema newEntryNode(final AbstractNodeDataWithSchema parent) {
+        final AbstractNodeDataWithSchema newChild;
+        if (parent instanceof ListNodeDataWithSchema) {
+            newChild = new ListEntryNodeDataWithSchema(parent.getSchema());
+        } else {
+            newChild = new LeafListEntryNodeDataWithSchema(parent.getSchema());
+        }
+        ((CompositeNodeDataWithSchema) parent).addChild(newChild);
+        return newChild;
+    }
+
+    private void setValue(final AbstractNodeDataWithSchema parent, final String value,
+            final NamespaceContext nsContext) throws IOException, SAXException {
+        checkArgument(parent instanceof SimpleNodeDataWithSchema, "Node %s is not a simple type",
+                parent.getSchema().getQName());
+        final SimpleNodeDataWithSchema parentSimpleNode = (SimpleNodeDataWithSchema) parent;
+        checkArgument(parentSimpleNode.getValue() == null, "Node '%s' has already set its value to '%s'",
+                parentSimpleNode.getSchema().getQName(), parentSimpleNode.getValue());
+
+        final DataSchemaNode schema = parentSimpleNode.getSchema();
+        parentSimpleNode.setValue(schema instanceof AnyXmlSchemaNode ? XmlParserStream.parseAnyXmlValue(value)
+                : translateValueByType(value, schema, nsContext));
+    }
+
+    /*
+     * Common utilities.
+     */
+
+    private Object readTextValue(final XMLStreamReader in, final DataSchemaNode schema) throws XMLStreamException {
+        final String text = in.getElementText().trim();
+        return translateValueByType(text, schema, in.getNamespaceContext());
+    }
+
+    private Object translateValueByType(final String value, final DataSchemaNode node,
+            final NamespaceContext namespaceCtx) {
+        checkArgument(node instanceof TypedSchemaNode);
+        return codecs.codecFor((TypedSchemaNode) node).parseValue(namespaceCtx, value);
+    }
+
+    /**
+     * Resolve current element, checking for duplicates.
+     *
+     * @return Resolved element, or null if it is not known and strict parsing is not enabled
+     * @throws IllegalStateException if the element is a duplicate or it is not known and strict parsing is enabled
+     */
+    private Resolution resolve(final XMLStreamReader in, final XmlElementIndex index, final SeenNames seen) {
+        final String localName = in.getLocalName();
+        final ElementName name = index.lookup(localName);
+        if (!seen.add(name, localName)) {
+            final Location loc = in.getLocation();
+            throw new IllegalStateException(String.format(
+                    "Duplicate element \"%s\" in XML input at: line %s column %s", localName,
+                    loc.getLineNumber(), loc.getColumnNumber()));
+        }
+
+        final Resolution resolution = name == null ? null : name.resolve(in.getNamespaceURI());
+        checkState(resolution != null || !strictParsing, "Schema for node with name %s and namespace %s doesn't exist.",
+            localName, in.getNamespaceURI());
+        return resolution;
+    }
+
+    // Skips current element, leaving the reader at its END_ELEMENT
+    private static void skipElement(final XMLStreamReader in) throws XMLStreamException {
+        int depth = 1;
+        while (depth != 0) {
+            switch (in.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+        writer.close();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Set of element local names seen in an element. Known names are tracked by their
+     * {@link ElementName#ordinal()}, unknown ones by their value.
+     */
+    private static final class SeenNames {
+        private long bits;
+        private BitSet overflow;
+        private Set<String> unknown;
+
+        boolean add(final ElementName name, final String localName) {
+            if (name == null) {
+                if (unknown == null) {
+                    unknown = new HashSet<>();
+                }
+                return unknown.add(localName);
+            }
+
+            final int ordinal = name.ordinal();
+            if (ordinal < Long.SIZE) {
+                final long bit = 1L << ordinal;
+                if ((bits & bit) != 0) {
+                    return false;
+                }
+                bits |= bit;
+                return true;
+            }
+
+            if (overflow == null) {
+                overflow = new BitSet();
+            }
+            if (overflow.get(ordinal)) {
+                return false;
+            }
+            overflow.set(ordinal);
+            return true;
+        }
+    }
+
+    /**
+     * State of a keyed list entry. Its start is emitted as soon as all of its keys have been seen.
+     */
+    private final class MapEntryState {
+        private final ListSchemaNode schema;
+        private final Map<QName, String> attributes;
+        private final List<QName> keyDef;
+        private final LeafSchemaNode[] keySchemas;
+        private final Object[] keyValues;
+        private final Map<?, ?>[] keyAttributes;
+        private int remaining;
+        private boolean started;
+
+        MapEntryState(final ListSchemaNode schema, final Map<QName, String> attributes) {
+            this.schema = schema;
+            this.attributes = attributes;
+            this.keyDef = schema.getKeyDefinition();
+            this.keySchemas = new LeafSchemaNode[keyDef.size()];
+            this.keyValues = new Object[keyDef.size()];
+            this.keyAttributes = new Map<?, ?>[keyDef.size()];
+            this.remaining = keyDef.size();
+        }
+
+        boolean isStarted() {
+            return started;
+        }
+
+        boolean offerKey(final XMLStreamReader in, final Resolution child) throws XMLStreamException, IOException {
+            final DataSchemaNode childSchema = child.schema();
+            if (!(childSchema instanceof LeafSchemaNode) || !child.isStreamable()) {
+                return false;
+            }
+            final int offset = keyDef.indexOf(childSchema.getQName());
+            if (offset == -1) {
+                return false;
+            }
+
+            keyAttributes[offset] = attributeWriter != null ? XmlParserStream.getElementAttributes(in) : null;
+            keyValues[offset] = readTextValue(in, childSchema);
+            keySchemas[offset] = (LeafSchemaNode) childSchema;
+            if (--remaining == 0) {
+                start();
+            }
+            return true;
+        }
+
+        void checkStarted() {
+            checkState(started, "Input is missing some of the keys of %s", schema.getQName());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void start() throws IOException {
+            final Map<QName, Object> predicates = new LinkedHashMap<>();
+            for (int i = 0; i < keyValues.length; ++i) {
+                predicates.put(keyDef.get(i), keyValues[i]);
+            }
+
+            final NodeIdentifierWithPredicates identifier = new NodeIdentifierWithPredicates(schema.getQName(),
+                predicates);
+            writer.nextDataSchemaNode(schema);
+            if (attributes != null) {
+                attributeWriter.startMapEntryNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE, attributes);
+            } else {
+                writer.startMapEntryNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            }
+            for (int i = 0; i < keyValues.length; ++i) {
+                writer.nextDataSchemaNode(keySchemas[i]);
+                emitLeaf(NodeIdentifier.create(keyDef.get(i)), keyValues[i],
+                    (Map<QName, String>) keyAttributes[i]);
+            }
+            started = true;
+        }
+    }
+}
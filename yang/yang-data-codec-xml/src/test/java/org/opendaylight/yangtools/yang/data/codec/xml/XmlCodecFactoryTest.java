@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaContextUtil;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class XmlCodecFactoryTest {
+    private static final QName MY_CONTAINER_2 = QName.create("baz-namespace", "1970-01-01", "my-container-2");
+    private static final QName OUTER_CONTAINER = QName.create(MY_CONTAINER_2, "outer-container");
+    private static final QName MY_CHOICE = QName.create(MY_CONTAINER_2, "my-choice");
+    private static final QName MY_CASE_1 = QName.create(MY_CONTAINER_2, "my-case-1");
+    private static final QName MY_LEAF_IN_CASE_1 = QName.create(MY_CONTAINER_2, "my-leaf-in-case-1");
+    private static final QName ACTIVATE_SOFTWARE_IMAGE = QName.create("org:opendaylight:rpc-reply:test:ns:yang",
+        "2014-07-17", "activate-software-image");
+    private static final QName IMAGE_NAME = QName.create(ACTIVATE_SOFTWARE_IMAGE, "image-name");
+
+    private static SchemaContext schemaContext;
+
+    @BeforeClass
+    public static void setup() {
+        schemaContext = YangParserTestUtils.parseYangResources(XmlCodecFactoryTest.class, "/baz.yang",
+            "/schema/rpc-test-model.yang");
+    }
+
+    @Test
+    public void testSharedFactory() {
+        final XmlCodecFactory shared = XmlCodecFactory.getShared(schemaContext);
+        assertSame(shared, XmlCodecFactory.getShared(schemaContext));
+        assertNotSame(shared, XmlCodecFactory.createLazy(schemaContext));
+        assertNotSame(shared, XmlCodecFactory.createSimple(schemaContext));
+    }
+
+    @Test
+    public void testPrecomputedFactory() {
+        final SchemaContext context = YangParserTestUtils.parseYangResources(XmlCodecFactoryTest.class,
+            "/baz.yang", "/schema/rpc-test-model.yang");
+        assertFalse(XmlCodecFactory.getPrecomputedIfAvailable(context).isPresent());
+
+        final XmlCodecFactory precomputed = XmlCodecFactory.getPrecomputed(context);
+        assertSame(precomputed, XmlCodecFactory.getPrecomputed(context));
+        assertTrue(XmlCodecFactory.getPrecomputedIfAvailable(context).isPresent());
+        assertSame(precomputed, XmlCodecFactory.getPrecomputedIfAvailable(context).get());
+        assertNotSame(precomputed, XmlCodecFactory.getShared(context));
+
+        // Leaves in choices and in operations are part of the precomputed set
+        final ChoiceSchemaNode choice = (ChoiceSchemaNode) ((ContainerSchemaNode) SchemaContextUtil
+                .findNodeInSchemaContext(context, ImmutableList.of(OUTER_CONTAINER, MY_CONTAINER_2)))
+                .getDataChildByName(MY_CHOICE);
+        final LeafSchemaNode caseLeaf = (LeafSchemaNode) choice.getCaseNodeByName(MY_CASE_1)
+                .getDataChildByName(MY_LEAF_IN_CASE_1);
+        assertNotNull(caseLeaf);
+        final XmlCodec<?> caseCodec = precomputed.codecFor(caseLeaf);
+        assertSame(caseCodec, precomputed.codecFor(caseLeaf));
+
+        final RpcDefinition rpc = context.getOperations().stream()
+                .filter(op -> ACTIVATE_SOFTWARE_IMAGE.equals(op.getQName())).findFirst().get();
+        final LeafSchemaNode inputLeaf = (LeafSchemaNode) rpc.getInput().getDataChildByName(IMAGE_NAME);
+        assertEquals(String.class, precomputed.codecFor(inputLeaf).getDataType());
+    }
+
+    @Test
+    public void testFactoriesAgree() {
+        final ContainerSchemaNode container = (ContainerSchemaNode) SchemaContextUtil.findNodeInSchemaContext(
+            schemaContext, ImmutableList.of(OUTER_CONTAINER, MY_CONTAINER_2));
+        final LeafSchemaNode leaf = (LeafSchemaNode) container.getDataChildByName(
+            QName.create(MY_CONTAINER_2, "my-leaf-3"));
+
+        final XmlCodecFactory lazy = XmlCodecFactory.createLazy(schemaContext);
+        final XmlCodec<?> codec = lazy.codecFor(leaf);
+        assertSame(codec, lazy.codecFor(leaf));
+        assertEquals(codec.getDataType(), XmlCodecFactory.createSimple(schemaContext).codecFor(leaf).getDataType());
+        assertEquals(codec.getDataType(), XmlCodecFactory.getShared(schemaContext).codecFor(leaf).getDataType());
+        assertEquals(codec.getDataType(), XmlCodecFactory.getPrecomputed(schemaContext).codecFor(leaf)
+            .getDataType());
+    }
+}
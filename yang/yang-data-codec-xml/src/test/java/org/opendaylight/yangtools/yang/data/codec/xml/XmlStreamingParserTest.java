@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.Optional;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.AnyXmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class XmlStreamingParserTest {
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+    private static final QName OUTER_CONTAINER = QName.create("baz-namespace", "1970-01-01", "outer-container");
+    private static final QName MY_CONTAINER_1 = QName.create(OUTER_CONTAINER, "my-container-1");
+    private static final QName MY_KEYED_LIST = QName.create(OUTER_CONTAINER, "my-keyed-list");
+    private static final QName MY_KEY_LEAF = QName.create(OUTER_CONTAINER, "my-key-leaf");
+    private static final QName PARENT_CONTAINER = QName.create("foo-namespace", "1970-01-01", "parent-container");
+
+    private static SchemaContext schemaContext;
+
+    @BeforeClass
+    public static void setup() {
+        schemaContext = YangParserTestUtils.parseYangResourceDirectory("/");
+    }
+
+    @Test
+    public void testSameAsXmlParserStream() throws Exception {
+        verifySameResult(schemaContext, schemaContext.getDataChildByName(OUTER_CONTAINER), "/baz.xml");
+        verifySameResult(schemaContext, schemaContext.getDataChildByName(PARENT_CONTAINER), "/foo.xml");
+    }
+
+    @Test
+    public void testSameAsXmlParserStreamChoicesAndAugmentations() throws Exception {
+        final SchemaContext context = YangParserTestUtils.parseYangResource("/schema/augment_choice_hell.yang");
+        final SchemaNode container = findChild(context, "container");
+        verifySameResult(context, container, "/schema/augment_choice_hell_ok.xml");
+        verifySameResult(context, container, "/schema/augment_choice_hell_ok2.xml");
+        verifySameResult(context, container, "/schema/augment_choice_hell_ok3.xml");
+    }
+
+    @Test
+    public void testSameAsXmlParserStreamRoots() throws Exception {
+        final SchemaContext context = YangParserTestUtils.parseYangResource("/bug8675/foo.yang");
+        verifySameResult(context, findChild(context, "top-level-list"), "/bug8675/foo-3.xml");
+        verifySameResult(context, findChild(context, "top-level-anyxml"), "/bug8675/foo-4.xml");
+        verifySameResult(context, findChild(context, "top-level-leaf"), "/bug8675/foo-5.xml");
+        verifySameResult(context, findChild(context, "top-level-leaf-list"), "/bug8675/foo-6.xml");
+
+        final SchemaContext anyxml = YangParserTestUtils.parseYangResourceDirectory("/anyxml-support/yang");
+        verifySameResult(anyxml, findChild(anyxml, "my-anyxml-data"), "/anyxml-support/xml/foo.xml");
+    }
+
+    @Test
+    public void testKeysAfterOtherChildren() throws Exception {
+        final NormalizedNode<?, ?> result = parse(schemaContext, schemaContext.getDataChildByName(OUTER_CONTAINER),
+            "<outer-container xmlns=\"baz-namespace\"><my-container-1><my-keyed-list>"
+                + "<my-leaf-in-list-1>value</my-leaf-in-list-1><my-key-leaf>key</my-key-leaf>"
+                + "</my-keyed-list></my-container-1></outer-container>");
+        final ContainerNode container = (ContainerNode) ((ContainerNode) result).getChild(
+            NodeIdentifier.create(MY_CONTAINER_1)).get();
+        final MapEntryNode entry = ((MapNode) container.getChild(NodeIdentifier.create(MY_KEYED_LIST)).get())
+                .getValue().iterator().next();
+        assertEquals(2, entry.getValue().size());
+        assertEquals("key", entry.getIdentifier().getKeyValues().get(MY_KEY_LEAF));
+    }
+
+    @Test
+    public void testMissingKey() throws Exception {
+        try {
+            parse(schemaContext, schemaContext.getDataChildByName(OUTER_CONTAINER),
+                "<outer-container xmlns=\"baz-namespace\"><my-container-1><my-keyed-list>"
+                    + "<my-leaf-in-list-1>value</my-leaf-in-list-1></my-keyed-list></my-container-1>"
+                    + "</outer-container>");
+            fail("IllegalStateException should have been thrown because of a missing key.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("Input is missing some of the keys of"));
+        }
+    }
+
+    @Test
+    public void testDuplicateLeaf() throws Exception {
+        try {
+            parse(schemaContext, schemaContext.getDataChildByName(PARENT_CONTAINER),
+                FACTORY.createXMLStreamReader(XmlStreamingParserTest.class.getResourceAsStream("/invalid-foo.xml")),
+                true);
+            fail("IllegalStateException should have been thrown because of duplicate leaf.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("Duplicate element \"decimal64-leaf\" in XML input"));
+        }
+    }
+
+    @Test
+    public void testStrictParsingMode() throws Exception {
+        final SchemaContext context = YangParserTestUtils.parseYangResource("/strict-parsing-mode-test/foo.yang");
+        final SchemaNode container = findChild(context, "top-level-container");
+
+        final NormalizedNode<?, ?> lenient = parse(context, container, FACTORY.createXMLStreamReader(
+            XmlStreamingParserTest.class.getResourceAsStream("/strict-parsing-mode-test/foo.xml")), false);
+        assertNotNull(lenient);
+        assertSameNode(parseExpected(context, container, FACTORY.createXMLStreamReader(
+            XmlStreamingParserTest.class.getResourceAsStream("/strict-parsing-mode-test/foo.xml")), false), lenient);
+
+        try {
+            parse(context, container, FACTORY.createXMLStreamReader(
+                XmlStreamingParserTest.class.getResourceAsStream("/strict-parsing-mode-test/foo.xml")), true);
+            fail("IllegalStateException should have been thrown because of an unknown child node.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("Schema for node with name unknown-container-a and namespace foo"
+                    + " doesn't exist."));
+        }
+    }
+
+    private static SchemaNode findChild(final SchemaContext context, final String localName) {
+        for (DataSchemaNode child : context.getChildNodes()) {
+            if (localName.equals(child.getQName().getLocalName())) {
+                return child;
+            }
+        }
+        throw new AssertionError("Missing top-level node " + localName);
+    }
+
+    private static void verifySameResult(final SchemaContext context, final SchemaNode parentNode,
+            final String resource) throws Exception {
+        assertNotNull(parentNode);
+        final NormalizedNode<?, ?> expected = parseExpected(context, parentNode, newReader(resource), true);
+        assertNotNull(expected);
+        assertSameNode(expected, parse(context, parentNode, newReader(resource), true));
+    }
+
+    private static XMLStreamReader newReader(final String resource) throws Exception {
+        final InputStream resourceAsStream = XmlStreamingParserTest.class.getResourceAsStream(resource);
+        assertNotNull(resource, resourceAsStream);
+        return FACTORY.createXMLStreamReader(resourceAsStream);
+    }
+
+    private static NormalizedNode<?, ?> parseExpected(final SchemaContext context, final SchemaNode parentNode,
+            final XMLStreamReader reader, final boolean strict) throws Exception {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), context, parentNode, strict)
+            .parse(reader);
+        return result.getResult();
+    }
+
+    private static NormalizedNode<?, ?> parse(final SchemaContext context, final SchemaNode parentNode,
+            final String xml) throws Exception {
+        return parse(context, parentNode, FACTORY.createXMLStreamReader(new StringReader(xml)), true);
+    }
+
+    private static NormalizedNode<?, ?> parse(final SchemaContext context, final SchemaNode parentNode,
+            final XMLStreamReader reader, final boolean strict) throws Exception {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        XmlStreamingParser.create(ImmutableNormalizedNodeStreamWriter.from(result), context, parentNode, strict)
+            .parse(reader);
+        return result.getResult();
+    }
+
+    // AnyXmlNodes do not compare their DOMSource values, hence we need to walk the trees
+    private static void assertSameNode(final NormalizedNode<?, ?> expected, final NormalizedNode<?, ?> actual) {
+        assertEquals(expected.getIdentifier(), actual.getIdentifier());
+        if (expected instanceof AnyXmlNode) {
+            assertTrue(actual instanceof AnyXmlNode);
+            assertTrue(((AnyXmlNode) expected).getValue().getNode().isEqualNode(
+                ((AnyXmlNode) actual).getValue().getNode()));
+        } else if (expected instanceof NormalizedNodeContainer) {
+            assertTrue(actual instanceof NormalizedNodeContainer);
+            @SuppressWarnings("unchecked")
+            final NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> actualContainer =
+                    (NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>>) actual;
+            final Collection<?> expectedChildren = ((NormalizedNodeContainer<?, ?, ?>) expected).getValue();
+            assertEquals(expectedChildren.size(), actualContainer.getValue().size());
+            for (Object child : expectedChildren) {
+                final NormalizedNode<?, ?> expectedChild = (NormalizedNode<?, ?>) child;
+                final Optional<NormalizedNode<?, ?>> actualChild =
+                        actualContainer.getChild(expectedChild.getIdentifier());
+                assertTrue("Missing " + expectedChild.getIdentifier(), actualChild.isPresent());
+                assertSameNode(expectedChild, actualChild.get());
+            }
+        } else {
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static org.opendaylight.yangtools.yang.model.util.BaseTypes.UINT8_QNAME;
 import com.google.common.annotations.Beta;
 import com.google.common.base.CharMatcher;
 import com.google.common.collect.Range;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -53,17 +54,36 @@ public abstract class AbstractIntegerStringCodec<N extends Number & Comparable<N
 
     private final List<Range<N>> rangeConstraints;
 
+    // Primitive copies of rangeConstraints, used when N fits into a long, null otherwise
+    private final long[] rangeMins;
+    private final long[] rangeMaxs;
+
     AbstractIntegerStringCodec(final Optional<T> typeDefinition, final List<RangeConstraint> constraints,
         final Class<N> outputClass) {
         super(typeDefinition, outputClass);
         if (constraints.isEmpty()) {
             rangeConstraints = Collections.emptyList();
+            rangeMins = null;
+            rangeMaxs = null;
         } else {
             final List<Range<N>> builder = new ArrayList<>(constraints.size());
             for (final RangeConstraint yangConstraint : constraints) {
                 builder.add(createRange(yangConstraint.getMin(), yangConstraint.getMax()));
             }
             rangeConstraints = builder;
+
+            if (BigInteger.class.equals(outputClass)) {
+                rangeMins = null;
+                rangeMaxs = null;
+            } else {
+                rangeMins = new long[builder.size()];
+                rangeMaxs = new long[builder.size()];
+                for (int i = 0; i < rangeMins.length; ++i) {
+                    final Range<N> range = builder.get(i);
+                    rangeMins[i] = range.lowerEndpoint().longValue();
+                    rangeMaxs[i] = range.upperEndpoint().longValue();
+                }
+            }
         }
     }
 
@@ -122,6 +142,13 @@ public abstract class AbstractIntegerStringCodec<N extends Number & Comparable<N
 
     @Override
     public final N deserialize(final String stringRepresentation) {
+        // Fast path for plain decimal numbers, which are the vast majority of inputs
+        if (isDecimal(stringRepresentation)) {
+            final N deserialized = deserialize(stringRepresentation, 10);
+            validate(deserialized);
+            return deserialized;
+        }
+
         final int base = provideBase(stringRepresentation);
         final N deserialized;
         if (base == 16) {
@@ -149,6 +176,15 @@ public abstract class AbstractIntegerStringCodec<N extends Number & Comparable<N
         if (rangeConstraints.isEmpty()) {
             return;
         }
+        if (rangeMins != null) {
+            final long primitive = value.longValue();
+            for (int i = 0; i < rangeMins.length; ++i) {
+                if (primitive >= rangeMins[i] && primitive <= rangeMaxs[i]) {
+                    return;
+                }
+            }
+            throw new IllegalArgumentException("Value '" + value + "'  is not in required range " + rangeConstraints);
+        }
         for (final Range<N> constraint : rangeConstraints) {
             if (constraint.contains(value)) {
                 return;
@@ -171,6 +207,46 @@ public abstract class AbstractIntegerStringCodec<N extends Number & Comparable<N
         return type.getRangeConstraints();
     }
 
+    /**
+     * Check whether a string matches {@link #INT_PATTERN} or is a single zero, without involving the regex engine.
+     *
+     * @param str String to check
+     * @return True if the string is a decimal number.
+     */
+    private static boolean isDecimal(final String str) {
+        if (str == null) {
+            return false;
+        }
+
+        final int length = str.length();
+        int offset = 0;
+        if (length > 1) {
+            final char first = str.charAt(0);
+            if (first == '+' || first == '-') {
+                offset = 1;
+            }
+        }
+        if (offset == length) {
+            return false;
+        }
+
+        final char lead = str.charAt(offset);
+        if (lead == '0') {
+            // Only an unsigned zero is a decimal number, everything else is octal or hexadecimal
+            return length == 1;
+        }
+        if (lead < '1' || lead > '9') {
+            return false;
+        }
+        for (int i = offset + 1; i < length; ++i) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static int provideBase(final String integer) {
         checkArgument(integer != null, "String representing integer number cannot be NULL");
 
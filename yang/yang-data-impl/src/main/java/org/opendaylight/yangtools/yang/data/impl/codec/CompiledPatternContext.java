@@ -10,25 +10,30 @@ package org.opendaylight.yangtools.yang.data.impl.codec;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.base.Strings;
-import java.util.regex.Pattern;
+import org.opendaylight.yangtools.yang.model.api.type.ModifierKind;
 import org.opendaylight.yangtools.yang.model.api.type.PatternConstraint;
+import org.opendaylight.yangtools.yang.model.util.CompiledRegex;
 
 class CompiledPatternContext {
 
-    private final Pattern pattern;
+    private final CompiledRegex regex;
     private final String errorMessage;
+    private final boolean invert;
 
     CompiledPatternContext(final PatternConstraint yangConstraint) {
-        pattern = Pattern.compile("^" + yangConstraint.getRegularExpression() + "$");
+        regex = CompiledRegex.forConstraint(yangConstraint);
+        invert = yangConstraint.getModifier() == ModifierKind.INVERT_MATCH;
         final String yangMessage = yangConstraint.getErrorMessage();
-        if (Strings.isNullOrEmpty(yangMessage)) {
-            errorMessage = "Value %s does not match regular expression <" + pattern.pattern() + ">";
-        } else {
+        if (!Strings.isNullOrEmpty(yangMessage)) {
             errorMessage = yangMessage;
+        } else if (invert) {
+            errorMessage = "Value %s matches inverted regular expression <" + regex.pattern().pattern() + ">";
+        } else {
+            errorMessage = "Value %s does not match regular expression <" + regex.pattern().pattern() + ">";
         }
     }
 
     public void validate(final String str) {
-        checkArgument(pattern.matcher(str).matches(), errorMessage, str);
+        checkArgument(regex.matches(str) != invert, errorMessage, str);
     }
 }
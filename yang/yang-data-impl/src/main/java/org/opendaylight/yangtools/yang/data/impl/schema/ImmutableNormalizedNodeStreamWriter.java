@@ -50,8 +50,10 @@ import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableUn
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableUnkeyedListNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableYangModeledAnyXmlNodeBuilder;
 import org.opendaylight.yangtools.yang.data.util.LeafInterner;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.YangModeledAnyXmlSchemaNode;
 
 /**
@@ -218,9 +220,13 @@ public class ImmutableNormalizedNodeStreamWriter implements NormalizedNodeStream
     public void startContainerNode(final NodeIdentifier name, final int childSizeHint) {
         checkDataNodeContainer();
 
-        final DataContainerNodeAttrBuilder<NodeIdentifier, ContainerNode> builder =
-                UNKNOWN_SIZE == childSizeHint ? ImmutableContainerNodeBuilder.create()
-                        : ImmutableContainerNodeBuilder.create(childSizeHint);
+        final DataContainerNodeAttrBuilder<NodeIdentifier, ContainerNode> builder;
+        if (nextSchema instanceof ContainerSchemaNode) {
+            builder = ImmutableContainerNodeBuilder.createWithLayout((ContainerSchemaNode) nextSchema, childSizeHint);
+        } else {
+            builder = UNKNOWN_SIZE == childSizeHint ? ImmutableContainerNodeBuilder.create()
+                    : ImmutableContainerNodeBuilder.create(childSizeHint);
+        }
         enter(builder.withNodeIdentifier(name));
     }
 
@@ -274,9 +280,13 @@ public class ImmutableNormalizedNodeStreamWriter implements NormalizedNodeStream
                 || getCurrent() instanceof ImmutableOrderedMapNodeBuilder);
         }
 
-        final DataContainerNodeAttrBuilder<NodeIdentifierWithPredicates, MapEntryNode> builder =
-                UNKNOWN_SIZE == childSizeHint ? ImmutableMapEntryNodeBuilder.create()
-                        : ImmutableMapEntryNodeBuilder.create(childSizeHint);
+        final DataContainerNodeAttrBuilder<NodeIdentifierWithPredicates, MapEntryNode> builder;
+        if (nextSchema instanceof ListSchemaNode) {
+            builder = ImmutableMapEntryNodeBuilder.createWithLayout((ListSchemaNode) nextSchema, childSizeHint);
+        } else {
+            builder = UNKNOWN_SIZE == childSizeHint ? ImmutableMapEntryNodeBuilder.create()
+                    : ImmutableMapEntryNodeBuilder.create(childSizeHint);
+        }
         enter(builder.withNodeIdentifier(identifier));
     }
 
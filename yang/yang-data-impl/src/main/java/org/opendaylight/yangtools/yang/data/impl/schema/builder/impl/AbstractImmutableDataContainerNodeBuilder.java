@@ -11,6 +11,7 @@ import com.google.common.collect.Maps;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import org.opendaylight.yangtools.util.ImmutableOffsetMapTemplate;
 import org.opendaylight.yangtools.util.ModifiableMapPhase;
 import org.opendaylight.yangtools.util.UnmodifiableMapPhase;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -20,6 +21,7 @@ import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContaine
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.NormalizedNodeContainerBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.nodes.AbstractImmutableDataContainerNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.nodes.CloneableMap;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 
 abstract class AbstractImmutableDataContainerNodeBuilder<I extends PathArgument, R extends DataContainerNode<I>>
         implements DataContainerNodeBuilder<I, R> {
@@ -27,6 +29,12 @@ abstract class AbstractImmutableDataContainerNodeBuilder<I extends PathArgument,
     private Map<PathArgument, DataContainerChild<? extends PathArgument, ?>> value;
     private I nodeIdentifier;
 
+    /*
+     * Layout of children, as derived from the schema, if available. When present, we always build a copy of the
+     * value map, hence the builder never becomes dirty on build.
+     */
+    private ImmutableOffsetMapTemplate<PathArgument> layout;
+
     /*
      * Tracks whether the builder is dirty, e.g. whether the value map has been used
      * to construct a child. If it has, we detect this condition before any further
@@ -67,6 +75,15 @@ abstract class AbstractImmutableDataContainerNodeBuilder<I extends PathArgument,
         return nodeIdentifier;
     }
 
+    /**
+     * Use the children layout derived from specified schema node when building the value map.
+     *
+     * @param schema Schema node of nodes being built
+     */
+    final void setLayout(final DataNodeContainer schema) {
+        layout = DataContainerLayouts.forSchema(schema);
+    }
+
     protected final DataContainerChild<? extends PathArgument, ?> getChild(final PathArgument child) {
         return value.get(child);
     }
@@ -76,6 +93,9 @@ abstract class AbstractImmutableDataContainerNodeBuilder<I extends PathArgument,
             return ((ModifiableMapPhase<PathArgument, DataContainerChild<? extends PathArgument, ?>>)value)
                     .toUnmodifiableMap();
         }
+        if (layout != null) {
+            return layout.instantiate(value);
+        }
 
         dirty = true;
         return value;
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.builder.impl;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.util.ImmutableOffsetMapTemplate;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.impl.schema.SchemaUtils;
+import org.opendaylight.yangtools.yang.model.api.AugmentationSchema;
+import org.opendaylight.yangtools.yang.model.api.AugmentationTarget;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+
+/**
+ * Cache of {@link ImmutableOffsetMapTemplate}s describing the children a {@link DataNodeContainer} can have. The
+ * layout is computed once per schema node and shared by all data container nodes built with it. Schema nodes are held
+ * weakly, so layouts do not outlive their SchemaContext.
+ */
+final class DataContainerLayouts {
+    private static final LoadingCache<DataNodeContainer, ImmutableOffsetMapTemplate<PathArgument>> LAYOUTS =
+            CacheBuilder.newBuilder().weakKeys().build(
+                new CacheLoader<DataNodeContainer, ImmutableOffsetMapTemplate<PathArgument>>() {
+                    @Override
+                    public ImmutableOffsetMapTemplate<PathArgument> load(@Nonnull final DataNodeContainer key) {
+                        return createLayout(key);
+                    }
+                });
+
+    private DataContainerLayouts() {
+        throw new UnsupportedOperationException();
+    }
+
+    static ImmutableOffsetMapTemplate<PathArgument> forSchema(@Nonnull final DataNodeContainer schema) {
+        return LAYOUTS.getUnchecked(schema);
+    }
+
+    private static ImmutableOffsetMapTemplate<PathArgument> createLayout(final DataNodeContainer schema) {
+        final List<PathArgument> children = new ArrayList<>();
+        // Augmented children are included here, too, but they only ever appear inside their AugmentationNode.
+        for (DataSchemaNode child : schema.getChildNodes()) {
+            children.add(NodeIdentifier.create(child.getQName()));
+        }
+        if (schema instanceof AugmentationTarget) {
+            for (AugmentationSchema augment : ((AugmentationTarget) schema).getAvailableAugmentations()) {
+                children.add(SchemaUtils.getNodeIdentifierForAugmentation(augment));
+            }
+        }
+        return ImmutableOffsetMapTemplate.unordered(children);
+    }
+}
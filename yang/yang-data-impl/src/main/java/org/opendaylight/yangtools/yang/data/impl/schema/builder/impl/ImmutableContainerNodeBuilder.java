@@ -15,6 +15,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeAttrBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.nodes.AbstractImmutableDataContainerAttrNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
 
 public class ImmutableContainerNodeBuilder
         extends AbstractImmutableDataContainerNodeAttrBuilder<NodeIdentifier, ContainerNode> {
@@ -39,6 +40,21 @@ public class ImmutableContainerNodeBuilder
         return new ImmutableContainerNodeBuilder(sizeHint);
     }
 
+    /**
+     * Create a builder, which lays out the built node's children according to a schema node. This reduces the cost
+     * of building many nodes corresponding to the same schema node.
+     *
+     * @param schema Schema node of the container
+     * @param sizeHint Expected number of children, negative if unknown
+     * @return A new builder
+     */
+    public static DataContainerNodeAttrBuilder<NodeIdentifier, ContainerNode> createWithLayout(
+            final ContainerSchemaNode schema, final int sizeHint) {
+        final ImmutableContainerNodeBuilder ret = new ImmutableContainerNodeBuilder(sizeHint);
+        ret.setLayout(schema);
+        return ret;
+    }
+
     public static DataContainerNodeAttrBuilder<NodeIdentifier, ContainerNode> create(final ContainerNode node) {
         if (!(node instanceof ImmutableContainerNode)) {
             throw new UnsupportedOperationException(String.format("Cannot initialize from class %s", node.getClass()));
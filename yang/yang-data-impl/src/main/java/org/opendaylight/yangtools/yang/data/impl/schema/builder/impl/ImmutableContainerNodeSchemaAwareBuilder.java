@@ -20,6 +20,7 @@ public final class ImmutableContainerNodeSchemaAwareBuilder extends ImmutableCon
 
     private ImmutableContainerNodeSchemaAwareBuilder(final ContainerSchemaNode schema) {
         this.validator = new DataNodeContainerValidator(schema);
+        setLayout(schema);
         super.withNodeIdentifier(NodeIdentifier.create(schema.getQName()));
     }
 
@@ -27,6 +28,7 @@ public final class ImmutableContainerNodeSchemaAwareBuilder extends ImmutableCon
             final ImmutableContainerNode node) {
         super(node);
         this.validator = new DataNodeContainerValidator(schema);
+        setLayout(schema);
         super.withNodeIdentifier(NodeIdentifier.create(schema.getQName()));
     }
 
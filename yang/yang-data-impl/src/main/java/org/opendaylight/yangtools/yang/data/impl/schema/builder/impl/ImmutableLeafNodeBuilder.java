@@ -29,7 +29,8 @@ public class ImmutableLeafNodeBuilder<T>
             return (LeafNode<T>) new ImmutableBinaryLeafNode(getNodeIdentifier(), (byte[]) value, getAttributes());
         }
 
-        return new ImmutableLeafNode<>(getNodeIdentifier(), value, getAttributes());
+        final LeafNode<T> primitive = PrimitiveLeafNodes.leafNode(getNodeIdentifier(), value, getAttributes());
+        return primitive != null ? primitive : new ImmutableLeafNode<>(getNodeIdentifier(), value, getAttributes());
     }
 
     private static final class ImmutableLeafNode<T>
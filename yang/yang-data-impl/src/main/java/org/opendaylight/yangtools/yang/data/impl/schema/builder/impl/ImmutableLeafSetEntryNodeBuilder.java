@@ -25,7 +25,14 @@ public class ImmutableLeafSetEntryNodeBuilder<T>
 
     @Override
     public LeafSetEntryNode<T> build() {
-        return new ImmutableLeafSetEntryNode<>(getNodeIdentifier(), getValue(), getAttributes());
+        final NodeWithValue identifier = getNodeIdentifier();
+        final T value = getValue();
+        checkArgument(Objects.deepEquals(identifier.getValue(), value),
+                "Node identifier contains different value: %s than value itself: %s", identifier, value);
+
+        @SuppressWarnings("unchecked")
+        final LeafSetEntryNode<T> compact = PrimitiveLeafNodes.leafSetEntryNode(identifier, getAttributes());
+        return compact != null ? compact : new ImmutableLeafSetEntryNode<>(identifier, value, getAttributes());
     }
 
     private static final class ImmutableLeafSetEntryNode<T>
@@ -34,8 +41,6 @@ public class ImmutableLeafSetEntryNodeBuilder<T>
         ImmutableLeafSetEntryNode(final NodeWithValue nodeIdentifier, final T value,
                 final Map<QName, String> attributes) {
             super(nodeIdentifier, value, attributes);
-            checkArgument(Objects.deepEquals(nodeIdentifier.getValue(), value),
-                    "Node identifier contains different value: %s than value itself: %s", nodeIdentifier, value);
         }
     }
 }
@@ -22,6 +22,7 @@ import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeAttrBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.valid.DataValidationException;
 import org.opendaylight.yangtools.yang.data.impl.schema.nodes.AbstractImmutableDataContainerAttrNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +54,22 @@ public class ImmutableMapEntryNodeBuilder
         return new ImmutableMapEntryNodeBuilder(sizeHint);
     }
 
+    /**
+     * Create a builder, which lays out the built node's children according to a schema node. This reduces the cost
+     * of building many entries of the same list.
+     *
+     * @param schema Schema node of the list
+     * @param sizeHint Expected number of children, negative if unknown
+     * @return A new builder
+     */
+    public static DataContainerNodeAttrBuilder<NodeIdentifierWithPredicates, MapEntryNode> createWithLayout(
+            final ListSchemaNode schema, final int sizeHint) {
+        final ImmutableMapEntryNodeBuilder ret = sizeHint >= 0 ? new ImmutableMapEntryNodeBuilder(sizeHint)
+                : new ImmutableMapEntryNodeBuilder();
+        ret.setLayout(schema);
+        return ret;
+    }
+
     public static DataContainerNodeAttrBuilder<NodeIdentifierWithPredicates, MapEntryNode> create(
             final MapEntryNode node) {
         if (!(node instanceof ImmutableMapEntryNode)) {
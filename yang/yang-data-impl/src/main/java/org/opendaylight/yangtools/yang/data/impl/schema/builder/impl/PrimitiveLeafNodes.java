@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.builder.impl;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.AttributesContainer;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.AbstractImmutableNormalizedNode;
+
+/**
+ * Compact {@link LeafNode} and {@link LeafSetEntryNode} implementations, which are used for nodes without attributes.
+ * Leaf nodes holding a {@link Boolean}, {@link Byte}, {@link Short}, {@link Integer} or {@link Long} store the value
+ * in a primitive field, hence they do not retain the boxed object, which is typically larger than the node itself.
+ * The value is boxed again on each call to {@link LeafNode#getValue()}. This is free for values covered by the boxing
+ * caches, such as small integers and booleans, but allocates a new object for others. That object is short-lived,
+ * hence it is not cached, as doing so would defeat the purpose of these implementations. Callers which access the
+ * value repeatedly should hold on to the returned object.
+ *
+ * <p>
+ * Leaf set entries keep their value in their {@link NodeWithValue} identifier, hence the compact implementation does
+ * not store it again.
+ */
+final class PrimitiveLeafNodes {
+    private PrimitiveLeafNodes() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Create a primitive-backed leaf node, if applicable.
+     *
+     * @param identifier Node identifier
+     * @param value Node value
+     * @param attributes Node attributes
+     * @return A compact LeafNode, or null if the value or attributes do not allow it.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    static <T> LeafNode<T> leafNode(final NodeIdentifier identifier, final T value,
+            final Map<QName, String> attributes) {
+        if (!attributes.isEmpty() || value == null) {
+            return null;
+        }
+
+        // Ordered by expected frequency
+        final Class<?> valueClass = value.getClass();
+        if (valueClass == Long.class) {
+            return (LeafNode<T>) new LongLeafNode(identifier, (Long) value);
+        } else if (valueClass == Integer.class) {
+            return (LeafNode<T>) new IntegerLeafNode(identifier, (Integer) value);
+        } else if (valueClass == Short.class) {
+            return (LeafNode<T>) new ShortLeafNode(identifier, (Short) value);
+        } else if (valueClass == Boolean.class) {
+            return (LeafNode<T>) new BooleanLeafNode(identifier, (Boolean) value);
+        } else if (valueClass == Byte.class) {
+            return (LeafNode<T>) new ByteLeafNode(identifier, (Byte) value);
+        }
+        return null;
+    }
+
+    /**
+     * Create a compact leaf set entry, if applicable.
+     *
+     * @param identifier Node identifier
+     * @param attributes Node attributes
+     * @return A compact LeafSetEntryNode, or null if the attributes do not allow it.
+     */
+    @Nullable
+    static <T> LeafSetEntryNode<T> leafSetEntryNode(final NodeWithValue<T> identifier,
+            final Map<QName, String> attributes) {
+        return attributes.isEmpty() ? new CompactLeafSetEntryNode<>(identifier) : null;
+    }
+
+    private abstract static class AbstractAttributelessNode<K extends PathArgument, T>
+            extends AbstractImmutableNormalizedNode<K, T> implements AttributesContainer {
+        AbstractAttributelessNode(final K identifier) {
+            super(identifier);
+        }
+
+        @Override
+        public final Map<QName, String> getAttributes() {
+            return ImmutableMap.of();
+        }
+
+        @Override
+        public final Object getAttributeValue(final QName name) {
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected final boolean valueEquals(final AbstractImmutableNormalizedNode<?, ?> other) {
+            // Guaranteed to be the same class by AbstractImmutableNormalizedNode.equals()
+            return primitiveEquals((AbstractAttributelessNode<K, T>) other);
+        }
+
+        abstract boolean primitiveEquals(AbstractAttributelessNode<K, T> other);
+    }
+
+    private static final class LongLeafNode extends AbstractAttributelessNode<NodeIdentifier, Long>
+            implements LeafNode<Long> {
+        private final long value;
+
+        LongLeafNode(final NodeIdentifier identifier, final long value) {
+            super(identifier);
+            this.value = value;
+        }
+
+        @Override
+        public Long getValue() {
+            return value;
+        }
+
+        @Override
+        protected int valueHashCode() {
+            return Long.hashCode(value);
+        }
+
+        @Override
+        boolean primitiveEquals(final AbstractAttributelessNode<NodeIdentifier, Long> other) {
+            return value == ((LongLeafNode) other).value;
+        }
+    }
+
+    private static final class IntegerLeafNode extends AbstractAttributelessNode<NodeIdentifier, Integer>
+            implements LeafNode<Integer> {
+        private final int value;
+
+        IntegerLeafNode(final NodeIdentifier identifier, final int value) {
+            super(identifier);
+            this.value = value;
+        }
+
+        @Override
+        public Integer getValue() {
+            return value;
+        }
+
+        @Override
+        protected int valueHashCode() {
+            return Integer.hashCode(value);
+        }
+
+        @Override
+        boolean primitiveEquals(final AbstractAttributelessNode<NodeIdentifier, Integer> other) {
+            return value == ((IntegerLeafNode) other).value;
+        }
+    }
+
+    private static final class ShortLeafNode extends AbstractAttributelessNode<NodeIdentifier, Short>
+            implements LeafNode<Short> {
+        private final short value;
+
+        ShortLeafNode(final NodeIdentifier identifier, final short value) {
+            super(identifier);
+            this.value = value;
+        }
+
+        @Override
+        public Short getValue() {
+            return value;
+        }
+
+        @Override
+        protected int valueHashCode() {
+            return Short.hashCode(value);
+        }
+
+        @Override
+        boolean primitiveEquals(final AbstractAttributelessNode<NodeIdentifier, Short> other) {
+            return value == ((ShortLeafNode) other).value;
+        }
+    }
+
+    private static final class ByteLeafNode extends AbstractAttributelessNode<NodeIdentifier, Byte>
+            implements LeafNode<Byte> {
+        private final byte value;
+
+        ByteLeafNode(final NodeIdentifier identifier, final byte value) {
+            super(identifier);
+            this.value = value;
+        }
+
+        @Override
+        public Byte getValue() {
+            return value;
+        }
+
+        @Override
+        protected int valueHashCode() {
+            return Byte.hashCode(value);
+        }
+
+        @Override
+        boolean primitiveEquals(final AbstractAttributelessNode<NodeIdentifier, Byte> other) {
+            return value == ((ByteLeafNode) other).value;
+        }
+    }
+
+    private static final class BooleanLeafNode extends AbstractAttributelessNode<NodeIdentifier, Boolean>
+            implements LeafNode<Boolean> {
+        private final boolean value;
+
+        BooleanLeafNode(final NodeIdentifier identifier, final boolean value) {
+            super(identifier);
+            this.value = value;
+        }
+
+        @Override
+        public Boolean getValue() {
+            return value;
+        }
+
+        @Override
+        protected int valueHashCode() {
+            return Boolean.hashCode(value);
+        }
+
+        @Override
+        boolean primitiveEquals(final AbstractAttributelessNode<NodeIdentifier, Boolean> other) {
+            return value == ((BooleanLeafNode) other).value;
+        }
+    }
+
+    private static final class CompactLeafSetEntryNode<T> extends AbstractAttributelessNode<NodeWithValue, T>
+            implements LeafSetEntryNode<T> {
+        CompactLeafSetEntryNode(final NodeWithValue<T> identifier) {
+            super(identifier);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T getValue() {
+            return (T) getIdentifier().getValue();
+        }
+
+        @Override
+        protected int valueHashCode() {
+            // Identifier's hashCode already covers the value
+            return 1;
+        }
+
+        @Override
+        boolean primitiveEquals(final AbstractAttributelessNode<NodeWithValue, T> other) {
+            // Identifier equality already covers the value
+            return true;
+        }
+    }
+}
@@ -12,6 +12,8 @@ import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateTip;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeMetrics;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeMetrics.Phase;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeTip;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
@@ -32,6 +34,20 @@ abstract class AbstractDataTreeTip implements DataTreeTip {
         final InMemoryDataTreeModification m = (InMemoryDataTreeModification)modification;
         Preconditions.checkArgument(m.isSealed(), "Attempted to verify unsealed modification %s", m);
 
+        final DataTreeMetrics metrics = m.getMetrics();
+        if (metrics != null) {
+            final long start = System.nanoTime();
+            try {
+                validate(m);
+            } finally {
+                metrics.phaseCompleted(Phase.VALIDATE, System.nanoTime() - start);
+            }
+        } else {
+            validate(m);
+        }
+    }
+
+    private void validate(final InMemoryDataTreeModification m) throws DataValidationFailedException {
         m.getStrategy().checkApplicable(YangInstanceIdentifier.EMPTY, m.getRootModification(),
             Optional.of(getTipRoot()), m.getVersion());
     }
@@ -43,6 +59,23 @@ abstract class AbstractDataTreeTip implements DataTreeTip {
         final InMemoryDataTreeModification m = (InMemoryDataTreeModification)modification;
         Preconditions.checkArgument(m.isSealed(), "Attempted to prepare unsealed modification %s", m);
 
+        final DataTreeMetrics metrics = m.getMetrics();
+        if (metrics == null) {
+            return prepare(m);
+        }
+
+        final long start = System.nanoTime();
+        final DataTreeCandidateTip ret;
+        try {
+            ret = prepare(m);
+        } finally {
+            metrics.phaseCompleted(Phase.PREPARE, System.nanoTime() - start);
+        }
+        metrics.treeNodesMaterialized(m.getRootModification().takeCreatedTreeNodes());
+        return ret;
+    }
+
+    private DataTreeCandidateTip prepare(final InMemoryDataTreeModification m) {
         final ModifiedNode root = m.getRootModification();
 
         final TreeNode currentRoot = getTipRoot();
@@ -53,7 +86,7 @@ abstract class AbstractDataTreeTip implements DataTreeTip {
         final Optional<TreeNode> newRoot = m.getStrategy().apply(m.getRootModification(),
             Optional.of(currentRoot), m.getVersion());
         Preconditions.checkState(newRoot.isPresent(), "Apply strategy failed to produce root node for modification %s",
-            modification);
+            m);
         return new InMemoryDataTreeCandidate(YangInstanceIdentifier.EMPTY, root, currentRoot, newRoot.get());
     }
 }
@@ -11,7 +11,9 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Verify;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -33,11 +35,16 @@ abstract class AbstractNodeContainerModificationStrategy extends SchemaAwareAppl
 
     private final Class<? extends NormalizedNode<?, ?>> nodeClass;
     private final boolean verifyChildrenStructure;
+    private final boolean checkWrittenValues;
+    private final int parallelThreshold;
 
     protected AbstractNodeContainerModificationStrategy(final Class<? extends NormalizedNode<?, ?>> nodeClass,
             final DataTreeConfiguration treeConfig) {
         this.nodeClass = Preconditions.checkNotNull(nodeClass , "nodeClass");
         this.verifyChildrenStructure = treeConfig.getTreeType() == TreeType.CONFIGURATION;
+        this.parallelThreshold = treeConfig.getParallelThreshold();
+        // Only unique constraints need to look at written values at this point
+        this.checkWrittenValues = treeConfig.isUniqueIndexEnabled();
     }
 
     @SuppressWarnings("rawtypes")
@@ -82,8 +89,14 @@ abstract class AbstractNodeContainerModificationStrategy extends SchemaAwareAppl
     @Override
     protected TreeNode applyWrite(final ModifiedNode modification,
             final Optional<TreeNode> currentMeta, final Version version) {
+        final TreeNode validated = modification.getValidatedNode(this, currentMeta);
+        if (validated != null) {
+            // Already applied by checkWrittenChildren()
+            return validated;
+        }
+
         final NormalizedNode<?, ?> newValue = modification.getWrittenValue();
-        final TreeNode newValueMeta = TreeNodeFactory.createTreeNode(newValue, version);
+        final TreeNode newValueMeta = modification.treeNodeCreated(TreeNodeFactory.createTreeNode(newValue, version));
 
         if (modification.getChildren().isEmpty()) {
             return newValueMeta;
@@ -110,12 +123,13 @@ abstract class AbstractNodeContainerModificationStrategy extends SchemaAwareAppl
 
         @SuppressWarnings("rawtypes")
         final NormalizedNodeContainerBuilder dataBuilder = createBuilder(newValue);
-        final TreeNode result = mutateChildren(mutable, dataBuilder, version, modification.getChildren());
+        final TreeNode result = modification.treeNodeCreated(mutateChildren(mutable, dataBuilder, version,
+            modification.getChildren()));
 
         // We are good to go except one detail: this is a single logical write, but
         // we have a result TreeNode which has been forced to materialized, e.g. it
         // is larger than it needs to be. Create a new TreeNode to host the data.
-        return TreeNodeFactory.createTreeNode(result.getData(), version);
+        return modification.treeNodeCreated(TreeNodeFactory.createTreeNode(result.getData(), version));
     }
 
     /**
@@ -128,31 +142,71 @@ abstract class AbstractNodeContainerModificationStrategy extends SchemaAwareAppl
      * @param modifications modification operations to apply
      * @return Sealed immutable copy of TreeNode structure with all Data Node references set.
      */
-    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @SuppressWarnings("rawtypes")
     private TreeNode mutateChildren(final MutableTreeNode meta, final NormalizedNodeContainerBuilder data,
-            final Version nodeVersion, final Iterable<ModifiedNode> modifications) {
+            final Version nodeVersion, final Collection<ModifiedNode> modifications) {
+        if (ParallelChildOperations.isParallel(parallelThreshold, modifications.size())) {
+            return mutateChildrenParallel(meta, data, nodeVersion, modifications);
+        }
 
         for (final ModifiedNode mod : modifications) {
             final YangInstanceIdentifier.PathArgument id = mod.getIdentifier();
             final Optional<TreeNode> cm = meta.getChild(id);
 
             final Optional<TreeNode> result = resolveChildOperation(id).apply(mod, cm, nodeVersion);
-            if (result.isPresent()) {
-                final TreeNode tn = result.get();
-                meta.addChild(tn);
-                data.addChild(tn.getData());
-            } else {
-                meta.removeChild(id);
-                data.removeChild(id);
-            }
+            updateChild(meta, data, id, result);
+        }
+
+        meta.setData(data.build());
+        return meta.seal();
+    }
+
+    /**
+     * Parallel version of {@link #mutateChildren}.
+     * Child operations are applied concurrently, as they only touch their respective ModifiedNode and read from meta.
+     * Results are then integrated sequentially, as neither meta nor data builder are thread-safe.
+     */
+    @SuppressWarnings("rawtypes")
+    private TreeNode mutateChildrenParallel(final MutableTreeNode meta, final NormalizedNodeContainerBuilder data,
+            final Version nodeVersion, final Collection<ModifiedNode> modifications) {
+        final List<ModifiedNode> mods = new ArrayList<>(modifications);
+        @SuppressWarnings("unchecked")
+        final Optional<TreeNode>[] results = new Optional[mods.size()];
+
+        ParallelChildOperations.<ModifiedNode, RuntimeException>forEach(mods, (index, mod) -> {
+            final PathArgument id = mod.getIdentifier();
+            results[index] = resolveChildOperation(id).apply(mod, meta.getChild(id), nodeVersion);
+        });
+
+        for (int i = 0; i < results.length; ++i) {
+            updateChild(meta, data, mods.get(i).getIdentifier(), results[i]);
         }
 
         meta.setData(data.build());
         return meta.seal();
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void updateChild(final MutableTreeNode meta, final NormalizedNodeContainerBuilder data,
+            final PathArgument id, final Optional<TreeNode> result) {
+        if (result.isPresent()) {
+            final TreeNode tn = result.get();
+            meta.addChild(tn);
+            data.addChild(tn.getData());
+        } else {
+            meta.removeChild(id);
+            data.removeChild(id);
+        }
+    }
+
     @Override
     protected TreeNode applyMerge(final ModifiedNode modification, final TreeNode currentMeta, final Version version) {
+        final TreeNode validated = modification.getValidatedNode(this, Optional.of(currentMeta));
+        if (validated != null) {
+            // Already applied by checkWrittenChildren()
+            return validated;
+        }
+
         /*
          * The node which we are merging exists. We now need to expand any child operations implied by the value. Once
          * we do that, ModifiedNode children will look like this node were a TOUCH and we will let applyTouch() do the
@@ -250,7 +304,7 @@ abstract class AbstractNodeContainerModificationStrategy extends SchemaAwareAppl
             final NormalizedNodeContainerBuilder dataBuilder = createBuilder(currentMeta.getData());
             final MutableTreeNode newMeta = currentMeta.mutable();
             newMeta.setSubtreeVersion(version);
-            final TreeNode ret = mutateChildren(newMeta, dataBuilder, version, children);
+            final TreeNode ret = modification.treeNodeCreated(mutateChildren(newMeta, dataBuilder, version, children));
 
             /*
              * It is possible that the only modifications under this node were empty merges,
@@ -299,21 +353,115 @@ abstract class AbstractNodeContainerModificationStrategy extends SchemaAwareAppl
      */
     private void checkChildPreconditions(final YangInstanceIdentifier path, final NodeModification modification,
             final TreeNode current, final Version version) throws DataValidationFailedException {
-        for (final NodeModification childMod : modification.getChildren()) {
-            final YangInstanceIdentifier.PathArgument childId = childMod.getIdentifier();
-            final Optional<TreeNode> childMeta = current.getChild(childId);
+        final Collection<? extends NodeModification> children = modification.getChildren();
+        if (ParallelChildOperations.isParallel(parallelThreshold, children.size())) {
+            ParallelChildOperations.<NodeModification, DataValidationFailedException>forEach(
+                new ArrayList<>(children), (index, childMod) -> checkChildPrecondition(path, childMod, current,
+                    version));
+            return;
+        }
 
-            final YangInstanceIdentifier childPath = path.node(childId);
-            resolveChildOperation(childId).checkApplicable(childPath, childMod, childMeta, version);
+        for (final NodeModification childMod : children) {
+            checkChildPrecondition(path, childMod, current, version);
         }
     }
 
+    private void checkChildPrecondition(final YangInstanceIdentifier path, final NodeModification childMod,
+            final TreeNode current, final Version version) throws DataValidationFailedException {
+        final YangInstanceIdentifier.PathArgument childId = childMod.getIdentifier();
+        final Optional<TreeNode> childMeta = current.getChild(childId);
+
+        final YangInstanceIdentifier childPath = path.node(childId);
+        resolveChildOperation(childId).checkApplicable(childPath, childMod, childMeta, version);
+    }
+
     @Override
     protected void checkMergeApplicable(final YangInstanceIdentifier path, final NodeModification modification,
             final Optional<TreeNode> current, final Version version) throws DataValidationFailedException {
         if (current.isPresent()) {
             checkChildPreconditions(path, modification, current.get(), version);
         }
+        if (checkWrittenValues) {
+            checkWrittenChildren(path, modification, current, version);
+        }
+    }
+
+    @Override
+    protected void checkWriteApplicable(final YangInstanceIdentifier path, final NodeModification modification,
+            final Optional<TreeNode> current, final Version version) throws DataValidationFailedException {
+        super.checkWriteApplicable(path, modification, current, version);
+        if (checkWrittenValues) {
+            checkWrittenChildren(path, modification, current, version);
+        }
+    }
+
+    /**
+     * Check children introduced by a written or merged value. These do not have a modification of their own, hence
+     * they would not be checked by {@link #checkChildPreconditions(YangInstanceIdentifier, NodeModification, TreeNode,
+     * Version)}. We check the result of applying the modification, so that any child modifications made on top of
+     * the value are accounted for. That result is stashed in the modification, so that it is not applied again when
+     * the modification is prepared.
+     */
+    private void checkWrittenChildren(final YangInstanceIdentifier path, final NodeModification nodeMod,
+            final Optional<TreeNode> current, final Version version) throws DataValidationFailedException {
+        if (!(nodeMod instanceof ModifiedNode)) {
+            return;
+        }
+        final ModifiedNode modification = (ModifiedNode) nodeMod;
+        final NormalizedNode<?, ?> value = modification.getWrittenValue();
+        if (value == null) {
+            return;
+        }
+
+        if (modification.getOperation() == LogicalOperation.WRITE || !current.isPresent()) {
+            // The value replaces whatever was there
+            if (modification.getChildren().isEmpty()) {
+                checkWrittenValue(path, value);
+            } else {
+                final TreeNode applied = apply(modification, current, version).get();
+                checkWrittenValue(path, applied.getData());
+                modification.setValidatedNode(this, current, applied);
+            }
+            return;
+        }
+
+        // Merging into an existing node: children which have a modification of their own have already been checked
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final Collection<NormalizedNode<?, ?>> children = ((NormalizedNodeContainer) value).getValue();
+        final List<PathArgument> merged = new ArrayList<>(children.size());
+        for (final NormalizedNode<?, ?> child : children) {
+            if (!modification.getChild(child.getIdentifier()).isPresent()) {
+                merged.add(child.getIdentifier());
+            }
+        }
+        if (merged.isEmpty()) {
+            return;
+        }
+
+        final Optional<TreeNode> applied = apply(modification, current, version);
+        if (applied.isPresent()) {
+            for (final PathArgument id : merged) {
+                final Optional<TreeNode> child = applied.get().getChild(id);
+                if (child.isPresent()) {
+                    resolveChildOperation(id).checkWrittenValue(path.node(id), child.get().getData());
+                }
+            }
+            modification.setValidatedNode(this, current, applied.get());
+        }
+    }
+
+    @Override
+    void checkWrittenValue(final YangInstanceIdentifier path, final NormalizedNode<?, ?> value)
+            throws DataValidationFailedException {
+        if (checkWrittenValues) {
+            for (final Object child : ((NormalizedNodeContainer<?, ?, ?>) value).getValue()) {
+                final NormalizedNode<?, ?> castedChild = (NormalizedNode<?, ?>) child;
+                final Optional<ModificationApplyOperation> childOp = getChild(castedChild.getIdentifier());
+                if (childOp.isPresent()) {
+                    childOp.get().checkWrittenValue(path.node(castedChild.getIdentifier()), castedChild);
+                }
+            }
+        }
     }
 
     protected boolean verifyChildrenStructure() {
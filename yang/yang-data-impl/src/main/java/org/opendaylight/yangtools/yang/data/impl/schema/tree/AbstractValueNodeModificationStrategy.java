@@ -66,7 +66,7 @@ abstract class AbstractValueNodeModificationStrategy<T extends DataSchemaNode> e
     @Override
     protected final TreeNode applyWrite(final ModifiedNode modification,
             final Optional<TreeNode> currentMeta, final Version version) {
-        return TreeNodeFactory.createTreeNode(modification.getWrittenValue(), version);
+        return modification.treeNodeCreated(TreeNodeFactory.createTreeNode(modification.getWrittenValue(), version));
     }
 
     @Override
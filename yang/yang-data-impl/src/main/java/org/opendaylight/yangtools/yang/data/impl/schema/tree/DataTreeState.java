@@ -9,7 +9,9 @@ package org.opendaylight.yangtools.yang.data.impl.schema.tree;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeMetrics;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.TreeNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
@@ -21,23 +23,27 @@ import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 final class DataTreeState {
     private final LatestOperationHolder holder;
     private final SchemaContext schemaContext;
+    private final DataTreeMetrics metrics;
     private final TreeNode root;
 
-    private DataTreeState(final TreeNode root) {
+    private DataTreeState(final TreeNode root, final DataTreeMetrics metrics) {
         this.root = Preconditions.checkNotNull(root);
+        this.metrics = metrics;
         holder = new LatestOperationHolder();
         schemaContext = null;
     }
 
-    private DataTreeState(final TreeNode root, final LatestOperationHolder holder, final SchemaContext schemaContext) {
+    private DataTreeState(final TreeNode root, final LatestOperationHolder holder, final SchemaContext schemaContext,
+            final DataTreeMetrics metrics) {
         // It should be impossible to instantiate a new root without a SchemaContext
         this.schemaContext = Preconditions.checkNotNull(schemaContext);
         this.holder = Preconditions.checkNotNull(holder);
         this.root = Preconditions.checkNotNull(root);
+        this.metrics = metrics;
     }
 
-    static DataTreeState createInitial(final TreeNode root) {
-        return new DataTreeState(root);
+    static DataTreeState createInitial(final TreeNode root, @Nullable final DataTreeMetrics metrics) {
+        return new DataTreeState(root, metrics);
     }
 
     TreeNode getRoot() {
@@ -45,16 +51,16 @@ final class DataTreeState {
     }
 
     InMemoryDataTreeSnapshot newSnapshot() {
-        return new InMemoryDataTreeSnapshot(schemaContext, root, holder.newSnapshot());
+        return new InMemoryDataTreeSnapshot(schemaContext, root, holder.newSnapshot(), metrics);
     }
 
     DataTreeState withSchemaContext(final SchemaContext newSchemaContext, final ModificationApplyOperation operation) {
         holder.setCurrent(operation);
-        return new DataTreeState(root, holder, newSchemaContext);
+        return new DataTreeState(root, holder, newSchemaContext, metrics);
     }
 
     DataTreeState withRoot(final TreeNode newRoot) {
-        return new DataTreeState(newRoot, holder, schemaContext);
+        return new DataTreeState(newRoot, holder, schemaContext, metrics);
     }
 
     @Override
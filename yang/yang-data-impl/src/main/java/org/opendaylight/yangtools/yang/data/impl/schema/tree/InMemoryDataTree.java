@@ -11,10 +11,13 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.util.DurationHistogramTracker;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeMetrics;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeMetrics.Phase;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.TipProducingDataTree;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.TreeNode;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
@@ -35,6 +38,8 @@ final class InMemoryDataTree extends AbstractDataTreeTip implements TipProducing
     private static final Logger LOG = LoggerFactory.getLogger(InMemoryDataTree.class);
 
     private final DataTreeConfiguration treeConfig;
+    private final DurationHistogramTracker commitTracker;
+    private final DataTreeMetrics metrics;
     private final boolean maskMandatory;
 
     /**
@@ -45,8 +50,10 @@ final class InMemoryDataTree extends AbstractDataTreeTip implements TipProducing
     InMemoryDataTree(final TreeNode rootNode, final DataTreeConfiguration treeConfig,
         final SchemaContext schemaContext) {
         this.treeConfig = Preconditions.checkNotNull(treeConfig, "treeConfig");
+        commitTracker = treeConfig.getCommitLatencyTracker().orElse(null);
+        metrics = treeConfig.getMetrics().orElse(null);
         maskMandatory = true;
-        state = DataTreeState.createInitial(rootNode);
+        state = DataTreeState.createInitial(rootNode, metrics);
         if (schemaContext != null) {
             setSchemaContext(schemaContext);
         }
@@ -55,9 +62,12 @@ final class InMemoryDataTree extends AbstractDataTreeTip implements TipProducing
     InMemoryDataTree(final TreeNode rootNode, final DataTreeConfiguration treeConfig,
             final SchemaContext schemaContext, final DataSchemaNode rootSchemaNode, final boolean maskMandatory) {
         this.treeConfig = Preconditions.checkNotNull(treeConfig, "treeConfig");
+        commitTracker = treeConfig.getCommitLatencyTracker().orElse(null);
+        metrics = treeConfig.getMetrics().orElse(null);
         this.maskMandatory = maskMandatory;
 
-        state = DataTreeState.createInitial(rootNode).withSchemaContext(schemaContext, getOperation(rootSchemaNode));
+        state = DataTreeState.createInitial(rootNode, metrics).withSchemaContext(schemaContext,
+            getOperation(rootSchemaNode));
     }
 
     private ModificationApplyOperation getOperation(final DataSchemaNode rootSchemaNode) {
@@ -110,6 +120,26 @@ final class InMemoryDataTree extends AbstractDataTreeTip implements TipProducing
         if (candidate instanceof NoopDataTreeCandidate) {
             return;
         }
+
+        if (commitTracker != null || metrics != null) {
+            final long start = System.nanoTime();
+            try {
+                commitCandidate(candidate);
+            } finally {
+                final long elapsed = System.nanoTime() - start;
+                if (commitTracker != null) {
+                    commitTracker.addDuration(elapsed);
+                }
+                if (metrics != null) {
+                    metrics.phaseCompleted(Phase.COMMIT, elapsed);
+                }
+            }
+        } else {
+            commitCandidate(candidate);
+        }
+    }
+
+    private void commitCandidate(final DataTreeCandidate candidate) {
         Preconditions.checkArgument(candidate instanceof InMemoryDataTreeCandidate, "Invalid candidate class %s",
             candidate.getClass());
         final InMemoryDataTreeCandidate c = (InMemoryDataTreeCandidate)candidate;
@@ -121,7 +151,9 @@ final class InMemoryDataTree extends AbstractDataTreeTip implements TipProducing
         final TreeNode newRoot = c.getTipRoot();
         DataTreeState currentState;
         DataTreeState newState;
+        int attempts = 0;
         do {
+            attempts++;
             currentState = state;
             final TreeNode currentRoot = currentState.getRoot();
             LOG.debug("Updating datastore from {} to {}", currentRoot, newRoot);
@@ -137,6 +169,10 @@ final class InMemoryDataTree extends AbstractDataTreeTip implements TipProducing
             newState = currentState.withRoot(newRoot);
             LOG.trace("Updated state from {} to {}", currentState, newState);
         } while (!STATE_UPDATER.compareAndSet(this, currentState, newState));
+
+        if (metrics != null && attempts > 1) {
+            metrics.commitRetried(attempts - 1);
+        }
     }
 
     private static String simpleToString(final Object obj) {
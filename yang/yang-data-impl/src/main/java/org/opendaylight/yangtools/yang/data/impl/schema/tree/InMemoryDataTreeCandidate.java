@@ -7,11 +7,19 @@
  */
 package org.opendaylight.yangtools.yang.data.impl.schema.tree;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.base.MoreObjects;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateVisitor;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.TreeNode;
 
 final class InMemoryDataTreeCandidate extends AbstractDataTreeCandidate {
@@ -28,6 +36,58 @@ final class InMemoryDataTreeCandidate extends AbstractDataTreeCandidate {
         }
     }
 
+    /**
+     * Native implementation of {@link #accept(DataTreeCandidateVisitor)}, which walks {@link ModifiedNode}s and their
+     * corresponding {@link TreeNode}s directly, without instantiating {@link DataTreeCandidateNode}s.
+     */
+    private static final class Traversal {
+        private final List<PathArgument> stack;
+        private final List<PathArgument> path;
+        private final DataTreeCandidateVisitor visitor;
+
+        Traversal(final List<PathArgument> stack, final DataTreeCandidateVisitor visitor) {
+            this.stack = stack;
+            this.path = Collections.unmodifiableList(stack);
+            this.visitor = visitor;
+        }
+
+        void visit(final ModifiedNode mod, final TreeNode oldMeta, final TreeNode newMeta) {
+            final ModificationType type = mod.getModificationType();
+            switch (type) {
+                case APPEARED:
+                case DISAPPEARED:
+                case SUBTREE_MODIFIED:
+                    if (visitor.enterNode(path, type, data(oldMeta), data(newMeta))) {
+                        for (ModifiedNode child : mod.getChildren()) {
+                            final PathArgument id = child.getIdentifier();
+                            stack.add(id);
+                            visit(child, childMeta(oldMeta, id), childMeta(newMeta, id));
+                            stack.remove(stack.size() - 1);
+                        }
+                        visitor.exitNode(path);
+                    }
+                    break;
+                case DELETE:
+                case WRITE:
+                    visitor.leafChanged(path, type, data(oldMeta), data(newMeta));
+                    break;
+                case UNMODIFIED:
+                    // No-op
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unhandled modification type " + type);
+            }
+        }
+
+        private static TreeNode childMeta(final TreeNode parent, final PathArgument id) {
+            return parent == null ? null : parent.childByArg(id);
+        }
+
+        private static NormalizedNode<?, ?> data(final TreeNode meta) {
+            return meta == null ? null : meta.getData();
+        }
+    }
+
     private final RootNode root;
 
     InMemoryDataTreeCandidate(final YangInstanceIdentifier rootPath, final ModifiedNode modificationRoot,
@@ -51,6 +111,13 @@ final class InMemoryDataTreeCandidate extends AbstractDataTreeCandidate {
         return root;
     }
 
+    @Override
+    public void accept(final DataTreeCandidateVisitor visitor) {
+        requireNonNull(visitor);
+        final List<PathArgument> stack = new ArrayList<>(getRootPath().getPathArguments());
+        new Traversal(stack, visitor).visit(root.getMod(), root.getOldMeta(), root.getNewMeta());
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("rootPath", getRootPath())
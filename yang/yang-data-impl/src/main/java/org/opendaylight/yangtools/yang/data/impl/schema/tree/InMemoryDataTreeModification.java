@@ -18,6 +18,8 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgum
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.CursorAwareDataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeMetrics;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeMetrics.Phase;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModificationCursor;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.StoreTreeNodes;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.TreeNode;
@@ -193,7 +195,7 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
             "Data tree root is not present, possibly removed by previous modification");
 
         final InMemoryDataTreeSnapshot tempTree = new InMemoryDataTreeSnapshot(snapshot.getSchemaContext(),
-            tempRoot.get(), strategyTree);
+            tempRoot.get(), strategyTree, snapshot.getMetrics());
         return tempTree.newModification();
     }
 
@@ -201,6 +203,10 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
         return version;
     }
 
+    DataTreeMetrics getMetrics() {
+        return snapshot.getMetrics();
+    }
+
     boolean isSealed() {
         return sealed == 1;
     }
@@ -280,6 +286,21 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
         final boolean wasRunning = SEALED_UPDATER.compareAndSet(this, 0, 1);
         Preconditions.checkState(wasRunning, "Attempted to seal an already-sealed Data Tree.");
 
+        final DataTreeMetrics metrics = snapshot.getMetrics();
+        if (metrics != null) {
+            final long start = System.nanoTime();
+            try {
+                seal();
+            } finally {
+                metrics.phaseCompleted(Phase.READY, System.nanoTime() - start);
+            }
+            metrics.modifiedNodesTouched(rootNode.countNodes());
+        } else {
+            seal();
+        }
+    }
+
+    private void seal() {
         AbstractReadyIterator current = AbstractReadyIterator.create(rootNode, strategyTree);
         do {
             current = current.process(version);
@@ -179,4 +179,10 @@ final class MinMaxElementsValidation extends SchemaAwareApplyOperation {
     void recursivelyVerifyStructure(final NormalizedNode<?, ?> value) {
         delegate.recursivelyVerifyStructure(value);
     }
+
+    @Override
+    void checkWrittenValue(final YangInstanceIdentifier path, final NormalizedNode<?, ?> value)
+            throws DataValidationFailedException {
+        delegate.checkWrittenValue(path, value);
+    }
 }
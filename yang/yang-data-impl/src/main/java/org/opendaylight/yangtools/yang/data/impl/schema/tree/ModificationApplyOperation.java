@@ -107,4 +107,18 @@ abstract class ModificationApplyOperation implements StoreTreeNode<ModificationA
     public abstract Optional<ModificationApplyOperation> getChild(PathArgument child);
 
     abstract void recursivelyVerifyStructure(NormalizedNode<?, ?> value);
+
+    /**
+     * Check constraints on a value which is being introduced as part of its parent's data, hence it is not visible
+     * to {@link #checkApplicable(YangInstanceIdentifier, NodeModification, Optional, Version)} as a modification of
+     * its own. Default implementation does nothing.
+     *
+     * @param path Path to the value
+     * @param value Value being introduced
+     * @throws DataValidationFailedException if the value violates a constraint
+     */
+    void checkWrittenValue(final YangInstanceIdentifier path, final NormalizedNode<?, ?> value)
+            throws DataValidationFailedException {
+        // No-op by default
+    }
 }
@@ -71,6 +71,9 @@ final class ModifiedNode extends NodeModification implements StoreTreeNode<Modif
     private Optional<TreeNode> validatedCurrent;
     private TreeNode validatedNode;
 
+    // Number of TreeNodes created by applying this node, not yet reported via takeCreatedTreeNodes()
+    private int createdTreeNodes;
+
     private ModifiedNode(final PathArgument identifier, final Optional<TreeNode> original,
             final ChildTrackingPolicy childPolicy) {
         this.identifier = identifier;
@@ -277,6 +280,8 @@ final class ModifiedNode extends NodeModification implements StoreTreeNode<Modif
                 // A WRITE can collapse all of its children
                 if (!children.isEmpty()) {
                     value = schema.apply(this, getOriginal(), version).get().getData();
+                    // Retain the children's TreeNode count, it is reported when this modification is prepared
+                    createdTreeNodes = takeCreatedTreeNodes();
                     children.clear();
                 }
 
@@ -342,6 +347,46 @@ final class ModifiedNode extends NodeModification implements StoreTreeNode<Modif
         return modType;
     }
 
+    /**
+     * Return the number of nodes in this modification subtree, including this node.
+     *
+     * @return Number of nodes
+     */
+    int countNodes() {
+        int count = 1;
+        for (ModifiedNode child : getChildren()) {
+            count += child.countNodes();
+        }
+        return count;
+    }
+
+    /**
+     * Account for a TreeNode created while applying this node. Apply operations for a particular node are never
+     * executed concurrently, hence this does not need to be thread-safe.
+     *
+     * @param node Newly-created node
+     * @return The node
+     */
+    TreeNode treeNodeCreated(final TreeNode node) {
+        createdTreeNodes++;
+        return node;
+    }
+
+    /**
+     * Return the number of TreeNodes created by applying nodes in this modification subtree since the last invocation
+     * of this method, resetting the count.
+     *
+     * @return Number of created TreeNodes
+     */
+    int takeCreatedTreeNodes() {
+        int count = createdTreeNodes;
+        createdTreeNodes = 0;
+        for (ModifiedNode child : getChildren()) {
+            count += child.takeCreatedTreeNodes();
+        }
+        return count;
+    }
+
     public static ModifiedNode createUnmodified(final TreeNode metadataTree, final ChildTrackingPolicy childPolicy) {
         return new ModifiedNode(metadataTree.getIdentifier(), Optional.of(metadataTree), childPolicy);
     }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.tree;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility for running an operation on each child modification of a node in the common {@link ForkJoinPool}. Callers
+ * are expected to only touch state private to each child, or read state which is not being modified while this
+ * operation runs.
+ *
+ * <p>
+ * If an operation fails, the failure reported is the one encountered on the child with the lowest index, hence
+ * reporting is consistent with sequential processing.
+ */
+final class ParallelChildOperations {
+    @FunctionalInterface
+    interface ChildOperation<T, X extends Exception> {
+        void apply(int index, T child) throws X;
+    }
+
+    private static final class ChildTask<T, X extends Exception> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FailureTracker tracker;
+        private final transient ChildOperation<T, X> operation;
+        private final transient List<T> children;
+        private final int chunkSize;
+        private final int from;
+        private final int to;
+
+        ChildTask(final FailureTracker tracker, final ChildOperation<T, X> operation, final List<T> children,
+                final int chunkSize, final int from, final int to) {
+            this.tracker = tracker;
+            this.operation = operation;
+            this.children = children;
+            this.chunkSize = chunkSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("checkstyle:illegalCatch")
+        protected void compute() {
+            if (to - from > chunkSize) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new ChildTask<>(tracker, operation, children, chunkSize, from, mid),
+                    new ChildTask<>(tracker, operation, children, chunkSize, mid, to));
+                return;
+            }
+
+            for (int i = from; i < to; ++i) {
+                if (tracker.isFailedBefore(i)) {
+                    // A preceding child has failed, there is no point in continuing
+                    return;
+                }
+
+                try {
+                    operation.apply(i, children.get(i));
+                } catch (Exception e) {
+                    tracker.setFailure(i, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class FailureTracker {
+        private volatile int failedIndex = Integer.MAX_VALUE;
+        private Exception failure;
+
+        boolean isFailedBefore(final int index) {
+            return failedIndex < index;
+        }
+
+        synchronized void setFailure(final int index, final Exception cause) {
+            if (index < failedIndex) {
+                failure = cause;
+                failedIndex = index;
+            }
+        }
+
+        synchronized Exception getFailure() {
+            return failure;
+        }
+    }
+
+    /**
+     * Number of tasks each available thread should get, so that work stealing can compensate for children with
+     * differing processing costs.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private ParallelChildOperations() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Determine whether children should be processed in parallel.
+     *
+     * @param parallelThreshold Configured threshold, 0 if parallel processing is disabled
+     * @param childCount Number of children
+     * @return True if children should be processed in parallel.
+     */
+    static boolean isParallel(final int parallelThreshold, final int childCount) {
+        return parallelThreshold != 0 && childCount >= parallelThreshold;
+    }
+
+    /**
+     * Apply an operation on each child. This method returns when the operation has been completed on all children,
+     * or when it has failed on any of them.
+     *
+     * @param children Children to process
+     * @param operation Operation to apply
+     * @throws X if the operation fails
+     */
+    @SuppressWarnings("unchecked")
+    static <T, X extends Exception> void forEach(final List<T> children, final ChildOperation<T, X> operation)
+            throws X {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int chunkSize = Math.max(1, children.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+        final FailureTracker tracker = new FailureTracker();
+        final ChildTask<T, X> task = new ChildTask<>(tracker, operation, children, chunkSize, 0, children.size());
+
+        if (ForkJoinTask.inForkJoinPool()) {
+            // We are being invoked from a parent's task, fork-join within the current pool
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+
+        final Exception failure = tracker.getFailure();
+        if (failure != null) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            throw (X) failure;
+        }
+    }
+}
@@ -104,6 +104,12 @@ abstract class RootModificationApplyOperation extends ModificationApplyOperation
         getDelegate().recursivelyVerifyStructure(value);
     }
 
+    @Override
+    final void checkWrittenValue(final YangInstanceIdentifier path, final NormalizedNode<?, ?> value)
+            throws DataValidationFailedException {
+        getDelegate().checkWrittenValue(path, value);
+    }
+
     @Override
     final ChildTrackingPolicy getChildPolicy() {
         return getDelegate().getChildPolicy();
@@ -56,7 +56,7 @@ final class StructuralContainerModificationStrategy extends ModificationApplyOpe
         final Optional<TreeNode> ret;
         if (modification.getOperation() == LogicalOperation.TOUCH && !storeMeta.isPresent()) {
             // Container is not present, let's take care of the 'magically appear' part of our job
-            ret = delegate.apply(modification, fakeMeta(version), version);
+            ret = delegate.apply(modification, fakeMeta(version).map(modification::treeNodeCreated), version);
 
             // Fake container got removed: that is a no-op
             if (!ret.isPresent()) {
@@ -112,6 +112,12 @@ final class StructuralContainerModificationStrategy extends ModificationApplyOpe
         delegate.recursivelyVerifyStructure(value);
     }
 
+    @Override
+    void checkWrittenValue(final YangInstanceIdentifier path, final NormalizedNode<?, ?> value)
+            throws DataValidationFailedException {
+        delegate.checkWrittenValue(path, value);
+    }
+
     @Override
     ChildTrackingPolicy getChildPolicy() {
         return delegate.getChildPolicy();
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Verify;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.opendaylight.yangtools.triemap.ImmutableTrieMap;
+import org.opendaylight.yangtools.triemap.MutableTrieMap;
+import org.opendaylight.yangtools.triemap.TrieMap;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.MutableTreeNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.TreeNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.Version;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.UniqueConstraint;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Relative;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Enforcement of YANG 'unique' statements on a keyed list. Each version of the list's {@link TreeNode} has an
+ * associated set of indexes, one for each unique constraint, mapping the tuple of leaf values to the key of the entry
+ * holding it. Indexes are persistent {@link TrieMap} snapshots, hence a new version is derived from its predecessor
+ * by applying changes from the {@link ModifiedNode} children, making the check proportional to the number of modified
+ * entries rather than to the size of the list.
+ *
+ * <p>
+ * Indexes are attached to the {@link TreeNode} produced by this operation, hence they share its lifecycle and are
+ * reclaimed together with the tree version holding them. If the current node does not carry indexes, for example
+ * because the list was written as part of its parent or after a schema context update, they are rebuilt from scratch.
+ *
+ * <p>
+ * Violations are reported as {@link DataValidationFailedException} during validation. Lists which are introduced
+ * as part of a parent's data are checked through {@link #checkWrittenValue(YangInstanceIdentifier, NormalizedNode)}.
+ *
+ * <p>
+ * Leaf default values are not considered, as they are not instantiated in the data tree.
+ */
+final class UniqueValidation extends SchemaAwareApplyOperation {
+    private static final Logger LOG = LoggerFactory.getLogger(UniqueValidation.class);
+
+    private final SchemaAwareApplyOperation delegate;
+    private final List<UniqueValidator> validators;
+
+    private UniqueValidation(final SchemaAwareApplyOperation delegate, final List<UniqueValidator> validators) {
+        this.delegate = requireNonNull(delegate);
+        this.validators = requireNonNull(validators);
+    }
+
+    static SchemaAwareApplyOperation from(final SchemaAwareApplyOperation delegate, final ListSchemaNode schema,
+            final DataTreeConfiguration treeConfig) {
+        if (!treeConfig.isUniqueIndexEnabled()) {
+            return delegate;
+        }
+
+        final Collection<UniqueConstraint> constraints = schema.getUniqueConstraints();
+        if (constraints.isEmpty()) {
+            return delegate;
+        }
+
+        final DataSchemaContextNode<?> entry = DataSchemaContextNode.fromDataSchemaNode(schema)
+                .getChild(schema.getQName());
+        final ImmutableList.Builder<UniqueValidator> builder = ImmutableList.builder();
+        for (final UniqueConstraint constraint : constraints) {
+            builder.add(UniqueValidator.create(entry, constraint));
+        }
+        return new UniqueValidation(delegate, builder.build());
+    }
+
+    private void checkUniqueConstraints(final YangInstanceIdentifier path, final NodeModification nodeMod,
+            final Optional<TreeNode> current, final Version version) throws DataValidationFailedException {
+        if (!(nodeMod instanceof ModifiedNode)) {
+            LOG.debug("Could not validate {}, does not implement expected class {}", nodeMod, ModifiedNode.class);
+            return;
+        }
+
+        final ModifiedNode modification = (ModifiedNode) nodeMod;
+        final Optional<TreeNode> maybeApplied = delegate.apply(modification, current, version);
+        Verify.verify(maybeApplied.isPresent());
+
+        final TreeNode applied = maybeApplied.get();
+        if (applied instanceof IndexedTreeNode) {
+            // Unchanged node, which already carries its indexes
+            modification.setValidatedNode(this, current, applied);
+            return;
+        }
+
+        final UniqueIndexes base = modification.getOperation() == LogicalOperation.WRITE || !current.isPresent()
+                || !(current.get() instanceof IndexedTreeNode) ? null : ((IndexedTreeNode) current.get()).indexes;
+        final UniqueIndexes updated;
+        if (base != null) {
+            updated = base.update(path, modification.getChildren(), current.get(), applied);
+        } else {
+            LOG.debug("Building unique indexes for {}", path);
+            updated = UniqueIndexes.build(validators, path, applied.getData());
+        }
+
+        // Stash the result, so it is reused by the apply operation, just as MinMaxElementsValidation does.
+        modification.setValidatedNode(this, current, new IndexedTreeNode(applied, updated));
+    }
+
+    @Override
+    protected void checkTouchApplicable(final YangInstanceIdentifier path, final NodeModification modification,
+            final Optional<TreeNode> current, final Version version) throws DataValidationFailedException {
+        delegate.checkTouchApplicable(path, modification, current, version);
+        checkUniqueConstraints(path, modification, current, version);
+    }
+
+    @Override
+    protected void checkMergeApplicable(final YangInstanceIdentifier path, final NodeModification modification,
+            final Optional<TreeNode> current, final Version version) throws DataValidationFailedException {
+        delegate.checkMergeApplicable(path, modification, current, version);
+        checkUniqueConstraints(path, modification, current, version);
+    }
+
+    @Override
+    protected void checkWriteApplicable(final YangInstanceIdentifier path, final NodeModification modification,
+            final Optional<TreeNode> current, final Version version) throws DataValidationFailedException {
+        delegate.checkWriteApplicable(path, modification, current, version);
+        checkUniqueConstraints(path, modification, current, version);
+    }
+
+    @Override
+    public Optional<ModificationApplyOperation> getChild(final PathArgument child) {
+        return delegate.getChild(child);
+    }
+
+    @Override
+    protected void verifyStructure(final NormalizedNode<?, ?> modification, final boolean verifyChildren) {
+        delegate.verifyStructure(modification, verifyChildren);
+    }
+
+    @Override
+    void checkWrittenValue(final YangInstanceIdentifier path, final NormalizedNode<?, ?> value)
+            throws DataValidationFailedException {
+        // The resulting TreeNode is created by our parent, hence there is nowhere to attach the indexes to
+        UniqueIndexes.build(validators, path, value);
+        delegate.checkWrittenValue(path, value);
+    }
+
+    @Override
+    protected TreeNode applyMerge(final ModifiedNode modification, final TreeNode currentMeta, final Version version) {
+        final TreeNode validated = modification.getValidatedNode(this, Optional.of(currentMeta));
+        return validated != null ? validated : delegate.applyMerge(modification, currentMeta, version);
+    }
+
+    @Override
+    protected TreeNode applyTouch(final ModifiedNode modification, final TreeNode currentMeta, final Version version) {
+        final TreeNode validated = modification.getValidatedNode(this, Optional.of(currentMeta));
+        return validated != null ? validated : delegate.applyTouch(modification, currentMeta, version);
+    }
+
+    @Override
+    protected TreeNode applyWrite(final ModifiedNode modification, final Optional<TreeNode> currentMeta,
+            final Version version) {
+        final TreeNode validated = modification.getValidatedNode(this, currentMeta);
+        return validated != null ? validated : delegate.applyWrite(modification, currentMeta, version);
+    }
+
+    @Override
+    protected ChildTrackingPolicy getChildPolicy() {
+        return delegate.getChildPolicy();
+    }
+
+    @Override
+    void mergeIntoModifiedNode(final ModifiedNode node, final NormalizedNode<?, ?> value, final Version version) {
+        delegate.mergeIntoModifiedNode(node, value, version);
+    }
+
+    @Override
+    void recursivelyVerifyStructure(final NormalizedNode<?, ?> value) {
+        delegate.recursivelyVerifyStructure(value);
+    }
+
+    @Override
+    public String toString() {
+        return "UniqueValidation [validators=" + validators + ", delegate=" + delegate + "]";
+    }
+
+    /**
+     * A {@link TreeNode} carrying the unique indexes corresponding to its data. Everything else is delegated to the
+     * node produced by the list operation.
+     */
+    private static final class IndexedTreeNode implements TreeNode {
+        private final TreeNode delegate;
+        final UniqueIndexes indexes;
+
+        IndexedTreeNode(final TreeNode delegate, final UniqueIndexes indexes) {
+            this.delegate = requireNonNull(delegate);
+            this.indexes = requireNonNull(indexes);
+        }
+
+        @Override
+        public PathArgument getIdentifier() {
+            return delegate.getIdentifier();
+        }
+
+        @Override
+        public Optional<TreeNode> getChild(final PathArgument child) {
+            return delegate.getChild(child);
+        }
+
+        @Override
+        public Version getVersion() {
+            return delegate.getVersion();
+        }
+
+        @Override
+        public Version getSubtreeVersion() {
+            return delegate.getSubtreeVersion();
+        }
+
+        @Override
+        public NormalizedNode<?, ?> getData() {
+            return delegate.getData();
+        }
+
+        @Override
+        public MutableTreeNode mutable() {
+            return delegate.mutable();
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("delegate", delegate).toString();
+        }
+    }
+
+    /**
+     * Extractor of the value tuple covered by a single unique constraint.
+     */
+    private static final class UniqueValidator {
+        private final List<YangInstanceIdentifier> descendants;
+
+        private UniqueValidator(final List<YangInstanceIdentifier> descendants) {
+            this.descendants = requireNonNull(descendants);
+        }
+
+        static UniqueValidator create(final DataSchemaContextNode<?> entry, final UniqueConstraint constraint) {
+            final ImmutableList.Builder<YangInstanceIdentifier> builder = ImmutableList.builder();
+            for (final Relative tag : constraint.getTag()) {
+                final List<PathArgument> args = new ArrayList<>();
+                DataSchemaContextNode<?> node = entry;
+                for (final QName qname : tag.getPathFromRoot()) {
+                    DataSchemaContextNode<?> child = node.getChild(qname);
+                    checkArgument(child != null, "Failed to find unique descendant %s in %s", tag, entry);
+                    while (child.isMixin()) {
+                        args.add(child.getIdentifier());
+                        child = child.getChild(qname);
+                        checkArgument(child != null, "Failed to find unique descendant %s in %s", tag, entry);
+                    }
+                    args.add(child.getIdentifier());
+                    node = child;
+                }
+                checkArgument(node.isLeaf(), "Unique descendant %s of %s is not a leaf", tag, entry);
+                builder.add(YangInstanceIdentifier.create(args));
+            }
+            return new UniqueValidator(builder.build());
+        }
+
+        /**
+         * Extract values of all leaves referenced by this constraint.
+         *
+         * @param entry List entry
+         * @return Values of all referenced leaves, or null if any of them is not present, in which case the constraint
+         *         does not apply.
+         */
+        List<Object> extractValues(final NormalizedNode<?, ?> entry) {
+            final Object[] values = new Object[descendants.size()];
+            int offset = 0;
+            for (final YangInstanceIdentifier descendant : descendants) {
+                final Optional<NormalizedNode<?, ?>> leaf = NormalizedNodes.findNode(entry, descendant);
+                if (!leaf.isPresent() || !(leaf.get() instanceof LeafNode)) {
+                    return null;
+                }
+                values[offset++] = leaf.get().getValue();
+            }
+            return ImmutableList.copyOf(values);
+        }
+
+        @Override
+        public String toString() {
+            return descendants.toString();
+        }
+    }
+
+    /**
+     * Immutable set of indexes, one for each {@link UniqueValidator}, associated with a particular version of the
+     * list data.
+     */
+    private static final class UniqueIndexes {
+        private final List<UniqueValidator> validators;
+        private final List<ImmutableTrieMap<List<Object>, PathArgument>> maps;
+
+        private UniqueIndexes(final List<UniqueValidator> validators,
+                final List<ImmutableTrieMap<List<Object>, PathArgument>> maps) {
+            this.validators = requireNonNull(validators);
+            this.maps = requireNonNull(maps);
+        }
+
+        static UniqueIndexes build(final List<UniqueValidator> validators, final YangInstanceIdentifier path,
+                final NormalizedNode<?, ?> data) throws DataValidationFailedException {
+            final Collection<?> entries = ((NormalizedNodeContainer<?, ?, ?>) data).getValue();
+            final ImmutableList.Builder<ImmutableTrieMap<List<Object>, PathArgument>> builder =
+                    ImmutableList.builder();
+            for (final UniqueValidator validator : validators) {
+                final MutableTrieMap<List<Object>, PathArgument> map = TrieMap.create();
+                for (final Object entry : entries) {
+                    index(path, validator, map, (NormalizedNode<?, ?>) entry);
+                }
+                builder.add(map.immutableSnapshot());
+            }
+            return new UniqueIndexes(validators, builder.build());
+        }
+
+        UniqueIndexes update(final YangInstanceIdentifier path, final Collection<ModifiedNode> modifications,
+                final TreeNode before, final TreeNode after) throws DataValidationFailedException {
+            final ImmutableList.Builder<ImmutableTrieMap<List<Object>, PathArgument>> builder =
+                    ImmutableList.builder();
+            for (int i = 0; i < validators.size(); ++i) {
+                final UniqueValidator validator = validators.get(i);
+                final TrieMap<List<Object>, PathArgument> map = maps.get(i).mutableSnapshot();
+
+                // Remove previous values first, so that entries can swap their values within a single modification
+                for (final ModifiedNode mod : modifications) {
+                    if (mod.getModificationType() != ModificationType.UNMODIFIED) {
+                        final PathArgument id = mod.getIdentifier();
+                        final Optional<TreeNode> prev = before.getChild(id);
+                        if (prev.isPresent()) {
+                            final List<Object> values = validator.extractValues(prev.get().getData());
+                            if (values != null) {
+                                map.remove(values, id);
+                            }
+                        }
+                    }
+                }
+                for (final ModifiedNode mod : modifications) {
+                    if (mod.getModificationType() != ModificationType.UNMODIFIED) {
+                        final Optional<TreeNode> next = after.getChild(mod.getIdentifier());
+                        if (next.isPresent()) {
+                            index(path, validator, map, next.get().getData());
+                        }
+                    }
+                }
+
+                builder.add(map.immutableSnapshot());
+            }
+            return new UniqueIndexes(validators, builder.build());
+        }
+
+        private static void index(final YangInstanceIdentifier path, final UniqueValidator validator,
+                final TrieMap<List<Object>, PathArgument> map, final NormalizedNode<?, ?> entry)
+                        throws DataValidationFailedException {
+            final List<Object> values = validator.extractValues(entry);
+            if (values != null) {
+                final PathArgument id = entry.getIdentifier();
+                final PathArgument existing = map.putIfAbsent(values, id);
+                if (existing != null && !id.equals(existing)) {
+                    throw new DataValidationFailedException(path, String.format(
+                        "%s violates unique constraint on %s, values %s are already used by %s", id, validator,
+                        values, existing));
+                }
+            }
+        }
+    }
+}
@@ -13,7 +13,9 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdent
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.IncorrectDataStructureException;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.MutableTreeNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.spi.TreeNode;
@@ -26,9 +28,12 @@ import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 final class UnkeyedListModificationStrategy extends SchemaAwareApplyOperation {
 
     private final Optional<ModificationApplyOperation> entryStrategy;
+    private final boolean checkWrittenValues;
 
     UnkeyedListModificationStrategy(final ListSchemaNode schema, final DataTreeConfiguration treeConfig) {
         entryStrategy = Optional.of(new UnkeyedListItemModificationStrategy(schema, treeConfig));
+        // Only unique constraints need to look at written values at this point
+        checkWrittenValues = treeConfig.isUniqueIndexEnabled();
     }
 
     @Override
@@ -52,7 +57,7 @@ final class UnkeyedListModificationStrategy extends SchemaAwareApplyOperation {
     protected TreeNode applyWrite(final ModifiedNode modification,
             final Optional<TreeNode> currentMeta, final Version version) {
         final NormalizedNode<?, ?> newValue = modification.getWrittenValue();
-        final TreeNode newValueMeta = TreeNodeFactory.createTreeNode(newValue, version);
+        final TreeNode newValueMeta = modification.treeNodeCreated(TreeNodeFactory.createTreeNode(newValue, version));
 
         if (modification.getChildren().isEmpty()) {
             return newValueMeta;
@@ -76,7 +81,8 @@ final class UnkeyedListModificationStrategy extends SchemaAwareApplyOperation {
         final NormalizedNodeContainerBuilder dataBuilder = ImmutableUnkeyedListEntryNodeBuilder
             .create((UnkeyedListEntryNode) newValue);
 
-        return mutateChildren(mutable, dataBuilder, version, modification.getChildren());
+        return modification.treeNodeCreated(mutateChildren(mutable, dataBuilder, version,
+            modification.getChildren()));
     }
 
     /**
@@ -133,6 +139,26 @@ final class UnkeyedListModificationStrategy extends SchemaAwareApplyOperation {
         throw new IncorrectDataStructureException(path, "Subtree modification is not allowed.");
     }
 
+    @Override
+    protected void checkWriteApplicable(final YangInstanceIdentifier path, final NodeModification modification,
+            final Optional<TreeNode> current, final Version version) throws DataValidationFailedException {
+        super.checkWriteApplicable(path, modification, current, version);
+        if (checkWrittenValues && modification instanceof ModifiedNode) {
+            final NormalizedNode<?, ?> value = ((ModifiedNode) modification).getWrittenValue();
+            if (value != null) {
+                checkWrittenValue(path, value);
+            }
+        }
+    }
+
+    @Override
+    void checkWrittenValue(final YangInstanceIdentifier path, final NormalizedNode<?, ?> value)
+            throws DataValidationFailedException {
+        for (final UnkeyedListEntryNode entry : ((UnkeyedListNode) value).getValue()) {
+            entryStrategy.get().checkWrittenValue(path.node(entry.getIdentifier()), entry);
+        }
+    }
+
     @Override
     void mergeIntoModifiedNode(final ModifiedNode node, final NormalizedNode<?, ?> value, final Version version) {
         // Unkeyed lists are always replaced
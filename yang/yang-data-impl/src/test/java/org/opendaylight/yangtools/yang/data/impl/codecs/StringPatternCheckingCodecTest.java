@@ -71,4 +71,28 @@ public class StringPatternCheckingCodecTest {
                 "Supplied value does not match the regular expression ^[A-Z]+$. [abcd]"));
         }
     }
+
+    @Test
+    public void testInvertedPattern() throws ReactorException, FileNotFoundException, URISyntaxException {
+        final SchemaContext schemaContext = YangParserTestUtils.parseYangResource(
+            "/string-pattern-checking-codec-invert-test.yang");
+        final Module testModule = schemaContext.findModuleByName("string-pattern-checking-codec-invert-test", null);
+        assertNotNull(testModule);
+
+        final ContainerSchemaNode testContainer = (ContainerSchemaNode) testModule.getDataChildByName(
+                QName.create(testModule.getQNameModule(), "test-container"));
+        final LeafSchemaNode testLeaf = (LeafSchemaNode) testContainer.getDataChildByName(
+                QName.create(testModule.getQNameModule(), "string-leaf-with-inverted-pattern"));
+        assertNotNull(testLeaf);
+
+        final StringCodec<String> codec = getCodec(testLeaf.getType(), StringCodec.class);
+        assertEquals("ABCD", codec.deserialize("ABCD"));
+
+        try {
+            codec.deserialize("XMLA");
+            fail("Exception should have been thrown.");
+        } catch (final IllegalArgumentException ex) {
+            LOG.debug("IllegalArgumentException was thrown as expected: {}", ex);
+        }
+    }
 }
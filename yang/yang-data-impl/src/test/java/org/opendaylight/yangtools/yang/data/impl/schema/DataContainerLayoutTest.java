@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import org.junit.Test;
+import org.opendaylight.yangtools.util.ImmutableOffsetMap;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeAttrBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableMapEntryNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.AbstractImmutableDataContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.tree.TestModel;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class DataContainerLayoutTest {
+    private static final SchemaContext SCHEMA_CONTEXT = TestModel.createTestContext();
+    private static final ContainerSchemaNode TEST_SCHEMA =
+            (ContainerSchemaNode) SCHEMA_CONTEXT.getDataChildByName(TestModel.TEST_QNAME);
+    private static final ListSchemaNode OUTER_LIST_SCHEMA =
+            (ListSchemaNode) TEST_SCHEMA.getDataChildByName(TestModel.OUTER_LIST_QNAME);
+    private static final NodeIdentifierWithPredicates ENTRY_ID = new NodeIdentifierWithPredicates(
+        TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1);
+
+    @Test
+    public void testStreamWriterLayout() throws IOException {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        final NormalizedNodeStreamWriter writer = ImmutableNormalizedNodeStreamWriter.from(result);
+        writer.nextDataSchemaNode(OUTER_LIST_SCHEMA);
+        writer.startMapEntryNode(ENTRY_ID, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        writer.leafNode(NodeIdentifier.create(TestModel.ID_QNAME), 1);
+        writer.startMapNode(NodeIdentifier.create(TestModel.INNER_LIST_QNAME), 0);
+        writer.endNode();
+        writer.endNode();
+
+        final MapEntryNode entry = (MapEntryNode) result.getResult();
+        assertTrue(((AbstractImmutableDataContainerNode<?>) entry).getChildren() instanceof ImmutableOffsetMap);
+        assertEquals(ImmutableNodes.leafNode(TestModel.ID_QNAME, 1),
+            entry.getChild(NodeIdentifier.create(TestModel.ID_QNAME)).get());
+    }
+
+    @Test
+    public void testBuilderReuse() {
+        final DataContainerNodeAttrBuilder<NodeIdentifierWithPredicates, MapEntryNode> builder =
+                ImmutableMapEntryNodeBuilder.createWithLayout(OUTER_LIST_SCHEMA, 2)
+                .withNodeIdentifier(ENTRY_ID)
+                .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, 1))
+                .withChild(ImmutableNodes.mapNodeBuilder(TestModel.INNER_LIST_QNAME).build());
+        final MapEntryNode first = builder.build();
+        final MapEntryNode second = builder.withChild(Builders.choiceBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(TestModel.OUTER_CHOICE_QNAME)).build()).build();
+        assertEquals(2, first.getValue().size());
+        assertEquals(3, second.getValue().size());
+
+        final MapEntryNode plain = ImmutableMapEntryNodeBuilder.create()
+                .withNodeIdentifier(ENTRY_ID)
+                .withChild(ImmutableNodes.mapNodeBuilder(TestModel.INNER_LIST_QNAME).build())
+                .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, 1))
+                .build();
+        assertEquals(plain, first);
+        assertEquals(plain.hashCode(), first.hashCode());
+    }
+
+    @Test
+    public void testUnknownChild() {
+        final MapEntryNode entry = ImmutableMapEntryNodeBuilder.createWithLayout(OUTER_LIST_SCHEMA, -1)
+                .withNodeIdentifier(ENTRY_ID)
+                .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, 1))
+                .withChild(ImmutableNodes.leafNode(TestModel.VALUE_QNAME, "unknown"))
+                .build();
+        assertEquals(2, entry.getValue().size());
+        assertEquals(ImmutableNodes.leafNode(TestModel.VALUE_QNAME, "unknown"),
+            entry.getChild(NodeIdentifier.create(TestModel.VALUE_QNAME)).get());
+    }
+}
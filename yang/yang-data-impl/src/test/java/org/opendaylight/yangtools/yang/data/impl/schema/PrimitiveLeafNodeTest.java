@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import java.math.BigInteger;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableLeafSetEntryNodeBuilder;
+
+public class PrimitiveLeafNodeTest {
+    private static final QName LEAF = QName.create("urn:test", "2017-01-01", "leaf");
+    private static final QName OTHER = QName.create(LEAF, "other");
+
+    @Test
+    public void testPrimitiveValues() {
+        assertLeaf(Long.MAX_VALUE, Long.MIN_VALUE);
+        assertLeaf(Integer.MAX_VALUE, Integer.MIN_VALUE);
+        assertLeaf(Short.MAX_VALUE, Short.MIN_VALUE);
+        assertLeaf(Byte.MAX_VALUE, Byte.MIN_VALUE);
+        assertLeaf(Boolean.TRUE, Boolean.FALSE);
+        assertLeaf(BigInteger.TEN, BigInteger.ONE);
+        assertLeaf("foo", "bar");
+    }
+
+    @Test
+    public void testValueTypeIsRetained() {
+        assertNotEquals(ImmutableNodes.leafNode(LEAF, 1), ImmutableNodes.leafNode(LEAF, 1L));
+        assertNotEquals(ImmutableNodes.leafNode(LEAF, 1L), ImmutableNodes.leafNode(OTHER, 1L));
+        assertTrue(ImmutableNodes.leafNode(LEAF, (short) 1).getValue() instanceof Short);
+    }
+
+    @Test
+    public void testAttributes() {
+        final LeafNode<Long> node = Builders.<Long>leafBuilder().withNodeIdentifier(ImmutableNodes.leafNode(LEAF, 0L)
+            .getIdentifier()).withValue(5L).withAttributes(ImmutableMap.of(OTHER, "attr")).build();
+        assertEquals(Long.valueOf(5), node.getValue());
+        assertEquals("attr", node.getAttributeValue(OTHER));
+
+        final LeafNode<Long> plain = ImmutableNodes.leafNode(LEAF, 5L);
+        assertEquals(ImmutableMap.of(), plain.getAttributes());
+        assertNull(plain.getAttributeValue(OTHER));
+    }
+
+    @Test
+    public void testLeafSetEntry() {
+        final LeafSetEntryNode<Object> first = leafSetEntry(7L);
+        final LeafSetEntryNode<Object> second = leafSetEntry(7L);
+        assertEquals(Long.valueOf(7), first.getValue());
+        assertSame(first.getIdentifier().getValue(), first.getValue());
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, leafSetEntry(8L));
+
+        final byte[] bytes = new byte[] { 1, 2 };
+        assertEquals(leafSetEntry(bytes), leafSetEntry(new byte[] { 1, 2 }));
+    }
+
+    private static <T> void assertLeaf(final T value, final T otherValue) {
+        final LeafNode<T> node = ImmutableNodes.leafNode(LEAF, value);
+        assertEquals(value, node.getValue());
+        assertEquals(LEAF, node.getNodeType());
+
+        final LeafNode<T> same = ImmutableNodes.leafNode(LEAF, value);
+        assertEquals(node, same);
+        assertEquals(node.hashCode(), same.hashCode());
+        assertNotEquals(node, ImmutableNodes.leafNode(LEAF, otherValue));
+    }
+
+    private static LeafSetEntryNode<Object> leafSetEntry(final Object value) {
+        return ImmutableLeafSetEntryNodeBuilder.create().withNodeIdentifier(new NodeWithValue<>(LEAF, value))
+                .withValue(value).build();
+    }
+}
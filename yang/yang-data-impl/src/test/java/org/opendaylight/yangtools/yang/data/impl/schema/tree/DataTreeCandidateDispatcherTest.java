@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes.mapEntry;
+import static org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes.mapNodeBuilder;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.concepts.ObjectRegistration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.AugmentationNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateDispatcher;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidates;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class DataTreeCandidateDispatcherTest {
+    private static final NodeIdentifierWithPredicates ENTRY_1 = new NodeIdentifierWithPredicates(
+        TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1);
+    private static final NodeIdentifierWithPredicates ENTRY_2 = new NodeIdentifierWithPredicates(
+        TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2);
+    private static final YangInstanceIdentifier ENTRY_1_PATH = TestModel.OUTER_LIST_PATH.node(ENTRY_1);
+    private static final YangInstanceIdentifier ENTRY_2_PATH = TestModel.OUTER_LIST_PATH.node(ENTRY_2);
+    private static final QName AUGMENTED_LEAF = QName.create(TestModel.TEST_QNAME, "augmented-leaf");
+    private static final YangInstanceIdentifier WILDCARD_PATH = TestModel.OUTER_LIST_PATH.node(
+        NodeIdentifier.create(TestModel.OUTER_LIST_QNAME));
+
+    private final DataTreeCandidateDispatcher<String> dispatcher = new DataTreeCandidateDispatcher<>();
+    private DataTree dataTree;
+
+    @Before
+    public void setUp() throws DataValidationFailedException {
+        dataTree = InMemoryDataTreeFactory.getInstance().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            TestModel.createTestContext());
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, mapNodeBuilder(TestModel.OUTER_LIST_QNAME)
+            .withChild(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1))
+            .withChild(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2))
+            .build());
+        dataTree.commit(prepare(mod));
+
+        dispatcher.register(YangInstanceIdentifier.EMPTY, "root");
+        dispatcher.register(TestModel.TEST_PATH, "test");
+        dispatcher.register(TestModel.INNER_CONTAINER_PATH, "inner");
+        dispatcher.register(ENTRY_1_PATH, "entry-1");
+        dispatcher.register(WILDCARD_PATH, "any-entry");
+        dispatcher.register(WILDCARD_PATH.node(TestModel.ID_QNAME), "any-entry-id");
+    }
+
+    @Test
+    public void testDispatch() throws DataValidationFailedException {
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(ENTRY_2_PATH.node(TestModel.INNER_LIST_QNAME), mapNodeBuilder(TestModel.INNER_LIST_QNAME)
+            .withChild(mapEntry(TestModel.INNER_LIST_QNAME, TestModel.NAME_QNAME, "foo")).build());
+        final Map<String, Collection<DataTreeCandidate>> result = dispatch(prepare(mod));
+
+        assertEquals(ImmutableSet.of("root", "test", "any-entry"), result.keySet());
+        assertEquals(YangInstanceIdentifier.EMPTY, single(result, "root").getRootPath());
+        assertEquals(TestModel.TEST_PATH, single(result, "test").getRootPath());
+
+        final DataTreeCandidate entry = single(result, "any-entry");
+        assertEquals(ENTRY_2_PATH, entry.getRootPath());
+        assertEquals(ModificationType.SUBTREE_MODIFIED, entry.getRootNode().getModificationType());
+    }
+
+    @Test
+    public void testWildcardDispatch() throws DataValidationFailedException {
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.delete(ENTRY_1_PATH);
+        mod.delete(ENTRY_2_PATH);
+        final Map<String, Collection<DataTreeCandidate>> result = dispatch(prepare(mod));
+
+        assertEquals(ImmutableSet.of("root", "test", "entry-1", "any-entry", "any-entry-id"), result.keySet());
+        assertEquals(ENTRY_1_PATH, single(result, "entry-1").getRootPath());
+        assertEquals(ImmutableSet.of(ENTRY_1_PATH, ENTRY_2_PATH), rootPaths(result.get("any-entry")));
+        assertEquals(ImmutableSet.of(ENTRY_1_PATH.node(TestModel.ID_QNAME), ENTRY_2_PATH.node(TestModel.ID_QNAME)),
+            rootPaths(result.get("any-entry-id")));
+        for (DataTreeCandidate candidate : result.get("any-entry-id")) {
+            assertEquals(ModificationType.DELETE, candidate.getRootNode().getModificationType());
+        }
+    }
+
+    @Test
+    public void testRootedCandidate() throws DataValidationFailedException {
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.delete(ENTRY_1_PATH);
+        final DataTreeCandidate candidate = prepare(mod);
+        final DataTreeCandidate rooted = DataTreeCandidates.newDataTreeCandidate(ENTRY_1_PATH,
+            candidate.getRootNode().getModifiedChild(TestModel.TEST_PATH.getLastPathArgument())
+                .getModifiedChild(TestModel.OUTER_LIST_PATH.getLastPathArgument()).getModifiedChild(ENTRY_1));
+
+        final Map<String, Collection<DataTreeCandidate>> result = dispatch(rooted);
+        assertEquals(ImmutableSet.of("root", "test", "entry-1", "any-entry", "any-entry-id"), result.keySet());
+        assertTrue(single(result, "root") == rooted);
+        assertTrue(single(result, "entry-1") == rooted);
+        assertEquals(ENTRY_1_PATH.node(TestModel.ID_QNAME), single(result, "any-entry-id").getRootPath());
+    }
+
+    @Test
+    public void testAugmentationDispatch() {
+        final AugmentationIdentifier augId = new AugmentationIdentifier(ImmutableSet.of(AUGMENTED_LEAF));
+        final YangInstanceIdentifier augPath = TestModel.TEST_PATH.node(augId);
+        dispatcher.register(augPath, "augment");
+        dispatcher.register(augPath.node(AUGMENTED_LEAF), "augment-leaf");
+
+        final AugmentationNode augmentation = Builders.augmentationBuilder().withNodeIdentifier(augId)
+                .withChild(ImmutableNodes.leafNode(AUGMENTED_LEAF, "foo")).build();
+        final Map<String, Collection<DataTreeCandidate>> result = dispatch(DataTreeCandidates.fromNormalizedNode(
+            TestModel.TEST_PATH, Builders.containerBuilder().withNodeIdentifier(
+                new NodeIdentifier(TestModel.TEST_QNAME)).withChild(augmentation).build()));
+        assertEquals(ImmutableSet.of("root", "test", "augment", "augment-leaf"), result.keySet());
+        assertEquals(augPath, single(result, "augment").getRootPath());
+        assertEquals(augPath.node(AUGMENTED_LEAF), single(result, "augment-leaf").getRootPath());
+
+        // Candidate rooted at the augmentation itself
+        final DataTreeCandidate rooted = DataTreeCandidates.fromNormalizedNode(augPath, augmentation);
+        final Map<String, Collection<DataTreeCandidate>> rootedResult = dispatch(rooted);
+        assertEquals(ImmutableSet.of("root", "test", "augment", "augment-leaf"), rootedResult.keySet());
+        assertTrue(single(rootedResult, "augment") == rooted);
+        assertEquals(augPath.node(AUGMENTED_LEAF), single(rootedResult, "augment-leaf").getRootPath());
+    }
+
+    @Test
+    public void testUnregister() throws Exception {
+        final ObjectRegistration<String> reg = dispatcher.register(ENTRY_2_PATH, "entry-2");
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.delete(ENTRY_2_PATH);
+        final DataTreeCandidate candidate = prepare(mod);
+        assertTrue(dispatch(candidate).containsKey("entry-2"));
+
+        reg.close();
+        assertFalse(dispatch(candidate).containsKey("entry-2"));
+    }
+
+    private Map<String, Collection<DataTreeCandidate>> dispatch(final DataTreeCandidate candidate) {
+        final Map<String, Collection<DataTreeCandidate>> result = new HashMap<>();
+        dispatcher.dispatch(candidate, (listener, candidates) -> assertEquals(null, result.put(listener,
+            candidates)));
+        return result;
+    }
+
+    private static DataTreeCandidate single(final Map<String, Collection<DataTreeCandidate>> result,
+            final String listener) {
+        final Collection<DataTreeCandidate> candidates = result.get(listener);
+        assertEquals(1, candidates.size());
+        return candidates.iterator().next();
+    }
+
+    private static Set<YangInstanceIdentifier> rootPaths(final Collection<DataTreeCandidate> candidates) {
+        return candidates.stream().map(DataTreeCandidate::getRootPath).collect(Collectors.toSet());
+    }
+
+    private DataTreeCandidate prepare(final DataTreeModification mod) throws DataValidationFailedException {
+        mod.ready();
+        dataTree.validate(mod);
+        return dataTree.prepare(mod);
+    }
+}
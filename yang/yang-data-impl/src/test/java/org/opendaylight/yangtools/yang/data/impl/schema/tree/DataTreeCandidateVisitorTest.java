@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes.mapEntry;
+import static org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes.mapNodeBuilder;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateVisitor;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidates;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class DataTreeCandidateVisitorTest {
+    private static final class RecordingVisitor implements DataTreeCandidateVisitor {
+        final List<String> events = new ArrayList<>();
+        private final int maxDepth;
+
+        RecordingVisitor(final int maxDepth) {
+            this.maxDepth = maxDepth;
+        }
+
+        @Override
+        public boolean enterNode(final List<PathArgument> path, final ModificationType type,
+                final NormalizedNode<?, ?> dataBefore, final NormalizedNode<?, ?> dataAfter) {
+            record("enter", path, type, dataBefore, dataAfter);
+            return path.size() < maxDepth;
+        }
+
+        @Override
+        public void exitNode(final List<PathArgument> path) {
+            events.add("exit " + localPath(path));
+        }
+
+        @Override
+        public void leafChanged(final List<PathArgument> path, final ModificationType type,
+                final NormalizedNode<?, ?> dataBefore, final NormalizedNode<?, ?> dataAfter) {
+            record("leaf", path, type, dataBefore, dataAfter);
+        }
+
+        private void record(final String event, final List<PathArgument> path, final ModificationType type,
+                final NormalizedNode<?, ?> dataBefore, final NormalizedNode<?, ?> dataAfter) {
+            events.add(event + " " + localPath(path) + " " + type + " " + dataBefore + " "
+                    + dataAfter);
+        }
+    }
+
+    private DataTree dataTree;
+
+    private static String localPath(final List<PathArgument> path) {
+        final StringBuilder sb = new StringBuilder();
+        for (PathArgument arg : path) {
+            sb.append('/').append(arg.getNodeType().getLocalName());
+        }
+        return sb.length() == 0 ? "/" : sb.toString();
+    }
+
+    @Before
+    public void setUp() throws DataValidationFailedException {
+        dataTree = InMemoryDataTreeFactory.getInstance().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            TestModel.createTestContext());
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, mapNodeBuilder(TestModel.OUTER_LIST_QNAME)
+            .withChild(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1))
+            .withChild(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2))
+            .build());
+        commit(mod);
+    }
+
+    @Test
+    public void testNativeTraversal() throws DataValidationFailedException {
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.OUTER_LIST_PATH.node(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 3)
+            .getIdentifier()), mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 3));
+        mod.delete(TestModel.OUTER_LIST_PATH.node(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1)
+            .getIdentifier()));
+        mod.merge(TestModel.INNER_CONTAINER_PATH, ImmutableNodes.containerNode(TestModel.INNER_CONTAINER_QNAME));
+        final DataTreeCandidate candidate = prepare(mod);
+
+        final List<String> expected = traverseGeneric(candidate, Integer.MAX_VALUE);
+        assertEquals(expected, traverse(candidate, Integer.MAX_VALUE));
+        assertEquals(ImmutableList.of(
+            "enter / SUBTREE_MODIFIED", "enter /test SUBTREE_MODIFIED", "enter /test/outer-list SUBTREE_MODIFIED",
+            "exit /test/outer-list", "enter /test/inner-container DISAPPEARED", "exit /test/inner-container",
+            "exit /test", "exit /"),
+            expected.stream().map(DataTreeCandidateVisitorTest::eventWithoutData)
+            .filter(str -> !str.startsWith("leaf")).collect(ImmutableList.toImmutableList()));
+        assertEquals(2, expected.stream().filter(str -> str.startsWith("leaf")).count());
+    }
+
+    @Test
+    public void testSkipChildren() throws DataValidationFailedException {
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.delete(TestModel.OUTER_LIST_PATH.node(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2)
+            .getIdentifier()));
+        final DataTreeCandidate candidate = prepare(mod);
+
+        final List<String> events = traverse(candidate, 1);
+        assertEquals(traverseGeneric(candidate, 1), events);
+        assertEquals(ImmutableList.of("enter / SUBTREE_MODIFIED", "enter /test SUBTREE_MODIFIED", "exit /"),
+            events.stream().map(DataTreeCandidateVisitorTest::eventWithoutData)
+            .collect(ImmutableList.toImmutableList()));
+    }
+
+    @Test
+    public void testRootWrite() throws DataValidationFailedException {
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        final DataTreeCandidate candidate = prepare(mod);
+
+        final List<String> events = traverse(candidate, Integer.MAX_VALUE);
+        assertEquals(traverseGeneric(candidate, Integer.MAX_VALUE), events);
+        assertEquals(ImmutableList.of("enter / SUBTREE_MODIFIED", "leaf /test WRITE", "exit /"),
+            events.stream().map(DataTreeCandidateVisitorTest::eventWithoutData)
+            .collect(ImmutableList.toImmutableList()));
+    }
+
+    private static List<String> traverse(final DataTreeCandidate candidate, final int maxDepth) {
+        final RecordingVisitor visitor = new RecordingVisitor(maxDepth);
+        candidate.accept(visitor);
+        return visitor.events;
+    }
+
+    private static List<String> traverseGeneric(final DataTreeCandidate candidate, final int maxDepth) {
+        // DataTreeCandidates' implementation relies on the default, DataTreeCandidateNode-based traversal
+        return traverse(DataTreeCandidates.newDataTreeCandidate(candidate.getRootPath(), candidate.getRootNode()),
+            maxDepth);
+    }
+
+    private static String eventWithoutData(final String event) {
+        final String[] parts = event.split(" ");
+        return parts.length > 2 ? parts[0] + " " + parts[1] + " " + parts[2] : event;
+    }
+
+    private DataTreeCandidate prepare(final DataTreeModification mod) throws DataValidationFailedException {
+        mod.ready();
+        dataTree.validate(mod);
+        return dataTree.prepare(mod);
+    }
+
+    private void commit(final DataTreeModification mod) throws DataValidationFailedException {
+        dataTree.commit(prepare(mod));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes.mapEntry;
+import static org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes.mapNodeBuilder;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeMetrics;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.TreeType;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class DataTreeMetricsTest {
+    private static final class RecordingMetrics implements DataTreeMetrics {
+        final List<Phase> phases = new ArrayList<>();
+        int modifiedNodes;
+        int treeNodes;
+        int retries;
+
+        @Override
+        public synchronized void phaseCompleted(final Phase phase, final long durationNanos) {
+            phases.add(phase);
+        }
+
+        @Override
+        public synchronized void modifiedNodesTouched(final int count) {
+            modifiedNodes += count;
+        }
+
+        @Override
+        public synchronized void treeNodesMaterialized(final int count) {
+            treeNodes += count;
+        }
+
+        @Override
+        public synchronized void commitRetried(final int count) {
+            retries += count;
+        }
+    }
+
+    private final RecordingMetrics metrics = new RecordingMetrics();
+    private DataTree dataTree;
+
+    @Before
+    public void setUp() {
+        dataTree = InMemoryDataTreeFactory.getInstance().create(
+            new DataTreeConfiguration.Builder(TreeType.OPERATIONAL).setMetrics(metrics).build(),
+            TestModel.createTestContext());
+    }
+
+    @Test
+    public void testPhases() throws DataValidationFailedException {
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, mapNodeBuilder(TestModel.OUTER_LIST_QNAME)
+            .withChild(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1)).build());
+        mod.ready();
+        dataTree.validate(mod);
+        final DataTreeCandidate candidate = dataTree.prepare(mod);
+        dataTree.commit(candidate);
+
+        assertEquals(ImmutableList.of(DataTreeMetrics.Phase.READY, DataTreeMetrics.Phase.VALIDATE,
+            DataTreeMetrics.Phase.PREPARE, DataTreeMetrics.Phase.COMMIT), metrics.phases);
+        // root and test, outer-list is collapsed into the write of test when the modification is sealed
+        assertEquals(2, metrics.modifiedNodes);
+        // new root, plus test, which is written with outer-list applied on top of it when the modification is sealed:
+        // initial test, outer-list, sealed test, final test
+        assertEquals(6, metrics.treeNodes);
+        assertEquals(0, metrics.retries);
+    }
+
+    @Test
+    public void testMaterializedTreeNodes() throws DataValidationFailedException {
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.ready();
+        dataTree.commit(dataTree.prepare(mod));
+        assertEquals(2, metrics.treeNodes);
+
+        final DataTreeModification second = dataTree.takeSnapshot().newModification();
+        second.write(TestModel.OUTER_LIST_PATH, mapNodeBuilder(TestModel.OUTER_LIST_QNAME)
+            .withChild(mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1)).build());
+        second.ready();
+        dataTree.prepare(second);
+        // new root, new test and outer-list, whose entry is not materialized
+        assertEquals(5, metrics.treeNodes);
+
+        // Preparing again reports the nodes created by that run only
+        dataTree.prepare(second);
+        assertEquals(8, metrics.treeNodes);
+    }
+
+    @Test
+    public void testChainedModification() throws DataValidationFailedException {
+        final DataTreeModification first = dataTree.takeSnapshot().newModification();
+        first.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        first.ready();
+
+        final DataTreeModification second = first.newModification();
+        second.delete(TestModel.TEST_PATH);
+        second.ready();
+
+        assertEquals(ImmutableList.of(DataTreeMetrics.Phase.READY, DataTreeMetrics.Phase.READY), metrics.phases);
+        assertEquals(4, metrics.modifiedNodes);
+    }
+}
@@ -7,12 +7,17 @@
  */
 package org.opendaylight.yangtools.yang.data.impl.schema.tree;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.opendaylight.yangtools.util.DurationHistogramTracker;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.TreeType;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.parser.spi.meta.ReactorException;
 
 public class DataTreeTransactionTest {
@@ -49,4 +54,19 @@ public class DataTreeTransactionTest {
         final DataTreeModification mod = tree.takeSnapshot().newModification();
         tree.prepare(mod);
     }
+
+    @Test
+    public void testCommitLatencyTracker() throws DataValidationFailedException {
+        final DurationHistogramTracker tracker = DurationHistogramTracker.create();
+        final DataTree tracked = InMemoryDataTreeFactory.getInstance().create(
+            new DataTreeConfiguration.Builder(TreeType.OPERATIONAL).setCommitLatencyTracker(tracker).build(),
+            TestModel.createTestContext());
+
+        final DataTreeModification mod = tracked.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.ready();
+        tracked.validate(mod);
+        tracked.commit(tracked.prepare(mod));
+        assertEquals(1, tracker.getTotalDurations());
+    }
 }
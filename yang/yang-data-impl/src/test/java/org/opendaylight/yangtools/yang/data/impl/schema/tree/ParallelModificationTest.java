@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.TreeType;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class ParallelModificationTest {
+    private static final QName INNER_LIST2_QNAME = QName.create(TestModel.TEST_QNAME, "inner-list2");
+    private static final int ENTRY_COUNT = 200;
+
+    private static SchemaContext schemaContext;
+
+    private DataTree sequentialTree;
+    private DataTree parallelTree;
+
+    @BeforeClass
+    public static void beforeClass() {
+        schemaContext = TestModel.createTestContext();
+    }
+
+    @Before
+    public void before() throws DataValidationFailedException {
+        sequentialTree = createTree(DataTreeConfiguration.DEFAULT_CONFIGURATION);
+        parallelTree = createTree(new DataTreeConfiguration.Builder(TreeType.CONFIGURATION)
+            .setMandatoryNodesValidation(true).setParallelThreshold(8).build());
+    }
+
+    @Test
+    public void testParallelMatchesSequential() throws DataValidationFailedException {
+        final DataTreeCandidate sequential = commitEntries(sequentialTree);
+        final DataTreeCandidate parallel = commitEntries(parallelTree);
+
+        assertEquals(ModificationType.SUBTREE_MODIFIED, parallel.getRootNode().getModificationType());
+        assertEquals(sequential.getRootNode().getDataAfter(), parallel.getRootNode().getDataAfter());
+
+        final Optional<NormalizedNode<?, ?>> list = parallelTree.takeSnapshot().readNode(TestModel.OUTER_LIST_PATH);
+        assertTrue(list.isPresent());
+        assertEquals(sequentialTree.takeSnapshot().readNode(TestModel.OUTER_LIST_PATH), list);
+    }
+
+    @Test
+    public void testParallelConflict() throws DataValidationFailedException {
+        final DataTreeSnapshot snapshot = parallelTree.takeSnapshot();
+        commitEntries(parallelTree);
+
+        final DataTreeModification mod = snapshot.newModification();
+        writeEntries(mod);
+        mod.ready();
+
+        try {
+            parallelTree.validate(mod);
+            fail("Conflicting modification should have been rejected");
+        } catch (ConflictingModificationAppliedException e) {
+            assertTrue(e.getPath().toString().contains(TestModel.OUTER_LIST_QNAME.getLocalName()));
+        }
+    }
+
+    private static DataTreeCandidate commitEntries(final DataTree tree)
+            throws DataValidationFailedException {
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        writeEntries(mod);
+        mod.ready();
+
+        tree.validate(mod);
+        final DataTreeCandidate candidate = tree.prepare(mod);
+        tree.commit(candidate);
+        return candidate;
+    }
+
+    private static void writeEntries(final DataTreeModification mod) {
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            final MapEntryNode entry = ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME,
+                TestModel.ID_QNAME, i)
+                    .withChild(ImmutableNodes.mapNodeBuilder(INNER_LIST2_QNAME)
+                        .withChild(ImmutableNodes.mapEntry(INNER_LIST2_QNAME, TestModel.NAME_QNAME, "a"))
+                        .withChild(ImmutableNodes.mapEntry(INNER_LIST2_QNAME, TestModel.NAME_QNAME, "b"))
+                        .build())
+                    .build();
+            mod.write(TestModel.OUTER_LIST_PATH.node(entry.getIdentifier()), entry);
+        }
+    }
+
+    private static DataTree createTree(final DataTreeConfiguration config) throws DataValidationFailedException {
+        final DataTree tree = InMemoryDataTreeFactory.getInstance().create(config);
+        tree.setSchemaContext(schemaContext);
+
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, Builders.containerBuilder()
+            .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build())
+            .build());
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+        return tree;
+    }
+}
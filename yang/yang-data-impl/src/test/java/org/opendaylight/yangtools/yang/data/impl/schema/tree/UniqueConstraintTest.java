@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.tree;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.TreeType;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.parser.spi.meta.ReactorException;
+
+public class UniqueConstraintTest {
+    private static final QName TEST = QName.create(
+        "urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom:store:unique", "2017-09-01", "test");
+    private static final QName TASK = QName.create(TEST, "task");
+    private static final QName ID = QName.create(TEST, "id");
+    private static final QName NAME = QName.create(TEST, "name");
+    private static final QName DETAILS = QName.create(TEST, "details");
+    private static final QName CODE = QName.create(TEST, "code");
+    private static final QName GROUP = QName.create(TEST, "group");
+
+    private static final YangInstanceIdentifier TEST_PATH = YangInstanceIdentifier.of(TEST);
+    private static final YangInstanceIdentifier TASK_PATH = TEST_PATH.node(TASK);
+
+    private SchemaContext schemaContext;
+
+    @Before
+    public void prepare() throws ReactorException {
+        schemaContext = TestModel.createTestContext("/unique-constraint-test.yang");
+        assertNotNull("Schema context must not be null.", schemaContext);
+    }
+
+    private DataTree initDataTree(final boolean uniqueIndexes) throws DataValidationFailedException {
+        final DataTree dataTree = InMemoryDataTreeFactory.getInstance().create(
+            new DataTreeConfiguration.Builder(TreeType.CONFIGURATION).setUniqueIndexes(uniqueIndexes).build(),
+            schemaContext);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TEST_PATH, ImmutableNodes.containerNode(TEST));
+        mod.write(TASK_PATH, ImmutableNodes.mapNodeBuilder(TASK)
+            .withChild(task("one", "first", 1, "a"))
+            .withChild(task("two", "second", 2, "a"))
+            .build());
+        commit(dataTree, mod);
+        return dataTree;
+    }
+
+    private static void commit(final DataTree dataTree, final DataTreeModification mod)
+            throws DataValidationFailedException {
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+    }
+
+    private static YangInstanceIdentifier taskPath(final String id) {
+        return TASK_PATH.node(new NodeIdentifierWithPredicates(TASK, ID, id));
+    }
+
+    private static MapEntryNode task(final String id, final String name, final int code, final String group) {
+        return Builders.mapEntryBuilder().withNodeIdentifier(new NodeIdentifierWithPredicates(TASK, ID, id))
+                .withChild(ImmutableNodes.leafNode(ID, id))
+                .withChild(ImmutableNodes.leafNode(NAME, name))
+                .withChild(Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(DETAILS))
+                    .withChild(ImmutableNodes.leafNode(CODE, code))
+                    .withChild(ImmutableNodes.leafNode(GROUP, group))
+                    .build())
+                .build();
+    }
+
+    @Test
+    public void testUniqueEntryWrite() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(taskPath("three"), task("three", "third", 1, "b"));
+        commit(dataTree, mod);
+    }
+
+    @Test
+    public void testDuplicateEntryWrite() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(taskPath("three"), task("three", "first", 3, "b"));
+        mod.ready();
+        try {
+            dataTree.validate(mod);
+            fail("Unique constraint violation should have been detected");
+        } catch (DataValidationFailedException e) {
+            assertTrue(e.getMessage().contains("unique constraint"));
+        }
+    }
+
+    @Test(expected = DataValidationFailedException.class)
+    public void testDuplicateNestedLeafMerge() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.merge(taskPath("two").node(DETAILS).node(CODE), ImmutableNodes.leafNode(CODE, 1));
+        mod.ready();
+        dataTree.validate(mod);
+    }
+
+    @Test
+    public void testSwapValues() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(taskPath("one").node(NAME), ImmutableNodes.leafNode(NAME, "second"));
+        mod.write(taskPath("two").node(NAME), ImmutableNodes.leafNode(NAME, "first"));
+        commit(dataTree, mod);
+
+        // Index must reflect the swap
+        final DataTreeModification next = dataTree.takeSnapshot().newModification();
+        next.write(taskPath("three"), task("three", "second", 3, "a"));
+        next.ready();
+        try {
+            dataTree.validate(next);
+            fail("Unique constraint violation should have been detected");
+        } catch (DataValidationFailedException e) {
+            assertTrue(e.getMessage().contains("values [second]"));
+        }
+    }
+
+    @Test
+    public void testDeleteReleasesValues() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.delete(taskPath("one"));
+        commit(dataTree, mod);
+
+        final DataTreeModification next = dataTree.takeSnapshot().newModification();
+        next.write(taskPath("three"), task("three", "first", 1, "a"));
+        commit(dataTree, next);
+    }
+
+    @Test
+    public void testMissingLeafNotConstrained() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(taskPath("three"), Builders.mapEntryBuilder()
+            .withNodeIdentifier(new NodeIdentifierWithPredicates(TASK, ID, "three"))
+            .withChild(ImmutableNodes.leafNode(ID, "three"))
+            .withChild(ImmutableNodes.leafNode(NAME, "third"))
+            .withChild(Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(DETAILS))
+                .withChild(ImmutableNodes.leafNode(CODE, 1))
+                .build())
+            .build());
+        commit(dataTree, mod);
+    }
+
+    @Test
+    public void testDuplicateListWrite() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TASK_PATH, ImmutableNodes.mapNodeBuilder(TASK)
+            .withChild(task("one", "first", 1, "a"))
+            .withChild(task("two", "first", 2, "a"))
+            .build());
+        assertViolation(dataTree, mod);
+    }
+
+    @Test
+    public void testDuplicateParentWrite() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TEST_PATH, Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TEST))
+            .withChild(ImmutableNodes.mapNodeBuilder(TASK)
+                .withChild(task("one", "first", 1, "a"))
+                .withChild(task("two", "second", 1, "a"))
+                .build())
+            .build());
+        assertViolation(dataTree, mod);
+    }
+
+    @Test
+    public void testDuplicateParentWriteWithChildModification() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(TEST_PATH, Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TEST))
+            .withChild(ImmutableNodes.mapNodeBuilder(TASK).withChild(task("one", "first", 1, "a")).build())
+            .build());
+        mod.write(taskPath("two"), task("two", "first", 2, "a"));
+        assertViolation(dataTree, mod);
+    }
+
+    @Test
+    public void testDuplicateParentMerge() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.merge(TEST_PATH, Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TEST))
+            .withChild(ImmutableNodes.mapNodeBuilder(TASK).withChild(task("three", "second", 3, "b")).build())
+            .build());
+        assertViolation(dataTree, mod);
+    }
+
+    @Test
+    public void testUniqueParentMerge() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(true);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.merge(TEST_PATH, Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TEST))
+            .withChild(ImmutableNodes.mapNodeBuilder(TASK).withChild(task("three", "third", 3, "b")).build())
+            .build());
+        commit(dataTree, mod);
+
+        // Indexes have to be rebuilt, as the list was not modified directly
+        final DataTreeModification next = dataTree.takeSnapshot().newModification();
+        next.write(taskPath("four"), task("four", "third", 4, "b"));
+        assertViolation(dataTree, next);
+    }
+
+    private static void assertViolation(final DataTree dataTree, final DataTreeModification mod) {
+        mod.ready();
+        try {
+            dataTree.validate(mod);
+            fail("Unique constraint violation should have been detected");
+        } catch (DataValidationFailedException e) {
+            assertTrue(e.getMessage().contains("unique constraint"));
+        }
+    }
+
+    @Test
+    public void testDisabledUniqueIndexes() throws DataValidationFailedException {
+        final DataTree dataTree = initDataTree(false);
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(taskPath("three"), task("three", "first", 1, "a"));
+        commit(dataTree, mod);
+    }
+}
@@ -48,7 +48,7 @@ import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.InstanceIdentifierTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
-import org.opendaylight.yangtools.yang.model.util.RegexUtils;
+import org.opendaylight.yangtools.yang.model.util.CompiledRegex;
 import org.opendaylight.yangtools.yang.model.util.SchemaContextUtil;
 
 /**
@@ -88,9 +88,7 @@ final class YangFunctionContext implements FunctionContext {
         final String subject = (String) args.get(0);
         final String rawPattern = (String) args.get(1);
 
-        final String pattern = RegexUtils.getJavaRegexFromXSD(rawPattern);
-
-        return (Boolean) subject.matches(pattern);
+        return (Boolean) CompiledRegex.forXsdRegex(rawPattern).matches(subject);
     };
 
     // deref(node-set nodes) function as per https://tools.ietf.org/html/rfc7950#section-10.3.1
@@ -61,6 +61,13 @@ public abstract class AbstractCodecFactory<T extends TypeAwareCodec<?, ?, ?>> {
     }
 
     public final T codecFor(final TypedSchemaNode schema) {
+        // Caches which track resolved nodes satisfy the steady state with a single identity lookup, without going
+        // through the type definition
+        final T ret = cache.lookupNode(schema);
+        return ret != null ? ret : cache.getNode(schema, lookupCodec(schema));
+    }
+
+    private T lookupCodec(final TypedSchemaNode schema) {
         /*
          * There are many trade-offs to be made here. We need the common case being as fast as possible while reusing
          * codecs as much as possible.
@@ -55,4 +55,28 @@ public abstract class CodecCache<T> {
      * @return Codec instance, either already-cached, or the codec presented as argument.
      */
     @Nonnull abstract T getSimple(TypeDefinition<?> type, T codec);
+
+    /**
+     * Lookup the codec resolved for a particular schema node, regardless of whether it is simple or complex. Caches
+     * which track such resolutions allow {@link AbstractCodecFactory#codecFor(TypedSchemaNode)} to be satisfied by
+     * a single identity lookup. Default implementation does not track them and returns null.
+     *
+     * @param schema Schema node
+     * @return Cached codec, or null if no codec is cached.
+     */
+    @Nullable T lookupNode(final TypedSchemaNode schema) {
+        return null;
+    }
+
+    /**
+     * Lookup-or-store the codec resolved for a particular schema node. Default implementation does not track
+     * resolutions and returns the codec presented as argument.
+     *
+     * @param schema Schema node
+     * @param codec Codec to cache
+     * @return Codec instance, either already-cached, or the codec presented as argument.
+     */
+    @Nonnull T getNode(final TypedSchemaNode schema, final T codec) {
+        return codec;
+    }
 }
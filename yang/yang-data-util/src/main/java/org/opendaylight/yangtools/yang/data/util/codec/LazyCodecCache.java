@@ -25,6 +25,7 @@ import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
 public final class LazyCodecCache<T> extends CodecCache<T> {
     private final Map<TypedSchemaNode, T> complexCodecs = new IdentityHashMap<>();
     private final Map<TypeDefinition<?>, T> simpleCodecs = new IdentityHashMap<>();
+    private final Map<TypedSchemaNode, T> nodeCodecs = new IdentityHashMap<>();
 
     @Override
     T getComplex(final TypedSchemaNode schema, final T codec) {
@@ -46,7 +47,17 @@ public final class LazyCodecCache<T> extends CodecCache<T> {
         return simpleCodecs.computeIfAbsent(type, any -> codec);
     }
 
+    @Override
+    T lookupNode(final TypedSchemaNode schema) {
+        return nodeCodecs.get(schema);
+    }
+
+    @Override
+    T getNode(final TypedSchemaNode schema, final T codec) {
+        return nodeCodecs.computeIfAbsent(schema, any -> codec);
+    }
+
     public PrecomputedCodecCache<T> toPrecomputed() {
-        return new PrecomputedCodecCache<>(simpleCodecs, complexCodecs);
+        return new PrecomputedCodecCache<>(simpleCodecs, complexCodecs, nodeCodecs);
     }
 }
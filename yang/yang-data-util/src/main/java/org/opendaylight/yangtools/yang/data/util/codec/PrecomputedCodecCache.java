@@ -31,10 +31,13 @@ import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
 public final class PrecomputedCodecCache<T> extends CodecCache<T> {
     private final Map<TypeDefinition<?>, T> simpleCodecs;
     private final Map<TypedSchemaNode, T> complexCodecs;
+    private final Map<TypedSchemaNode, T> nodeCodecs;
 
-    PrecomputedCodecCache(final Map<TypeDefinition<?>, T> simpleCodecs, final Map<TypedSchemaNode, T> complexCodecs) {
+    PrecomputedCodecCache(final Map<TypeDefinition<?>, T> simpleCodecs, final Map<TypedSchemaNode, T> complexCodecs,
+            final Map<TypedSchemaNode, T> nodeCodecs) {
         this.simpleCodecs = requireNonNull(simpleCodecs);
         this.complexCodecs = requireNonNull(complexCodecs);
+        this.nodeCodecs = requireNonNull(nodeCodecs);
     }
 
     @Override
@@ -49,11 +52,22 @@ public final class PrecomputedCodecCache<T> extends CodecCache<T> {
         return simpleCodecs.get(type);
     }
 
+    @Override
+    T lookupNode(final TypedSchemaNode schema) {
+        return nodeCodecs.get(schema);
+    }
+
     @Override
     T getComplex(final TypedSchemaNode schema, final T codec) {
         throw new IllegalStateException("Uncached codec for " + schema);
     }
 
+    @Override
+    T getNode(final TypedSchemaNode schema, final T codec) {
+        // Nodes which were not visited during pre-computation, but whose codec is simple and hence available
+        return codec;
+    }
+
     @Override
     T getSimple(final TypeDefinition<?> type, final T codec) {
         throw new IllegalStateException("Uncached codec for " + type);
@@ -66,4 +80,8 @@ public final class PrecomputedCodecCache<T> extends CodecCache<T> {
     public int simpleSize() {
         return simpleCodecs.size();
     }
+
+    public int nodeSize() {
+        return nodeCodecs.size();
+    }
 }
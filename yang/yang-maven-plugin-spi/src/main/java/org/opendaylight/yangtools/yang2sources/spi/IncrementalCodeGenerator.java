@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang2sources.spi;
+
+import com.google.common.annotations.Beta;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+/**
+ * A {@link BasicCodeGenerator} which is able to update the output of a previous run, rather than generating all of
+ * it from scratch. The plugin invokes
+ * {@link #generateSources(SchemaContext, File, Set, Set, Function)} when the output directory contains the result
+ * of a successful run with the same configuration and dependencies, and only some of the project's YANG files have
+ * been added or modified since. If files have been removed, the previous output is incomplete or its state is not
+ * known, the plugin cleans the output directory and invokes
+ * {@link BasicCodeGenerator#generateSources(SchemaContext, File, Set, Function)} instead.
+ */
+@Beta
+public interface IncrementalCodeGenerator extends BasicCodeGenerator {
+    /**
+     * Generate sources for changed modules. The output directory is not cleaned before this method is invoked.
+     *
+     * @param context
+     *            parsed from YANG files
+     * @param outputBaseDir
+     *            expected output directory for generated sources configured by
+     *            user
+     * @param currentModules
+     *            YANG modules parsed from yangFilesRootDir
+     * @param changedModules
+     *            subset of currentModules whose sources, including their submodules, have been added or modified
+     *            since the previous run, together with all modules which import them, directly or indirectly
+     * @param moduleResourcePathResolver
+     *            Function converting a local module to the packaged resource path
+     * @return collection of files that were generated or updated
+     */
+    Collection<File> generateSources(SchemaContext context, File outputBaseDir, Set<Module> currentModules,
+            Set<Module> changedModules, Function<Module, Optional<String>> moduleResourcePathResolver)
+            throws IOException;
+}
@@ -8,11 +8,14 @@
 package org.opendaylight.yangtools.yang2sources.plugin;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableSet;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import org.opendaylight.yangtools.concepts.Immutable;
 import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
 
@@ -41,4 +44,54 @@ final class ContextHolder implements Immutable {
                 ? Optional.of("/" + YangToSourcesProcessor.META_INF_YANG_STRING_JAR + "/" + id.toYangFilename())
                         : Optional.empty();
     }
+
+    /**
+     * Return the modules whose sources, or the sources of any of their submodules, are among the specified sources,
+     * together with all modules which depend on them. A module depends on another if it or any of its submodules
+     * imports it, directly or indirectly. This covers using its groupings, typedefs and identities, as well as
+     * augmenting it, as all of these require an import.
+     *
+     * @param changedSources YANG file names of changed sources
+     * @return Set of changed modules and their dependents
+     */
+    Set<Module> getChangedModules(final Set<String> changedSources) {
+        final Set<Module> changed = new HashSet<>(Collections2.filter(modules,
+            mod -> isChanged(mod, changedSources)
+                || mod.getSubmodules().stream().anyMatch(sub -> isChanged(sub, changedSources))));
+
+        // Propagate changes to importing modules until there is nothing left to propagate
+        boolean added;
+        do {
+            added = false;
+            for (Module mod : modules) {
+                if (!changed.contains(mod) && importsAny(mod, changed)) {
+                    changed.add(mod);
+                    added = true;
+                }
+            }
+        } while (added);
+
+        return ImmutableSet.copyOf(changed);
+    }
+
+    private static boolean importsAny(final Module module, final Set<Module> targets) {
+        return importsAnyDirectly(module, targets)
+                || module.getSubmodules().stream().anyMatch(sub -> importsAnyDirectly(sub, targets));
+    }
+
+    private static boolean importsAnyDirectly(final Module module, final Set<Module> targets) {
+        for (ModuleImport imp : module.getImports()) {
+            for (Module target : targets) {
+                if (imp.getModuleName().equals(target.getName())
+                        && (imp.getRevision() == null || imp.getRevision().equals(target.getRevision()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isChanged(final Module module, final Set<String> changedSources) {
+        return changedSources.contains(Util.moduleToIdentifier(module).toYangFilename());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang2sources.plugin;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.project.MavenProject;
+import org.opendaylight.yangtools.yang.common.YangConstants;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang2sources.plugin.ConfigArg.CodeGeneratorArg;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Record of the inputs of the last successful code generation run, persisted in the project's build directory. It is
+ * used to skip parsing and code generation altogether when neither YANG files nor generator configuration have
+ * changed, and to find the sources which have changed otherwise.
+ *
+ * <p>
+ * Four kinds of fingerprints are recorded: the configuration fingerprint covers the plugin and generator artifacts,
+ * generator configuration and YANG files found in dependencies, the inputs fingerprint additionally covers the
+ * project's own YANG files, there is a fingerprint of each source in the project and finally the output fingerprint
+ * covers the names and sizes of all files in output directories, so that output which has been partially deleted is
+ * not mistaken for complete output.
+ */
+final class FingerprintCache {
+    private static final Logger LOG = LoggerFactory.getLogger(FingerprintCache.class);
+    private static final String CACHE_FILE = "yang-maven-plugin" + File.separator + "fingerprints.properties";
+    private static final String CONFIG_KEY = "config";
+    private static final String INPUTS_KEY = "inputs";
+    private static final String OUTPUT_KEY = "output";
+    private static final String SOURCE_PREFIX = "source.";
+    private static final FingerprintCache DISABLED = new FingerprintCache(null, new Properties());
+
+    private final File file;
+    private final Properties previous;
+
+    private FingerprintCache(final File file, final Properties previous) {
+        this.file = file;
+        this.previous = requireNonNull(previous);
+    }
+
+    /**
+     * Load the cache of a project. If the project does not have a build directory, the returned cache never matches
+     * and does not store anything.
+     *
+     * @param project Maven project
+     * @return A FingerprintCache
+     */
+    static FingerprintCache load(final MavenProject project) {
+        final String buildDirectory = project.getBuild() == null ? null : project.getBuild().getDirectory();
+        if (buildDirectory == null) {
+            return DISABLED;
+        }
+
+        final File file = new File(buildDirectory, CACHE_FILE);
+        final Properties props = new Properties();
+        if (file.isFile()) {
+            try (InputStream is = Files.asByteSource(file).openStream()) {
+                props.load(is);
+            } catch (IOException | IllegalArgumentException e) {
+                LOG.warn("{} Ignoring unreadable fingerprint cache {}", YangToSourcesProcessor.LOG_PREFIX, file, e);
+                props.clear();
+            }
+        }
+        return new FingerprintCache(file, props);
+    }
+
+    /**
+     * Compute the fingerprint of the configuration of a run.
+     *
+     * @param project Maven project
+     * @param generators Code generator configuration
+     * @param dependencies YANG files and archives containing them, as found in dependencies
+     * @return Configuration fingerprint
+     * @throws IOException if a dependency cannot be read
+     */
+    static String configFingerprint(final MavenProject project, final Collection<CodeGeneratorArg> generators,
+            final Collection<File> dependencies) throws IOException {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hashCodeSource(hasher, FingerprintCache.class);
+
+        for (CodeGeneratorArg generator : generators) {
+            final String className = generator.getCodeGeneratorClass();
+            putString(hasher, String.valueOf(className));
+            if (className != null) {
+                try {
+                    hashCodeSource(hasher, Class.forName(className));
+                } catch (ClassNotFoundException e) {
+                    LOG.debug("{} Generator class {} not found", YangToSourcesProcessor.LOG_PREFIX, className, e);
+                }
+            }
+            putString(hasher, String.valueOf(generator.getOutputBaseDir(project)));
+            putString(hasher, String.valueOf(generator.getResourceBaseDir(project)));
+            for (Entry<String, String> entry : new TreeMap<>(generator.getAdditionalConfiguration()).entrySet()) {
+                putString(hasher, entry.getKey());
+                putString(hasher, entry.getValue());
+            }
+        }
+
+        for (File file : sorted(dependencies)) {
+            putString(hasher, file.getAbsolutePath());
+            if (file.getName().endsWith(YangConstants.RFC6020_YANG_FILE_EXTENSION)) {
+                hasher.putBytes(Files.asByteSource(file).hash(Hashing.sha256()).asBytes());
+            } else {
+                // Archives are not hashed, as that would be too expensive
+                hasher.putLong(file.length()).putLong(file.lastModified());
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Compute the fingerprint of all inputs of a run.
+     *
+     * @param config Configuration fingerprint
+     * @param projectFiles YANG files in the project
+     * @return Inputs fingerprint
+     * @throws IOException if a file cannot be read
+     */
+    static String inputsFingerprint(final String config, final Collection<File> projectFiles) throws IOException {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, config);
+        for (File file : sorted(projectFiles)) {
+            putString(hasher, file.getAbsolutePath());
+            hasher.putBytes(Files.asByteSource(file).hash(Hashing.sha256()).asBytes());
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Compute fingerprints of individual sources.
+     *
+     * @param sources Sources in the project
+     * @return Map of source file names to their fingerprints
+     * @throws IOException if a source cannot be read
+     */
+    static Map<String, String> sourceFingerprints(final Collection<YangTextSchemaSource> sources)
+            throws IOException {
+        final ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+        for (YangTextSchemaSource source : sources) {
+            builder.put(source.getIdentifier().toYangFilename(), source.hash(Hashing.sha256()).toString());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compute the fingerprint of the contents of output directories. It covers relative paths and sizes of all files,
+     * but not their contents, so that it remains cheap to compute.
+     *
+     * @param directories Output directories
+     * @return Output fingerprint
+     * @throws IOException if a directory cannot be walked
+     */
+    static String outputFingerprint(final Collection<File> directories) throws IOException {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        for (File dir : sorted(directories)) {
+            putString(hasher, dir.getAbsolutePath());
+            if (!dir.isDirectory()) {
+                hasher.putBoolean(false);
+                continue;
+            }
+
+            hasher.putBoolean(true);
+            final Path root = dir.toPath();
+            final List<Path> files;
+            try (Stream<Path> stream = java.nio.file.Files.walk(root)) {
+                files = stream.filter(java.nio.file.Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path path : files) {
+                putString(hasher, root.relativize(path).toString());
+                hasher.putLong(java.nio.file.Files.size(path));
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Check whether the last successful run had the same inputs.
+     *
+     * @param inputs Inputs fingerprint
+     * @return True if the inputs are unchanged.
+     */
+    boolean matchesInputs(final String inputs) {
+        return inputs.equals(previous.getProperty(INPUTS_KEY));
+    }
+
+    /**
+     * Check whether output directories still hold the output of the last successful run.
+     *
+     * @param directories Output directories
+     * @return True if the output appears to be unchanged
+     */
+    boolean matchesOutput(final Collection<File> directories) {
+        final String output = previous.getProperty(OUTPUT_KEY);
+        if (output == null) {
+            return false;
+        }
+
+        try {
+            return output.equals(outputFingerprint(directories));
+        } catch (IOException e) {
+            LOG.debug("{} Failed to fingerprint output directories {}", YangToSourcesProcessor.LOG_PREFIX,
+                directories, e);
+            return false;
+        }
+    }
+
+    /**
+     * Determine which sources have been added or modified since the last successful run, provided the configuration
+     * has not changed and no source has been removed.
+     *
+     * @param config Configuration fingerprint
+     * @param sources Source fingerprints
+     * @return File names of changed sources, or empty if the changes cannot be determined
+     */
+    Optional<Set<String>> changedSources(final String config, final Map<String, String> sources) {
+        if (!config.equals(previous.getProperty(CONFIG_KEY))) {
+            return Optional.empty();
+        }
+
+        for (String key : previous.stringPropertyNames()) {
+            if (key.startsWith(SOURCE_PREFIX) && !sources.containsKey(key.substring(SOURCE_PREFIX.length()))) {
+                LOG.debug("{} Source {} has been removed", YangToSourcesProcessor.LOG_PREFIX, key);
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(ImmutableSet.copyOf(sources.entrySet().stream()
+            .filter(entry -> !entry.getValue().equals(previous.getProperty(SOURCE_PREFIX + entry.getKey())))
+            .map(Entry::getKey).collect(Collectors.toList())));
+    }
+
+    /**
+     * Remove the persisted state, so that an interrupted or failed run is not mistaken for a successful one.
+     */
+    void invalidate() {
+        if (file != null && file.exists() && !file.delete()) {
+            LOG.warn("{} Failed to delete fingerprint cache {}", YangToSourcesProcessor.LOG_PREFIX, file);
+        }
+    }
+
+    /**
+     * Persist the fingerprints of a successful run.
+     *
+     * @param config Configuration fingerprint
+     * @param inputs Inputs fingerprint
+     * @param output Output fingerprint
+     * @param sources Source fingerprints
+     * @throws IOException if the cache cannot be written
+     */
+    void store(final String config, final String inputs, final String output, final Map<String, String> sources)
+            throws IOException {
+        if (file == null) {
+            return;
+        }
+
+        final Properties props = new Properties();
+        props.setProperty(CONFIG_KEY, config);
+        props.setProperty(INPUTS_KEY, inputs);
+        props.setProperty(OUTPUT_KEY, output);
+        for (Entry<String, String> entry : sources.entrySet()) {
+            props.setProperty(SOURCE_PREFIX + entry.getKey(), entry.getValue());
+        }
+
+        Files.createParentDirs(file);
+        try (OutputStream os = Files.asByteSink(file).openStream()) {
+            props.store(os, "YANG code generation fingerprints");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("file", file).toString();
+    }
+
+    private static void hashCodeSource(final Hasher hasher, final Class<?> clazz) {
+        final CodeSource source = clazz.getProtectionDomain().getCodeSource();
+        if (source == null || source.getLocation() == null) {
+            return;
+        }
+
+        final File location;
+        try {
+            location = new File(source.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            LOG.debug("{} Cannot resolve location of {}", YangToSourcesProcessor.LOG_PREFIX, clazz, e);
+            putString(hasher, source.getLocation().toString());
+            return;
+        }
+
+        putString(hasher, location.getAbsolutePath());
+        hasher.putLong(location.length()).putLong(location.lastModified());
+    }
+
+    private static void putString(final Hasher hasher, final String str) {
+        hasher.putInt(str.length()).putString(str, StandardCharsets.UTF_8);
+    }
+
+    private static Collection<File> sorted(final Collection<File> files) {
+        return files.stream().sorted(Comparator.comparing(File::getAbsolutePath)).collect(Collectors.toList());
+    }
+}
@@ -38,8 +38,11 @@ import org.sonatype.plexus.build.incremental.BuildContext;
  * {@link BasicCodeGenerator}s. Steps of this process:
  * <ol>
  * <li>List yang files from {@link #yangFilesRootDir}</li>
+ * <li>Unless YANG files, their dependencies or generator configuration changed since the last successful run,
+ * reuse the previously generated sources</li>
  * <li>Process yang files using Yang Parser</li>
- * <li>For each {@link BasicCodeGenerator} from {@link #codeGenerators}:
+ * <li>For each {@link BasicCodeGenerator} from {@link #codeGenerators}, concurrently unless they share an output
+ * directory:
  * <ol>
  * <li>Instantiate using default constructor</li>
  * <li>Call {@link BasicCodeGenerator#generateSources(SchemaContext, File, Set, Function)}</li>
@@ -94,6 +97,14 @@ public final class YangToSourcesMojo extends AbstractMojo {
     @Parameter(property = "yang.skip")
     private String yangSkip;
 
+    /**
+     * Run code generators which do not share an output directory concurrently. This is disabled by default, as code
+     * generators are not required to be safe to run concurrently with others. Enable it only if all of the configured
+     * generators are known to be safe.
+     */
+    @Parameter(property = "yang.parallel", defaultValue = "false")
+    private boolean parallelGeneration;
+
     public YangToSourcesMojo() {
     }
 
@@ -118,7 +129,7 @@ public final class YangToSourcesMojo extends AbstractMojo {
             Collection<File> excludedFiles = processExcludeFiles(excludeFiles, yangFilesRootFile);
 
             yangToSourcesProcessor = new YangToSourcesProcessor(buildContext, yangFilesRootFile,
-                    excludedFiles, codeGeneratorArgs, project, inspectDependencies);
+                    excludedFiles, codeGeneratorArgs, project, inspectDependencies, parallelGeneration);
         }
         yangToSourcesProcessor.conditionalExecute("true".equals(yangSkip));
     }
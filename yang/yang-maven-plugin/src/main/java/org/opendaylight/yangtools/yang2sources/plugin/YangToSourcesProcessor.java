@@ -15,6 +15,7 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.CharStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
@@ -25,15 +26,23 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.project.MavenProject;
 import org.opendaylight.yangtools.yang.common.YangConstants;
+import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.parser.api.YangSyntaxErrorException;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceException;
 import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
@@ -41,6 +50,7 @@ import org.opendaylight.yangtools.yang.parser.repo.YangTextSchemaContextResolver
 import org.opendaylight.yangtools.yang2sources.plugin.ConfigArg.CodeGeneratorArg;
 import org.opendaylight.yangtools.yang2sources.spi.BasicCodeGenerator;
 import org.opendaylight.yangtools.yang2sources.spi.BuildContextAware;
+import org.opendaylight.yangtools.yang2sources.spi.IncrementalCodeGenerator;
 import org.opendaylight.yangtools.yang2sources.spi.MavenProjectAware;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,10 +75,12 @@ class YangToSourcesProcessor {
     private final boolean inspectDependencies;
     private final BuildContext buildContext;
     private final YangProvider yangProvider;
+    private final boolean parallelGeneration;
 
     private YangToSourcesProcessor(final BuildContext buildContext, final File yangFilesRootDir,
             final Collection<File> excludedFiles, final List<CodeGeneratorArg> codeGenerators,
-            final MavenProject project, final boolean inspectDependencies, final YangProvider yangProvider) {
+            final MavenProject project, final boolean inspectDependencies, final YangProvider yangProvider,
+            final boolean parallelGeneration) {
         this.buildContext = requireNonNull(buildContext, "buildContext");
         this.yangFilesRootDir = requireNonNull(yangFilesRootDir, "yangFilesRootDir");
         this.excludedFiles = ImmutableSet.copyOf(excludedFiles);
@@ -76,20 +88,35 @@ class YangToSourcesProcessor {
         this.project = requireNonNull(project);
         this.inspectDependencies = inspectDependencies;
         this.yangProvider = requireNonNull(yangProvider);
+        this.parallelGeneration = parallelGeneration;
     }
 
     @VisibleForTesting
     YangToSourcesProcessor(final File yangFilesRootDir, final Collection<File> excludedFiles,
             final List<CodeGeneratorArg> codeGenerators, final MavenProject project, final boolean inspectDependencies,
             final YangProvider yangProvider) {
+        this(yangFilesRootDir, excludedFiles, codeGenerators, project, inspectDependencies, yangProvider, false);
+    }
+
+    @VisibleForTesting
+    YangToSourcesProcessor(final File yangFilesRootDir, final Collection<File> excludedFiles,
+            final List<CodeGeneratorArg> codeGenerators, final MavenProject project, final boolean inspectDependencies,
+            final YangProvider yangProvider, final boolean parallelGeneration) {
         this(new DefaultBuildContext(), yangFilesRootDir, excludedFiles, codeGenerators, project,
-                inspectDependencies, yangProvider);
+                inspectDependencies, yangProvider, parallelGeneration);
     }
 
     YangToSourcesProcessor(final BuildContext buildContext, final File yangFilesRootDir,
                 final Collection<File> excludedFiles, final List<CodeGeneratorArg> codeGenerators,
                 final MavenProject project, final boolean inspectDependencies) {
-        this(yangFilesRootDir, excludedFiles, codeGenerators, project, inspectDependencies, YangProvider.getInstance());
+        this(buildContext, yangFilesRootDir, excludedFiles, codeGenerators, project, inspectDependencies, false);
+    }
+
+    YangToSourcesProcessor(final BuildContext buildContext, final File yangFilesRootDir,
+                final Collection<File> excludedFiles, final List<CodeGeneratorArg> codeGenerators,
+                final MavenProject project, final boolean inspectDependencies, final boolean parallelGeneration) {
+        this(new DefaultBuildContext(), yangFilesRootDir, excludedFiles, codeGenerators, project, inspectDependencies,
+            YangProvider.getInstance(), parallelGeneration);
     }
 
     public void execute() throws MojoExecutionException, MojoFailureException {
@@ -97,28 +124,66 @@ class YangToSourcesProcessor {
     }
 
     void conditionalExecute(final boolean skip) throws MojoExecutionException, MojoFailureException {
-        final Optional<ProcessorModuleReactor> optReactor = createReactor();
-        if (!optReactor.isPresent()) {
+        final Optional<InputFiles> optInputs = findInputFiles();
+        if (!optInputs.isPresent()) {
             return;
         }
 
-        final ProcessorModuleReactor reactor = optReactor.get();
-        if (!skip) {
-            final ContextHolder holder;
+        final InputFiles inputs = optInputs.get();
+        if (skip) {
+            LOG.info("Skipping YANG code generation because property yang.skip is true");
+            addModelsToProject(createReactor(inputs.project));
+            return;
+        }
 
-            try {
-                holder = createContextHolder(reactor);
-            } catch (SchemaSourceException | YangSyntaxErrorException e) {
-                throw new MojoFailureException("Failed to process reactor " + reactor, e);
-            } catch (IOException e) {
-                throw new MojoExecutionException("Failed to read reactor " + reactor, e);
-            }
+        /*
+         * Check whether the last successful run had the same inputs. If it did and its output is still there intact,
+         * we do not need to parse anything, just make sure the output is picked up by the rest of the build.
+         */
+        final FingerprintCache cache = FingerprintCache.load(project);
+        final String config;
+        final String fingerprint;
+        try {
+            config = FingerprintCache.configFingerprint(project, codeGenerators, inputs.dependencies);
+            fingerprint = FingerprintCache.inputsFingerprint(config, inputs.project);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to read input files", e);
+        }
+        final Collection<File> outputDirs = outputDirectories();
+        final boolean outputIntact = cache.matchesOutput(outputDirs);
+        if (outputIntact && cache.matchesInputs(fingerprint)) {
+            LOG.info("{} None of {} input files nor code generator configuration changed, reusing generated sources",
+                LOG_PREFIX, inputs.size());
+            addPreviousOutputToProject();
+            return;
+        }
+        cache.invalidate();
 
-            generateSources(holder);
-        } else {
-            LOG.info("Skipping YANG code generation because property yang.skip is true");
+        final ProcessorModuleReactor reactor = createReactor(inputs.project);
+        final ContextHolder holder;
+        final Map<String, String> sources;
+        try {
+            holder = createContextHolder(reactor);
+            sources = FingerprintCache.sourceFingerprints(reactor.getModelsInProject());
+        } catch (SchemaSourceException | YangSyntaxErrorException e) {
+            throw new MojoFailureException("Failed to process reactor " + reactor, e);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to read reactor " + reactor, e);
         }
 
+        // Incremental generation can only patch up output which is known to be complete
+        generateSources(holder, outputIntact ? cache.changedSources(config, sources).map(holder::getChangedModules)
+                : Optional.empty());
+        addModelsToProject(reactor);
+
+        try {
+            cache.store(config, fingerprint, FingerprintCache.outputFingerprint(outputDirs), sources);
+        } catch (IOException e) {
+            LOG.warn("{} Failed to store fingerprints in {}", LOG_PREFIX, cache, e);
+        }
+    }
+
+    private void addModelsToProject(final ProcessorModuleReactor reactor) throws MojoExecutionException {
         // add META_INF/yang
         final Collection<YangTextSchemaSource> models = reactor.getModelsInProject();
         try {
@@ -134,8 +199,38 @@ class YangToSourcesProcessor {
             META_INF_YANG_SERVICES_STRING_JAR);
     }
 
+    /**
+     * Return all directories populated by code generators and by this plugin.
+     */
+    private Collection<File> outputDirectories() {
+        final Set<File> dirs = new HashSet<>();
+        for (CodeGeneratorArg codeGenerator : codeGenerators) {
+            final File outputDir = codeGenerator.getOutputBaseDir(project);
+            if (outputDir != null) {
+                dirs.add(outputDir);
+            }
+            dirs.add(codeGenerator.getResourceBaseDir(project));
+        }
+
+        final GeneratedDirectories generated = new GeneratedDirectories(project);
+        dirs.add(generated.getYangDir());
+        dirs.add(generated.getYangServicesDir());
+        return dirs;
+    }
+
+    private void addPreviousOutputToProject() {
+        for (CodeGeneratorArg codeGenerator : codeGenerators) {
+            project.addCompileSourceRoot(codeGenerator.getOutputBaseDir(project).getAbsolutePath());
+            YangProvider.setResource(codeGenerator.getResourceBaseDir(project), project);
+        }
+
+        final GeneratedDirectories dirs = new GeneratedDirectories(project);
+        YangProvider.setResource(dirs.getYangDir(), project);
+        YangProvider.setResource(dirs.getYangServicesDir(), project);
+    }
+
     @SuppressWarnings("checkstyle:illegalCatch")
-    private Optional<ProcessorModuleReactor> createReactor() throws MojoExecutionException {
+    private Optional<InputFiles> findInputFiles() throws MojoExecutionException {
         LOG.info("{} Inspecting {}", LOG_PREFIX, yangFilesRootDir);
         try {
             /*
@@ -143,14 +238,9 @@ class YangToSourcesProcessor {
              * files in current project and optionally any jars/files in the
              * dependencies.
              */
-            final Collection<File> yangFilesInProject = listFiles(yangFilesRootDir, excludedFiles);
-
-            final Collection<File> allFiles = new ArrayList<>(yangFilesInProject);
-            if (inspectDependencies) {
-                allFiles.addAll(Util.findYangFilesInDependencies(project));
-            }
-
-            if (allFiles.isEmpty()) {
+            final InputFiles inputs = new InputFiles(listFiles(yangFilesRootDir, excludedFiles),
+                inspectDependencies ? Util.findYangFilesInDependencies(project) : ImmutableList.of());
+            if (inputs.size() == 0) {
                 LOG.info("{} No input files found", LOG_PREFIX);
                 return Optional.empty();
             }
@@ -159,11 +249,25 @@ class YangToSourcesProcessor {
              * Check if any of the listed files changed. If no changes occurred,
              * simply return null, which indicates and of execution.
              */
-            if (!allFiles.stream().anyMatch(buildContext::hasDelta)) {
-                LOG.info("{} None of {} input files changed", LOG_PREFIX, allFiles.size());
+            if (!inputs.anyMatch(buildContext::hasDelta)) {
+                LOG.info("{} None of {} input files changed", LOG_PREFIX, inputs.size());
                 return Optional.empty();
             }
 
+            return Optional.of(inputs);
+        } catch (Exception e) {
+            // MojoExecutionException is thrown since execution cannot continue
+            LOG.error("{} Unable to parse YANG files from {}", LOG_PREFIX, yangFilesRootDir, e);
+            Throwable rootCause = Throwables.getRootCause(e);
+            throw new MojoExecutionException(LOG_PREFIX + " Unable to parse YANG files from " + yangFilesRootDir,
+                rootCause);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private ProcessorModuleReactor createReactor(final Collection<File> yangFilesInProject)
+            throws MojoExecutionException {
+        try {
             final YangTextSchemaContextResolver resolver = YangTextSchemaContextResolver.create("maven-plugin");
             for (final File f : yangFilesInProject) {
                 resolver.registerSource(YangTextSchemaSource.forFile(f));
@@ -174,7 +278,7 @@ class YangToSourcesProcessor {
 
             final ProcessorModuleReactor reactor = new ProcessorModuleReactor(resolver);
             LOG.debug("Initialized reactor {}", reactor, yangFilesInProject);
-            return Optional.of(reactor);
+            return reactor;
         } catch (Exception e) {
             // MojoExecutionException is thrown since execution cannot continue
             LOG.error("{} Unable to parse YANG files from {}", LOG_PREFIX, yangFilesRootDir, e);
@@ -232,27 +336,61 @@ class YangToSourcesProcessor {
     }
 
     /**
-     * Call generate on every generator from plugin configuration.
+     * Call generate on every generator from plugin configuration. Generators which do not share an output directory
+     * are run concurrently.
+     *
+     * @param context Schema context and project modules
+     * @param changedModules Modules changed since the last successful run, if known
      */
     @SuppressWarnings("checkstyle:illegalCatch")
-    private void generateSources(final ContextHolder context) throws MojoFailureException {
+    private void generateSources(final ContextHolder context, final Optional<Set<Module>> changedModules)
+            throws MojoFailureException {
         if (codeGenerators.size() == 0) {
             LOG.warn("{} No code generators provided", LOG_PREFIX);
             return;
         }
 
-        final Map<String, String> thrown = new HashMap<>();
+        // Generators interact with the project, hence they are instantiated and configured sequentially
+        final Map<String, String> thrown = new LinkedHashMap<>();
+        final Map<File, List<ConfiguredGenerator>> byOutputDir = new LinkedHashMap<>();
         for (CodeGeneratorArg codeGenerator : codeGenerators) {
             try {
-                generateSourcesWithOneGenerator(context, codeGenerator);
+                final ConfiguredGenerator configured = configureGenerator(codeGenerator);
+                byOutputDir.computeIfAbsent(configured.outputDir, dir -> new ArrayList<>()).add(configured);
             } catch (Exception e) {
                 // try other generators, exception will be thrown after
-                LOG.error("{} Unable to generate sources with {} generator", LOG_PREFIX, codeGenerator
-                        .getCodeGeneratorClass(), e);
+                LOG.error("{} Unable to configure {} generator", LOG_PREFIX, codeGenerator.getCodeGeneratorClass(),
+                    e);
                 thrown.put(codeGenerator.getCodeGeneratorClass(), e.getClass().getCanonicalName());
             }
         }
 
+        // Generators sharing an output directory are run in order, as each of them cleans the directory
+        final int threads = parallelGeneration ? Math.min(byOutputDir.size(),
+            Runtime.getRuntime().availableProcessors()) : 1;
+        if (threads > 1) {
+            LOG.info("{} Running {} code generators in {} threads", LOG_PREFIX, codeGenerators.size(), threads);
+            final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("yang-to-sources-%d").build());
+            try {
+                final List<Future<Map<String, String>>> futures = new ArrayList<>(byOutputDir.size());
+                for (List<ConfiguredGenerator> generators : byOutputDir.values()) {
+                    futures.add(executor.submit(() -> runGenerators(context, changedModules, generators)));
+                }
+                for (Future<Map<String, String>> future : futures) {
+                    thrown.putAll(future.get());
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                throw new MojoFailureException(LOG_PREFIX + " Code generation did not complete", e);
+            } finally {
+                executor.shutdownNow();
+            }
+        } else {
+            for (List<ConfiguredGenerator> generators : byOutputDir.values()) {
+                thrown.putAll(runGenerators(context, changedModules, generators));
+            }
+        }
+
         if (!thrown.isEmpty()) {
             String message = " One or more code generators failed, including failed list(generatorClass=exception) ";
             LOG.error("{}" + message + "{}", LOG_PREFIX, thrown.toString());
@@ -261,10 +399,10 @@ class YangToSourcesProcessor {
     }
 
     /**
-     * Instantiate generator from class and call required method.
+     * Instantiate generator from class and configure it.
      */
-    private void generateSourcesWithOneGenerator(final ContextHolder context, final CodeGeneratorArg codeGeneratorCfg)
-            throws ClassNotFoundException, InstantiationException, IllegalAccessException, IOException {
+    private ConfiguredGenerator configureGenerator(final CodeGeneratorArg codeGeneratorCfg)
+            throws ClassNotFoundException, InstantiationException, IllegalAccessException {
 
         codeGeneratorCfg.check();
 
@@ -295,14 +433,26 @@ class YangToSourcesProcessor {
         LOG.debug("{} Folder: {} marked as resources for generator: {}", LOG_PREFIX, resourceBaseDir,
                 codeGeneratorCfg.getCodeGeneratorClass());
 
-        if (outputDir.exists()) {
-            Files.walk(outputDir.toPath()).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
-            LOG.info("{} Succesfully deleted output directory {}", LOG_PREFIX, outputDir);
-        }
-        Collection<File> generated = g.generateSources(context.getContext(), outputDir, context.getYangModules(),
-            context::moduleToResourcePath);
+        return new ConfiguredGenerator(codeGeneratorCfg.getCodeGeneratorClass(), g, outputDir);
+    }
 
-        LOG.info("{} Sources generated by {}: {}", LOG_PREFIX, codeGeneratorCfg.getCodeGeneratorClass(), generated);
+    /**
+     * Run a sequence of generators, returning the failures encountered.
+     */
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private static Map<String, String> runGenerators(final ContextHolder context,
+            final Optional<Set<Module>> changedModules, final List<ConfiguredGenerator> generators) {
+        final Map<String, String> thrown = new LinkedHashMap<>();
+        for (ConfiguredGenerator generator : generators) {
+            try {
+                generator.generate(context, changedModules);
+            } catch (Exception e) {
+                // try other generators, exception will be thrown after
+                LOG.error("{} Unable to generate sources with {} generator", LOG_PREFIX, generator.className, e);
+                thrown.put(generator.className, e.getClass().getCanonicalName());
+            }
+        }
+        return thrown;
     }
 
     /**
@@ -316,4 +466,55 @@ class YangToSourcesProcessor {
             baseType);
         return baseType.cast(clazz.newInstance());
     }
+
+    private static final class InputFiles {
+        final Collection<File> project;
+        final Collection<File> dependencies;
+
+        InputFiles(final Collection<File> project, final Collection<File> dependencies) {
+            this.project = requireNonNull(project);
+            this.dependencies = requireNonNull(dependencies);
+        }
+
+        int size() {
+            return project.size() + dependencies.size();
+        }
+
+        boolean anyMatch(final Predicate<File> predicate) {
+            return project.stream().anyMatch(predicate) || dependencies.stream().anyMatch(predicate);
+        }
+    }
+
+    private static final class ConfiguredGenerator {
+        final String className;
+        final BasicCodeGenerator generator;
+        final File outputDir;
+
+        ConfiguredGenerator(final String className, final BasicCodeGenerator generator, final File outputDir) {
+            this.className = requireNonNull(className);
+            this.generator = requireNonNull(generator);
+            this.outputDir = requireNonNull(outputDir);
+        }
+
+        void generate(final ContextHolder context, final Optional<Set<Module>> changedModules) throws IOException {
+            final Collection<File> generated;
+            if (changedModules.isPresent() && generator instanceof IncrementalCodeGenerator
+                    && outputDir.isDirectory()) {
+                LOG.info("{} Updating sources for {} changed modules in {}", LOG_PREFIX, changedModules.get().size(),
+                    outputDir);
+                generated = ((IncrementalCodeGenerator) generator).generateSources(context.getContext(), outputDir,
+                    context.getYangModules(), changedModules.get(), context::moduleToResourcePath);
+            } else {
+                if (outputDir.exists()) {
+                    Files.walk(outputDir.toPath()).sorted(Comparator.reverseOrder()).map(Path::toFile)
+                        .forEach(File::delete);
+                    LOG.info("{} Succesfully deleted output directory {}", LOG_PREFIX, outputDir);
+                }
+                generated = generator.generateSources(context.getContext(), outputDir, context.getYangModules(),
+                    context::moduleToResourcePath);
+            }
+
+            LOG.info("{} Sources generated by {}: {}", LOG_PREFIX, className, generated);
+        }
+    }
 }
@@ -30,7 +30,9 @@ import org.apache.maven.model.Build;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.project.MavenProject;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.yangtools.yang.model.api.Module;
@@ -40,6 +42,8 @@ import org.opendaylight.yangtools.yang2sources.spi.BasicCodeGenerator;
 import org.opendaylight.yangtools.yang2sources.spi.MavenProjectAware;
 
 public class GenerateSourcesTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
 
     private String yang;
     private YangToSourcesMojo mojo;
@@ -68,7 +72,7 @@ public class GenerateSourcesTest {
                 mock);
         this.mojo = new YangToSourcesMojo(processor);
         doReturn(new File("")).when(this.project).getBasedir();
-        doReturn("target/").when(this.build).getDirectory();
+        doReturn(new File(folder.getRoot(), "target").getPath()).when(this.build).getDirectory();
         doReturn(this.build).when(this.project).getBuild();
         doReturn(Collections.emptyList()).when(this.plugin).getDependencies();
         doReturn(this.plugin).when(this.project).getPlugin(YangToSourcesMojo.PLUGIN_NAME);
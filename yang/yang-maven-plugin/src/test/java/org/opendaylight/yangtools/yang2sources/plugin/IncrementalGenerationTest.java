@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang2sources.plugin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang2sources.plugin.ConfigArg.CodeGeneratorArg;
+import org.opendaylight.yangtools.yang2sources.spi.IncrementalCodeGenerator;
+
+public class IncrementalGenerationTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MavenProject project;
+    private Build build;
+    private File yangDir;
+
+    @Before
+    public void setUp() throws IOException {
+        IncrementalGeneratorMock.reset();
+
+        final File baseDir = folder.getRoot();
+        yangDir = folder.newFolder("yang");
+        writeModule("foo", "leaf foo { type string; }");
+        writeModule("bar", "leaf bar { type string; }");
+
+        build = new Build();
+        build.setDirectory(new File(baseDir, "target").getPath());
+        project = mock(MavenProject.class);
+        stubProject();
+    }
+
+    @Test
+    public void testIncrementalGeneration() throws Exception {
+        execute("out1", "out2");
+        assertEquals(2, IncrementalGeneratorMock.FULL.get());
+        assertEquals(0, IncrementalGeneratorMock.INCREMENTAL.get());
+        assertTrue(new File(folder.getRoot(), "out1/generated.txt").isFile());
+
+        // Nothing changed: no generation takes place, but the output is still added to the project
+        reset(project);
+        stubProject();
+        execute("out1", "out2");
+        assertEquals(2, IncrementalGeneratorMock.FULL.get());
+        assertEquals(0, IncrementalGeneratorMock.INCREMENTAL.get());
+        verify(project, atLeastOnce()).addCompileSourceRoot(new File(folder.getRoot(), "out1").getAbsolutePath());
+
+        // A single module changed: only that module is passed to the generators
+        writeModule("foo", "leaf foo { type int32; }");
+        execute("out1", "out2");
+        assertEquals(2, IncrementalGeneratorMock.FULL.get());
+        assertEquals(2, IncrementalGeneratorMock.INCREMENTAL.get());
+        assertEquals(ImmutableSet.of("foo"), IncrementalGeneratorMock.changedModules);
+        assertTrue(new File(folder.getRoot(), "out1/generated.txt").isFile());
+
+        // A module is removed: everything is regenerated
+        assertTrue(new File(yangDir, "bar.yang").delete());
+        execute("out1", "out2");
+        assertEquals(4, IncrementalGeneratorMock.FULL.get());
+        assertEquals(2, IncrementalGeneratorMock.INCREMENTAL.get());
+        assertNull(IncrementalGeneratorMock.changedModules);
+    }
+
+    @Test
+    public void testParallelGeneration() throws Exception {
+        executeParallel("out1", "out2");
+        assertEquals(2, IncrementalGeneratorMock.FULL.get());
+        assertTrue(new File(folder.getRoot(), "out1/generated.txt").isFile());
+        assertTrue(new File(folder.getRoot(), "out2/generated.txt").isFile());
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            assertFalse(IncrementalGeneratorMock.THREADS.contains(Thread.currentThread()));
+        }
+
+        // Output directories are fingerprinted independently of how they were generated
+        writeModule("foo", "leaf foo { type int32; }");
+        executeParallel("out1", "out2");
+        assertEquals(2, IncrementalGeneratorMock.FULL.get());
+        assertEquals(2, IncrementalGeneratorMock.INCREMENTAL.get());
+        assertEquals(ImmutableSet.of("foo"), IncrementalGeneratorMock.changedModules);
+
+        // Switching to sequential generation reuses the output
+        execute("out1", "out2");
+        assertEquals(2, IncrementalGeneratorMock.FULL.get());
+        assertEquals(2, IncrementalGeneratorMock.INCREMENTAL.get());
+    }
+
+    @Test
+    public void testConfigurationChange() throws Exception {
+        execute("out1");
+        assertEquals(1, IncrementalGeneratorMock.FULL.get());
+
+        // A different generator configuration invalidates previous output
+        execute("out1", "out2");
+        assertEquals(3, IncrementalGeneratorMock.FULL.get());
+        assertEquals(0, IncrementalGeneratorMock.INCREMENTAL.get());
+    }
+
+    @Test
+    public void testFailureIsNotCached() throws Exception {
+        IncrementalGeneratorMock.fail = true;
+        try {
+            execute("out1");
+            fail("Expected exception not raised");
+        } catch (MojoFailureException e) {
+            // Expected
+        }
+        assertEquals(1, IncrementalGeneratorMock.FULL.get());
+
+        // The failed run must not be mistaken for a successful one
+        IncrementalGeneratorMock.fail = false;
+        execute("out1");
+        assertEquals(2, IncrementalGeneratorMock.FULL.get());
+    }
+
+    @Test
+    public void testDependentModulesAreChanged() throws Exception {
+        writeModule("baz", "import foo { prefix foo; } augment /foo:cont { leaf baz { type string; } }");
+        writeModule("foo", "container cont { leaf foo { type string; } }");
+        execute("out1");
+        assertEquals(1, IncrementalGeneratorMock.FULL.get());
+
+        // Changing foo affects baz, which augments it
+        writeModule("foo", "container cont { leaf foo { type int32; } }");
+        execute("out1");
+        assertEquals(1, IncrementalGeneratorMock.INCREMENTAL.get());
+        assertEquals(ImmutableSet.of("foo", "baz"), IncrementalGeneratorMock.changedModules);
+
+        // Changing baz does not affect foo
+        writeModule("baz", "import foo { prefix foo; } augment /foo:cont { leaf baz { type int32; } }");
+        execute("out1");
+        assertEquals(2, IncrementalGeneratorMock.INCREMENTAL.get());
+        assertEquals(ImmutableSet.of("baz"), IncrementalGeneratorMock.changedModules);
+    }
+
+    @Test
+    public void testDamagedOutputIsRegenerated() throws Exception {
+        execute("out1");
+        assertEquals(1, IncrementalGeneratorMock.FULL.get());
+
+        // Output is partially gone: it must not be reused, nor incrementally updated
+        assertTrue(new File(folder.getRoot(), "out1/generated.txt").delete());
+        execute("out1");
+        assertEquals(2, IncrementalGeneratorMock.FULL.get());
+        assertTrue(new File(folder.getRoot(), "out1/generated.txt").isFile());
+
+        assertTrue(new File(folder.getRoot(), "out1/generated.txt").delete());
+        writeModule("foo", "leaf foo { type int32; }");
+        execute("out1");
+        assertEquals(3, IncrementalGeneratorMock.FULL.get());
+        assertEquals(0, IncrementalGeneratorMock.INCREMENTAL.get());
+    }
+
+    private void execute(final String... outputDirs) throws Exception {
+        execute(false, outputDirs);
+    }
+
+    private void executeParallel(final String... outputDirs) throws Exception {
+        execute(true, outputDirs);
+    }
+
+    private void execute(final boolean parallel, final String... outputDirs) throws Exception {
+        final YangProvider yangProvider = mock(YangProvider.class);
+        doNothing().when(yangProvider).addYangsToMetaInf(any(MavenProject.class), any(Collection.class));
+        new GeneratedDirectories(project).getYangDir().mkdirs();
+
+        final YangToSourcesProcessor processor = new YangToSourcesProcessor(yangDir, ImmutableList.of(),
+            Arrays.stream(outputDirs).map(dir -> new CodeGeneratorArg(IncrementalGeneratorMock.class.getName(), dir))
+                .collect(Collectors.toList()), project, false, yangProvider, parallel);
+        processor.execute();
+    }
+
+    private void stubProject() {
+        doReturn(folder.getRoot()).when(project).getBasedir();
+        doReturn(build).when(project).getBuild();
+    }
+
+    private void writeModule(final String name, final String body) throws IOException {
+        Files.write(new File(yangDir, name + ".yang").toPath(), ("module " + name + " { namespace " + name
+            + "; prefix " + name + "; " + body + " }").getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static final class IncrementalGeneratorMock implements IncrementalCodeGenerator {
+        static final AtomicInteger FULL = new AtomicInteger();
+        static final AtomicInteger INCREMENTAL = new AtomicInteger();
+        static final Set<Thread> THREADS = ConcurrentHashMap.newKeySet();
+        static volatile Set<String> changedModules;
+        static volatile boolean fail;
+
+        static void reset() {
+            FULL.set(0);
+            INCREMENTAL.set(0);
+            THREADS.clear();
+            changedModules = null;
+            fail = false;
+        }
+
+        @Override
+        public Collection<File> generateSources(final SchemaContext context, final File outputBaseDir,
+                final Set<Module> currentModules, final Function<Module, Optional<String>> moduleResourcePathResolver)
+                throws IOException {
+            FULL.incrementAndGet();
+            THREADS.add(Thread.currentThread());
+            changedModules = null;
+            if (fail) {
+                throw new IOException("Failing as requested");
+            }
+            return ImmutableList.of(write(outputBaseDir));
+        }
+
+        @Override
+        public Collection<File> generateSources(final SchemaContext context, final File outputBaseDir,
+                final Set<Module> currentModules, final Set<Module> changedModules,
+                final Function<Module, Optional<String>> moduleResourcePathResolver) throws IOException {
+            INCREMENTAL.incrementAndGet();
+            THREADS.add(Thread.currentThread());
+            IncrementalGeneratorMock.changedModules = changedModules.stream().map(Module::getName)
+                    .collect(Collectors.toSet());
+            return ImmutableList.of(write(outputBaseDir));
+        }
+
+        @Override
+        public void setAdditionalConfig(final Map<String, String> additionalConfiguration) {
+            // No-op
+        }
+
+        @Override
+        public void setResourceBaseDir(final File resourceBaseDir) {
+            // No-op
+        }
+
+        private static File write(final File outputBaseDir) throws IOException {
+            outputBaseDir.mkdirs();
+            final File file = new File(outputBaseDir, "generated.txt");
+            Files.write(file.toPath(), new byte[0]);
+            return file;
+        }
+    }
+}
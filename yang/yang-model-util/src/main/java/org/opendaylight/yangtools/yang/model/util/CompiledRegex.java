@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.model.api.type.PatternConstraint;
+
+/**
+ * A compiled regular expression, as used by YANG pattern statements. Expressions are compiled into a deterministic
+ * automaton where possible, which matches strings in linear time without allocating. Expressions which cannot be
+ * expressed as an automaton, as well as strings the automaton cannot decide, are matched using a
+ * {@link Pattern}. Instances are shared through a global cache, so that the same pattern appearing in multiple types
+ * or models is compiled only once.
+ */
+@Beta
+public final class CompiledRegex {
+    // Weak values to allow expressions to be garbage-collected when they are no longer in use
+    private static final LoadingCache<String, CompiledRegex> JAVA_REGEXES = CacheBuilder.newBuilder().weakValues()
+            .build(new CacheLoader<String, CompiledRegex>() {
+                @Override
+                public CompiledRegex load(@Nonnull final String key) {
+                    return new CompiledRegex(key);
+                }
+            });
+    private static final LoadingCache<String, CompiledRegex> XSD_REGEXES = CacheBuilder.newBuilder().weakValues()
+            .build(new CacheLoader<String, CompiledRegex>() {
+                @Override
+                public CompiledRegex load(@Nonnull final String key) {
+                    return forJavaRegex(RegexUtils.getJavaRegexFromXSD(key));
+                }
+            });
+
+    private final Pattern pattern;
+    private final RegexDfa dfa;
+
+    private CompiledRegex(final String regex) {
+        // Pattern is always compiled, so that invalid expressions are reported in the usual way
+        pattern = Pattern.compile("^" + regex + "$");
+        dfa = RegexDfa.compile(regex);
+    }
+
+    /**
+     * Return a compiled form of a Java regular expression. The expression is implicitly anchored at both ends.
+     *
+     * @param regex Java regular expression
+     * @return A compiled regular expression
+     * @throws NullPointerException if regex is null
+     * @throws PatternSyntaxException if the expression is not valid
+     */
+    public static CompiledRegex forJavaRegex(final String regex) {
+        return getUnchecked(JAVA_REGEXES, requireNonNull(regex));
+    }
+
+    /**
+     * Return a compiled form of a YANG (XSD) regular expression.
+     *
+     * @param xsdRegex XSD regular expression
+     * @return A compiled regular expression
+     * @throws NullPointerException if xsdRegex is null
+     * @throws PatternSyntaxException if the expression is not valid
+     */
+    public static CompiledRegex forXsdRegex(final String xsdRegex) {
+        return getUnchecked(XSD_REGEXES, requireNonNull(xsdRegex));
+    }
+
+    /**
+     * Return a compiled form of the regular expression of a {@link PatternConstraint}.
+     *
+     * @param constraint Pattern constraint
+     * @return A compiled regular expression
+     * @throws NullPointerException if constraint is null
+     * @throws PatternSyntaxException if the expression is not valid
+     */
+    public static CompiledRegex forConstraint(final PatternConstraint constraint) {
+        return forJavaRegex(constraint.getRegularExpression());
+    }
+
+    /**
+     * Check whether the entire string matches this regular expression.
+     *
+     * @param str String to match
+     * @return True if the string matches
+     * @throws NullPointerException if str is null
+     */
+    public boolean matches(final String str) {
+        if (dfa != null) {
+            final int result = dfa.match(str);
+            if (result != RegexDfa.UNDECIDED) {
+                return result == RegexDfa.MATCH;
+            }
+        }
+        return pattern.matcher(str).matches();
+    }
+
+    /**
+     * Return the {@link Pattern} equivalent to this regular expression.
+     *
+     * @return A Pattern
+     */
+    public Pattern pattern() {
+        return pattern;
+    }
+
+    @VisibleForTesting
+    boolean isAutomaton() {
+        return dfa != null;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("pattern", pattern.pattern()).add("automaton", dfa != null)
+                .toString();
+    }
+
+    private static CompiledRegex getUnchecked(final LoadingCache<String, CompiledRegex> cache, final String key) {
+        try {
+            return cache.getUnchecked(key);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+}
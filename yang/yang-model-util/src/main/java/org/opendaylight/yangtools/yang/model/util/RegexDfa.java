@@ -0,0 +1,904 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/**
+ * A deterministic finite automaton equivalent to a Java regular expression, when used with
+ * {@link java.util.regex.Matcher#matches()}. Only the subset of regular expression syntax which is produced by
+ * {@link RegexUtils#getJavaRegexFromXSD(String)} from common YANG patterns is supported: literals, escapes, character
+ * classes, Unicode general categories, groups, alternation and quantifiers. Anything else, like back-references,
+ * look-around, possessive quantifiers, embedded flags or Unicode blocks and scripts, is rejected by
+ * {@link #compile(String)}, as are expressions whose automaton would be too large.
+ *
+ * <p>
+ * The automaton operates on UTF-16 code units, whereas {@link java.util.regex.Pattern} operates on code points. Inputs
+ * containing surrogates are therefore not decided by {@link #match(String)} and need to be matched by a Pattern.
+ */
+final class RegexDfa {
+    static final int NO_MATCH = 0;
+    static final int MATCH = 1;
+    static final int UNDECIDED = -1;
+
+    private static final int MAX_REPEAT = 1000;
+    private static final int MAX_NFA_STATES = 5000;
+    private static final int MAX_DFA_STATES = 2000;
+    private static final int MAX_TRANSITIONS = 1 << 18;
+    private static final int BMP_END = 0x10000;
+
+    private static final CharSet DIGIT = CharSet.range('0', '9');
+    private static final CharSet WORD = DIGIT.union(CharSet.range('a', 'z')).union(CharSet.range('A', 'Z'))
+            .union(CharSet.of('_'));
+    private static final CharSet SPACE = CharSet.range('\t', '\r').union(CharSet.of(' '));
+    // Java's '.' excludes line terminators, unless DOTALL is in effect
+    private static final CharSet DOT = CharSet.of('\n').union(CharSet.of('\r')).union(CharSet.of('\u0085'))
+            .union(CharSet.range('\u2028', '\u2029')).complement();
+
+    private static final Map<String, byte[]> CATEGORIES = new HashMap<>();
+    private static final ConcurrentMap<String, CharSet> CATEGORY_SETS = new ConcurrentHashMap<>();
+
+    static {
+        CATEGORIES.put("Lu", new byte[] { Character.UPPERCASE_LETTER });
+        CATEGORIES.put("Ll", new byte[] { Character.LOWERCASE_LETTER });
+        CATEGORIES.put("Lt", new byte[] { Character.TITLECASE_LETTER });
+        CATEGORIES.put("Lm", new byte[] { Character.MODIFIER_LETTER });
+        CATEGORIES.put("Lo", new byte[] { Character.OTHER_LETTER });
+        CATEGORIES.put("Mn", new byte[] { Character.NON_SPACING_MARK });
+        CATEGORIES.put("Me", new byte[] { Character.ENCLOSING_MARK });
+        CATEGORIES.put("Mc", new byte[] { Character.COMBINING_SPACING_MARK });
+        CATEGORIES.put("Nd", new byte[] { Character.DECIMAL_DIGIT_NUMBER });
+        CATEGORIES.put("Nl", new byte[] { Character.LETTER_NUMBER });
+        CATEGORIES.put("No", new byte[] { Character.OTHER_NUMBER });
+        CATEGORIES.put("Zs", new byte[] { Character.SPACE_SEPARATOR });
+        CATEGORIES.put("Zl", new byte[] { Character.LINE_SEPARATOR });
+        CATEGORIES.put("Zp", new byte[] { Character.PARAGRAPH_SEPARATOR });
+        CATEGORIES.put("Cc", new byte[] { Character.CONTROL });
+        CATEGORIES.put("Cf", new byte[] { Character.FORMAT });
+        CATEGORIES.put("Co", new byte[] { Character.PRIVATE_USE });
+        CATEGORIES.put("Cs", new byte[] { Character.SURROGATE });
+        CATEGORIES.put("Cn", new byte[] { Character.UNASSIGNED });
+        CATEGORIES.put("Pd", new byte[] { Character.DASH_PUNCTUATION });
+        CATEGORIES.put("Ps", new byte[] { Character.START_PUNCTUATION });
+        CATEGORIES.put("Pe", new byte[] { Character.END_PUNCTUATION });
+        CATEGORIES.put("Pc", new byte[] { Character.CONNECTOR_PUNCTUATION });
+        CATEGORIES.put("Po", new byte[] { Character.OTHER_PUNCTUATION });
+        CATEGORIES.put("Pi", new byte[] { Character.INITIAL_QUOTE_PUNCTUATION });
+        CATEGORIES.put("Pf", new byte[] { Character.FINAL_QUOTE_PUNCTUATION });
+        CATEGORIES.put("Sm", new byte[] { Character.MATH_SYMBOL });
+        CATEGORIES.put("Sc", new byte[] { Character.CURRENCY_SYMBOL });
+        CATEGORIES.put("Sk", new byte[] { Character.MODIFIER_SYMBOL });
+        CATEGORIES.put("So", new byte[] { Character.OTHER_SYMBOL });
+
+        // Single-letter categories are unions of the two-letter categories they prefix
+        final Map<String, byte[]> major = new HashMap<>();
+        for (Map.Entry<String, byte[]> entry : CATEGORIES.entrySet()) {
+            major.merge(entry.getKey().substring(0, 1), entry.getValue(), (left, right) -> {
+                final byte[] merged = Arrays.copyOf(left, left.length + right.length);
+                System.arraycopy(right, 0, merged, left.length, right.length);
+                return merged;
+            });
+        }
+        CATEGORIES.putAll(major);
+    }
+
+    /**
+     * Indicates the expression cannot be compiled into an automaton.
+     */
+    private static final class UnsupportedRegexException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedRegexException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    // Start of each character class, sorted
+    private final int[] classStarts;
+    // Character class of each ASCII character, there are at most 128 of those
+    private final byte[] asciiClasses;
+    // Transition table, indexed by state * classCount + class, -1 indicating a failed match
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final int classCount;
+
+    private RegexDfa(final int[] classStarts, final int[] transitions, final boolean[] accepting) {
+        this.classStarts = classStarts;
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.classCount = classStarts.length;
+
+        asciiClasses = new byte[128];
+        for (char c = 0; c < 128; ++c) {
+            asciiClasses[c] = (byte) classOf(classStarts, c);
+        }
+    }
+
+    /**
+     * Compile a Java regular expression into an automaton.
+     *
+     * @param regex Java regular expression
+     * @return An automaton, or null if the expression is not supported
+     */
+    @Nullable static RegexDfa compile(final String regex) {
+        try {
+            return new Compiler(regex).compile();
+        } catch (UnsupportedRegexException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Match a string against this automaton.
+     *
+     * @param str String to match
+     * @return {@link #MATCH} if the whole string matches, {@link #NO_MATCH} if it does not, or {@link #UNDECIDED} if
+     *         the string contains surrogate characters, which this automaton cannot decide.
+     */
+    int match(final String str) {
+        int state = 0;
+        for (int i = 0, length = str.length(); i < length; ++i) {
+            final char c = str.charAt(i);
+            final int clazz;
+            if (c < 128) {
+                clazz = asciiClasses[c];
+            } else if (Character.isSurrogate(c)) {
+                return UNDECIDED;
+            } else {
+                clazz = classOf(classStarts, c);
+            }
+
+            state = transitions[state * classCount + clazz];
+            if (state < 0) {
+                return NO_MATCH;
+            }
+        }
+        return accepting[state] ? MATCH : NO_MATCH;
+    }
+
+    int stateCount() {
+        return accepting.length;
+    }
+
+    private static int classOf(final int[] starts, final char c) {
+        final int index = Arrays.binarySearch(starts, c);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * An immutable set of BMP characters, represented as sorted, disjoint, half-open ranges.
+     */
+    private static final class CharSet {
+        private static final CharSet EMPTY = new CharSet(new int[0]);
+
+        // Pairs of inclusive start and exclusive end
+        private final int[] ranges;
+
+        private CharSet(final int[] ranges) {
+            this.ranges = ranges;
+        }
+
+        static CharSet of(final char c) {
+            return new CharSet(new int[] { c, c + 1 });
+        }
+
+        static CharSet range(final char from, final char to) {
+            return new CharSet(new int[] { from, to + 1 });
+        }
+
+        static CharSet forCategories(final byte[] types) {
+            final List<Integer> ranges = new ArrayList<>();
+            boolean inside = false;
+            for (int c = 0; c < BMP_END; ++c) {
+                boolean member = false;
+                final int type = Character.getType(c);
+                for (byte t : types) {
+                    if (t == type) {
+                        member = true;
+                        break;
+                    }
+                }
+                if (member != inside) {
+                    ranges.add(c);
+                    inside = member;
+                }
+            }
+            if (inside) {
+                ranges.add(BMP_END);
+            }
+            return new CharSet(ranges.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        CharSet union(final CharSet other) {
+            final BitSet bits = toBits();
+            bits.or(other.toBits());
+            return fromBits(bits);
+        }
+
+        CharSet complement() {
+            final BitSet bits = toBits();
+            bits.flip(0, BMP_END);
+            return fromBits(bits);
+        }
+
+        boolean contains(final int c) {
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (c < ranges[i]) {
+                    return false;
+                }
+                if (c < ranges[i + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void addBoundaries(final TreeSet<Integer> boundaries) {
+            for (int range : ranges) {
+                boundaries.add(range);
+            }
+        }
+
+        private BitSet toBits() {
+            final BitSet bits = new BitSet(BMP_END);
+            for (int i = 0; i < ranges.length; i += 2) {
+                bits.set(ranges[i], ranges[i + 1]);
+            }
+            return bits;
+        }
+
+        private static CharSet fromBits(final BitSet bits) {
+            final List<Integer> ranges = new ArrayList<>();
+            int start = bits.nextSetBit(0);
+            while (start >= 0) {
+                final int end = bits.nextClearBit(start);
+                ranges.add(start);
+                ranges.add(end);
+                start = end >= BMP_END ? -1 : bits.nextSetBit(end);
+            }
+            return ranges.isEmpty() ? EMPTY : new CharSet(ranges.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /*
+     * Abstract syntax tree of a parsed expression.
+     */
+    private abstract static class Node {
+
+    }
+
+    private static final class CharNode extends Node {
+        final CharSet set;
+
+        CharNode(final CharSet set) {
+            this.set = set;
+        }
+    }
+
+    private static final class SequenceNode extends Node {
+        final List<Node> nodes;
+
+        SequenceNode(final List<Node> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    private static final class AlternativeNode extends Node {
+        final List<Node> nodes;
+
+        AlternativeNode(final List<Node> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    private static final class RepeatNode extends Node {
+        static final int UNBOUNDED = -1;
+
+        final Node node;
+        final int min;
+        final int max;
+
+        RepeatNode(final Node node, final int min, final int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    /**
+     * A state of a Thompson NFA. It has at most one character transition and any number of epsilon transitions.
+     */
+    private static final class NfaState {
+        final List<NfaState> epsilon = new ArrayList<>(2);
+        final int index;
+        CharSet set;
+        NfaState target;
+
+        NfaState(final int index) {
+            this.index = index;
+        }
+    }
+
+    private static final class Compiler {
+        private final List<NfaState> states = new ArrayList<>();
+        private final String regex;
+        private final int end;
+        private int pos;
+
+        Compiler(final String regex) {
+            this.regex = regex;
+
+            // Leading '^' and trailing '$' are implied by matches()
+            int limit = regex.length();
+            if (limit > 0 && regex.charAt(limit - 1) == '$' && !isEscaped(regex, limit - 1)) {
+                limit--;
+            }
+            pos = limit > 0 && regex.charAt(0) == '^' ? 1 : 0;
+            end = limit;
+        }
+
+        RegexDfa compile() throws UnsupportedRegexException {
+            final Node root = parseAlternatives();
+            if (pos != end) {
+                throw new UnsupportedRegexException("Unexpected '" + regex.charAt(pos) + "' at " + pos);
+            }
+
+            final NfaState start = newState();
+            final NfaState accept = build(root, start);
+            return determinize(start, accept);
+        }
+
+        private static boolean isEscaped(final String str, final int offset) {
+            int backslashes = 0;
+            for (int i = offset - 1; i >= 0 && str.charAt(i) == '\\'; --i) {
+                backslashes++;
+            }
+            return backslashes % 2 != 0;
+        }
+
+        private Node parseAlternatives() throws UnsupportedRegexException {
+            final List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseSequence());
+            while (pos < end && regex.charAt(pos) == '|') {
+                pos++;
+                alternatives.add(parseSequence());
+            }
+            return alternatives.size() == 1 ? alternatives.get(0) : new AlternativeNode(alternatives);
+        }
+
+        private Node parseSequence() throws UnsupportedRegexException {
+            final List<Node> nodes = new ArrayList<>();
+            while (pos < end) {
+                final char c = regex.charAt(pos);
+                if (c == '|' || c == ')') {
+                    break;
+                }
+                nodes.add(parseQuantifier(parseAtom()));
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new SequenceNode(nodes);
+        }
+
+        private Node parseAtom() throws UnsupportedRegexException {
+            final char c = regex.charAt(pos++);
+            switch (c) {
+                case '(':
+                    if (pos < end && regex.charAt(pos) == '?') {
+                        if (pos + 1 < end && regex.charAt(pos + 1) == ':') {
+                            pos += 2;
+                        } else {
+                            throw new UnsupportedRegexException("Special group at " + pos);
+                        }
+                    }
+                    final Node group = parseAlternatives();
+                    if (pos >= end || regex.charAt(pos) != ')') {
+                        throw new UnsupportedRegexException("Unclosed group at " + pos);
+                    }
+                    pos++;
+                    return group;
+                case '[':
+                    return new CharNode(parseClass());
+                case '.':
+                    return new CharNode(DOT);
+                case '\\':
+                    return new CharNode(parseEscape());
+                case '^':
+                case '$':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw new UnsupportedRegexException("Unexpected '" + c + "' at " + (pos - 1));
+                default:
+                    return new CharNode(literal(c));
+            }
+        }
+
+        private Node parseQuantifier(final Node atom) throws UnsupportedRegexException {
+            if (pos >= end) {
+                return atom;
+            }
+
+            final int min;
+            final int max;
+            switch (regex.charAt(pos)) {
+                case '*':
+                    pos++;
+                    min = 0;
+                    max = RepeatNode.UNBOUNDED;
+                    break;
+                case '+':
+                    pos++;
+                    min = 1;
+                    max = RepeatNode.UNBOUNDED;
+                    break;
+                case '?':
+                    pos++;
+                    min = 0;
+                    max = 1;
+                    break;
+                case '{':
+                    pos++;
+                    min = parseNumber();
+                    if (pos < end && regex.charAt(pos) == ',') {
+                        pos++;
+                        max = pos < end && regex.charAt(pos) == '}' ? RepeatNode.UNBOUNDED : parseNumber();
+                    } else {
+                        max = min;
+                    }
+                    if (pos >= end || regex.charAt(pos) != '}') {
+                        throw new UnsupportedRegexException("Malformed repetition at " + pos);
+                    }
+                    pos++;
+                    if (max != RepeatNode.UNBOUNDED && max < min) {
+                        throw new UnsupportedRegexException("Invalid repetition at " + pos);
+                    }
+                    break;
+                default:
+                    return atom;
+            }
+
+            if (pos < end) {
+                switch (regex.charAt(pos)) {
+                    case '?':
+                        // Reluctant quantifiers match the same language
+                        pos++;
+                        break;
+                    case '+':
+                        throw new UnsupportedRegexException("Possessive quantifier at " + pos);
+                    case '*':
+                    case '{':
+                        throw new UnsupportedRegexException("Repeated quantifier at " + pos);
+                    default:
+                        break;
+                }
+            }
+            return new RepeatNode(atom, min, max);
+        }
+
+        private int parseNumber() throws UnsupportedRegexException {
+            final int start = pos;
+            while (pos < end && pos - start < 5 && Character.isDigit(regex.charAt(pos))) {
+                pos++;
+            }
+            if (start == pos) {
+                throw new UnsupportedRegexException("Missing number at " + pos);
+            }
+            final int value = Integer.parseInt(regex.substring(start, pos));
+            if (value > MAX_REPEAT) {
+                throw new UnsupportedRegexException("Repetition too large at " + start);
+            }
+            return value;
+        }
+
+        private CharSet parseClass() throws UnsupportedRegexException {
+            final boolean negated = pos < end && regex.charAt(pos) == '^';
+            if (negated) {
+                pos++;
+            }
+            if (pos < end && regex.charAt(pos) == ']') {
+                throw new UnsupportedRegexException("Leading ']' in class at " + pos);
+            }
+
+            CharSet set = CharSet.EMPTY;
+            while (true) {
+                if (pos >= end) {
+                    throw new UnsupportedRegexException("Unclosed class");
+                }
+
+                final char c = regex.charAt(pos++);
+                if (c == ']') {
+                    break;
+                }
+                if (c == '[' || c == '&' && pos < end && regex.charAt(pos) == '&') {
+                    throw new UnsupportedRegexException("Nested class or intersection at " + (pos - 1));
+                }
+
+                final int from;
+                if (c == '\\') {
+                    from = parseCharEscape();
+                    if (from < 0) {
+                        set = set.union(parseEscape());
+                        if (isRange()) {
+                            throw new UnsupportedRegexException("Range starting with a class at " + pos);
+                        }
+                        continue;
+                    }
+                } else {
+                    from = literalChar(c);
+                }
+
+                if (!isRange()) {
+                    set = set.union(CharSet.of((char) from));
+                    continue;
+                }
+
+                pos++;
+                final char next = regex.charAt(pos++);
+                final int to;
+                if (next == '\\') {
+                    to = parseCharEscape();
+                    if (to < 0) {
+                        throw new UnsupportedRegexException("Range ending with a class at " + pos);
+                    }
+                } else if (next == '[') {
+                    throw new UnsupportedRegexException("Nested class at " + (pos - 1));
+                } else {
+                    to = literalChar(next);
+                }
+                if (to < from) {
+                    throw new UnsupportedRegexException("Invalid range at " + pos);
+                }
+                set = set.union(CharSet.range((char) from, (char) to));
+            }
+
+            return negated ? set.complement() : set;
+        }
+
+        // A '-' which is not the last character in a class denotes a range
+        private boolean isRange() {
+            return pos + 1 < end && regex.charAt(pos) == '-' && regex.charAt(pos + 1) != ']';
+        }
+
+        /**
+         * Parse an escape sequence denoting a single character. The backslash has already been consumed. If the
+         * escape sequence does not denote a single character, the position is not advanced.
+         *
+         * @return Escaped character, or -1 if the sequence denotes a class of characters
+         */
+        private int parseCharEscape() throws UnsupportedRegexException {
+            if (pos >= end) {
+                throw new UnsupportedRegexException("Trailing backslash");
+            }
+
+            final char c = regex.charAt(pos);
+            switch (c) {
+                case 'd':
+                case 'D':
+                case 'w':
+                case 'W':
+                case 's':
+                case 'S':
+                case 'p':
+                case 'P':
+                    return -1;
+                case 't':
+                    pos++;
+                    return '\t';
+                case 'n':
+                    pos++;
+                    return '\n';
+                case 'r':
+                    pos++;
+                    return '\r';
+                case 'f':
+                    pos++;
+                    return '\f';
+                case 'a':
+                    pos++;
+                    return '\u0007';
+                case 'e':
+                    pos++;
+                    return '\u001B';
+                case 'x':
+                    pos++;
+                    return literalChar(parseHex(2));
+                case 'u':
+                    pos++;
+                    return literalChar(parseHex(4));
+                case '0':
+                    pos++;
+                    return parseOctal();
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        throw new UnsupportedRegexException("Unsupported escape \\" + c + " at " + pos);
+                    }
+                    pos++;
+                    return literalChar(c);
+            }
+        }
+
+        private CharSet parseEscape() throws UnsupportedRegexException {
+            final int c = parseCharEscape();
+            if (c >= 0) {
+                return CharSet.of((char) c);
+            }
+
+            final char kind = regex.charAt(pos++);
+            switch (kind) {
+                case 'd':
+                    return DIGIT;
+                case 'D':
+                    return DIGIT.complement();
+                case 'w':
+                    return WORD;
+                case 'W':
+                    return WORD.complement();
+                case 's':
+                    return SPACE;
+                case 'S':
+                    return SPACE.complement();
+                case 'p':
+                    return parseCategory();
+                case 'P':
+                    return parseCategory().complement();
+                default:
+                    throw new IllegalStateException("Unhandled escape " + kind);
+            }
+        }
+
+        private CharSet parseCategory() throws UnsupportedRegexException {
+            if (pos >= end) {
+                throw new UnsupportedRegexException("Missing category name");
+            }
+
+            String name;
+            if (regex.charAt(pos) == '{') {
+                final int close = regex.indexOf('}', pos);
+                if (close < 0 || close >= end) {
+                    throw new UnsupportedRegexException("Unclosed category name at " + pos);
+                }
+                name = regex.substring(pos + 1, close);
+                pos = close + 1;
+            } else {
+                name = regex.substring(pos, pos + 1);
+                pos++;
+            }
+
+            if (name.startsWith("Is") && CATEGORIES.containsKey(name.substring(2))) {
+                name = name.substring(2);
+            }
+            final byte[] types = CATEGORIES.get(name);
+            if (types == null) {
+                throw new UnsupportedRegexException("Unsupported property " + name);
+            }
+            return CATEGORY_SETS.computeIfAbsent(name, key -> CharSet.forCategories(types));
+        }
+
+        private int parseHex(final int digits) throws UnsupportedRegexException {
+            if (pos + digits > end) {
+                throw new UnsupportedRegexException("Truncated hexadecimal escape at " + pos);
+            }
+            int value = 0;
+            for (int i = 0; i < digits; ++i) {
+                final int digit = Character.digit(regex.charAt(pos++), 16);
+                if (digit < 0) {
+                    throw new UnsupportedRegexException("Invalid hexadecimal escape at " + pos);
+                }
+                value = value * 16 + digit;
+            }
+            return value;
+        }
+
+        private int parseOctal() throws UnsupportedRegexException {
+            // Java accepts \0n, \0nn and \0mnn, where m is at most 3
+            int value = 0;
+            int digits = 0;
+            while (digits < 3 && pos < end) {
+                final int digit = Character.digit(regex.charAt(pos), 8);
+                if (digit < 0 || digits == 2 && value > 037) {
+                    break;
+                }
+                value = value * 8 + digit;
+                digits++;
+                pos++;
+            }
+            if (digits == 0) {
+                throw new UnsupportedRegexException("Invalid octal escape at " + pos);
+            }
+            return value;
+        }
+
+        private static int literalChar(final int c) throws UnsupportedRegexException {
+            if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                throw new UnsupportedRegexException("Surrogate character in expression");
+            }
+            return c;
+        }
+
+        private static CharSet literal(final char c) throws UnsupportedRegexException {
+            return CharSet.of((char) literalChar(c));
+        }
+
+        private NfaState newState() throws UnsupportedRegexException {
+            if (states.size() >= MAX_NFA_STATES) {
+                throw new UnsupportedRegexException("Expression too large");
+            }
+            final NfaState state = new NfaState(states.size());
+            states.add(state);
+            return state;
+        }
+
+        /**
+         * Build the NFA fragment corresponding to a node.
+         *
+         * @param node Node to build
+         * @param from State from which the fragment is entered
+         * @return State at which the fragment is left
+         */
+        private NfaState build(final Node node, final NfaState from) throws UnsupportedRegexException {
+            if (node instanceof CharNode) {
+                final NfaState state = newState();
+                final NfaState target = newState();
+                state.set = ((CharNode) node).set;
+                state.target = target;
+                from.epsilon.add(state);
+                return target;
+            }
+            if (node instanceof SequenceNode) {
+                NfaState current = from;
+                for (Node child : ((SequenceNode) node).nodes) {
+                    current = build(child, current);
+                }
+                return current;
+            }
+            if (node instanceof AlternativeNode) {
+                final NfaState exit = newState();
+                for (Node child : ((AlternativeNode) node).nodes) {
+                    final NfaState entry = newState();
+                    from.epsilon.add(entry);
+                    build(child, entry).epsilon.add(exit);
+                }
+                return exit;
+            }
+
+            final RepeatNode repeat = (RepeatNode) node;
+            NfaState current = from;
+            for (int i = 0; i < repeat.min; ++i) {
+                current = build(repeat.node, current);
+            }
+
+            final NfaState exit = newState();
+            if (repeat.max == RepeatNode.UNBOUNDED) {
+                final NfaState loop = newState();
+                current.epsilon.add(loop);
+                build(repeat.node, loop).epsilon.add(loop);
+                loop.epsilon.add(exit);
+            } else {
+                for (int i = repeat.min; i < repeat.max; ++i) {
+                    current.epsilon.add(exit);
+                    current = build(repeat.node, current);
+                }
+                current.epsilon.add(exit);
+            }
+            return exit;
+        }
+
+        private RegexDfa determinize(final NfaState start, final NfaState accept) throws UnsupportedRegexException {
+            // Partition the BMP into classes of characters which are not distinguished by any transition. Surrogates
+            // always form their own classes, as they are never matched by the automaton.
+            final TreeSet<Integer> boundaries = new TreeSet<>();
+            boundaries.add(0);
+            boundaries.add((int) Character.MIN_SURROGATE);
+            boundaries.add(Character.MAX_SURROGATE + 1);
+            final List<NfaState> charStates = new ArrayList<>();
+            for (NfaState state : states) {
+                if (state.set != null) {
+                    state.set.addBoundaries(boundaries);
+                    charStates.add(state);
+                }
+            }
+            boundaries.remove(BMP_END);
+
+            final int[] classStarts = boundaries.stream().mapToInt(Integer::intValue).toArray();
+            final int classCount = classStarts.length;
+            final int maxStates = Math.min(MAX_DFA_STATES, MAX_TRANSITIONS / classCount);
+
+            // Character classes accepted by each character transition. Repetitions share their sets, hence we
+            // compute the classes once for each of them.
+            final Map<CharSet, BitSet> setClasses = new IdentityHashMap<>();
+            final BitSet[] accepted = new BitSet[states.size()];
+            for (NfaState state : charStates) {
+                accepted[state.index] = setClasses.computeIfAbsent(state.set, set -> {
+                    final BitSet bits = new BitSet(classCount);
+                    for (int i = 0; i < classCount; ++i) {
+                        if (set.contains(classStarts[i])) {
+                            bits.set(i);
+                        }
+                    }
+                    return bits;
+                });
+            }
+
+            final Map<BitSet, Integer> dfaStates = new HashMap<>();
+            final List<BitSet> pending = new ArrayList<>();
+            final BitSet initial = new BitSet(states.size());
+            initial.set(start.index);
+            closure(initial);
+            dfaStates.put(initial, 0);
+            pending.add(initial);
+
+            final List<int[]> rows = new ArrayList<>();
+            for (int current = 0; current < pending.size(); ++current) {
+                final BitSet set = pending.get(current);
+                final int[] row = new int[classCount];
+                for (int clazz = 0; clazz < classCount; ++clazz) {
+                    final BitSet next = new BitSet(states.size());
+                    for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1)) {
+                        final BitSet bits = accepted[i];
+                        if (bits != null && bits.get(clazz)) {
+                            next.set(states.get(i).target.index);
+                        }
+                    }
+
+                    if (next.isEmpty()) {
+                        row[clazz] = -1;
+                        continue;
+                    }
+
+                    closure(next);
+                    Integer target = dfaStates.get(next);
+                    if (target == null) {
+                        if (pending.size() >= maxStates) {
+                            throw new UnsupportedRegexException("Automaton too large");
+                        }
+                        target = pending.size();
+                        dfaStates.put(next, target);
+                        pending.add(next);
+                    }
+                    row[clazz] = target;
+                }
+                rows.add(row);
+            }
+
+            final int[] transitions = new int[rows.size() * classCount];
+            final boolean[] accepting = new boolean[rows.size()];
+            for (int i = 0; i < rows.size(); ++i) {
+                System.arraycopy(rows.get(i), 0, transitions, i * classCount, classCount);
+                accepting[i] = pending.get(i).get(accept.index);
+            }
+            return new RegexDfa(classStarts, transitions, accepting);
+        }
+
+        private void closure(final BitSet set) {
+            final Queue<NfaState> queue = new ArrayDeque<>();
+            for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1)) {
+                queue.add(states.get(i));
+            }
+            while (!queue.isEmpty()) {
+                for (NfaState next : queue.remove().epsilon) {
+                    if (!set.get(next.index)) {
+                        set.set(next.index);
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+    }
+}
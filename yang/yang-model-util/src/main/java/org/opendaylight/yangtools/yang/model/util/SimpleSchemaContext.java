@@ -10,19 +10,34 @@ package org.opendaylight.yangtools.yang.model.util;
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.SetMultimap;
 import java.net.URI;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ExtensionDefinition;
+import org.opendaylight.yangtools.yang.model.api.GroupingDefinition;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.ModuleIdentifier;
+import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.UnknownSchemaNode;
 
 /**
  * Simple subclass of {@link AbstractSchemaContext} which performs some amount of indexing to speed up common
@@ -36,6 +51,17 @@ public class SimpleSchemaContext extends AbstractSchemaContext {
     private final Set<ModuleIdentifier> moduleIdentifiers;
     private final Set<Module> modules;
 
+    // Indexes across all modules, computed once so they can be handed out without copying
+    private final Map<QNameModule, Module> qnameModuleToModule;
+    private final Map<QName, DataSchemaNode> dataChildren;
+    private final Set<DataSchemaNode> childNodes;
+    private final Set<NotificationDefinition> notifications;
+    private final Set<RpcDefinition> operations;
+    private final Set<ExtensionDefinition> extensions;
+    private final Set<GroupingDefinition> groupings;
+    private final Set<TypeDefinition<?>> typeDefinitions;
+    private final List<UnknownSchemaNode> unknownSchemaNodes;
+
     protected SimpleSchemaContext(final Set<Module> modules) {
         /*
          * Instead of doing this on each invocation of getModules(), pre-compute
@@ -67,6 +93,46 @@ public class SimpleSchemaContext extends AbstractSchemaContext {
         namespaceToModules = ImmutableSetMultimap.copyOf(nsMap);
         nameToModules = ImmutableSetMultimap.copyOf(nameMap);
         moduleIdentifiers = ImmutableSet.copyOf(modIdBuilder);
+
+        /*
+         * Global views are built in module dependency order, so that lookups resolve the same way they would when
+         * walking the modules one by one.
+         */
+        final Map<QNameModule, Module> qnameModuleMap = new HashMap<>();
+        final Map<QName, DataSchemaNode> childMap = new HashMap<>();
+        final ImmutableSet.Builder<DataSchemaNode> childBuilder = ImmutableSet.builder();
+        final ImmutableSet.Builder<NotificationDefinition> notificationBuilder = ImmutableSet.builder();
+        final ImmutableSet.Builder<RpcDefinition> operationBuilder = ImmutableSet.builder();
+        final ImmutableSet.Builder<ExtensionDefinition> extensionBuilder = ImmutableSet.builder();
+        final ImmutableSet.Builder<GroupingDefinition> groupingBuilder = ImmutableSet.builder();
+        final ImmutableSet.Builder<TypeDefinition<?>> typeBuilder = ImmutableSet.builder();
+        final ImmutableList.Builder<UnknownSchemaNode> unknownBuilder = ImmutableList.builder();
+        for (Module m : this.modules) {
+            final QNameModule qnameModule = m.getQNameModule();
+            if (qnameModule != null) {
+                qnameModuleMap.putIfAbsent(qnameModule, m);
+            }
+            for (DataSchemaNode child : m.getChildNodes()) {
+                childMap.putIfAbsent(child.getQName(), child);
+                childBuilder.add(child);
+            }
+            notificationBuilder.addAll(m.getNotifications());
+            operationBuilder.addAll(m.getRpcs());
+            extensionBuilder.addAll(m.getExtensionSchemaNodes());
+            groupingBuilder.addAll(m.getGroupings());
+            typeBuilder.addAll(m.getTypeDefinitions());
+            unknownBuilder.addAll(m.getUnknownSchemaNodes());
+        }
+
+        qnameModuleToModule = ImmutableMap.copyOf(qnameModuleMap);
+        dataChildren = ImmutableMap.copyOf(childMap);
+        childNodes = childBuilder.build();
+        notifications = notificationBuilder.build();
+        operations = operationBuilder.build();
+        extensions = extensionBuilder.build();
+        groupings = groupingBuilder.build();
+        typeDefinitions = typeBuilder.build();
+        unknownSchemaNodes = unknownBuilder.build();
     }
 
     /**
@@ -95,6 +161,76 @@ public class SimpleSchemaContext extends AbstractSchemaContext {
         return moduleIdentifiers;
     }
 
+    /**
+     * Find a module by its {@link QNameModule}.
+     *
+     * @param qnameModule Module namespace and revision
+     * @return Matching module, or empty if there is no such module
+     */
+    public final Optional<Module> findModule(final QNameModule qnameModule) {
+        return Optional.ofNullable(qnameModuleToModule.get(qnameModule));
+    }
+
+    @Override
+    public final Module findModuleByNamespaceAndRevision(final URI namespace, final Date revision) {
+        if (namespace == null) {
+            return null;
+        }
+        if (revision != null) {
+            return qnameModuleToModule.get(QNameModule.create(namespace, revision));
+        }
+
+        // Modules are sorted by revision, newest first
+        final Iterator<Module> it = namespaceToModules.get(namespace).iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    @Override
+    public final Set<DataSchemaNode> getDataDefinitions() {
+        return childNodes;
+    }
+
+    @Override
+    public final Set<DataSchemaNode> getChildNodes() {
+        return childNodes;
+    }
+
+    @Override
+    public final DataSchemaNode getDataChildByName(final QName name) {
+        return dataChildren.get(name);
+    }
+
+    @Override
+    public final Set<NotificationDefinition> getNotifications() {
+        return notifications;
+    }
+
+    @Override
+    public final Set<RpcDefinition> getOperations() {
+        return operations;
+    }
+
+    @Override
+    public final Set<ExtensionDefinition> getExtensions() {
+        return extensions;
+    }
+
+    @Override
+    public final Set<GroupingDefinition> getGroupings() {
+        return groupings;
+    }
+
+    @Override
+    public final Set<TypeDefinition<?>> getTypeDefinitions() {
+        return typeDefinitions;
+    }
+
+    @Nonnull
+    @Override
+    public final List<UnknownSchemaNode> getUnknownSchemaNodes() {
+        return unknownSchemaNodes;
+    }
+
     @Override
     public final String toString() {
         return addToStringAttributes(MoreObjects.toStringHelper(this)).toString();
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.Test;
+
+public class CompiledRegexTest {
+    private static final String IPV4_ADDRESS = "(([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])\\.){3}"
+            + "([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(%[\\p{N}\\p{L}]+)?";
+    private static final String IPV6_ADDRESS = "((:|[0-9a-fA-F]{0,4}):)([0-9a-fA-F]{0,4}:){0,5}"
+            + "((([0-9a-fA-F]{0,4}:)?(:|[0-9a-fA-F]{0,4}))|"
+            + "(((25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])\\.){3}"
+            + "(25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])))(%[\\p{N}\\p{L}]+)?";
+    private static final String IPV6_ADDRESS_NO_ZONE = "(([^:]+:){6}(([^:]+:[^:]+)|(.*\\..*)))|"
+            + "((([^:]+:)*[^:]+)?::(([^:]+:)*[^:]+)?)(%.+)?";
+    private static final String DOMAIN_NAME = "((([a-zA-Z0-9_]([a-zA-Z0-9\\-_]){0,61})?[a-zA-Z0-9]\\.)*"
+            + "([a-zA-Z0-9_]([a-zA-Z0-9\\-_]){0,61})?[a-zA-Z0-9]\\.?)|\\.";
+
+    private static final String[] SUPPORTED = {
+        IPV4_ADDRESS, IPV6_ADDRESS, IPV6_ADDRESS_NO_ZONE, DOMAIN_NAME,
+        "", "a", "abc", "a|b|", "(a|b)*c+d?", "(?:ab){2,3}", "a{2,}", "a{0}b", "a*?b+?", ".*", ".+\\..+",
+        "[^a-c]x", "[a-]", "[-a]", "[\\-\\]\\\\]", "[\\d\\s]+", "\\D\\W\\S", "\\w+@\\w+", "\\t\\n\\x41\\u00e9\\0101",
+        "\\p{Lu}\\p{Ll}*", "\\P{L}", "\\pN+", "\\p{IsL}", "[\\p{L}\\p{Nd}_]+", "[a^b]", "a&&b", "[a&b]",
+        "\\$\\^\\.\\*", "x}", "a]", "((a*)*)*b", "[0-9a-fA-F]{1,4}(:[0-9a-fA-F]{1,4}){7}",
+    };
+    private static final String[] UNSUPPORTED = {
+        "(a)\\1", "a(?=b)", "(?i)a", "a++", "a*+", "\\bx", "\\Qa\\E", "[[a]b]", "[a&&b]", "a^b", "a$b",
+        "\\p{InBasicLatin}", "\\p{Alpha}", "\\p{IsLatin}", "a{1001}", "(a|b|c|d){1000}", "[]a]", "\ud800\udc00",
+    };
+    private static final char[] EXTRA_CHARS = {
+        '0', '1', '2', '5', '9', 'a', 'f', 'F', 'g', 'z', 'Z', '_', '-', '.', ':', '%', '@', ' ', '\t', '\n', '\r',
+        '\u0085', '\u00e9', '\u0660', '\u2028', '\u4e00', 'A', '$', '^', '\\', ']', '&', 'x', '}',
+    };
+
+    @Test
+    public void testSupportedExpressions() {
+        final Random random = new Random(0);
+        for (String regex : SUPPORTED) {
+            final RegexDfa dfa = RegexDfa.compile(regex);
+            assertNotNull(regex, dfa);
+
+            final Pattern pattern = Pattern.compile("^" + regex + "$");
+            final char[] alphabet = alphabetOf(regex);
+            for (int i = 0; i < 2000; ++i) {
+                final String str = randomString(random, alphabet, random.nextInt(40));
+                assertEquals(regex + " on " + str, pattern.matcher(str).matches(), dfa.match(str) == RegexDfa.MATCH);
+            }
+        }
+    }
+
+    @Test
+    public void testAnchoredExpressions() {
+        final RegexDfa dfa = RegexDfa.compile("^[a-z]+\\$$");
+        assertNotNull(dfa);
+        assertEquals(RegexDfa.MATCH, dfa.match("abc$"));
+        assertEquals(RegexDfa.NO_MATCH, dfa.match("abc"));
+        assertEquals(RegexDfa.NO_MATCH, dfa.match("^abc$"));
+    }
+
+    @Test
+    public void testUnsupportedExpressions() {
+        for (String regex : UNSUPPORTED) {
+            assertNull(regex, RegexDfa.compile(regex));
+        }
+    }
+
+    @Test
+    public void testKnownAddresses() {
+        final CompiledRegex ipv4 = CompiledRegex.forJavaRegex(IPV4_ADDRESS);
+        assertTrue(ipv4.isAutomaton());
+        assertTrue(ipv4.matches("192.168.0.1"));
+        assertTrue(ipv4.matches("192.168.0.1%eth0"));
+        assertFalse(ipv4.matches("192.168.0.256"));
+
+        final CompiledRegex ipv6 = CompiledRegex.forJavaRegex(IPV6_ADDRESS);
+        assertTrue(ipv6.isAutomaton());
+        assertTrue(ipv6.matches("fe80::1%eth0"));
+        assertTrue(ipv6.matches("::ffff:10.0.0.1"));
+        assertFalse(ipv6.matches("fe80::g"));
+    }
+
+    @Test
+    public void testSurrogatesFallBack() {
+        final CompiledRegex regex = CompiledRegex.forJavaRegex(".");
+        assertTrue(regex.isAutomaton());
+        assertEquals(RegexDfa.UNDECIDED, RegexDfa.compile(".").match("\ud800\udc00"));
+        assertTrue(regex.matches("\ud800\udc00"));
+        assertFalse(regex.matches("\ud800\udc00\ud800\udc00"));
+    }
+
+    @Test
+    public void testUnsupportedFallBack() {
+        final CompiledRegex regex = CompiledRegex.forJavaRegex("(a+)b\\1");
+        assertFalse(regex.isAutomaton());
+        assertTrue(regex.matches("aabaa"));
+        assertFalse(regex.matches("aaba"));
+    }
+
+    @Test
+    public void testCaching() {
+        assertSame(CompiledRegex.forJavaRegex("[a-z]+"), CompiledRegex.forJavaRegex("[a-z]+"));
+        final CompiledRegex xsd = CompiledRegex.forXsdRegex("\\p{IsBasicLatin}+");
+        assertSame(xsd, CompiledRegex.forXsdRegex("\\p{IsBasicLatin}+"));
+        assertTrue(xsd.matches("abc"));
+        assertFalse(xsd.matches("\u00e9"));
+        assertEquals("^" + RegexUtils.getJavaRegexFromXSD("\\p{IsBasicLatin}+") + "$", xsd.pattern().pattern());
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void testInvalidExpression() {
+        CompiledRegex.forJavaRegex("[a-");
+    }
+
+    private static char[] alphabetOf(final String regex) {
+        final StringBuilder sb = new StringBuilder().append(EXTRA_CHARS);
+        for (char c : regex.toCharArray()) {
+            if (sb.indexOf(String.valueOf(c)) < 0) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toCharArray();
+    }
+
+    private static String randomString(final Random random, final char[] alphabet, final int length) {
+        final StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; ++i) {
+            sb.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.repo;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Utility methods for determining which sources need to be rebuilt when a set of sources changes. A module is
+ * affected if it is being added or removed, if an affected source modifies it (as per
+ * {@link SourceDependencies#getModifiedModules()}), or if it depends on an affected module. Modules which are not
+ * affected, including the dependencies of affected modules, are identical to those of the previous assembly and are
+ * reused from it.
+ *
+ * <p>
+ * Rebuilding affected modules requires their dependencies to be present in the reactor, hence the sources which need
+ * to be run through it are the affected ones together with their transitive dependencies. Only affected modules are
+ * taken from the result, so that a change to a leaf module does not cause the common modules it imports, and
+ * everything else importing them, to be rebuilt.
+ */
+final class AffectedSources {
+    private AffectedSources() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Compute the names of modules and submodules affected by a change.
+     *
+     * @param sources All sources present after the change
+     * @param changed Sources which are being added or removed
+     * @return Names of affected modules and submodules
+     */
+    static Set<String> affectedModules(final Collection<SourceDependencies> sources,
+            final Collection<SourceDependencies> changed) {
+        final ListMultimap<String, SourceDependencies> byName = ArrayListMultimap.create();
+        final ListMultimap<String, SourceDependencies> dependents = ArrayListMultimap.create();
+        for (SourceDependencies source : sources) {
+            byName.put(source.getName(), source);
+            for (String dep : source.getDependencies()) {
+                dependents.put(dep, source);
+            }
+        }
+
+        final Set<String> affected = new HashSet<>();
+        final Queue<String> work = new ArrayDeque<>();
+        for (SourceDependencies source : changed) {
+            markAffected(affected, work, source);
+        }
+
+        while (!work.isEmpty()) {
+            final String name = work.remove();
+            for (SourceDependencies source : byName.get(name)) {
+                markAffected(affected, work, source);
+            }
+            for (SourceDependencies source : dependents.get(name)) {
+                markAffected(affected, work, source);
+            }
+        }
+
+        return affected;
+    }
+
+    /**
+     * Select the sources which need to be run through the reactor to rebuild affected modules. These are the sources
+     * of affected modules and submodules, along with the sources of their transitive dependencies.
+     *
+     * @param sources All sources present after the change
+     * @param affected Names of affected modules and submodules
+     * @return Required sources, in the iteration order of {@code sources}
+     */
+    static <K> List<K> requiredSources(final Map<K, SourceDependencies> sources, final Set<String> affected) {
+        final ListMultimap<String, SourceDependencies> byName = ArrayListMultimap.create();
+        for (SourceDependencies source : sources.values()) {
+            byName.put(source.getName(), source);
+        }
+
+        final Set<String> required = new HashSet<>(affected);
+        final Queue<String> work = new ArrayDeque<>(affected);
+        while (!work.isEmpty()) {
+            for (SourceDependencies source : byName.get(work.remove())) {
+                for (String dep : source.getDependencies()) {
+                    if (required.add(dep)) {
+                        work.add(dep);
+                    }
+                }
+            }
+        }
+
+        final ImmutableList.Builder<K> builder = ImmutableList.builder();
+        for (Entry<K, SourceDependencies> entry : sources.entrySet()) {
+            if (required.contains(entry.getValue().getName())) {
+                builder.add(entry.getKey());
+            }
+        }
+        return builder.build();
+    }
+
+    private static void markAffected(final Set<String> affected, final Queue<String> work,
+            final SourceDependencies source) {
+        if (affected.add(source.getName())) {
+            work.add(source.getName());
+        }
+        for (String name : source.getModifiedModules()) {
+            if (affected.add(name)) {
+                work.add(name);
+            }
+        }
+    }
+}
@@ -13,6 +13,8 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.AsyncFunction;
@@ -20,7 +22,12 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -44,16 +51,31 @@ import org.opendaylight.yangtools.yang.parser.impl.util.YangModelDependencyInfo;
 import org.opendaylight.yangtools.yang.parser.rfc6020.repo.YangStatementStreamSource;
 import org.opendaylight.yangtools.yang.parser.spi.meta.ReactorException;
 import org.opendaylight.yangtools.yang.parser.stmt.reactor.CrossSourceStatementReactor;
+import org.opendaylight.yangtools.yang.parser.stmt.reactor.EffectiveSchemaContext;
 import org.opendaylight.yangtools.yang.parser.stmt.rfc6020.YangInferencePipeline;
 import org.opendaylight.yangtools.yang.parser.util.ASTSchemaSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * {@link SchemaContextFactory} backed by a {@link SharedSchemaRepository}. Assembled contexts are cached by the set of
+ * requested sources. Furthermore, when a request differs from the last successful assembly only in a few added or
+ * removed sources, the new context is derived from the previous one: only modules affected by the change, as
+ * determined by {@link AffectedSources}, are rebuilt, while effective statements of all other modules are reused.
+ * Dependencies of affected modules are run through the reactor alongside them, but their previous effective
+ * statements are retained.
+ */
 final class SharedSchemaContextFactory implements SchemaContextFactory {
     private static final ExceptionMapper<SchemaResolutionException> MAPPER = ReflectiveExceptionMapper
             .create("resolve sources", SchemaResolutionException.class);
     private static final Logger LOG = LoggerFactory.getLogger(SharedSchemaContextFactory.class);
 
+    /**
+     * Sources are assembled incrementally if the number of sources added and removed, multiplied by this value, does
+     * not exceed the number of sources in the previous assembly.
+     */
+    private static final int INCREMENTAL_CHANGE_DIVISOR = 4;
+
     private final Cache<Collection<SourceIdentifier>, SchemaContext> cache = CacheBuilder.newBuilder().weakValues()
             .build();
     private final Cache<Collection<SourceIdentifier>, SchemaContext> semVerCache = CacheBuilder.newBuilder()
@@ -62,6 +84,8 @@ final class SharedSchemaContextFactory implements SchemaContextFactory {
     // FIXME: ignored right now
     private final SchemaSourceFilter filter;
 
+    private volatile AssembledContext lastAssembled;
+
     // FIXME SchemaRepository should be the type for repository parameter instead of SharedSchemaRepository
     //       (final implementation)
     SharedSchemaContextFactory(final SharedSchemaRepository repository, final SchemaSourceFilter filter) {
@@ -74,12 +98,13 @@ final class SharedSchemaContextFactory implements SchemaContextFactory {
             final StatementParserMode statementParserMode, final Set<QName> supportedFeatures) {
         return createSchemaContext(requiredSources,
                 statementParserMode == StatementParserMode.SEMVER_MODE ? this.semVerCache : this.cache,
-                new AssembleSources(Optional.ofNullable(supportedFeatures), statementParserMode));
+                new AssembleSources(Optional.ofNullable(supportedFeatures), statementParserMode),
+                statementParserMode == StatementParserMode.DEFAULT_MODE);
     }
 
     private ListenableFuture<SchemaContext> createSchemaContext(final Collection<SourceIdentifier> requiredSources,
             final Cache<Collection<SourceIdentifier>, SchemaContext> cache,
-            final AsyncFunction<List<ASTSchemaSource>, SchemaContext> assembleSources) {
+            final AssembleSources assembleSources, final boolean incremental) {
         // Make sources unique
         final List<SourceIdentifier> uniqueSourceIdentifiers = deDuplicateSources(requiredSources);
 
@@ -89,19 +114,14 @@ final class SharedSchemaContextFactory implements SchemaContextFactory {
             return Futures.immediateFuture(existing);
         }
 
-        // Request all sources be loaded
-        ListenableFuture<List<ASTSchemaSource>> sf = Futures.allAsList(Collections2.transform(uniqueSourceIdentifiers,
-            this::requestSource));
-
-        // Detect mismatch between requested Source IDs and IDs that are extracted from parsed source
-        // Also remove duplicates if present
-        // We are relying on preserved order of uniqueSourceIdentifiers as well as sf
-        sf = Futures.transform(sf, new SourceIdMismatchDetector(uniqueSourceIdentifiers),
-            MoreExecutors.directExecutor());
-
-        // Assemble sources into a schema context
-        final ListenableFuture<SchemaContext> cf = Futures.transformAsync(sf, assembleSources,
-            MoreExecutors.directExecutor());
+        final ListenableFuture<SchemaContext> cf;
+        final AssembledContext previous = incremental ? lastAssembled : null;
+        final EffectiveSchemaContext previousContext = previous != null ? previous.getContext() : null;
+        if (previousContext != null && previous.canDerive(uniqueSourceIdentifiers, assembleSources)) {
+            cf = deriveSchemaContext(previous, previousContext, uniqueSourceIdentifiers, assembleSources);
+        } else {
+            cf = assembleSchemaContext(uniqueSourceIdentifiers, assembleSources, incremental);
+        }
 
         // Populate cache when successful
         Futures.addCallback(cf, new FutureCallback<SchemaContext>() {
@@ -119,6 +139,110 @@ final class SharedSchemaContextFactory implements SchemaContextFactory {
         return cf;
     }
 
+    private ListenableFuture<SchemaContext> assembleSchemaContext(final List<SourceIdentifier> uniqueSourceIdentifiers,
+            final AssembleSources assembleSources, final boolean incremental) {
+        // Request all sources be loaded
+        final ListenableFuture<List<ASTSchemaSource>> sf = Futures.allAsList(Collections2.transform(
+            uniqueSourceIdentifiers, this::requestSource));
+
+        // Detect mismatch between requested Source IDs and IDs that are extracted from parsed source
+        // Also remove duplicates if present
+        // We are relying on preserved order of uniqueSourceIdentifiers as well as sf
+        final ListenableFuture<List<ASTSchemaSource>> filtered = Futures.transform(sf,
+            new SourceIdMismatchDetector(uniqueSourceIdentifiers), MoreExecutors.directExecutor());
+
+        // Assemble sources into a schema context
+        final ListenableFuture<SchemaContext> cf = Futures.transformAsync(filtered, assembleSources,
+            MoreExecutors.directExecutor());
+
+        if (incremental) {
+            // Remember dependencies, so that subsequent requests can be derived from this context
+            Futures.addCallback(cf, new FutureCallback<SchemaContext>() {
+                @Override
+                public void onSuccess(final SchemaContext result) {
+                    final List<ASTSchemaSource> sources = Futures.getUnchecked(sf);
+                    final Map<SourceIdentifier, SourceDependencies> deps = new LinkedHashMap<>();
+                    for (int i = 0; i < sources.size(); ++i) {
+                        deps.put(uniqueSourceIdentifiers.get(i), SourceDependencies.of(sources.get(i)));
+                    }
+                    lastAssembled = new AssembledContext(deps, assembleSources, (EffectiveSchemaContext) result);
+                }
+
+                @Override
+                public void onFailure(@Nonnull final Throwable cause) {
+                    // No-op
+                }
+            }, MoreExecutors.directExecutor());
+        }
+
+        return cf;
+    }
+
+    private ListenableFuture<SchemaContext> deriveSchemaContext(final AssembledContext previous,
+            final EffectiveSchemaContext previousContext, final List<SourceIdentifier> uniqueSourceIdentifiers,
+            final AssembleSources assembleSources) {
+        final List<SourceIdentifier> added = previous.addedSources(uniqueSourceIdentifiers);
+        final List<SourceDependencies> removed = previous.removedSources(uniqueSourceIdentifiers);
+        if (added.isEmpty() && removed.isEmpty()) {
+            LOG.debug("Reusing context {} for reordered sources", previousContext);
+            return Futures.immediateFuture(previousContext);
+        }
+
+        LOG.debug("Deriving context from {}, adding {}, removing {}", previousContext, added, removed);
+        final ListenableFuture<List<ASTSchemaSource>> af = Futures.allAsList(Collections2.transform(added,
+            this::requestSource));
+
+        return Futures.transformAsync(af, addedSources -> {
+            final Map<SourceIdentifier, ASTSchemaSource> fetched = new HashMap<>();
+            for (int i = 0; i < added.size(); ++i) {
+                fetched.put(added.get(i), addedSources.get(i));
+            }
+
+            final Map<SourceIdentifier, SourceDependencies> sources = new LinkedHashMap<>();
+            final List<SourceDependencies> changed = new ArrayList<>(removed);
+            for (SourceIdentifier id : uniqueSourceIdentifiers) {
+                SourceDependencies deps = previous.getSources().get(id);
+                if (deps == null) {
+                    deps = SourceDependencies.of(fetched.get(id));
+                    changed.add(deps);
+                }
+                sources.put(id, deps);
+            }
+
+            final Set<String> affected = AffectedSources.affectedModules(sources.values(), changed);
+            final List<SourceIdentifier> required = AffectedSources.requiredSources(sources, affected);
+            LOG.debug("Rebuilding modules {} from {} out of {} sources", affected, required.size(), sources.size());
+
+            // Replace statements of affected sources as well as those of removed sources. Dependencies which were
+            // run through the reactor only to support affected sources are retained from the previous context.
+            final Set<SourceIdentifier> replaced = new HashSet<>();
+            for (SourceIdentifier id : required) {
+                final SourceDependencies deps = sources.get(id);
+                if (affected.contains(deps.getName())) {
+                    replaced.add(deps.getIdentifier());
+                }
+            }
+            for (SourceDependencies source : removed) {
+                replaced.add(source.getIdentifier());
+            }
+
+            final ListenableFuture<List<ASTSchemaSource>> rf = Futures.allAsList(Collections2.transform(required,
+                id -> {
+                    final ASTSchemaSource source = fetched.get(id);
+                    return source != null ? Futures.immediateFuture(source) : requestSource(id);
+                }));
+
+            return Futures.transformAsync(rf, requiredSources -> {
+                final EffectiveSchemaContext rebuilt = assembleSources.assemble(
+                    new SourceIdMismatchDetector(required).apply(requiredSources));
+                final EffectiveSchemaContext result = EffectiveSchemaContext.derive(previousContext, rebuilt,
+                    replaced);
+                lastAssembled = new AssembledContext(sources, assembleSources, result);
+                return Futures.immediateFuture(result);
+            }, MoreExecutors.directExecutor());
+        }, MoreExecutors.directExecutor());
+    }
+
     private ListenableFuture<ASTSchemaSource> requestSource(final SourceIdentifier identifier) {
         return repository.getSchemaSource(identifier, ASTSchemaSource.class);
     }
@@ -196,6 +320,15 @@ final class SharedSchemaContextFactory implements SchemaContextFactory {
         @Override
         public ListenableFuture<SchemaContext> apply(@Nonnull final List<ASTSchemaSource> sources)
                 throws SchemaResolutionException, ReactorException {
+            return Futures.immediateFuture(assemble(sources));
+        }
+
+        Optional<Set<QName>> getSupportedFeatures() {
+            return supportedFeatures;
+        }
+
+        EffectiveSchemaContext assemble(final List<ASTSchemaSource> sources) throws SchemaResolutionException,
+                ReactorException {
             final Map<SourceIdentifier, ASTSchemaSource> srcs = Maps.uniqueIndex(sources, getIdentifier);
             final Map<SourceIdentifier, YangModelDependencyInfo> deps =
                     Maps.transformValues(srcs, ASTSchemaSource::getDependencyInformation);
@@ -227,14 +360,56 @@ final class SharedSchemaContextFactory implements SchemaContextFactory {
                     ast.getSymbolicName().orElse(null)));
             }
 
-            final SchemaContext schemaContext;
             try {
-                schemaContext = reactor.buildEffective();
+                return reactor.buildEffective();
             } catch (final ReactorException ex) {
                 throw new SchemaResolutionException("Failed to resolve required models", ex.getSourceIdentifier(), ex);
             }
+        }
+    }
+
+    /**
+     * Summary of a successful assembly in {@link StatementParserMode#DEFAULT_MODE}, retained so that subsequent
+     * requests differing only in a few sources can reuse effective statements of modules unaffected by the difference.
+     * The context itself is referenced weakly, so that it can be garbage-collected once no longer in use.
+     */
+    private static final class AssembledContext {
+        private final Map<SourceIdentifier, SourceDependencies> sources;
+        private final Optional<Set<QName>> supportedFeatures;
+        private final Reference<EffectiveSchemaContext> context;
+
+        AssembledContext(final Map<SourceIdentifier, SourceDependencies> sources,
+                final AssembleSources assembleSources, final EffectiveSchemaContext context) {
+            this.sources = ImmutableMap.copyOf(sources);
+            this.supportedFeatures = assembleSources.getSupportedFeatures();
+            this.context = new WeakReference<>(context);
+        }
+
+        Map<SourceIdentifier, SourceDependencies> getSources() {
+            return sources;
+        }
+
+        EffectiveSchemaContext getContext() {
+            return context.get();
+        }
+
+        boolean canDerive(final List<SourceIdentifier> requested, final AssembleSources assembleSources) {
+            if (!supportedFeatures.equals(assembleSources.getSupportedFeatures())) {
+                return false;
+            }
+
+            final int added = addedSources(requested).size();
+            final int removed = sources.size() - (requested.size() - added);
+            return (added + removed) * INCREMENTAL_CHANGE_DIVISOR <= sources.size();
+        }
+
+        List<SourceIdentifier> addedSources(final List<SourceIdentifier> requested) {
+            return ImmutableList.copyOf(Collections2.filter(requested, id -> !sources.containsKey(id)));
+        }
 
-            return Futures.immediateFuture(schemaContext);
+        List<SourceDependencies> removedSources(final List<SourceIdentifier> requested) {
+            final Set<SourceIdentifier> retained = ImmutableSet.copyOf(requested);
+            return ImmutableList.copyOf(Maps.filterKeys(sources, id -> !retained.contains(id)).values());
         }
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.repo;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.opendaylight.yangtools.antlrv4.code.gen.YangStatementParser.StatementContext;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.api.YangStmtMapping;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.parser.impl.util.YangModelDependencyInfo;
+import org.opendaylight.yangtools.yang.parser.impl.util.YangModelDependencyInfo.SubmoduleDependencyInfo;
+import org.opendaylight.yangtools.yang.parser.spi.source.DeclarationInTextSource;
+import org.opendaylight.yangtools.yang.parser.stmt.rfc6020.Utils;
+import org.opendaylight.yangtools.yang.parser.util.ASTSchemaSource;
+
+/**
+ * Summary of how a single source relates to other sources, retained between schema context assemblies so that
+ * the effect of adding or removing sources can be determined without access to the sources themselves.
+ *
+ * <p>
+ * A source relates to other modules in two ways: it depends on the modules it imports, includes or belongs to, and
+ * it modifies the effective model of modules it augments, deviates or derives identities from. Both relationships
+ * are tracked by module name only, which errs on the side of rebuilding more than strictly necessary when multiple
+ * revisions of a module are present.
+ */
+final class SourceDependencies {
+    private static final String AUGMENT = YangStmtMapping.AUGMENT.getStatementName().getLocalName();
+    private static final String BASE = YangStmtMapping.BASE.getStatementName().getLocalName();
+    private static final String DEVIATION = YangStmtMapping.DEVIATION.getStatementName().getLocalName();
+    private static final String IDENTITY = YangStmtMapping.IDENTITY.getStatementName().getLocalName();
+    private static final String IMPORT = YangStmtMapping.IMPORT.getStatementName().getLocalName();
+    private static final String PREFIX = YangStmtMapping.PREFIX.getStatementName().getLocalName();
+    private static final Splitter SLASH_SPLITTER = Splitter.on('/').omitEmptyStrings().trimResults();
+
+    private final SourceIdentifier identifier;
+    private final String name;
+    private final Set<String> dependencies;
+    private final Set<String> modifiedModules;
+
+    private SourceDependencies(final SourceIdentifier identifier, final String name, final Set<String> dependencies,
+            final Set<String> modifiedModules) {
+        this.identifier = requireNonNull(identifier);
+        this.name = requireNonNull(name);
+        this.dependencies = ImmutableSet.copyOf(dependencies);
+        this.modifiedModules = ImmutableSet.copyOf(modifiedModules);
+    }
+
+    static SourceDependencies of(final ASTSchemaSource source) {
+        final YangModelDependencyInfo info = source.getDependencyInformation();
+        final ImmutableSet.Builder<String> deps = ImmutableSet.builder();
+        for (ModuleImport dep : info.getDependencies()) {
+            deps.add(dep.getModuleName());
+        }
+        if (info instanceof SubmoduleDependencyInfo) {
+            deps.add(((SubmoduleDependencyInfo) info).getParentModule());
+        }
+
+        final ParserRuleContext ast = source.getAST();
+        final Set<String> modified = ast instanceof StatementContext
+                ? findModifiedModules((StatementContext) ast, source.getIdentifier().toYangFilename())
+                        : ImmutableSet.of();
+
+        return new SourceDependencies(source.getIdentifier(), info.getName(), deps.build(), modified);
+    }
+
+    /**
+     * Return the identifier of the source as reported by the source itself.
+     *
+     * @return Source identifier
+     */
+    SourceIdentifier getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * Return the name of the module or submodule defined by this source.
+     *
+     * @return Module or submodule name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Return names of modules and submodules this source needs to be present in the reactor.
+     *
+     * @return Set of module and submodule names
+     */
+    Set<String> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Return names of imported modules whose effective model this source may change, via top-level augment,
+     * deviation or identity derivation.
+     *
+     * @return Set of module names
+     */
+    Set<String> getModifiedModules() {
+        return modifiedModules;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("identifier", identifier).add("dependencies", dependencies)
+                .add("modifiedModules", modifiedModules).toString();
+    }
+
+    private static Set<String> findModifiedModules(final StatementContext root, final String sourceName) {
+        final Map<String, String> prefixToModule = new HashMap<>();
+        for (StatementContext stmt : root.statement()) {
+            if (IMPORT.equals(stmt.keyword().getText())) {
+                final String prefix = findArgument(stmt, PREFIX, sourceName);
+                if (prefix != null) {
+                    prefixToModule.put(prefix, argumentOf(stmt, sourceName));
+                }
+            }
+        }
+        if (prefixToModule.isEmpty()) {
+            // Cannot refer to any other module
+            return ImmutableSet.of();
+        }
+
+        final ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+        for (StatementContext stmt : root.statement()) {
+            final String keyword = stmt.keyword().getText();
+            if (AUGMENT.equals(keyword) || DEVIATION.equals(keyword)) {
+                for (String step : SLASH_SPLITTER.split(argumentOf(stmt, sourceName))) {
+                    addPrefixedModule(builder, prefixToModule, step);
+                }
+            } else if (IDENTITY.equals(keyword)) {
+                for (StatementContext substmt : stmt.statement()) {
+                    if (BASE.equals(substmt.keyword().getText())) {
+                        addPrefixedModule(builder, prefixToModule, argumentOf(substmt, sourceName));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static void addPrefixedModule(final ImmutableSet.Builder<String> builder,
+            final Map<String, String> prefixToModule, final String identifier) {
+        final int colon = identifier.indexOf(':');
+        if (colon != -1) {
+            final String module = prefixToModule.get(identifier.substring(0, colon));
+            if (module != null) {
+                builder.add(module);
+            }
+        }
+    }
+
+    private static String findArgument(final StatementContext stmt, final String keyword, final String sourceName) {
+        for (StatementContext substmt : stmt.statement()) {
+            if (keyword.equals(substmt.keyword().getText())) {
+                return argumentOf(substmt, sourceName);
+            }
+        }
+        return null;
+    }
+
+    private static String argumentOf(final StatementContext stmt, final String sourceName) {
+        return Utils.stringFromStringContext(stmt.argument(), DeclarationInTextSource.atPosition(sourceName,
+            stmt.getStart().getLine(), stmt.getStart().getCharPositionInLine()));
+    }
+}
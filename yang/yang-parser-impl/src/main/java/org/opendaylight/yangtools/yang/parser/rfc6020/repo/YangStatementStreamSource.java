@@ -11,8 +11,15 @@ import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
@@ -86,6 +93,50 @@ public final class YangStatementStreamSource implements StatementStreamSource {
         return new YangStatementStreamSource(source.getIdentifier(), parser, context);
     }
 
+    /**
+     * Create sources for a number of YANG texts, parsing them concurrently on specified executor. This is useful for
+     * feeding a large number of sources into a reactor, as parsing is independent for each source.
+     *
+     * @param sources YANG texts to parse
+     * @param executor Executor on which to parse
+     * @return Parsed sources, in the iteration order of {@code sources}
+     * @throws IOException if any of the sources cannot be read, or the calling thread is interrupted
+     * @throws YangSyntaxErrorException if any of the sources is not a valid YANG text
+     */
+    public static List<YangStatementStreamSource> create(final Collection<YangTextSchemaSource> sources,
+            final Executor executor) throws IOException, YangSyntaxErrorException {
+        final List<ListenableFutureTask<YangStatementStreamSource>> tasks = new ArrayList<>(sources.size());
+        for (YangTextSchemaSource source : sources) {
+            final ListenableFutureTask<YangStatementStreamSource> task = ListenableFutureTask.create(
+                () -> create(source));
+            executor.execute(task);
+            tasks.add(task);
+        }
+
+        final List<YangStatementStreamSource> result = new ArrayList<>(tasks.size());
+        for (ListenableFutureTask<YangStatementStreamSource> task : tasks) {
+            try {
+                result.add(task.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for sources to be parsed");
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof YangSyntaxErrorException) {
+                    throw (YangSyntaxErrorException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Unexpected failure parsing sources", cause);
+            }
+        }
+        return result;
+    }
+
     public static YangStatementStreamSource create(final SourceIdentifier identifier, final StatementContext context,
         final String symbolicName) {
         return new YangStatementStreamSource(identifier, new YangStatementParserListenerImpl(symbolicName), context);
@@ -7,17 +7,27 @@
  */
 package org.opendaylight.yangtools.yang.parser.stmt.reactor;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Verify;
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
+import org.opendaylight.yangtools.yang.common.SimpleDateFormatUtil;
 import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
 import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.ModuleStatement;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
 import org.opendaylight.yangtools.yang.model.util.SimpleSchemaContext;
 
 @VisibleForTesting
@@ -45,6 +55,93 @@ public final class EffectiveSchemaContext extends SimpleSchemaContext {
         return new EffectiveSchemaContext(modules, rootDeclaredStatements, rootEffectiveStatements);
     }
 
+    /**
+     * Derive a new context from a previous one, replacing root statements of specified modules and submodules with
+     * those of a context built from a subset of sources. This allows effective statements of modules which are not
+     * affected by a change in the source set to be reused, rather than rebuilt.
+     *
+     * <p>
+     * Modules and submodules are identified by their name and revision. Those present in {@code previous} and
+     * identified in {@code replaced} are dropped, those present in {@code rebuilt} and identified in {@code replaced}
+     * are added. Root statements in {@code rebuilt} which are not identified in {@code replaced} are ignored.
+     *
+     * <p>
+     * Effective statements reference the effective statements of modules they import, hence a module retained from
+     * {@code previous} must not depend on a replaced module, otherwise the result would hold two disconnected
+     * instances of that module. Callers are responsible for replacing all such dependents, which is checked.
+     * The converse is allowed: a replaced module may depend on a retained one. Its effective statements then refer to
+     * the instance of the retained module which was built in {@code rebuilt}, which is equivalent to, but not the
+     * same object as, the instance exposed by the returned context.
+     * Callers are also responsible for ensuring that effective statements of retained modules are not influenced by
+     * the change in any other way, such as by a replaced module augmenting them.
+     *
+     * @param previous Previous context
+     * @param rebuilt Context holding rebuilt modules and submodules
+     * @param replaced Identifiers of modules and submodules which are to be taken from {@code rebuilt}
+     * @return A new context
+     * @throws IllegalArgumentException if a retained module or submodule depends on a replaced one
+     */
+    @Beta
+    public static EffectiveSchemaContext derive(final EffectiveSchemaContext previous,
+            final EffectiveSchemaContext rebuilt, final Set<SourceIdentifier> replaced) {
+        final Set<String> replacedNames = new HashSet<>();
+        for (SourceIdentifier id : replaced) {
+            replacedNames.add(id.getName());
+        }
+
+        final int size = previous.rootDeclaredStatements.size();
+        final List<DeclaredStatement<?>> rootDeclaredStatements = new ArrayList<>(size);
+        final List<EffectiveStatement<?, ?>> rootEffectiveStatements = new ArrayList<>(size);
+        previous.copyRootStatements(module -> {
+            if (replaced.contains(identifierOf(module))) {
+                return false;
+            }
+            checkRetainedModule(module, replaced, replacedNames);
+            return true;
+        }, rootDeclaredStatements, rootEffectiveStatements);
+        rebuilt.copyRootStatements(module -> replaced.contains(identifierOf(module)), rootDeclaredStatements,
+            rootEffectiveStatements);
+        return create(rootDeclaredStatements, rootEffectiveStatements);
+    }
+
+    private static void checkRetainedModule(final Module module, final Set<SourceIdentifier> replaced,
+            final Set<String> replacedNames) {
+        for (ModuleImport imp : module.getImports()) {
+            final Date revision = imp.getRevision();
+            final boolean conflict = revision == null || SimpleDateFormatUtil.DEFAULT_DATE_IMP.equals(revision)
+                    ? replacedNames.contains(imp.getModuleName())
+                            : replaced.contains(RevisionSourceIdentifier.create(imp.getModuleName(),
+                                SimpleDateFormatUtil.getRevisionFormat().format(revision)));
+            checkArgument(!conflict, "Retained module %s imports replaced module %s", identifierOf(module),
+                imp.getModuleName());
+        }
+        for (Module submodule : module.getSubmodules()) {
+            checkArgument(!replaced.contains(identifierOf(submodule)), "Retained module %s includes replaced %s",
+                identifierOf(module), identifierOf(submodule));
+        }
+    }
+
+    private static SourceIdentifier identifierOf(final Module module) {
+        final Date revision = module.getRevision();
+        return revision == null || SimpleDateFormatUtil.DEFAULT_DATE_REV.equals(revision)
+                ? RevisionSourceIdentifier.create(module.getName())
+                        : RevisionSourceIdentifier.create(module.getName(),
+                            module.getQNameModule().getFormattedRevision());
+    }
+
+    private void copyRootStatements(final Predicate<Module> predicate,
+            final List<DeclaredStatement<?>> declaredStatements,
+            final List<EffectiveStatement<?, ?>> effectiveStatements) {
+        for (int i = 0; i < rootDeclaredStatements.size(); ++i) {
+            final EffectiveStatement<?, ?> effective = rootEffectiveStatements.get(i);
+            Verify.verify(effective instanceof Module, "Unexpected root statement %s", effective);
+            if (predicate.test((Module) effective)) {
+                declaredStatements.add(rootDeclaredStatements.get(i));
+                effectiveStatements.add(effective);
+            }
+        }
+    }
+
     /**
      * Resolve SchemaContext for a set of modules.
      *
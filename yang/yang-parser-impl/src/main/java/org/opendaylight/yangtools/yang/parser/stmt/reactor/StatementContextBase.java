@@ -715,14 +715,38 @@ public abstract class StatementContextBase<A, D extends DeclaredStatement<A>, E
         YangStmtMapping.TYPEDEF,
         YangStmtMapping.USES);
 
+    /*
+     * Statements whose effective form depends only on their argument and which are never modified in place, hence
+     * all copies of their parent can share a single context, and thus a single effective statement. Refine and
+     * deviate operate on the copied parent's effective substatements, replacing these contexts rather than modifying
+     * them, so they do not need a private copy.
+     */
+    private static final Set<YangStmtMapping> SHARED_DEF_SET = ImmutableSet.of(
+        YangStmtMapping.DEFAULT,
+        YangStmtMapping.DESCRIPTION,
+        YangStmtMapping.ERROR_APP_TAG,
+        YangStmtMapping.ERROR_MESSAGE,
+        YangStmtMapping.MANDATORY,
+        YangStmtMapping.MAX_ELEMENTS,
+        YangStmtMapping.MIN_ELEMENTS,
+        YangStmtMapping.ORDERED_BY,
+        YangStmtMapping.PRESENCE,
+        YangStmtMapping.REFERENCE,
+        YangStmtMapping.STATUS,
+        YangStmtMapping.UNITS);
+
     private static boolean needToCopyByUses(final StmtContext<?, ?, ?> stmtContext) {
         final StatementDefinition def = stmtContext.getPublicDefinition();
         if (REUSED_DEF_SET.contains(def)) {
             LOG.debug("Will reuse {} statement {}", def, stmtContext);
             return false;
         }
-        if (NOCOPY_FROM_GROUPING_SET.contains(def)) {
-            return !YangStmtMapping.GROUPING.equals(stmtContext.getParentContext().getPublicDefinition());
+        if (NOCOPY_FROM_GROUPING_SET.contains(def) && isGroupingChild(stmtContext)) {
+            return false;
+        }
+        if (SHARED_DEF_SET.contains(def)) {
+            LOG.debug("Will share {} statement {}", def, stmtContext);
+            return false;
         }
 
         LOG.debug("Will copy {} statement {}", def, stmtContext);
@@ -730,7 +754,13 @@ public abstract class StatementContextBase<A, D extends DeclaredStatement<A>, E
     }
 
     private static boolean isReusedByUses(final StmtContext<?, ?, ?> stmtContext) {
-        return REUSED_DEF_SET.contains(stmtContext.getPublicDefinition());
+        final StatementDefinition def = stmtContext.getPublicDefinition();
+        return REUSED_DEF_SET.contains(def) || SHARED_DEF_SET.contains(def)
+                && !(NOCOPY_FROM_GROUPING_SET.contains(def) && isGroupingChild(stmtContext));
+    }
+
+    private static boolean isGroupingChild(final StmtContext<?, ?, ?> stmtContext) {
+        return YangStmtMapping.GROUPING.equals(stmtContext.getParentContext().getPublicDefinition());
     }
 
     @Override
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.stmt.rfc6020;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.StatementDefinition;
+import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStatementSupport;
+import org.opendaylight.yangtools.yang.parser.spi.meta.StmtContext;
+
+/**
+ * Support for statements whose argument is free-form text, such as description or units. The argument is used as-is
+ * and is interned, so that identical text is shared. Interning can be turned off by setting the
+ * {@value #INTERN_TEXT_PROP} system property to {@code false}, which is useful for measuring its effect.
+ *
+ * @param <D> Declared Statement representation
+ */
+abstract class AbstractTextStatementSupport<D extends DeclaredStatement<String>>
+        extends AbstractStatementSupport<String, D, EffectiveStatement<String, D>> {
+    static final String INTERN_TEXT_PROP = "org.opendaylight.yangtools.yang.parser.intern-text";
+    private static final boolean INTERN_TEXT = Boolean.parseBoolean(System.getProperty(INTERN_TEXT_PROP, "true"));
+
+    /*
+     * Documentation and similar free-form text is commonly repeated across modules, revisions and schema contexts.
+     * Weak references allow the text to be collected once no context refers to it.
+     */
+    private static final Interner<String> TEXT_INTERNER = Interners.newWeakInterner();
+
+    AbstractTextStatementSupport(final StatementDefinition publicDefinition) {
+        super(publicDefinition);
+    }
+
+    @Override
+    public final String parseArgumentValue(final StmtContext<?, ?, ?> ctx, final String value) {
+        return value;
+    }
+
+    @Override
+    public final String internArgument(final String rawArgument) {
+        return INTERN_TEXT ? TEXT_INTERNER.intern(rawArgument) : rawArgument;
+    }
+}
@@ -12,7 +12,6 @@ import org.opendaylight.yangtools.yang.model.api.YangStmtMapping;
 import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.ContactStatement;
 import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractDeclaredStatement;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.StmtContext;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 import org.opendaylight.yangtools.yang.parser.stmt.rfc6020.effective.ContactEffectiveStatementImpl;
@@ -26,18 +25,12 @@ public class ContactStatementImpl extends AbstractDeclaredStatement<String> impl
         super(context);
     }
 
-    public static class Definition extends
-        AbstractStatementSupport<String, ContactStatement,EffectiveStatement<String, ContactStatement>> {
+    public static class Definition extends AbstractTextStatementSupport<ContactStatement> {
 
         public Definition() {
             super(YangStmtMapping.CONTACT);
         }
 
-        @Override
-        public String parseArgumentValue(final StmtContext<?, ?, ?> ctx, final String value) {
-            return value;
-        }
-
         @Override
         public ContactStatement createDeclared(final StmtContext<String, ContactStatement, ?> ctx) {
             return new ContactStatementImpl(ctx);
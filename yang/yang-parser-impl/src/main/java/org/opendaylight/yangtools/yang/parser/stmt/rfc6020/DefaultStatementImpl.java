@@ -12,7 +12,6 @@ import org.opendaylight.yangtools.yang.model.api.YangStmtMapping;
 import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.DefaultStatement;
 import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractDeclaredStatement;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.StmtContext;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 import org.opendaylight.yangtools.yang.parser.stmt.rfc6020.effective.DefaultEffectiveStatementImpl;
@@ -28,18 +27,12 @@ public class DefaultStatementImpl extends AbstractDeclaredStatement<String> impl
         super(context);
     }
 
-    public static class Definition
-            extends AbstractStatementSupport<String, DefaultStatement, EffectiveStatement<String, DefaultStatement>> {
+    public static class Definition extends AbstractTextStatementSupport<DefaultStatement> {
 
         public Definition() {
             super(YangStmtMapping.DEFAULT);
         }
 
-        @Override
-        public String parseArgumentValue(final StmtContext<?, ?, ?> ctx, final String value) {
-            return value;
-        }
-
         @Override
         public DefaultStatement createDeclared(final StmtContext<String, DefaultStatement, ?> ctx) {
             return new DefaultStatementImpl(ctx);
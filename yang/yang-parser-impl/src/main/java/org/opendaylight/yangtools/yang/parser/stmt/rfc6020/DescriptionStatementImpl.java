@@ -12,7 +12,6 @@ import org.opendaylight.yangtools.yang.model.api.YangStmtMapping;
 import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.DescriptionStatement;
 import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractDeclaredStatement;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.StmtContext;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 import org.opendaylight.yangtools.yang.parser.stmt.rfc6020.effective.DescriptionEffectiveStatementImpl;
@@ -26,18 +25,12 @@ public class DescriptionStatementImpl extends AbstractDeclaredStatement<String>
         super(context);
     }
 
-    public static class Definition extends AbstractStatementSupport<String, DescriptionStatement,
-            EffectiveStatement<String, DescriptionStatement>> {
+    public static class Definition extends AbstractTextStatementSupport<DescriptionStatement> {
 
         public Definition() {
             super(YangStmtMapping.DESCRIPTION);
         }
 
-        @Override
-        public String parseArgumentValue(final StmtContext<?, ?, ?> ctx, final String value) {
-            return value;
-        }
-
         @Override
         public DescriptionStatement createDeclared(final StmtContext<String, DescriptionStatement, ?> ctx) {
             return new DescriptionStatementImpl(ctx);
@@ -12,7 +12,6 @@ import org.opendaylight.yangtools.yang.model.api.YangStmtMapping;
 import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.ErrorAppTagStatement;
 import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractDeclaredStatement;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.StmtContext;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 import org.opendaylight.yangtools.yang.parser.stmt.rfc6020.effective.ErrorAppTagEffectiveStatementImpl;
@@ -28,18 +27,12 @@ public class ErrorAppTagStatementImpl extends AbstractDeclaredStatement<String>
         super(context);
     }
 
-    public static class Definition extends
-            AbstractStatementSupport<String, ErrorAppTagStatement, EffectiveStatement<String, ErrorAppTagStatement>> {
+    public static class Definition extends AbstractTextStatementSupport<ErrorAppTagStatement> {
 
         public Definition() {
             super(YangStmtMapping.ERROR_APP_TAG);
         }
 
-        @Override
-        public String parseArgumentValue(final StmtContext<?, ?, ?> ctx, final String value) {
-            return value;
-        }
-
         @Override
         public ErrorAppTagStatement createDeclared(
                 final StmtContext<String, ErrorAppTagStatement, ?> ctx) {
@@ -12,7 +12,6 @@ import org.opendaylight.yangtools.yang.model.api.YangStmtMapping;
 import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.PresenceStatement;
 import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractDeclaredStatement;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.StmtContext;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 import org.opendaylight.yangtools.yang.parser.stmt.rfc6020.effective.PresenceEffectiveStatementImpl;
@@ -26,19 +25,12 @@ public class PresenceStatementImpl extends AbstractDeclaredStatement<String> imp
         super(context);
     }
 
-    public static class Definition
-            extends
-            AbstractStatementSupport<String, PresenceStatement, EffectiveStatement<String, PresenceStatement>> {
+    public static class Definition extends AbstractTextStatementSupport<PresenceStatement> {
 
         public Definition() {
             super(YangStmtMapping.PRESENCE);
         }
 
-        @Override
-        public String parseArgumentValue(final StmtContext<?, ?, ?> ctx, final String value) {
-            return value;
-        }
-
         @Override
         public PresenceStatement createDeclared(final StmtContext<String, PresenceStatement, ?> ctx) {
             return new PresenceStatementImpl(ctx);
@@ -12,7 +12,6 @@ import org.opendaylight.yangtools.yang.model.api.YangStmtMapping;
 import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.ReferenceStatement;
 import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractDeclaredStatement;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.StmtContext;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 import org.opendaylight.yangtools.yang.parser.stmt.rfc6020.effective.ReferenceEffectiveStatementImpl;
@@ -26,18 +25,12 @@ public class ReferenceStatementImpl extends AbstractDeclaredStatement<String> im
         super(context);
     }
 
-    public static class Definition extends AbstractStatementSupport<String, ReferenceStatement,
-            EffectiveStatement<String, ReferenceStatement>> {
+    public static class Definition extends AbstractTextStatementSupport<ReferenceStatement> {
 
         public Definition() {
             super(YangStmtMapping.REFERENCE);
         }
 
-        @Override
-        public String parseArgumentValue(final StmtContext<?, ?, ?> ctx, final String value) {
-            return value;
-        }
-
         @Override
         public ReferenceStatement createDeclared(final StmtContext<String, ReferenceStatement, ?> ctx) {
             return new ReferenceStatementImpl(ctx);
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.opendaylight.yangtools.antlrv4.code.gen.YangStatementParser.StatementContext;
+import org.opendaylight.yangtools.yang.model.parser.api.YangSyntaxErrorException;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceRegistry;
+import org.opendaylight.yangtools.yang.model.repo.util.SchemaSourceTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SchemaSourceTransformer} which handles translation of models from {@link YangTextSchemaSource}
+ * representation into {@link ASTSchemaSource}, persisting parsed trees in a storage directory. Cached trees are keyed
+ * by source identifier and a hash of the text, hence a modified source is never served a stale tree.
+ *
+ * <p>
+ * Cached trees are stored in a compact binary form, which is memory-mapped and decoded directly into the parse tree
+ * consumed by the statement reactor, without going through the YANG lexer and parser. This makes it suitable for
+ * speeding up environments which repeatedly assemble the same set of models, such as controller restarts. It can be
+ * used in place of {@link TextToASTTransformer}.
+ */
+@Beta
+public final class ASTSchemaSourceCache extends SchemaSourceTransformer<YangTextSchemaSource, ASTSchemaSource> {
+    private static final Logger LOG = LoggerFactory.getLogger(ASTSchemaSourceCache.class);
+    private static final String SUFFIX = ".ast";
+
+    private final Path storageDirectory;
+
+    private ASTSchemaSourceCache(final SchemaRepository provider, final SchemaSourceRegistry consumer,
+            final StorageDirectory storage) {
+        super(provider, YangTextSchemaSource.class, consumer, ASTSchemaSource.class,
+            input -> Futures.immediateFuture(storage.transformText(input)));
+        this.storageDirectory = storage.path;
+    }
+
+    /**
+     * Create a new cache, storing parsed trees in specified directory. The directory is created if it does not exist.
+     *
+     * @param provider Repository providing text sources
+     * @param consumer Registry to which parsed sources are registered
+     * @param storageDirectory Directory holding cached trees
+     * @return A new cache
+     * @throws IllegalArgumentException if the directory cannot be created or is not accessible
+     */
+    public static ASTSchemaSourceCache create(final SchemaRepository provider, final SchemaSourceRegistry consumer,
+            final File storageDirectory) {
+        if (!storageDirectory.exists()) {
+            checkArgument(storageDirectory.mkdirs(), "Unable to create cache directory at %s", storageDirectory);
+        }
+        checkArgument(storageDirectory.isDirectory(), "%s is not a directory", storageDirectory);
+        checkArgument(storageDirectory.canRead() && storageDirectory.canWrite(), "Cache directory %s is not accessible",
+            storageDirectory);
+
+        return new ASTSchemaSourceCache(provider, consumer, new StorageDirectory(storageDirectory.toPath()));
+    }
+
+    /**
+     * Return the directory holding cached trees.
+     *
+     * @return Storage directory
+     */
+    public File getStorageDirectory() {
+        return storageDirectory.toFile();
+    }
+
+    private static final class StorageDirectory {
+        final Path path;
+
+        StorageDirectory(final Path path) {
+            this.path = path;
+        }
+
+        ASTSchemaSource transformText(final YangTextSchemaSource text) throws SchemaSourceException, IOException,
+                YangSyntaxErrorException {
+            final Path file = path.resolve(fileName(text.getIdentifier(),
+                text.hash(Hashing.sha256()).toString()));
+
+            final Optional<StatementContext> cached = restore(file);
+            if (cached.isPresent()) {
+                LOG.debug("Model {} restored from {}", text, file);
+                final Optional<String> opt = text.getSymbolicName();
+                return opt.isPresent() ? ASTSchemaSource.create(opt.get(), text.getIdentifier(), cached.get())
+                        : ASTSchemaSource.create(text.getIdentifier(), cached.get());
+            }
+
+            final ASTSchemaSource ret = TextToASTTransformer.transformText(text);
+            final ParserRuleContext ast = ret.getAST();
+            if (ast instanceof StatementContext) {
+                store(file, (StatementContext) ast);
+            }
+            return ret;
+        }
+
+        private static Optional<StatementContext> restore(final Path file) {
+            if (!Files.isRegularFile(file)) {
+                return Optional.empty();
+            }
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                return Optional.of(StatementTreeCodec.read(buffer));
+            } catch (IOException e) {
+                LOG.warn("Failed to restore cached tree from {}, discarding it", file, e);
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ex) {
+                    LOG.debug("Failed to delete {}", file, ex);
+                }
+                return Optional.empty();
+            }
+        }
+
+        private void store(final Path file, final StatementContext ast) {
+            // Write to a temporary file first, so concurrent readers never observe a partially-written tree
+            Path tmp = null;
+            try {
+                tmp = Files.createTempFile(path, "ast", ".tmp");
+                try (OutputStream os = Files.newOutputStream(tmp);
+                        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                    StatementTreeCodec.write(ast, out);
+                }
+
+                try {
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    LOG.debug("Atomic move not supported, falling back to replace", e);
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                LOG.trace("Cached tree stored in {}", file);
+            } catch (IOException e) {
+                LOG.warn("Failed to store cached tree in {}", file, e);
+                if (tmp != null) {
+                    try {
+                        Files.deleteIfExists(tmp);
+                    } catch (IOException ex) {
+                        LOG.debug("Failed to delete {}", tmp, ex);
+                    }
+                }
+            }
+        }
+
+        private static String fileName(final SourceIdentifier identifier, final String hash) {
+            final String rev = identifier.getRevision();
+            final StringBuilder sb = new StringBuilder(identifier.getName());
+            if (rev != null && !rev.isEmpty()) {
+                sb.append('@').append(rev);
+            }
+            return sb.append('-').append(hash).append(SUFFIX).toString();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.util;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.opendaylight.yangtools.antlrv4.code.gen.YangStatementParser;
+import org.opendaylight.yangtools.antlrv4.code.gen.YangStatementParser.ArgumentContext;
+import org.opendaylight.yangtools.antlrv4.code.gen.YangStatementParser.KeywordContext;
+import org.opendaylight.yangtools.antlrv4.code.gen.YangStatementParser.StatementContext;
+
+/**
+ * Compact binary encoding of {@link StatementContext} trees. Only the information consumed by the statement reactor
+ * and {@link org.opendaylight.yangtools.yang.parser.impl.util.YangModelDependencyInfo} is retained: keywords,
+ * argument tokens, statement positions and nesting. Whitespace, comments and punctuation are not.
+ *
+ * <p>
+ * The encoding consists of a header, a table of unique strings and the statement tree in pre-order, each statement
+ * being encoded as:
+ * <pre>
+ *   int keyword, int line, int column, int argumentTokenCount, (byte type, int text)*, int childCount, child*
+ * </pre>
+ * where keyword and text are indices into the string table.
+ */
+final class StatementTreeCodec {
+    private static final int MAGIC = 0x59415354;
+    private static final byte VERSION = 1;
+
+    private StatementTreeCodec() {
+        throw new UnsupportedOperationException();
+    }
+
+    static void write(final StatementContext root, final DataOutput out) throws IOException {
+        final Map<String, Integer> strings = new HashMap<>();
+        final List<String> table = new ArrayList<>();
+        collectStrings(root, strings, table);
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(table.size());
+        for (String str : table) {
+            final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        writeStatement(root, strings, out);
+    }
+
+    /**
+     * Decode a statement tree from a buffer.
+     *
+     * @param buffer Buffer positioned at the start of the encoding
+     * @return Decoded root statement
+     * @throws IOException if the buffer does not contain a valid encoding
+     */
+    static StatementContext read(final ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Invalid statement tree header");
+            }
+            final byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported statement tree version " + version);
+            }
+
+            final String[] table = new String[buffer.getInt()];
+            for (int i = 0; i < table.length; ++i) {
+                final byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                table[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return readStatement(buffer, table, null);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("Truncated or corrupted statement tree", e);
+        }
+    }
+
+    private static void collectStrings(final StatementContext stmt, final Map<String, Integer> strings,
+            final List<String> table) {
+        internString(stmt.keyword().getText(), strings, table);
+        final ArgumentContext argument = stmt.argument();
+        if (argument != null) {
+            for (TerminalNode token : argumentTokens(argument)) {
+                internString(token.getText(), strings, table);
+            }
+        }
+        for (StatementContext child : stmt.statement()) {
+            collectStrings(child, strings, table);
+        }
+    }
+
+    private static void internString(final String str, final Map<String, Integer> strings, final List<String> table) {
+        if (!strings.containsKey(str)) {
+            strings.put(str, table.size());
+            table.add(str);
+        }
+    }
+
+    private static void writeStatement(final StatementContext stmt, final Map<String, Integer> strings,
+            final DataOutput out) throws IOException {
+        final Token start = stmt.getStart();
+        out.writeInt(strings.get(stmt.keyword().getText()));
+        out.writeInt(start.getLine());
+        out.writeInt(start.getCharPositionInLine());
+
+        final ArgumentContext argument = stmt.argument();
+        if (argument != null) {
+            final List<TerminalNode> tokens = argumentTokens(argument);
+            out.writeInt(tokens.size());
+            for (TerminalNode token : tokens) {
+                out.writeByte(token.getSymbol().getType());
+                out.writeInt(strings.get(token.getText()));
+            }
+        } else {
+            out.writeInt(-1);
+        }
+
+        final List<StatementContext> children = stmt.statement();
+        out.writeInt(children.size());
+        for (StatementContext child : children) {
+            writeStatement(child, strings, out);
+        }
+    }
+
+    private static List<TerminalNode> argumentTokens(final ArgumentContext argument) {
+        final List<TerminalNode> ret = new ArrayList<>(argument.getChildCount());
+        for (int i = 0; i < argument.getChildCount(); ++i) {
+            final ParseTree child = argument.getChild(i);
+            if (child instanceof TerminalNode
+                    && ((TerminalNode) child).getSymbol().getType() != YangStatementParser.SEP) {
+                ret.add((TerminalNode) child);
+            }
+        }
+        return ret;
+    }
+
+    private static StatementContext readStatement(final ByteBuffer buffer, final String[] table,
+            final ParserRuleContext parent) throws IOException {
+        final String keyword = table[buffer.getInt()];
+        final CommonToken start = new CommonToken(YangStatementParser.IDENTIFIER, keyword);
+        start.setLine(buffer.getInt());
+        start.setCharPositionInLine(buffer.getInt());
+
+        final StatementContext stmt = new StatementContext(parent, 0);
+        stmt.start = start;
+        stmt.stop = start;
+        stmt.addChild(createKeyword(stmt, keyword));
+
+        final int tokenCount = buffer.getInt();
+        if (tokenCount >= 0) {
+            final ArgumentContext argument = new ArgumentContext(stmt, 0);
+            for (int i = 0; i < tokenCount; ++i) {
+                final int type = buffer.get();
+                addToken(argument, type, table[buffer.getInt()]);
+            }
+            stmt.addChild(argument);
+        }
+
+        final int childCount = buffer.getInt();
+        if (childCount < 0) {
+            throw new IOException("Invalid child count " + childCount);
+        }
+        for (int i = 0; i < childCount; ++i) {
+            stmt.addChild(readStatement(buffer, table, stmt));
+        }
+        return stmt;
+    }
+
+    private static KeywordContext createKeyword(final StatementContext parent, final String keyword) {
+        final KeywordContext ret = new KeywordContext(parent, 0);
+        final int colon = keyword.indexOf(':');
+        if (colon != -1) {
+            addToken(ret, YangStatementParser.IDENTIFIER, keyword.substring(0, colon));
+            addToken(ret, YangStatementParser.COLON, ":");
+            addToken(ret, YangStatementParser.IDENTIFIER, keyword.substring(colon + 1));
+        } else {
+            addToken(ret, YangStatementParser.IDENTIFIER, keyword);
+        }
+        return ret;
+    }
+
+    private static void addToken(final ParserRuleContext parent, final int type, final String text) {
+        final TerminalNodeImpl node = new TerminalNodeImpl(new CommonToken(type, text));
+        node.setParent(parent);
+        parent.addChild(node);
+    }
+}
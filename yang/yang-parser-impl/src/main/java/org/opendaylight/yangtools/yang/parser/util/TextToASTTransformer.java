@@ -8,10 +8,14 @@
 
 package org.opendaylight.yangtools.yang.parser.util;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.opendaylight.yangtools.yang.model.parser.api.YangSyntaxErrorException;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
@@ -26,6 +30,13 @@ import org.slf4j.LoggerFactory;
 /**
  * A {@link SchemaSourceTransformer} which handles translation of models from
  * {@link YangTextSchemaSource} representation into {@link ASTSchemaSource}.
+ *
+ * <p>
+ * By default sources are parsed in the thread which requests them. An instance created with
+ * {@link #create(SchemaRepository, SchemaSourceRegistry, Executor)} parses them on the supplied executor instead, so
+ * that requesting multiple sources at once, as {@link SchemaRepository#createSchemaContextFactory(
+ * org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceFilter) SchemaContextFactory} does, parses them
+ * concurrently.
  */
 @Beta
 public final class TextToASTTransformer extends SchemaSourceTransformer<YangTextSchemaSource, ASTSchemaSource> {
@@ -36,10 +47,32 @@ public final class TextToASTTransformer extends SchemaSourceTransformer<YangText
             input -> Futures.immediateFuture(transformText(input)));
     }
 
+    private TextToASTTransformer(final SchemaRepository provider, final SchemaSourceRegistry consumer,
+            final Executor executor) {
+        super(provider, YangTextSchemaSource.class, consumer, ASTSchemaSource.class, input -> {
+            final ListenableFutureTask<ASTSchemaSource> task = ListenableFutureTask.create(() -> transformText(input));
+            executor.execute(task);
+            return task;
+        });
+    }
+
     public static TextToASTTransformer create(final SchemaRepository provider, final SchemaSourceRegistry consumer) {
         return new TextToASTTransformer(provider, consumer);
     }
 
+    /**
+     * Create a new transformer, which parses sources on specified executor.
+     *
+     * @param provider Repository providing text sources
+     * @param consumer Registry to which parsed sources are registered
+     * @param executor Executor on which parsing is performed
+     * @return A new transformer
+     */
+    public static TextToASTTransformer create(final SchemaRepository provider, final SchemaSourceRegistry consumer,
+            final Executor executor) {
+        return new TextToASTTransformer(provider, consumer, requireNonNull(executor));
+    }
+
     public static ASTSchemaSource transformText(final YangTextSchemaSource text) throws SchemaSourceException,
             IOException, YangSyntaxErrorException {
         final YangStatementStreamSource src = YangStatementStreamSource.create(text);
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceFilter.ALWAYS_ACCEPT;
+import static org.opendaylight.yangtools.yang.stmt.StmtTestUtils.sourceForResource;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.SimpleDateFormatUtil;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactory;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.parser.stmt.reactor.EffectiveSchemaContext;
+import org.opendaylight.yangtools.yang.parser.util.ASTSchemaSource;
+import org.opendaylight.yangtools.yang.stmt.StmtTestUtils;
+
+public class IncrementalSchemaContextTest {
+    private static final String[] MODULES = {
+        "inc-a", "inc-b", "inc-c", "inc-d", "inc-e", "inc-f", "inc-common", "inc-g", "inc-h", "inc-i"
+    };
+    private static final QName CONT = QName.create("urn:opendaylight:inc-a", "2017-09-01", "cont");
+    private static final QName QUX = QName.create("urn:opendaylight:inc-f", "2017-09-01", "qux");
+
+    private SchemaContextFactory factory;
+
+    @Before
+    public void before() throws Exception {
+        factory = createRepository().createSchemaContextFactory(ALWAYS_ACCEPT);
+    }
+
+    @Test
+    public void testAddIndependentModule() throws Exception {
+        final SchemaContext base = createContext("inc-a", "inc-b", "inc-c", "inc-d");
+        final SchemaContext derived = createContext("inc-a", "inc-b", "inc-c", "inc-d", "inc-e");
+
+        assertEquals(moduleNames(fullContext("inc-a", "inc-b", "inc-c", "inc-d", "inc-e")), moduleNames(derived));
+
+        // inc-e only imports inc-c, which is not affected by it, hence all other modules should be reused
+        for (String name : new String[] { "inc-a", "inc-b", "inc-c", "inc-d" }) {
+            assertSame(module(base, name), module(derived, name));
+        }
+        assertEquals(1, module(derived, "inc-e").getChildNodes().size());
+    }
+
+    @Test
+    public void testSharedImport() throws Exception {
+        final SchemaContext base = createContext("inc-common", "inc-d", "inc-g", "inc-h");
+        final SchemaContext added = createContext("inc-common", "inc-d", "inc-g", "inc-h", "inc-i");
+
+        // inc-i imports inc-common, like inc-g and inc-h do, but none of them is affected by it
+        assertEquals(moduleNames(fullContext("inc-common", "inc-d", "inc-g", "inc-h", "inc-i")),
+            moduleNames(added));
+        for (String name : new String[] { "inc-common", "inc-d", "inc-g", "inc-h" }) {
+            assertSame(module(base, name), module(added, name));
+        }
+        assertEquals(1, module(added, "inc-i").getChildNodes().size());
+
+        final SchemaContext removed = createContext("inc-common", "inc-d", "inc-g", "inc-h");
+        assertEquals(moduleNames(base), moduleNames(removed));
+        for (String name : new String[] { "inc-common", "inc-d", "inc-g", "inc-h" }) {
+            assertSame(module(base, name), module(removed, name));
+        }
+    }
+
+    @Test
+    public void testDeriveRevisions() throws Exception {
+        final EffectiveSchemaContext previous = (EffectiveSchemaContext) StmtTestUtils.parseYangSources(
+            sourceForResource("/incremental/inc-d.yang"), sourceForResource("/incremental/inc-d@2017-10-01.yang"));
+        final EffectiveSchemaContext rebuilt = (EffectiveSchemaContext) StmtTestUtils.parseYangSources(
+            sourceForResource("/incremental/inc-d@2017-10-01.yang"));
+
+        // Only the specified revision is replaced
+        final EffectiveSchemaContext derived = EffectiveSchemaContext.derive(previous, rebuilt,
+            ImmutableSet.of(RevisionSourceIdentifier.create("inc-d", "2017-10-01")));
+        assertEquals(2, derived.getModules().size());
+        assertSame(revision(previous, "2017-09-01"), revision(derived, "2017-09-01"));
+        assertSame(revision(rebuilt, "2017-10-01"), revision(derived, "2017-10-01"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeriveRetainedDependent() throws Exception {
+        final EffectiveSchemaContext previous = (EffectiveSchemaContext) StmtTestUtils.parseYangSources(
+            sourceForResource("/incremental/inc-c.yang"), sourceForResource("/incremental/inc-e.yang"));
+        final EffectiveSchemaContext rebuilt = (EffectiveSchemaContext) StmtTestUtils.parseYangSources(
+            sourceForResource("/incremental/inc-c.yang"));
+
+        // inc-e would keep referring to the previous instance of inc-c
+        EffectiveSchemaContext.derive(previous, rebuilt,
+            ImmutableSet.of(RevisionSourceIdentifier.create("inc-c", "2017-09-01")));
+    }
+
+    @Test
+    public void testAddAndRemoveModifyingModule() throws Exception {
+        final SchemaContext base = createContext("inc-a", "inc-b", "inc-c", "inc-d", "inc-e");
+        final SchemaContext added = createContext("inc-a", "inc-b", "inc-c", "inc-d", "inc-e", "inc-f");
+
+        // inc-f augments inc-a, which needs to be rebuilt along with inc-b, which also augments it
+        assertNotSame(module(base, "inc-a"), module(added, "inc-a"));
+        assertNotSame(module(base, "inc-b"), module(added, "inc-b"));
+        assertSame(module(base, "inc-c"), module(added, "inc-c"));
+        assertSame(module(base, "inc-d"), module(added, "inc-d"));
+        assertSame(module(base, "inc-e"), module(added, "inc-e"));
+
+        final ContainerSchemaNode cont = (ContainerSchemaNode) module(added, "inc-a").getDataChildByName(CONT);
+        assertEquals(3, cont.getChildNodes().size());
+        assertTrue(cont.getDataChildByName(QUX) != null);
+
+        final IdentitySchemaNode baseId = module(added, "inc-a").getIdentities().iterator().next();
+        assertEquals(1, baseId.getDerivedIdentities().size());
+
+        final SchemaContext removed = createContext("inc-a", "inc-b", "inc-c", "inc-d", "inc-e");
+        assertEquals(moduleNames(base), moduleNames(removed));
+        assertSame(module(added, "inc-c"), module(removed, "inc-c"));
+
+        final ContainerSchemaNode removedCont = (ContainerSchemaNode) module(removed, "inc-a")
+                .getDataChildByName(CONT);
+        assertEquals(2, removedCont.getChildNodes().size());
+        assertTrue(module(removed, "inc-a").getIdentities().iterator().next().getDerivedIdentities().isEmpty());
+    }
+
+    @Test
+    public void testReorderedSources() throws Exception {
+        final SchemaContext base = createContext("inc-a", "inc-b", "inc-c", "inc-d");
+        assertSame(base, createContext("inc-d", "inc-c", "inc-b", "inc-a"));
+    }
+
+    @Test
+    public void testLargeChangeRebuildsEverything() throws Exception {
+        final SchemaContext base = createContext("inc-a", "inc-b", "inc-c", "inc-d");
+        final SchemaContext other = createContext("inc-a", "inc-c", "inc-e", "inc-f");
+
+        assertEquals(moduleNames(fullContext("inc-a", "inc-c", "inc-e", "inc-f")), moduleNames(other));
+        assertNotSame(module(base, "inc-c"), module(other, "inc-c"));
+        assertFalse(moduleNames(other).contains("inc-b"));
+    }
+
+    private SchemaContext createContext(final String... names) throws Exception {
+        return factory.createSchemaContext(sourceIds(names)).get();
+    }
+
+    private static SchemaContext fullContext(final String... names) throws Exception {
+        // A fresh repository has no previous context to derive from
+        return createRepository().createSchemaContextFactory(ALWAYS_ACCEPT).createSchemaContext(sourceIds(names))
+                .get();
+    }
+
+    private static SharedSchemaRepository createRepository() throws Exception {
+        final SharedSchemaRepository repository = new SharedSchemaRepository("incremental");
+        for (String name : MODULES) {
+            final SettableSchemaProvider<ASTSchemaSource> provider =
+                    SharedSchemaRepositoryTest.getImmediateYangSourceProviderFromResource(
+                        "/incremental/" + name + ".yang");
+            provider.register(repository);
+            provider.setResult();
+        }
+        return repository;
+    }
+
+    private static List<SourceIdentifier> sourceIds(final String... names) {
+        final ImmutableList.Builder<SourceIdentifier> builder = ImmutableList.builder();
+        for (String name : names) {
+            builder.add(RevisionSourceIdentifier.create(name, "2017-09-01"));
+        }
+        return builder.build();
+    }
+
+    private static Module module(final SchemaContext context, final String name) {
+        return context.findAnyModuleByName(name).get();
+    }
+
+    private static Module revision(final SchemaContext context, final String revision) throws Exception {
+        return context.findModuleByName("inc-d", SimpleDateFormatUtil.getRevisionFormat().parse(revision));
+    }
+
+    private static Set<String> moduleNames(final SchemaContext context) {
+        return context.getModules().stream().map(Module::getName).collect(Collectors.toSet());
+    }
+}
@@ -7,11 +7,14 @@
  */
 package org.opendaylight.yangtools.yang.parser.repo;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -86,4 +89,27 @@ public class SharedSchemaContextFactoryTest {
                 sharedSchemaContextFactory.createSchemaContext(Arrays.asList(sIdWithoutRevision, provider.getId()));
         assertNotNull(schemaContext.get());
     }
+
+    @Test
+    public void testParallelParsing() throws Exception {
+        final SharedSchemaRepository parallelRepository = new SharedSchemaRepository("parallel");
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            parallelRepository.registerSchemaSourceListener(TextToASTTransformer.create(parallelRepository,
+                parallelRepository, executor));
+            for (String resource : new String[] {
+                "/ietf/ietf-inet-types@2010-09-24.yang", "/ietf/iana-timezones@2012-07-09.yang"
+            }) {
+                final YangTextSchemaSource source = YangTextSchemaSource.forResource(resource);
+                parallelRepository.registerSchemaSource(sourceIdentifier -> Futures.immediateFuture(source),
+                    PotentialSchemaSource.create(source.getIdentifier(), YangTextSchemaSource.class, 1));
+            }
+
+            final SchemaContext schemaContext = parallelRepository.createSchemaContextFactory(
+                SchemaSourceFilter.ALWAYS_ACCEPT).createSchemaContext(Arrays.asList(s1, s2)).get();
+            assertEquals(2, schemaContext.getModules().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.rfc6020.repo;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteSource;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.model.parser.api.YangSyntaxErrorException;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+
+public class YangStatementStreamSourceTest {
+    private ExecutorService executor;
+
+    @Before
+    public void before() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void after() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testParallelCreate() throws Exception {
+        final List<YangTextSchemaSource> texts = ImmutableList.of(
+            YangTextSchemaSource.forResource("/ietf/ietf-inet-types@2010-09-24.yang"),
+            YangTextSchemaSource.forResource("/ietf/iana-timezones@2012-07-09.yang"),
+            YangTextSchemaSource.forResource("/ietf/network-topology@2013-10-21.yang"));
+
+        final List<YangStatementStreamSource> sources = YangStatementStreamSource.create(texts, executor);
+        assertEquals(texts.size(), sources.size());
+        for (int i = 0; i < texts.size(); ++i) {
+            assertEquals(texts.get(i).getIdentifier(), sources.get(i).getIdentifier());
+        }
+    }
+
+    @Test(expected = YangSyntaxErrorException.class)
+    public void testParallelCreateFailure() throws Exception {
+        YangStatementStreamSource.create(ImmutableList.of(
+            YangTextSchemaSource.forResource("/ietf/ietf-inet-types@2010-09-24.yang"),
+            YangTextSchemaSource.delegateForByteSource("broken.yang",
+                ByteSource.wrap("module broken {".getBytes(StandardCharsets.UTF_8)))), executor);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceFilter.ALWAYS_ACCEPT;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.yangtools.antlrv4.code.gen.YangStatementParser.StatementContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource;
+import org.opendaylight.yangtools.yang.model.repo.util.SchemaSourceTransformer;
+import org.opendaylight.yangtools.yang.parser.repo.SharedSchemaRepository;
+
+public class ASTSchemaSourceCacheTest {
+    private static final List<String> RESOURCES = ImmutableList.of("/ietf/ietf-inet-types@2010-09-24.yang",
+        "/ietf/network-topology@2013-10-21.yang");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRestoreFromCache() throws Exception {
+        final File dir = folder.newFolder("ast-cache");
+        final SchemaContext parsed = createContext(repo -> ASTSchemaSourceCache.create(repo, repo, dir));
+
+        final File[] files = dir.listFiles();
+        assertEquals(2, files.length);
+        for (File file : files) {
+            assertTrue(file.getName().endsWith(".ast"));
+        }
+
+        final SharedSchemaRepository repository = createRepository();
+        repository.registerSchemaSourceListener(ASTSchemaSourceCache.create(repository, repository, dir));
+        final SourceIdentifier id = RevisionSourceIdentifier.create("network-topology", "2013-10-21");
+        final ASTSchemaSource source = repository.getSchemaSource(id, ASTSchemaSource.class).get();
+        assertEquals(id, source.getIdentifier());
+        assertEquals(ImmutableList.of("ietf-inet-types"), source.getDependencyInformation().getDependencies()
+            .stream().map(ModuleImport::getModuleName).collect(Collectors.toList()));
+
+        // Trees decoded from cache do not retain whitespace tokens, unlike those produced by the parser
+        assertTrue(((StatementContext) source.getAST()).SEP().isEmpty());
+
+        final SchemaContext restored = repository.createSchemaContextFactory(ALWAYS_ACCEPT).createSchemaContext(
+            sourceIds()).get();
+        assertSameModel(parsed, restored);
+        assertSameModel(createContext(repo -> TextToASTTransformer.create(repo, repo)), restored);
+    }
+
+    @Test
+    public void testCorruptedCacheFile() throws Exception {
+        final File dir = folder.newFolder("ast-cache");
+        createContext(repo -> ASTSchemaSourceCache.create(repo, repo, dir));
+
+        for (File file : dir.listFiles()) {
+            Files.write(file.toPath(), "garbage".getBytes(StandardCharsets.UTF_8));
+        }
+
+        final SchemaContext context = createContext(repo -> ASTSchemaSourceCache.create(repo, repo, dir));
+        assertSameModel(createContext(repo -> TextToASTTransformer.create(repo, repo)), context);
+
+        // Corrupted files should have been replaced
+        for (File file : dir.listFiles()) {
+            assertFalse(file.length() == "garbage".length());
+        }
+    }
+
+    private static SchemaContext createContext(
+            final Function<SharedSchemaRepository, SchemaSourceTransformer<?, ?>> transformer) throws Exception {
+        final SharedSchemaRepository repository = createRepository();
+        repository.registerSchemaSourceListener(transformer.apply(repository));
+        return repository.createSchemaContextFactory(ALWAYS_ACCEPT).createSchemaContext(sourceIds()).get();
+    }
+
+    private static SharedSchemaRepository createRepository() {
+        final SharedSchemaRepository repository = new SharedSchemaRepository("ast-cache");
+        for (String resource : RESOURCES) {
+            final YangTextSchemaSource source = YangTextSchemaSource.forResource(resource);
+            repository.registerSchemaSource(id -> Futures.immediateFuture(source),
+                PotentialSchemaSource.create(source.getIdentifier(), YangTextSchemaSource.class,
+                    PotentialSchemaSource.Costs.IMMEDIATE.getValue()));
+        }
+        return repository;
+    }
+
+    private static List<SourceIdentifier> sourceIds() {
+        final ImmutableList.Builder<SourceIdentifier> builder = ImmutableList.builder();
+        for (String resource : RESOURCES) {
+            final YangTextSchemaSource source = YangTextSchemaSource.forResource(resource);
+            builder.add(source.getIdentifier());
+        }
+        return builder.build();
+    }
+
+    private static void assertSameModel(final SchemaContext expected, final SchemaContext actual) {
+        assertEquals(expected.getModules().size(), actual.getModules().size());
+        for (Module module : expected.getModules()) {
+            final Module other = actual.findModuleByNamespaceAndRevision(module.getNamespace(), module.getRevision());
+            assertEquals(module.getDescription(), other.getDescription());
+            assertEquals(qnames(module.getChildNodes()), qnames(other.getChildNodes()));
+            assertEquals(qnames(module.getTypeDefinitions()), qnames(other.getTypeDefinitions()));
+            assertEquals(qnames(module.getGroupings()), qnames(other.getGroupings()));
+        }
+    }
+
+    private static Set<QName> qnames(final Collection<? extends SchemaNode> nodes) {
+        return nodes.stream().map(SchemaNode::getQName).collect(Collectors.toSet());
+    }
+}
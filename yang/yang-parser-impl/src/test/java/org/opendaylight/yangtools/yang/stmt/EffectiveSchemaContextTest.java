@@ -12,6 +12,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -23,6 +24,7 @@ import java.util.List;
 import java.util.Set;
 import org.junit.Test;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.SimpleDateFormatUtil;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ExtensionDefinition;
@@ -113,4 +115,37 @@ public class EffectiveSchemaContextTest {
         assertNotNull(copiedSchemaContext);
         assertEquals(modules, copiedSchemaContext.getModules());
     }
+
+    @Test
+    public void testPrecomputedIndexes() throws ReactorException, ParseException, IOException,
+            YangSyntaxErrorException {
+        final CrossSourceStatementReactor.BuildAction reactor = YangInferencePipeline.RFC6020_REACTOR.newBuild();
+        reactor.addSources(
+            YangStatementStreamSource.create(YangTextSchemaSource.forResource(
+                "/effective-schema-context-test/foo.yang")),
+            YangStatementStreamSource.create(YangTextSchemaSource.forResource(
+                "/effective-schema-context-test/bar.yang")));
+        final EffectiveSchemaContext schemaContext = reactor.buildEffective();
+
+        // Global views are computed once and shared
+        assertSame(schemaContext.getChildNodes(), schemaContext.getChildNodes());
+        assertSame(schemaContext.getDataDefinitions(), schemaContext.getDataDefinitions());
+        assertSame(schemaContext.getNotifications(), schemaContext.getNotifications());
+        assertSame(schemaContext.getOperations(), schemaContext.getOperations());
+        assertSame(schemaContext.getGroupings(), schemaContext.getGroupings());
+        assertEquals(2, schemaContext.getChildNodes().size());
+
+        final QNameModule fooModule = QNameModule.create(URI.create("foo-namespace"),
+            SimpleDateFormatUtil.getRevisionFormat().parse("2016-09-21"));
+        final Module foo = schemaContext.findModule(fooModule).get();
+        assertEquals("foo", foo.getName());
+        assertSame(foo, schemaContext.findModuleByNamespaceAndRevision(fooModule.getNamespace(),
+            fooModule.getRevision()));
+        assertSame(foo, schemaContext.findModuleByNamespaceAndRevision(fooModule.getNamespace(), null));
+        assertFalse(schemaContext.findModule(QNameModule.create(URI.create("foo-namespace"), null)).isPresent());
+
+        final QName fooContainer = QName.create(fooModule, "foo-container");
+        assertSame(foo.getDataChildByName(fooContainer), schemaContext.getDataChildByName(fooContainer));
+        assertNull(schemaContext.getDataChildByName(QName.create(fooModule, "bar-container")));
+    }
 }
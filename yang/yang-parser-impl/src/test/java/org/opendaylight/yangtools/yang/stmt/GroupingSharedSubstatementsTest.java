@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.stmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.yangtools.yang.stmt.StmtTestUtils.sourceForResource;
+
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.GroupingDefinition;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DescriptionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UnitsStatement;
+import org.opendaylight.yangtools.yang.parser.spi.meta.ReactorException;
+
+public class GroupingSharedSubstatementsTest {
+
+    @Test
+    public void testSharedSubstatements() throws ReactorException {
+        final SchemaContext context = StmtTestUtils.parseYangSources(
+            sourceForResource("/grouping-shared-substatements/foo.yang"));
+        final Module foo = context.findModuleByName("foo", null);
+        assertNotNull(foo);
+
+        final GroupingDefinition grouping = foo.getGroupings().iterator().next();
+        final LeafSchemaNode original = (LeafSchemaNode) grouping.getDataChildByName(
+            QName.create(foo.getQNameModule(), "leaf1"));
+        final LeafSchemaNode plain = findLeaf(foo, "cont1");
+        final LeafSchemaNode refined = findLeaf(foo, "cont2");
+
+        assertEquals("leaf description", plain.getDescription());
+        assertEquals("seconds", plain.getUnits());
+        assertTrue(plain.getConstraints().isMandatory());
+        assertTrue(plain.isAddedByUses());
+
+        // Refine replaces only the statements it targets
+        assertEquals("refined description", refined.getDescription());
+        assertEquals("seconds", refined.getUnits());
+        assertFalse(refined.getConstraints().isMandatory());
+        assertEquals("leaf description", original.getDescription());
+        assertTrue(original.getConstraints().isMandatory());
+
+        // Unmodified statements are shared between the grouping and all of its instantiations
+        final EffectiveStatement<?, ?> units = findSubstatement(original, UnitsStatement.class);
+        assertSame(units, findSubstatement(plain, UnitsStatement.class));
+        assertSame(units, findSubstatement(refined, UnitsStatement.class));
+        final EffectiveStatement<?, ?> description = findSubstatement(original, DescriptionStatement.class);
+        assertSame(description, findSubstatement(plain, DescriptionStatement.class));
+        assertNotSame(description, findSubstatement(refined, DescriptionStatement.class));
+
+        // Data nodes themselves are still distinct
+        assertNotSame(original, plain);
+        assertEquals(QName.create(foo.getQNameModule(), "cont1"), plain.getPath().getParent().getLastComponent());
+    }
+
+    private static LeafSchemaNode findLeaf(final Module module, final String container) {
+        final ContainerSchemaNode cont = (ContainerSchemaNode) module.getDataChildByName(
+            QName.create(module.getQNameModule(), container));
+        return (LeafSchemaNode) cont.getDataChildByName(QName.create(module.getQNameModule(), "leaf1"));
+    }
+
+    private static EffectiveStatement<?, ?> findSubstatement(final LeafSchemaNode leaf,
+            final Class<? extends DeclaredStatement<?>> declaredType) {
+        for (EffectiveStatement<?, ?> stmt : ((EffectiveStatement<?, ?>) leaf).effectiveSubstatements()) {
+            if (declaredType.isInstance(stmt.getDeclared())) {
+                return stmt;
+            }
+        }
+        throw new AssertionError("Missing " + declaredType.getSimpleName() + " in " + leaf);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.stmt;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.opendaylight.yangtools.yang.stmt.StmtTestUtils.sourceForResource;
+
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.parser.spi.meta.ReactorException;
+
+public class StatementTextInterningTest {
+
+    @Test
+    public void testSharedTextAcrossContexts() throws ReactorException {
+        final LeafSchemaNode first = parseLeaf();
+        final LeafSchemaNode second = parseLeaf();
+
+        // Independently-built contexts share free-form text arguments
+        assertNotSame(first, second);
+        assertSame(first.getDescription(), second.getDescription());
+        assertSame(first.getUnits(), second.getUnits());
+    }
+
+    private static LeafSchemaNode parseLeaf() throws ReactorException {
+        final Module module = StmtTestUtils.parseYangSources(
+            sourceForResource("/grouping-shared-substatements/foo.yang")).findModuleByName("foo", null);
+        final ContainerSchemaNode cont = (ContainerSchemaNode) module.getDataChildByName(
+            QName.create(module.getQNameModule(), "cont1"));
+        return (LeafSchemaNode) cont.getDataChildByName(QName.create(module.getQNameModule(), "leaf1"));
+    }
+}